@@ -0,0 +1,479 @@
+package com.notorious.visualization.graphing.algorithm.cut;
+
+import com.notorious.visualization.graphing.algorithm.graph.Edge;
+import com.notorious.visualization.graphing.algorithm.graph.WeightedEdgeGraph;
+import com.notorious.visualization.graphing.collection.cache.Cache;
+import com.notorious.visualization.graphing.collection.queue.Queue;
+import com.notorious.visualization.graphing.util.In;
+import com.notorious.visualization.graphing.util.StdOut;
+import com.notorious.visualization.graphing.util.StdRandom;
+import com.notorious.visualization.graphing.util.union.UF;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+/**
+ * The {@code KargerMinCut} class estimates a global minimum cut of an undirected graph
+ * with non-negative edge weights: a split of the vertices into two non-empty sets
+ * such that the total weight of the edges between them is as small as possible.
+ * <p>
+ * A single trial of <em>Karger's algorithm</em> contracts random edges until two
+ * super-vertices are left, picking every edge with probability proportional to its
+ * weight. That is the same as running Kruskal with a {@link UF} over the edges in a
+ * random order, where every edge gets an exponentially distributed key with rate
+ * equal to its weight. A trial finds a given minimum cut with probability at least
+ * 2 / <em>V</em><sup>2</sup>. The <em>Karger–Stein</em> mode only contracts down to
+ * 1 + <em>V</em> / &radic;2 super-vertices, merges the parallel edges and recurses
+ * twice on the result, solving graphs of at most sixteen vertices exactly with the
+ * <em>Stoer–Wagner</em> algorithm; one such trial succeeds with probability about
+ * 1 / log <em>V</em>.
+ * <p>
+ * The trials are independent, so they run in parallel. A running trial takes a
+ * workspace of union-find structures and edge buffers, one per recursion depth, from a
+ * free list and returns it when it is done, so the workspaces are reused by later
+ * trials, and none outlives the constructor on a pool thread. Every trial draws from
+ * its own random number generator, split from the seed in advance, so the result
+ * depends only on the seed and not on the number of threads. The result is the
+ * lightest cut over all trials; it is never lighter than the minimum cut, and equals
+ * it with a probability that grows with the number of trials. A disconnected graph has
+ * a minimum cut of weight zero, which is found directly.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class KargerMinCut {
+
+    private static final int BASE = 16;   // graphs with at most this many vertices are solved exactly
+
+    private final WeightedEdgeGraph graph;
+    private final int trials;             // 0 if the graph is disconnected
+    private double weight;
+    private boolean[] firstSide;          // firstSide[v] = is v on the same side of the cut as vertex 0
+
+    // a multigraph on vertices 0..n-1, the map into it from the previous level, and the buffers to contract it
+    private static final class Level {
+        private int n, m;
+        private int[] a = new int[0], b = new int[0];
+        private double[] w = new double[0];
+        private int[] label = new int[0];   // label[x] = vertex of this level that vertex x of the previous level became
+        private UF uf;
+        private long[] order = new long[0];
+        private int[] start = new int[0], owner = new int[0], slot = new int[0], grouped = new int[0];
+    }
+
+    // the buffers of one running trial, one level per recursion depth
+    private static final class Workspace {
+        private final List<Level> levels = new ArrayList<>();
+        private final double[] matrix = new double[BASE * BASE];   // adjacency matrix of a base case
+        private final double[] key = new double[BASE];
+        private final int[] members = new int[BASE];                // members[v] = vertices merged into v
+        private final boolean[] active = new boolean[BASE];
+        private final boolean[] added = new boolean[BASE];
+
+        private Workspace(Level top) {
+            levels.add(top);
+        }
+
+        private Level level(int depth) {
+            while (levels.size() <= depth) levels.add(new Level());
+            return levels.get(depth);
+        }
+    }
+
+    // the lightest cut of one trial
+    private static final class Cut {
+        private double weight = Double.POSITIVE_INFINITY;
+        private boolean[] firstSide;
+    }
+
+    /**
+     * Estimates a minimum cut with Karger–Stein, running about log<sup>2</sup> <em>V</em>
+     * trials in parallel, which finds a minimum cut with probability at least about
+     * 1 - 1 / <em>V</em>. The trials are seeded from {@link StdRandom}.
+     *
+     * @param graph the edge-weighted graph
+     * @throws IllegalArgumentException if the graph has fewer than two vertices
+     * @throws IllegalArgumentException if an edge weight is negative
+     */
+    public KargerMinCut(WeightedEdgeGraph graph) {
+        this(graph, defaultTrials(graph.getVerticesCount()), true, true, (long) (StdRandom.uniform() * Long.MAX_VALUE));
+    }
+
+    /**
+     * Estimates a minimum cut with the given number of randomized trials.
+     *
+     * @param graph     the edge-weighted graph
+     * @param trials    the number of independent trials
+     * @param recursive {@code true} for Karger–Stein trials, {@code false} for plain Karger trials
+     * @param parallel  whether to run the trials in parallel
+     * @param seed      the seed of the random choices
+     * @throws IllegalArgumentException if the graph has fewer than two vertices
+     * @throws IllegalArgumentException if an edge weight is negative
+     * @throws IllegalArgumentException if {@code trials < 1}
+     */
+    public KargerMinCut(WeightedEdgeGraph graph, int trials, boolean recursive, boolean parallel, long seed) {
+        int vertices = graph.getVerticesCount();
+        if (vertices < 2) throw new IllegalArgumentException("A cut needs at least two vertices");
+        if (trials < 1) throw new IllegalArgumentException("Number of trials must be positive!");
+        this.graph = graph;
+
+        // the graph without self-loops, shared read-only by every workspace
+        int[] a = new int[graph.getEdgeCount()], b = new int[graph.getEdgeCount()];
+        double[] w = new double[graph.getEdgeCount()];
+        int m = 0;
+        UF uf = new UF(vertices);
+        for (Edge e : graph.getEdges()) {
+            if (e.getWeight() < 0) throw new IllegalArgumentException("Edge " + e + " has negative weight");
+            int v = e.getEndpointA(), x = e.getOtherEndpoint(v);
+            if (v == x) continue;
+            a[m] = v;
+            b[m] = x;
+            w[m++] = e.getWeight();
+            uf.union(v, x);
+        }
+        if (uf.count() > 1) {
+            this.trials = 0;
+            weight = 0D;
+            firstSide = new boolean[vertices];
+            for (int v = 0; v < vertices; v++) {
+                firstSide[v] = uf.connected(0, v);
+            }
+            return;
+        }
+
+        this.trials = trials;
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] random = new SplittableRandom[trials];
+        for (int i = 0; i < trials; i++) {
+            random[i] = root.split();
+        }
+        int edges = m;
+        ConcurrentLinkedQueue<Workspace> idle = new ConcurrentLinkedQueue<>();   // workspaces not in use
+        IntStream range = IntStream.range(0, trials);
+        if (parallel) range = range.parallel();
+        Cut best = range.mapToObj(i -> {
+            Workspace workspace = idle.poll();
+            if (workspace == null) {
+                Level top = new Level();
+                top.n = vertices;
+                top.m = edges;
+                top.a = a;
+                top.b = b;
+                top.w = w;
+                workspace = new Workspace(top);
+            }
+            try {
+                return trial(workspace, random[i], recursive);
+            }
+            finally {
+                idle.add(workspace);
+            }
+        }).reduce((x, y) -> x.weight <= y.weight ? x : y).get();
+        weight = best.weight;
+        firstSide = best.firstSide;
+        assert check();
+    }
+
+    private static int defaultTrials(int vertices) {
+        int log = 32 - Integer.numberOfLeadingZeros(Math.max(1, vertices - 1));
+        return Math.max(1, log * log);
+    }
+
+    private Cut trial(Workspace workspace, SplittableRandom random, boolean recursive) {
+        Cut cut = new Cut();
+        if (recursive) {
+            recurse(workspace, 0, random, cut);
+        }
+        else {
+            contract(workspace.level(0), workspace.level(1), 2, random);
+            leaf(workspace, 1, 1, cut);
+        }
+        return cut;
+    }
+
+    // Karger–Stein: contract to 1 + n / sqrt(2) vertices twice and recurse on both
+    private void recurse(Workspace workspace, int depth, SplittableRandom random, Cut cut) {
+        Level g = workspace.level(depth);
+        if (g.n <= BASE) {
+            leaf(workspace, depth, stoerWagner(g, workspace), cut);
+            return;
+        }
+        int t = (int) Math.ceil(1 + g.n / Math.sqrt(2));
+        for (int branch = 0; branch < 2; branch++) {
+            contract(g, workspace.level(depth + 1), t, random);
+            recurse(workspace, depth + 1, random, cut);
+        }
+    }
+
+    // contract random edges of g until t super-vertices are left, writing the merged multigraph into h
+    private static void contract(Level g, Level h, int t, SplittableRandom random) {
+        int n = g.n, m = g.m;
+
+        // exponential keys with rate w: the order in which a weighted random contraction picks the edges
+        long[] order = g.order = ensure(g.order, m);
+        for (int i = 0; i < m; i++) {
+            float key = g.w[i] > 0 ? (float) (-Math.log(1.0 - random.nextDouble()) / g.w[i]) : Float.POSITIVE_INFINITY;
+            order[i] = (long) Float.floatToIntBits(Math.max(key, 0f)) << 32 | i;
+        }
+        Arrays.sort(order, 0, m);
+        if (g.uf == null || g.owner.length != n) {
+            g.uf = new UF(n);
+            g.owner = new int[n];
+        }
+        else {
+            g.uf.reset();
+        }
+        UF uf = g.uf;
+        for (int k = 0; k < m && uf.count() > t; k++) {
+            int i = (int) order[k];
+            uf.union(g.a[i], g.b[i]);
+        }
+
+        // number the super-vertices
+        int[] label = h.label = ensure(h.label, n);
+        int[] owner = g.owner;
+        Arrays.fill(owner, -1);
+        int next = 0;
+        for (int x = 0; x < n; x++) {
+            int root = uf.find(x);
+            if (owner[root] < 0) owner[root] = next++;
+            label[x] = owner[root];
+        }
+        h.n = next;
+
+        // group the surviving edges by their smaller endpoint, then merge the parallel ones
+        int[] start = g.start = ensure(g.start, next + 1);
+        Arrays.fill(start, 0, next + 1, 0);
+        int surviving = 0;
+        for (int i = 0; i < m; i++) {
+            int x = label[g.a[i]], y = label[g.b[i]];
+            if (x == y) continue;
+            start[Math.min(x, y) + 1]++;
+            surviving++;
+        }
+        for (int x = 0; x < next; x++) {
+            start[x + 1] += start[x];
+        }
+        int[] grouped = g.grouped = ensure(g.grouped, surviving);
+        for (int i = 0; i < m; i++) {
+            int x = label[g.a[i]], y = label[g.b[i]];
+            if (x != y) grouped[start[Math.min(x, y)]++] = i;
+        }
+        h.a = ensure(h.a, surviving);
+        h.b = ensure(h.b, surviving);
+        if (h.w.length < surviving) h.w = new double[Math.max(surviving, 2 * h.w.length)];
+        int[] slot = g.slot = ensure(g.slot, next);
+        Arrays.fill(owner, 0, next, -1);
+        int edges = 0;
+        for (int x = 0, from = 0; x < next; from = start[x++]) {
+            for (int k = from; k < start[x]; k++) {
+                int i = grouped[k];
+                int y = label[g.a[i]] ^ label[g.b[i]] ^ x;
+                if (owner[y] == x) {
+                    h.w[slot[y]] += g.w[i];
+                }
+                else {
+                    owner[y] = x;
+                    slot[y] = edges;
+                    h.a[edges] = x;
+                    h.b[edges] = y;
+                    h.w[edges++] = g.w[i];
+                }
+            }
+        }
+        h.m = edges;
+    }
+
+    private static int[] ensure(int[] array, int size) {
+        return array.length >= size ? array : new int[Math.max(size, 2 * array.length)];
+    }
+
+    private static long[] ensure(long[] array, int size) {
+        return array.length >= size ? array : new long[Math.max(size, 2 * array.length)];
+    }
+
+    // the exact minimum cut of a small graph with Stoer–Wagner, as the set of vertices on one side
+    private static int stoerWagner(Level g, Workspace workspace) {
+        int n = g.n;
+        double[] matrix = workspace.matrix;
+        double[] key = workspace.key;
+        int[] members = workspace.members;
+        boolean[] active = workspace.active, added = workspace.added;
+        Arrays.fill(matrix, 0D);
+        for (int i = 0; i < g.m; i++) {
+            matrix[g.a[i] * BASE + g.b[i]] += g.w[i];
+            matrix[g.b[i] * BASE + g.a[i]] += g.w[i];
+        }
+        for (int v = 0; v < n; v++) {
+            members[v] = 1 << v;
+            active[v] = true;
+        }
+        int best = 1;
+        double lightest = Double.POSITIVE_INFINITY;
+        for (int phase = n; phase > 1; phase--) {
+            // add the most tightly connected vertex until all are added; the last one gives a cut
+            Arrays.fill(key, 0D);
+            Arrays.fill(added, false);
+            int previous = -1, last = -1;
+            for (int k = 0; k < phase; k++) {
+                int next = -1;
+                for (int v = 0; v < n; v++) {
+                    if (active[v] && !added[v] && (next < 0 || key[v] > key[next])) next = v;
+                }
+                added[next] = true;
+                previous = last;
+                last = next;
+                for (int v = 0; v < n; v++) {
+                    key[v] += matrix[next * BASE + v];
+                }
+            }
+            if (key[last] < lightest) {
+                lightest = key[last];
+                best = members[last];
+            }
+
+            // merge the last two vertices
+            members[previous] |= members[last];
+            active[last] = false;
+            for (int v = 0; v < n; v++) {
+                matrix[previous * BASE + v] += matrix[last * BASE + v];
+                matrix[v * BASE + previous] = matrix[previous * BASE + v];
+            }
+            matrix[previous * BASE + previous] = 0D;
+        }
+        return best;
+    }
+
+    private static double cutWeight(Level g, int mask) {
+        double total = 0D;
+        for (int i = 0; i < g.m; i++) {
+            if ((mask >>> g.a[i] & 1) != (mask >>> g.b[i] & 1)) total += g.w[i];
+        }
+        return total;
+    }
+
+    // record the cut given by the vertex set mask of the graph at the given depth, if it is the lightest so far
+    private void leaf(Workspace workspace, int depth, int mask, Cut cut) {
+        Level g = workspace.level(depth);
+        double total = cutWeight(g, mask);
+        if (total >= cut.weight) return;
+        cut.weight = total;
+        int vertices = graph.getVerticesCount();
+        if (cut.firstSide == null) cut.firstSide = new boolean[vertices];
+        int zero = superVertex(workspace, depth, 0);
+        for (int v = 0; v < vertices; v++) {
+            cut.firstSide[v] = (mask >>> superVertex(workspace, depth, v) & 1) == (mask >>> zero & 1);
+        }
+    }
+
+    // the super-vertex at the given depth that vertex v of the graph was contracted into
+    private static int superVertex(Workspace workspace, int depth, int v) {
+        for (int d = 1; d <= depth; d++) {
+            v = workspace.level(d).label[v];
+        }
+        return v;
+    }
+
+    /**
+     * Returns the number of vertices of the graph.
+     *
+     * @return the number of vertices
+     */
+    public int getVerticesCount() {
+        return graph.getVerticesCount();
+    }
+
+    /**
+     * Returns the number of trials that were run.
+     *
+     * @return the number of trials, {@code 0} if the graph is disconnected
+     */
+    public int getTrialCount() {
+        return trials;
+    }
+
+    /**
+     * Returns the weight of the lightest cut found, which is a minimum cut with high
+     * probability.
+     *
+     * @return the total weight of the edges crossing the cut
+     */
+    public double getWeight() {
+        return weight;
+    }
+
+    /**
+     * Is vertex {@code v} on the same side of the cut as vertex {@code 0}?
+     *
+     * @param v the vertex
+     * @return {@code true} if {@code v} is on the side of vertex {@code 0}
+     * @throws IllegalArgumentException unless {@code 0 <= v < V}
+     */
+    public boolean isOnFirstSide(int v) {
+        validateVertex(v);
+        return firstSide[v];
+    }
+
+    /**
+     * Returns the edges of the graph crossing the cut.
+     *
+     * @return the edges crossing the cut
+     */
+    public Iterable<Edge> getCutEdges() {
+        Queue<Edge> crossing = new Queue<>();
+        for (Edge e : graph.getEdges()) {
+            int v = e.getEndpointA();
+            if (firstSide[v] != firstSide[e.getOtherEndpoint(v)]) crossing.enqueue(e);
+        }
+        return crossing;
+    }
+
+    // check that both sides are non-empty and the crossing edges add up to the weight
+    private boolean check() {
+        boolean other = false;
+        for (boolean side : firstSide) other |= !side;
+        if (!other) {
+            System.err.println("Cut has an empty side");
+            return false;
+        }
+        double total = 0D;
+        for (Edge e : getCutEdges()) total += e.getWeight();
+        if (Math.abs(total - weight) > 1E-9 * Math.max(1D, weight)) {
+            System.err.println("Weight of crossing edges does not equal weight: " + total + " vs. " + weight);
+            return false;
+        }
+        return true;
+    }
+
+    // throw an IllegalArgumentException unless {@code 0 <= v < V}
+    private void validateVertex(int v) {
+        int vertices = graph.getVerticesCount();
+        if (v < 0 || v >= vertices)
+            throw new IllegalArgumentException("Vertex \'" + v + "\' is not between 0 and " + (vertices - 1));
+    }
+
+    private static final String TEST_DATA_REFERENCE_ROOT = "org/notorious/visualization/graphing/collection/algorithm/tree/spanning/";
+    private static final String TEST_DATA_MEDIUM = "mediumEWG.txt";
+
+    /**
+     * Unit tests the {@code KargerMinCut} data type.
+     *
+     * @param args the command-line arguments
+     */
+    public static void main(String[] args) {
+        In in = new In(Cache.class.getClassLoader().getResource(TEST_DATA_REFERENCE_ROOT + TEST_DATA_MEDIUM));
+        WeightedEdgeGraph graph = new WeightedEdgeGraph(in);
+        long start = System.currentTimeMillis();
+        KargerMinCut cut = new KargerMinCut(graph);
+        long elapsed = System.currentTimeMillis() - start;
+        for (Edge e : cut.getCutEdges()) {
+            StdOut.println(e);
+        }
+        StdOut.printf("%.5f after %d trials in %d ms\n", cut.getWeight(), cut.getTrialCount(), elapsed);
+    }
+}
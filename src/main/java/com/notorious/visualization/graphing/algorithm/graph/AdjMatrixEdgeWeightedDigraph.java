@@ -110,6 +110,20 @@ public class AdjMatrixEdgeWeightedDigraph {
         }
     }
 
+    /**
+     * Returns the directed edge from vertex {@code v} to vertex {@code w}, if any.
+     * This method takes constant time.
+     * @param v the tail vertex
+     * @param w the head vertex
+     * @return the edge {@code v->w}, or {@code null} if there is no such edge
+     * @throws IllegalArgumentException unless {@code 0 <= v < V} and {@code 0 <= w < V}
+     */
+    public DirectedEdge edge(int v, int w) {
+        validateVertex(v);
+        validateVertex(w);
+        return adj[v][w];
+    }
+
     /**
      * Returns the directed edges incident from vertex {@code v}.
      * @param v the vertex
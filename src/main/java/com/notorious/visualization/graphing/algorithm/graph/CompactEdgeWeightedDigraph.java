@@ -0,0 +1,211 @@
+package com.notorious.visualization.graphing.algorithm.graph;
+
+import com.notorious.visualization.graphing.util.StdOut;
+
+/**
+ * The {@code CompactEdgeWeightedDigraph} class is an immutable snapshot of an
+ * {@link EdgeWeightedDigraph} in compressed sparse row form, for algorithms that scan
+ * adjacency lists many times.
+ * <p>
+ * The edges leaving vertex <em>v</em> get the consecutive ids
+ * {@code getEdgeStart(v)} through {@code getEdgeEnd(v) - 1}, in the order in which
+ * {@link EdgeWeightedDigraph#adj(int)} returns them, and the head and weight of every
+ * edge are kept in flat primitive arrays. Scanning a vertex's edges therefore walks two
+ * arrays sequentially instead of following a linked list of {@link DirectedEdge} objects.
+ * The original edge objects are kept as well, so results can still be reported as
+ * {@code DirectedEdge}s. The {@link #reverse()} of a compact digraph keeps them too, so
+ * that a search backwards from a target still reports the edges of the original digraph.
+ * <p>
+ * The constructor takes time and space proportional to <em>V</em> + <em>E</em>.
+ * All other operations take constant time.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class CompactEdgeWeightedDigraph {
+
+    private final int vertices;
+    private final int[] start;             // edges leaving v are start[v] .. start[v+1]-1
+    private final int[] head;              // head[e] = vertex edge e points to
+    private final double[] weight;         // weight[e] = weight of edge e
+    private final DirectedEdge[] edges;    // edges[e] = original edge with id e
+
+    /**
+     * Initializes a compact copy of the given edge-weighted digraph. Later changes to
+     * {@code G} are not reflected in the copy.
+     *
+     * @param G the edge-weighted digraph
+     */
+    public CompactEdgeWeightedDigraph(EdgeWeightedDigraph G) {
+        vertices = G.V();
+        int count = G.E();
+        start = new int[vertices + 1];
+        head = new int[count];
+        weight = new double[count];
+        edges = new DirectedEdge[count];
+        int e = 0;
+        for (int v = 0; v < vertices; v++) {
+            start[v] = e;
+            for (DirectedEdge edge : G.adj(v)) {
+                head[e] = edge.to();
+                weight[e] = edge.weight();
+                edges[e++] = edge;
+            }
+        }
+        start[vertices] = e;
+    }
+
+    // the transpose of the given compact digraph, by a counting sort of its edges on their heads
+    private CompactEdgeWeightedDigraph(CompactEdgeWeightedDigraph forward) {
+        vertices = forward.vertices;
+        int count = forward.edges.length;
+        start = new int[vertices + 1];
+        head = new int[count];
+        weight = new double[count];
+        edges = new DirectedEdge[count];
+        for (int e = 0; e < count; e++) {
+            start[forward.head[e] + 1]++;
+        }
+        for (int v = 0; v < vertices; v++) {
+            start[v + 1] += start[v];
+        }
+        int[] next = new int[vertices];
+        System.arraycopy(start, 0, next, 0, vertices);
+        for (int v = 0; v < vertices; v++) {
+            for (int e = forward.start[v]; e < forward.start[v + 1]; e++) {
+                int r = next[forward.head[e]]++;
+                head[r] = v;
+                weight[r] = forward.weight[e];
+                edges[r] = forward.edges[e];
+            }
+        }
+    }
+
+    /**
+     * Returns the reverse of this digraph, in which edge <em>v</em>&rarr;<em>w</em> becomes
+     * <em>w</em>&rarr;<em>v</em>. {@link #getEdge(int)} of the reverse still returns the
+     * original edge, pointing from <em>v</em> to <em>w</em>.
+     *
+     * @return the reverse of this digraph
+     */
+    public CompactEdgeWeightedDigraph reverse() {
+        return new CompactEdgeWeightedDigraph(this);
+    }
+
+    /**
+     * Returns the number of vertices in this digraph.
+     *
+     * @return the number of vertices
+     */
+    public int getVerticesCount() {
+        return vertices;
+    }
+
+    /**
+     * Returns the number of edges in this digraph.
+     *
+     * @return the number of edges
+     */
+    public int getEdgeCount() {
+        return edges.length;
+    }
+
+    /**
+     * Returns the id of the first edge leaving vertex {@code v}.
+     *
+     * @param v the vertex
+     * @return the id of the first edge leaving {@code v}
+     * @throws IllegalArgumentException unless {@code 0 <= v < V}
+     */
+    public int getEdgeStart(int v) {
+        validateVertex(v);
+        return start[v];
+    }
+
+    /**
+     * Returns one more than the id of the last edge leaving vertex {@code v}.
+     *
+     * @param v the vertex
+     * @return the end, exclusive, of the edge ids leaving {@code v}
+     * @throws IllegalArgumentException unless {@code 0 <= v < V}
+     */
+    public int getEdgeEnd(int v) {
+        validateVertex(v);
+        return start[v + 1];
+    }
+
+    /**
+     * Returns the vertex that edge {@code e} points to.
+     *
+     * @param e the edge id
+     * @return the head of edge {@code e}
+     * @throws ArrayIndexOutOfBoundsException unless {@code 0 <= e < E}
+     */
+    public int getHead(int e) {
+        return head[e];
+    }
+
+    /**
+     * Returns the weight of edge {@code e}.
+     *
+     * @param e the edge id
+     * @return the weight of edge {@code e}
+     * @throws ArrayIndexOutOfBoundsException unless {@code 0 <= e < E}
+     */
+    public double getWeight(int e) {
+        return weight[e];
+    }
+
+    /**
+     * Returns the original edge with id {@code e}.
+     *
+     * @param e the edge id
+     * @return the edge with id {@code e}
+     * @throws ArrayIndexOutOfBoundsException unless {@code 0 <= e < E}
+     */
+    public DirectedEdge getEdge(int e) {
+        return edges[e];
+    }
+
+    /**
+     * Returns the lightest of the edges from vertex {@code v} to vertex {@code w}, the one
+     * a shortest path takes among parallel edges.
+     *
+     * @param v the tail vertex
+     * @param w the head vertex
+     * @return the original lightest edge from {@code v} to {@code w}, or {@code null} if
+     *         there is none
+     * @throws IllegalArgumentException unless {@code 0 <= v < V}
+     */
+    public DirectedEdge getLightestEdge(int v, int w) {
+        int best = -1;
+        for (int e = getEdgeStart(v); e < getEdgeEnd(v); e++) {
+            if (head[e] == w && (best == -1 || weight[e] < weight[best])) best = e;
+        }
+        return best == -1 ? null : edges[best];
+    }
+
+    // throw an IllegalArgumentException unless {@code 0 <= v < V}
+    private void validateVertex(int v) {
+        if (v < 0 || v >= vertices)
+            throw new IllegalArgumentException("Vertex \'" + v + "\' is not between 0 and " + (vertices - 1));
+    }
+
+    /**
+     * Unit tests the {@code CompactEdgeWeightedDigraph} data type.
+     *
+     * @param args the command-line arguments
+     */
+    public static void main(String[] args) {
+        EdgeWeightedDigraph G = new EdgeWeightedDigraph(8, 20);
+        CompactEdgeWeightedDigraph compact = new CompactEdgeWeightedDigraph(G);
+        for (int v = 0; v < compact.getVerticesCount(); v++) {
+            StdOut.print(v + ": ");
+            for (int e = compact.getEdgeStart(v); e < compact.getEdgeEnd(v); e++) {
+                StdOut.print(compact.getEdge(e) + "  ");
+            }
+            StdOut.println();
+        }
+    }
+}
@@ -18,6 +18,8 @@ import com.notorious.visualization.graphing.util.In;
 import com.notorious.visualization.graphing.util.StdOut;
 import com.notorious.visualization.graphing.util.StdRandom;
 
+import java.util.Arrays;
+
 /**
  *  The {@code EdgeWeightedDigraph} class represents a edge-weighted
  *  digraph of vertices named 0 through <em>V</em> - 1, where each
@@ -132,6 +134,58 @@ public class EdgeWeightedDigraph {
         }
     }
 
+    /**
+     * Returns a random geometric edge-weighted digraph: {@code coordinates.length} points
+     * placed uniformly at random in the unit square, with an edge in each direction between
+     * every two points closer than {@code radius}, weighted by their distance. The points
+     * are bucketed into a grid of cells at least {@code radius} wide, so this takes time
+     * proportional to <em>V</em> + <em>E</em> for a radius around the typical distance to
+     * the nearest points.
+     *
+     * @param  coordinates the array to store the coordinates of vertex {@code v} into as
+     *         {@code coordinates[v][0]} and {@code coordinates[v][1]}
+     * @param  radius the distance below which two points are joined
+     * @return the random geometric edge-weighted digraph
+     * @throws IllegalArgumentException unless {@code radius > 0}
+     */
+    public static EdgeWeightedDigraph geometric(double[][] coordinates, double radius) {
+        if (!(radius > 0)) throw new IllegalArgumentException("Radius must be positive");
+        int n = coordinates.length;
+        for (int v = 0; v < n; v++) {
+            coordinates[v][0] = StdRandom.uniform();
+            coordinates[v][1] = StdRandom.uniform();
+        }
+        // bucket the points into a grid of cells at least radius wide, to find close pairs quickly
+        int cells = Math.max(1, (int) Math.min(1.0 / radius, Math.sqrt(n) + 1));
+        int[] first = new int[cells * cells];
+        int[] next = new int[n];
+        Arrays.fill(first, -1);
+        for (int v = 0; v < n; v++) {
+            int cell = cell(coordinates[v][0], cells) * cells + cell(coordinates[v][1], cells);
+            next[v] = first[cell];
+            first[cell] = v;
+        }
+        EdgeWeightedDigraph G = new EdgeWeightedDigraph(n);
+        for (int v = 0; v < n; v++) {
+            int cx = cell(coordinates[v][0], cells), cy = cell(coordinates[v][1], cells);
+            for (int i = Math.max(0, cx - 1); i <= Math.min(cells - 1, cx + 1); i++) {
+                for (int j = Math.max(0, cy - 1); j <= Math.min(cells - 1, cy + 1); j++) {
+                    for (int w = first[i * cells + j]; w != -1; w = next[w]) {
+                        double dx = coordinates[v][0] - coordinates[w][0], dy = coordinates[v][1] - coordinates[w][1];
+                        double distance = Math.sqrt(dx * dx + dy * dy);
+                        if (w != v && distance < radius) G.addEdge(new DirectedEdge(v, w, distance));
+                    }
+                }
+            }
+        }
+        return G;
+    }
+
+    // the grid cell of a coordinate in [0, 1)
+    private static int cell(double coordinate, int cells) {
+        return Math.min(cells - 1, (int) (coordinate * cells));
+    }
+
     /**
      * Returns the number of vertices in this edge-weighted digraph.
      *
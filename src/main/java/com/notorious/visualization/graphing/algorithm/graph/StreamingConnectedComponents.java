@@ -0,0 +1,242 @@
+package com.notorious.visualization.graphing.algorithm.graph;
+
+import com.notorious.visualization.graphing.collection.cache.Cache;
+import com.notorious.visualization.graphing.util.EdgeListReader;
+import com.notorious.visualization.graphing.util.StdOut;
+import com.notorious.visualization.graphing.util.union.UF;
+
+import java.io.File;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * The {@code StreamingConnectedComponents} class computes the connected components of
+ * a graph stored as an edge list, without building the graph in memory.
+ * <p>
+ * The edge list is read with an {@link EdgeListReader}, which skips the weights
+ * without parsing them, and the endpoint pairs are fed straight into a {@link UF}.
+ * Parsing and union-find run on two threads: a reader thread fills batches of
+ * endpoint pairs while the calling thread applies the unions of the previous batch,
+ * and a small pool of batches is handed back and forth so nothing is allocated per
+ * edge. The union-find work is usually much cheaper than parsing, so the whole
+ * computation runs at about the speed of reading the file.
+ * <p>
+ * The constructor takes time proportional to <em>E</em> &alpha;(<em>V</em>) and
+ * space proportional to <em>V</em>, however many edges the file holds. Afterwards,
+ * all queries take constant time.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class StreamingConnectedComponents {
+
+    private static final int BATCH_SIZE = 1 << 16;   // endpoint pairs per batch
+    private static final int BATCHES = 4;
+
+    private final int vertices;
+    private final long edges;
+    private final int count;
+    private final int[] id;       // id[v] = component of v, numbered in order of smallest vertex
+    private final int[] size;     // size[c] = number of vertices in component c
+
+    // a batch of endpoint pairs; a batch with a negative length marks the end of the file
+    private static final class Batch {
+        private final int[] pairs = new int[2 * BATCH_SIZE];
+        private int length;
+        private RuntimeException failure;
+    }
+
+    /**
+     * Computes the connected components of the graph in the given edge list file.
+     *
+     * @param file the edge list, in the format read by {@link EdgeListReader}
+     * @throws IllegalArgumentException if the file cannot be opened or an endpoint is out of range
+     * @throws java.util.NoSuchElementException if the file ends before the declared edge count
+     */
+    public StreamingConnectedComponents(File file) {
+        this(new EdgeListReader(file));
+    }
+
+    /**
+     * Computes the connected components of the graph in the given edge list stream.
+     * The stream is closed afterwards.
+     *
+     * @param in the edge list, in the format read by {@link EdgeListReader}
+     * @throws IllegalArgumentException if an endpoint is out of range
+     * @throws java.util.NoSuchElementException if the stream ends before the declared edge count
+     */
+    public StreamingConnectedComponents(InputStream in) {
+        this(new EdgeListReader(in));
+    }
+
+    private StreamingConnectedComponents(EdgeListReader reader) {
+        vertices = reader.getVerticesCount();
+        edges = reader.getEdgeCount();
+        UF uf = new UF(vertices);
+
+        BlockingQueue<Batch> empty = new ArrayBlockingQueue<>(BATCHES);
+        BlockingQueue<Batch> full = new ArrayBlockingQueue<>(BATCHES);
+        for (int i = 0; i < BATCHES; i++) {
+            empty.add(new Batch());
+        }
+        Thread parser = new Thread(() -> parse(reader, empty, full), "edge-list-parser");
+        parser.setDaemon(true);
+        parser.start();
+        try {
+            while (true) {
+                Batch batch = full.take();
+                if (batch.failure != null) throw batch.failure;
+                if (batch.length < 0) break;
+                int[] pairs = batch.pairs;
+                for (int i = 0; i < batch.length; i += 2) {
+                    uf.union(pairs[i], pairs[i + 1]);
+                }
+                empty.put(batch);
+            }
+            parser.join();
+        }
+        catch (InterruptedException e) {
+            parser.interrupt();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading the edge list", e);
+        }
+
+        // number the components in order of their smallest vertex
+        count = uf.count();
+        id = new int[vertices];
+        size = new int[count];
+        int[] label = new int[vertices];   // label[root] = 1 + component of that root
+        int next = 0;
+        for (int v = 0; v < vertices; v++) {
+            int root = uf.find(v);
+            if (label[root] == 0) label[root] = ++next;
+            id[v] = label[root] - 1;
+            size[id[v]]++;
+        }
+    }
+
+    // runs on the parser thread: fill batches with endpoint pairs until the file ends
+    private static void parse(EdgeListReader reader, BlockingQueue<Batch> empty, BlockingQueue<Batch> full) {
+        try (EdgeListReader edges = reader) {
+            Batch batch = empty.take();
+            try {
+                batch.length = 0;
+                while (edges.nextEndpoints()) {
+                    batch.pairs[batch.length++] = edges.getEndpointA();
+                    batch.pairs[batch.length++] = edges.getEndpointB();
+                    if (batch.length == batch.pairs.length) {
+                        full.put(batch);
+                        batch = empty.take();
+                        batch.length = 0;
+                    }
+                }
+                full.put(batch);
+                batch = empty.take();
+                batch.length = -1;
+            }
+            catch (RuntimeException e) {
+                batch.failure = e;
+            }
+            full.put(batch);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the number of vertices in the edge list.
+     *
+     * @return the number of vertices
+     */
+    public int getVerticesCount() {
+        return vertices;
+    }
+
+    /**
+     * Returns the number of edges read from the edge list.
+     *
+     * @return the number of edges
+     */
+    public long getEdgeCount() {
+        return edges;
+    }
+
+    /**
+     * Returns the number of connected components.
+     *
+     * @return the number of connected components
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Returns the component id of the connected component containing vertex {@code v}.
+     * Components are numbered {@code 0} through {@code count() - 1} in order of their
+     * smallest vertex.
+     *
+     * @param v the vertex
+     * @return the component id of the connected component containing vertex {@code v}
+     * @throws IllegalArgumentException unless {@code 0 <= v < V}
+     */
+    public int id(int v) {
+        validateVertex(v);
+        return id[v];
+    }
+
+    /**
+     * Returns the number of vertices in the connected component containing vertex {@code v}.
+     *
+     * @param v the vertex
+     * @return the number of vertices in the connected component containing vertex {@code v}
+     * @throws IllegalArgumentException unless {@code 0 <= v < V}
+     */
+    public int size(int v) {
+        validateVertex(v);
+        return size[id[v]];
+    }
+
+    /**
+     * Returns true if vertices {@code v} and {@code w} are in the same connected component.
+     *
+     * @param v one vertex
+     * @param w the other vertex
+     * @return {@code true} if vertices {@code v} and {@code w} are in the same
+     *         connected component; {@code false} otherwise
+     * @throws IllegalArgumentException unless {@code 0 <= v < V} and {@code 0 <= w < V}
+     */
+    public boolean connected(int v, int w) {
+        validateVertex(v);
+        validateVertex(w);
+        return id[v] == id[w];
+    }
+
+    // throw an IllegalArgumentException unless {@code 0 <= v < V}
+    private void validateVertex(int v) {
+        if (v < 0 || v >= vertices)
+            throw new IllegalArgumentException("Vertex \'" + v + "\' is not between 0 and " + (vertices - 1));
+    }
+
+    private static final String TEST_DATA_REFERENCE_ROOT = "org/notorious/visualization/graphing/collection/algorithm/tree/spanning/";
+    private static final String TEST_DATA_MEDIUM = "mediumEWG.txt";
+
+    /**
+     * Unit tests the {@code StreamingConnectedComponents} data type.
+     *
+     * @param args the command-line arguments: an optional edge list file
+     * @throws URISyntaxException if the test data cannot be located
+     */
+    public static void main(String[] args) throws URISyntaxException {
+        File file = args.length > 0 ? new File(args[0])
+                : new File(Cache.class.getClassLoader().getResource(TEST_DATA_REFERENCE_ROOT + TEST_DATA_MEDIUM).toURI());
+        long start = System.currentTimeMillis();
+        StreamingConnectedComponents cc = new StreamingConnectedComponents(file);
+        long elapsed = System.currentTimeMillis() - start;
+        StdOut.println(cc.getVerticesCount() + " vertices, " + cc.getEdgeCount() + " edges, "
+                + cc.count() + " components in " + elapsed + " ms");
+    }
+}
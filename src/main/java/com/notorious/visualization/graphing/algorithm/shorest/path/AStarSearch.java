@@ -0,0 +1,261 @@
+package com.notorious.visualization.graphing.algorithm.shorest.path;
+
+import com.notorious.visualization.graphing.algorithm.graph.CompactEdgeWeightedDigraph;
+import com.notorious.visualization.graphing.algorithm.graph.DirectedEdge;
+import com.notorious.visualization.graphing.algorithm.graph.EdgeWeightedDigraph;
+import com.notorious.visualization.graphing.collection.stack.Stack;
+import com.notorious.visualization.graphing.util.DoubleIndexMinPQ;
+import com.notorious.visualization.graphing.util.StdOut;
+import com.notorious.visualization.graphing.util.StdRandom;
+
+import java.util.Arrays;
+
+/**
+ * The {@code AStarSearch} class answers point-to-point shortest path queries in an
+ * edge-weighted digraph with nonnegative weights, with the {@code dist}, {@code hasPath}
+ * and {@code path} API of {@link FloydWarshall}, using the <em>A*</em> algorithm.
+ * <p>
+ * A* is Dijkstra's algorithm with every vertex <em>v</em> keyed by its distance from the
+ * source plus a {@link Heuristic} lower bound on its distance to the target, so that the
+ * search heads for the target instead of growing a ball around the source. Given vertex
+ * coordinates, such as those of the renderable demos, the straight-line distance to the
+ * target is used. With an admissible but inconsistent heuristic a settled vertex may be
+ * found again on a shorter path, in which case it is put back on the priority queue.
+ * <p>
+ * Like {@link DijkstraEngine}, every thread reuses a workspace of version-stamped arrays
+ * and a {@link DoubleIndexMinPQ} for all of its queries, and remembers the last one, so
+ * that asking {@code hasPath}, {@code dist} and {@code path} for the same pair runs one
+ * search only. A query takes time proportional to <em>E</em> log <em>V</em> in the worst
+ * case, but usually explores far fewer vertices than Dijkstra's algorithm.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class AStarSearch {
+
+    private static final int NONE = -1;
+
+    private final CompactEdgeWeightedDigraph graph;
+    private final Heuristic heuristic;
+    private final int vertices;
+    private final ThreadLocal<Workspace> workspace;
+
+    // the search arrays of one thread, holding the result of its last query
+    private static final class Workspace {
+        private final double[] distTo;   // distTo[v] = distance of v, if reached[v] == version
+        private final int[] edgeTo;      // edgeTo[v] = id of last edge on path to v, if reached[v] == version
+        private final double[] estimate; // estimate[v] = heuristic distance from v to the target
+        private final int[] reached;     // reached[v] = version of the last query that reached v
+        private final int[] closed;      // closed[v] = version of the last query that settled v
+        private final DoubleIndexMinPQ pq;
+        private int version;
+        private int source = NONE, target = NONE;
+        private int settledCount;
+
+        private Workspace(int V) {
+            distTo = new double[V];
+            edgeTo = new int[V];
+            estimate = new double[V];
+            reached = new int[V];
+            closed = new int[V];
+            pq = new DoubleIndexMinPQ(V);
+        }
+    }
+
+    /**
+     * Initializes a search without a heuristic, which behaves like Dijkstra's algorithm.
+     *
+     * @param G the edge-weighted digraph
+     * @throws IllegalArgumentException if an edge weight is negative
+     */
+    public AStarSearch(EdgeWeightedDigraph G) {
+        this(new CompactEdgeWeightedDigraph(G), Heuristic.NONE);
+    }
+
+    /**
+     * Initializes a search guided by the straight-line distance between the given vertex
+     * coordinates; see {@link Heuristic#euclidean(CompactEdgeWeightedDigraph, double[][])}.
+     *
+     * @param G           the edge-weighted digraph
+     * @param coordinates coordinates[v] = the x- and y-coordinate of vertex v
+     * @throws IllegalArgumentException if an edge weight is negative,
+     *         or unless there are coordinates for every vertex
+     */
+    public AStarSearch(EdgeWeightedDigraph G, double[][] coordinates) {
+        this(new CompactEdgeWeightedDigraph(G), coordinates);
+    }
+
+    private AStarSearch(CompactEdgeWeightedDigraph G, double[][] coordinates) {
+        this(G, Heuristic.euclidean(G, coordinates));
+    }
+
+    /**
+     * Initializes a search guided by the given heuristic. Later changes to the digraph are
+     * not seen by the search.
+     *
+     * @param G         the edge-weighted digraph
+     * @param heuristic an admissible heuristic
+     * @throws IllegalArgumentException if an edge weight is negative
+     */
+    public AStarSearch(EdgeWeightedDigraph G, Heuristic heuristic) {
+        this(new CompactEdgeWeightedDigraph(G), heuristic);
+    }
+
+    /**
+     * Initializes a search on the given compact digraph, guided by the given heuristic.
+     *
+     * @param G         the compact edge-weighted digraph
+     * @param heuristic an admissible heuristic
+     * @throws IllegalArgumentException if an edge weight is negative
+     */
+    public AStarSearch(CompactEdgeWeightedDigraph G, Heuristic heuristic) {
+        for (int e = 0; e < G.getEdgeCount(); e++) {
+            if (G.getWeight(e) < 0)
+                throw new IllegalArgumentException("edge " + G.getEdge(e) + " has negative weight");
+        }
+        graph = G;
+        this.heuristic = heuristic;
+        vertices = G.getVerticesCount();
+        workspace = ThreadLocal.withInitial(() -> new Workspace(vertices));
+    }
+
+    // run A* from s until t is settled, unless the calling thread just did
+    private Workspace search(int s, int t) {
+        validateVertex(s);
+        validateVertex(t);
+        Workspace work = workspace.get();
+        if (work.source == s && work.target == t) return work;
+
+        work.pq.clear();
+        if (++work.version == Integer.MAX_VALUE) {
+            Arrays.fill(work.reached, 0);
+            Arrays.fill(work.closed, 0);
+            work.version = 1;
+        }
+        work.source = s;
+        work.target = t;
+        work.settledCount = 0;
+
+        double[] distTo = work.distTo, estimate = work.estimate;
+        int[] edgeTo = work.edgeTo, reached = work.reached, closed = work.closed;
+        DoubleIndexMinPQ pq = work.pq;
+        int current = work.version;
+        distTo[s] = 0.0;
+        edgeTo[s] = NONE;
+        estimate[s] = heuristic.estimate(s, t);
+        reached[s] = current;
+        pq.insert(s, estimate[s]);
+        while (!pq.isEmpty()) {
+            int v = pq.delMin();
+            closed[v] = current;
+            work.settledCount++;
+            if (v == t) break;
+            double d = distTo[v];
+            for (int e = graph.getEdgeStart(v), end = graph.getEdgeEnd(v); e < end; e++) {
+                int w = graph.getHead(e);
+                double through = d + graph.getWeight(e);
+                if (reached[w] != current) {
+                    reached[w] = current;
+                    estimate[w] = heuristic.estimate(w, t);
+                }
+                else if (through >= distTo[w]) continue;
+                distTo[w] = through;
+                edgeTo[w] = e;
+                // a settled vertex is reopened, which only happens if the heuristic is inconsistent
+                closed[w] = 0;
+                pq.offer(w, through + estimate[w]);
+            }
+        }
+        return work;
+    }
+
+    /**
+     * Returns the number of vertices the last query of the calling thread settled, a
+     * measure of how well the heuristic directed the search.
+     *
+     * @return the number of settled vertices
+     */
+    public int getSettledCount() {
+        return workspace.get().settledCount;
+    }
+
+    /**
+     * Is there a path from the vertex {@code s} to vertex {@code t}?
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return {@code true} if there is a path from vertex {@code s}
+     *         to vertex {@code t}, and {@code false} otherwise
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public boolean hasPath(int s, int t) {
+        Workspace work = search(s, t);
+        return work.closed[t] == work.version;
+    }
+
+    /**
+     * Returns the length of a shortest path from vertex {@code s} to vertex {@code t}.
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return the length of a shortest path from vertex {@code s} to vertex {@code t};
+     *         {@code Double.POSITIVE_INFINITY} if no such path
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public double dist(int s, int t) {
+        Workspace work = search(s, t);
+        return work.closed[t] == work.version ? work.distTo[t] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns a shortest path from vertex {@code s} to vertex {@code t}.
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return a shortest path from vertex {@code s} to vertex {@code t}
+     *         as an iterable of edges, and {@code null} if no such path
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public Iterable<DirectedEdge> path(int s, int t) {
+        Workspace work = search(s, t);
+        if (work.closed[t] != work.version) return null;
+        Stack<DirectedEdge> path = new Stack<>();
+        for (int e = work.edgeTo[t]; e != NONE; e = work.edgeTo[graph.getEdge(e).from()]) {
+            path.push(graph.getEdge(e));
+        }
+        return path;
+    }
+
+    // throw an IllegalArgumentException unless {@code 0 <= v < V}
+    private void validateVertex(int v) {
+        if (v < 0 || v >= vertices)
+            throw new IllegalArgumentException("Vertex \'" + v + "\' is not between 0 and " + (vertices - 1));
+    }
+
+    /**
+     * Unit tests the {@code AStarSearch} data type by comparing the vertices settled with
+     * and without coordinates on a random geometric digraph.
+     *
+     * @param args the command-line arguments: the number of vertices and queries
+     */
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+        int queries = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        double[][] coordinates = new double[n][2];
+        EdgeWeightedDigraph G = EdgeWeightedDigraph.geometric(coordinates, Math.sqrt(8.0 / (Math.PI * n)));
+        AStarSearch dijkstra = new AStarSearch(G);
+        AStarSearch astar = new AStarSearch(G, coordinates);
+
+        long plain = 0, directed = 0, mismatches = 0;
+        for (int i = 0; i < queries; i++) {
+            int s = StdRandom.uniform(n), t = StdRandom.uniform(n);
+            double expected = dijkstra.dist(s, t);
+            plain += dijkstra.getSettledCount();
+            if (Math.abs(expected - astar.dist(s, t)) > 1E-9) mismatches++;
+            directed += astar.getSettledCount();
+        }
+        StdOut.printf("%d queries: Dijkstra settled %d, A* settled %d vertices on average, %d mismatches\n",
+                queries, plain / queries, directed / queries, mismatches);
+    }
+}
@@ -0,0 +1,467 @@
+package com.notorious.visualization.graphing.algorithm.shorest.path;
+
+import com.notorious.visualization.graphing.algorithm.graph.CompactEdgeWeightedDigraph;
+import com.notorious.visualization.graphing.algorithm.graph.DirectedEdge;
+import com.notorious.visualization.graphing.algorithm.graph.EdgeWeightedDigraph;
+import com.notorious.visualization.graphing.collection.stack.Stack;
+import com.notorious.visualization.graphing.util.StdOut;
+import com.notorious.visualization.graphing.util.StdRandom;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * The {@code BellmanFordSP} class solves the single-source shortest paths problem in
+ * edge-weighted digraphs with arbitrary, possibly negative, edge weights, or finds a
+ * negative cycle reachable from the source.
+ * <p>
+ * This implementation is the queue-based Bellman–Ford algorithm with Tarjan's
+ * <em>subtree disassembly</em>. The shortest-paths tree is kept as a list of the vertices in
+ * preorder, with their depths. When the distance of a vertex <em>w</em> is lowered through
+ * an edge from <em>v</em>, the old subtree of <em>w</em> is taken out of the tree, as the
+ * distances in it are about to be lowered as well, and its vertices are not scanned until
+ * they are reached again. If <em>v</em> itself is in that subtree, the tree path from
+ * <em>w</em> to <em>v</em> and the edge back to <em>w</em> form a negative cycle, which is
+ * reported at once, usually long before <em>V</em> passes over the edges. The vertices
+ * left out of the tree also save the work of scanning them with distances that are known
+ * to be stale, so the algorithm typically takes time close to proportional to <em>E</em>.
+ * <p>
+ * Given a {@link ForkJoinPool}, the algorithm instead relaxes the edges of a whole frontier
+ * of lowered vertices in parallel, round after round. A vertex's distance and last edge are
+ * only lowered together, under one of a set of striped locks. After every <em>V</em>
+ * lowerings the edges to the parents are checked for a cycle, which is always negative.
+ * <p>
+ * Instead of a source, the distances can be taken from a virtual source joined to every
+ * vertex by an edge of weight 0. A negative cycle anywhere in the digraph is then found,
+ * and otherwise the distances are potentials that make every reduced weight nonnegative,
+ * as {@link Johnson} needs.
+ * <p>
+ * Afterwards, the {@code distTo()}, {@code hasPathTo()} and {@code hasNegativeCycle()}
+ * methods take constant time; the {@code pathTo()} and {@code negativeCycle()} methods take
+ * time proportional to the number of edges returned.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class BellmanFordSP {
+
+    private static final int NONE = -1;
+    private static final int GRAIN = 256;       // frontier vertices per parallel task
+    private static final int LOCKS = 1 << 10;   // striped locks guarding distance and edge updates
+
+    private final CompactEdgeWeightedDigraph graph;
+    private final int vertices;
+    private final int source;              // NONE for the virtual source
+    private final double[] distTo;         // distTo[v] = distance of shortest s->v path
+    private final int[] edgeTo;            // edgeTo[v] = id of last edge on shortest s->v path
+    private Stack<DirectedEdge> cycle;     // negative cycle, or null if there is none
+
+    /**
+     * Computes a shortest-paths tree from {@code s} to every other vertex, or finds a
+     * negative cycle reachable from {@code s}.
+     *
+     * @param G the edge-weighted digraph
+     * @param s the source vertex
+     * @throws IllegalArgumentException unless {@code 0 <= s < V}
+     */
+    public BellmanFordSP(EdgeWeightedDigraph G, int s) {
+        this(new CompactEdgeWeightedDigraph(G), s, null);
+    }
+
+    /**
+     * Computes a shortest-paths tree from {@code s} to every other vertex, or finds a
+     * negative cycle reachable from {@code s}, on the given pool.
+     *
+     * @param G    the compact edge-weighted digraph
+     * @param s    the source vertex
+     * @param pool the pool to run the parallel frontier variant on, or {@code null} to use
+     *             subtree disassembly on the calling thread
+     * @throws IllegalArgumentException unless {@code 0 <= s < V}
+     */
+    public BellmanFordSP(CompactEdgeWeightedDigraph G, int s, ForkJoinPool pool) {
+        this(G, s, pool, true);
+    }
+
+    /**
+     * Computes the shortest paths from a virtual source joined to every vertex by an edge
+     * of weight 0, or finds a negative cycle anywhere in the digraph, on the given pool.
+     * The paths returned start at the first vertex after the virtual source.
+     *
+     * @param G    the compact edge-weighted digraph
+     * @param pool the pool to run the parallel frontier variant on, or {@code null} to use
+     *             subtree disassembly on the calling thread
+     */
+    public BellmanFordSP(CompactEdgeWeightedDigraph G, ForkJoinPool pool) {
+        this(G, NONE, pool, false);
+    }
+
+    private BellmanFordSP(CompactEdgeWeightedDigraph G, int s, ForkJoinPool pool, boolean validate) {
+        graph = G;
+        vertices = G.getVerticesCount();
+        if (validate) validateVertex(s);
+        source = s;
+        distTo = new double[vertices];
+        edgeTo = new int[vertices];
+        Arrays.fill(distTo, s == NONE ? 0.0 : Double.POSITIVE_INFINITY);
+        Arrays.fill(edgeTo, NONE);
+        if (s != NONE) distTo[s] = 0.0;
+
+        if (pool == null) new Disassembly().run();
+        else new Frontier(pool).run();
+        assert check();
+    }
+
+    // queue-based Bellman-Ford with Tarjan's subtree disassembly
+    private final class Disassembly {
+        private final int root;          // the source, or the virtual source V
+        private final int[] parent;      // parent[v] = parent of v in the tree
+        private final int[] depth;       // depth[v] = depth of v in the tree
+        private final int[] next, prev;  // the tree as a circular list in preorder, starting at the root
+        private final boolean[] inTree;
+        private final boolean[] onQueue;
+        private final int[] queue;       // circular, never holds a vertex twice
+        private int head, size;
+
+        private Disassembly() {
+            root = source == NONE ? vertices : source;
+            parent = new int[vertices + 1];
+            depth = new int[vertices + 1];
+            next = new int[vertices + 1];
+            prev = new int[vertices + 1];
+            inTree = new boolean[vertices + 1];
+            onQueue = new boolean[vertices];
+            queue = new int[Math.max(1, vertices)];
+            Arrays.fill(parent, NONE);
+            next[root] = prev[root] = root;
+            inTree[root] = true;
+            if (source == NONE) {
+                // every vertex hangs off the virtual source, and waits to be scanned
+                for (int v = 0; v < vertices; v++) {
+                    attach(v, root);
+                    enqueue(v);
+                }
+            }
+            else enqueue(source);
+        }
+
+        private void run() {
+            while (size > 0) {
+                int v = queue[head];
+                head = head + 1 == queue.length ? 0 : head + 1;
+                size--;
+                onQueue[v] = false;
+                // a vertex taken out of the tree has a stale distance and waits to be reached again
+                if (!inTree[v]) continue;
+                double d = distTo[v];
+                for (int e = graph.getEdgeStart(v), end = graph.getEdgeEnd(v); e < end; e++) {
+                    int w = graph.getHead(e);
+                    double through = d + graph.getWeight(e);
+                    // a vertex left out of the tree is put back even if rounding hides the improvement
+                    if (through < distTo[w] || (through == distTo[w] && !inTree[w])) {
+                        if (inTree[w] && disassemble(w, v)) {
+                            negativeCycle(v, w, e);
+                            return;
+                        }
+                        distTo[w] = through;
+                        edgeTo[w] = e;
+                        attach(w, v);
+                        if (!onQueue[w]) enqueue(w);
+                    }
+                }
+            }
+        }
+
+        // take the subtree of w out of the tree; returns true if v is in it
+        private boolean disassemble(int w, int v) {
+            if (w == v) return true;
+            int x = next[w];
+            while (x != root && depth[x] > depth[w]) {
+                if (x == v) return true;
+                inTree[x] = false;
+                x = next[x];
+            }
+            next[prev[w]] = x;
+            prev[x] = prev[w];
+            inTree[w] = false;
+            return false;
+        }
+
+        // make w a leaf child of v, right after v in preorder
+        private void attach(int w, int v) {
+            parent[w] = v;
+            depth[w] = depth[v] + 1;
+            next[w] = next[v];
+            prev[w] = v;
+            prev[next[v]] = w;
+            next[v] = w;
+            inTree[w] = true;
+        }
+
+        private void enqueue(int v) {
+            int tail = head + size;
+            queue[tail >= queue.length ? tail - queue.length : tail] = v;
+            size++;
+            onQueue[v] = true;
+        }
+
+        // the tree path from w down to v, closed by edge e from v back to w
+        private void negativeCycle(int v, int w, int e) {
+            cycle = new Stack<>();
+            cycle.push(graph.getEdge(e));
+            for (int x = v; x != w; x = parent[x]) {
+                cycle.push(graph.getEdge(edgeTo[x]));
+            }
+        }
+    }
+
+    // parallel rounds over the frontier of lowered vertices, with periodic checks for a parent cycle
+    private final class Frontier {
+        private final ForkJoinPool pool;
+        private final Object[] locks;
+        private final AtomicIntegerArray mark;   // mark[v] = last round that lowered v
+        private final int[] touched;             // vertices lowered by this round
+        private final AtomicInteger touchedCount = new AtomicInteger();
+        private int round;
+
+        private Frontier(ForkJoinPool pool) {
+            this.pool = pool;
+            locks = new Object[LOCKS];
+            for (int i = 0; i < LOCKS; i++) {
+                locks[i] = new Object();
+            }
+            mark = new AtomicIntegerArray(vertices);
+            touched = new int[vertices];
+        }
+
+        private void run() {
+            int[] frontier;
+            if (source == NONE) {
+                frontier = new int[vertices];
+                for (int v = 0; v < vertices; v++) frontier[v] = v;
+            }
+            else frontier = new int[] {source};
+            long lowered = 0;
+            while (frontier.length > 0) {
+                round++;
+                touchedCount.set(0);
+                int[] current = frontier;
+                ParallelRange.forEachChunk(pool, current.length, GRAIN, (lo, hi) -> relax(current, lo, hi));
+                frontier = Arrays.copyOf(touched, touchedCount.get());
+                // any cycle among the edges to the parents is a negative cycle
+                lowered += frontier.length;
+                if (lowered >= vertices) {
+                    lowered = 0;
+                    if (findParentCycle()) return;
+                }
+            }
+        }
+
+        private void relax(int[] frontier, int lo, int hi) {
+            for (int i = lo; i < hi; i++) {
+                int v = frontier[i];
+                double d;
+                synchronized (locks[v & (LOCKS - 1)]) {
+                    d = distTo[v];
+                }
+                for (int e = graph.getEdgeStart(v), end = graph.getEdgeEnd(v); e < end; e++) {
+                    int w = graph.getHead(e);
+                    double through = d + graph.getWeight(e);
+                    boolean lowered;
+                    synchronized (locks[w & (LOCKS - 1)]) {
+                        lowered = through < distTo[w];
+                        if (lowered) {
+                            distTo[w] = through;
+                            edgeTo[w] = e;
+                        }
+                    }
+                    int last = mark.get(w);
+                    if (lowered && last != round && mark.compareAndSet(w, last, round)) {
+                        touched[touchedCount.getAndIncrement()] = w;
+                    }
+                }
+            }
+        }
+
+        // look for a cycle among the edges to the parents, and keep it as the negative cycle
+        private boolean findParentCycle() {
+            int[] visit = new int[vertices];     // 0 = unvisited, otherwise 1 + start of the walk
+            for (int s = 0; s < vertices; s++) {
+                int v = s;
+                while (v != NONE && visit[v] == 0) {
+                    visit[v] = s + 1;
+                    v = edgeTo[v] == NONE ? NONE : graph.getEdge(edgeTo[v]).from();
+                }
+                if (v == NONE || visit[v] != s + 1) continue;
+
+                // v is on a cycle found by this walk
+                cycle = new Stack<>();
+                int x = v;
+                do {
+                    DirectedEdge e = graph.getEdge(edgeTo[x]);
+                    cycle.push(e);
+                    x = e.from();
+                } while (x != v);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Returns the source vertex.
+     *
+     * @return the source vertex, or {@code -1} for the virtual source
+     */
+    public int getSource() {
+        return source;
+    }
+
+    /**
+     * Is there a negative cycle reachable from the source vertex?
+     *
+     * @return {@code true} if there is a negative cycle reachable from the
+     *         source vertex {@code s}, and {@code false} otherwise
+     */
+    public boolean hasNegativeCycle() {
+        return cycle != null;
+    }
+
+    /**
+     * Returns a negative cycle reachable from the source vertex {@code s}, or {@code null}
+     * if there is no such cycle.
+     *
+     * @return a negative cycle reachable from the source vertex {@code s}
+     *         as an iterable of edges, and {@code null} if there is no such cycle
+     */
+    public Iterable<DirectedEdge> negativeCycle() {
+        return cycle;
+    }
+
+    /**
+     * Returns the length of a shortest path from the source vertex to vertex {@code v}.
+     *
+     * @param v the destination vertex
+     * @return the length of a shortest path from the source vertex to vertex {@code v};
+     *         {@code Double.POSITIVE_INFINITY} if no such path
+     * @throws UnsupportedOperationException if there is a negative cost cycle reachable
+     *         from the source vertex {@code s}
+     * @throws IllegalArgumentException unless {@code 0 <= v < V}
+     */
+    public double distTo(int v) {
+        validateVertex(v);
+        if (hasNegativeCycle())
+            throw new UnsupportedOperationException("Negative cost cycle exists");
+        return distTo[v];
+    }
+
+    /**
+     * Is there a path from the source to vertex {@code v}?
+     *
+     * @param v the destination vertex
+     * @return {@code true} if there is a path from the source vertex to vertex {@code v},
+     *         and {@code false} otherwise
+     * @throws IllegalArgumentException unless {@code 0 <= v < V}
+     */
+    public boolean hasPathTo(int v) {
+        validateVertex(v);
+        return distTo[v] < Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns a shortest path from the source to vertex {@code v}.
+     *
+     * @param v the destination vertex
+     * @return a shortest path from the source vertex to vertex {@code v}
+     *         as an iterable of edges, and {@code null} if no such path
+     * @throws UnsupportedOperationException if there is a negative cost cycle reachable
+     *         from the source vertex {@code s}
+     * @throws IllegalArgumentException unless {@code 0 <= v < V}
+     */
+    public Iterable<DirectedEdge> pathTo(int v) {
+        if (hasNegativeCycle())
+            throw new UnsupportedOperationException("Negative cost cycle exists");
+        if (!hasPathTo(v)) return null;
+        Stack<DirectedEdge> path = new Stack<>();
+        for (int e = edgeTo[v]; e != NONE; e = edgeTo[graph.getEdge(e).from()]) {
+            path.push(graph.getEdge(e));
+        }
+        return path;
+    }
+
+    // check optimality conditions: either there is a negative cycle, or no edge is eligible
+    // and every edge on the shortest-paths tree is tight
+    private boolean check() {
+        if (hasNegativeCycle()) {
+            double weight = 0.0;
+            for (DirectedEdge e : cycle) {
+                weight += e.weight();
+            }
+            if (weight >= 0.0) {
+                System.err.println("weight of negative cycle = " + weight);
+                return false;
+            }
+            return true;
+        }
+        for (int v = 0; v < vertices; v++) {
+            for (int e = graph.getEdgeStart(v); e < graph.getEdgeEnd(v); e++) {
+                if (distTo[v] + graph.getWeight(e) < distTo[graph.getHead(e)]) {
+                    System.err.println("edge " + graph.getEdge(e) + " not relaxed");
+                    return false;
+                }
+            }
+            int e = edgeTo[v];
+            if (e != NONE && distTo[graph.getEdge(e).from()] + graph.getWeight(e) != distTo[v]) {
+                System.err.println("edge " + graph.getEdge(e) + " on shortest path not tight");
+                return false;
+            }
+            if (e == NONE && distTo[v] != (v == source || source == NONE ? 0.0 : Double.POSITIVE_INFINITY)) {
+                System.err.println("vertex " + v + " has a distance but no edge");
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // throw an IllegalArgumentException unless {@code 0 <= v < V}
+    private void validateVertex(int v) {
+        if (v < 0 || v >= vertices)
+            throw new IllegalArgumentException("Vertex \'" + v + "\' is not between 0 and " + (vertices - 1));
+    }
+
+    /**
+     * Unit tests the {@code BellmanFordSP} data type by looking for a negative cycle in a
+     * random sparse digraph with a few negative edges, sequentially and in parallel.
+     *
+     * @param args the command-line arguments: the number of vertices and edges
+     */
+    public static void main(String[] args) {
+        int V = args.length > 0 ? Integer.parseInt(args[0]) : 200000;
+        int E = args.length > 1 ? Integer.parseInt(args[1]) : 4 * V;
+        EdgeWeightedDigraph G = new EdgeWeightedDigraph(V);
+        for (int i = 0; i < E; i++) {
+            int v = StdRandom.uniform(V), w = StdRandom.uniform(V);
+            G.addEdge(new DirectedEdge(v, w, StdRandom.uniform(-10, 100)));
+        }
+        CompactEdgeWeightedDigraph compact = new CompactEdgeWeightedDigraph(G);
+
+        long start = System.currentTimeMillis();
+        BellmanFordSP sequential = new BellmanFordSP(compact, null);
+        long sequentialTime = System.currentTimeMillis() - start;
+        start = System.currentTimeMillis();
+        BellmanFordSP parallel = new BellmanFordSP(compact, ForkJoinPool.commonPool());
+        long parallelTime = System.currentTimeMillis() - start;
+        StdOut.printf("%d vertices, %d edges: negative cycle %b in %d ms (disassembly), %b in %d ms (parallel)\n",
+                V, E, sequential.hasNegativeCycle(), sequentialTime, parallel.hasNegativeCycle(), parallelTime);
+        if (sequential.hasNegativeCycle()) {
+            double weight = 0.0;
+            for (DirectedEdge e : sequential.negativeCycle()) {
+                StdOut.println(e);
+                weight += e.weight();
+            }
+            StdOut.println("weight = " + weight);
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.notorious.visualization.graphing.algorithm.shorest.path;
+
+import com.notorious.visualization.graphing.algorithm.graph.CompactEdgeWeightedDigraph;
+import com.notorious.visualization.graphing.algorithm.graph.DirectedEdge;
+import com.notorious.visualization.graphing.algorithm.graph.EdgeWeightedDigraph;
+import com.notorious.visualization.graphing.collection.queue.Queue;
+import com.notorious.visualization.graphing.collection.stack.Stack;
+import com.notorious.visualization.graphing.util.DoubleIndexMinPQ;
+import com.notorious.visualization.graphing.util.StdOut;
+import com.notorious.visualization.graphing.util.StdRandom;
+
+import java.util.Arrays;
+
+/**
+ * The {@code BidirectionalDijkstra} class answers point-to-point shortest path queries in
+ * an edge-weighted digraph with nonnegative weights, with the {@code dist}, {@code hasPath}
+ * and {@code path} API of {@link FloydWarshall}, by running Dijkstra's algorithm forwards
+ * from the source and backwards from the target at the same time.
+ * <p>
+ * The two searches take turns, the one whose next vertex is closer going first, and keep
+ * track of the shortest path &mu; through an edge that joins them. The query stops as soon
+ * as the keys at the top of the two priority queues add up to at least &mu;: any shorter
+ * path would have to pass through a vertex that neither search has settled yet, which is
+ * impossible. Each search only needs to reach about half the distance, which settles about
+ * half as many vertices as one Dijkstra on a road-like digraph.
+ * <p>
+ * Given a consistent {@link Heuristic}, such as the straight-line distance between vertex
+ * coordinates, both searches run on the reduced weights <em>w</em>(<em>u</em>,
+ * <em>v</em>) &minus; <em>p</em>(<em>u</em>) + <em>p</em>(<em>v</em>) with the average
+ * potential <em>p</em>(<em>v</em>) = (<em>h</em>(<em>v</em>, <em>t</em>) &minus;
+ * <em>h</em>(<em>s</em>, <em>v</em>)) / 2, which is bidirectional A*. The reduced weights
+ * are nonnegative and the same in both directions, so the stopping rule above still holds.
+ * <p>
+ * Like {@link DijkstraEngine}, every thread reuses a workspace of version-stamped arrays
+ * and two {@link DoubleIndexMinPQ}s for all of its queries, and remembers the last one. A
+ * query takes time proportional to <em>E</em> log <em>V</em> in the worst case.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class BidirectionalDijkstra {
+
+    private static final int NONE = -1;
+
+    private final CompactEdgeWeightedDigraph forward;
+    private final CompactEdgeWeightedDigraph backward;
+    private final Heuristic heuristic;
+    private final int vertices;
+    private final ThreadLocal<Workspace> workspace;
+
+    // one direction of a query: distances from the source, or to the target
+    private static final class Side {
+        private final double[] distTo;   // distTo[v] = distance of v, if reached[v] == version
+        private final int[] edgeTo;      // edgeTo[v] = id of the edge v was reached by
+        private final int[] reached;     // reached[v] = version of the last query that reached v
+        private final int[] closed;      // closed[v] = version of the last query that settled v
+        private final DoubleIndexMinPQ pq;
+
+        private Side(int V) {
+            distTo = new double[V];
+            edgeTo = new int[V];
+            reached = new int[V];
+            closed = new int[V];
+            pq = new DoubleIndexMinPQ(V);
+        }
+    }
+
+    // the search arrays of one thread, holding the result of its last query
+    private static final class Workspace {
+        private final Side from, to;
+        private final double[] potential;  // potential[v] = p(v), if known[v] == version
+        private final int[] known;
+        private int version;
+        private int source = NONE, target = NONE;
+        private int meet;                   // vertex on the shortest path where the searches met
+        private double length;              // length of the shortest path, mu
+        private int settledCount;
+
+        private Workspace(int V) {
+            from = new Side(V);
+            to = new Side(V);
+            potential = new double[V];
+            known = new int[V];
+        }
+    }
+
+    /**
+     * Initializes a bidirectional Dijkstra search without a heuristic.
+     *
+     * @param G the edge-weighted digraph
+     * @throws IllegalArgumentException if an edge weight is negative
+     */
+    public BidirectionalDijkstra(EdgeWeightedDigraph G) {
+        this(new CompactEdgeWeightedDigraph(G), Heuristic.NONE);
+    }
+
+    /**
+     * Initializes a bidirectional A* search guided by the straight-line distance between
+     * the given vertex coordinates; see
+     * {@link Heuristic#euclidean(CompactEdgeWeightedDigraph, double[][])}.
+     *
+     * @param G           the edge-weighted digraph
+     * @param coordinates coordinates[v] = the x- and y-coordinate of vertex v
+     * @throws IllegalArgumentException if an edge weight is negative,
+     *         or unless there are coordinates for every vertex
+     */
+    public BidirectionalDijkstra(EdgeWeightedDigraph G, double[][] coordinates) {
+        this(new CompactEdgeWeightedDigraph(G), coordinates);
+    }
+
+    private BidirectionalDijkstra(CompactEdgeWeightedDigraph G, double[][] coordinates) {
+        this(G, Heuristic.euclidean(G, coordinates));
+    }
+
+    /**
+     * Initializes a bidirectional A* search on the given compact digraph, guided by the
+     * given heuristic. Later changes to the digraph are not seen by the search.
+     *
+     * @param G         the compact edge-weighted digraph
+     * @param heuristic a consistent heuristic
+     * @throws IllegalArgumentException if an edge weight is negative
+     */
+    public BidirectionalDijkstra(CompactEdgeWeightedDigraph G, Heuristic heuristic) {
+        for (int e = 0; e < G.getEdgeCount(); e++) {
+            if (G.getWeight(e) < 0)
+                throw new IllegalArgumentException("edge " + G.getEdge(e) + " has negative weight");
+        }
+        forward = G;
+        backward = G.reverse();
+        this.heuristic = heuristic;
+        vertices = G.getVerticesCount();
+        workspace = ThreadLocal.withInitial(() -> new Workspace(vertices));
+    }
+
+    // the average potential of v for the current query
+    private double potential(Workspace work, int v) {
+        if (work.known[v] != work.version) {
+            work.known[v] = work.version;
+            work.potential[v] = 0.5 * (heuristic.estimate(v, work.target) - heuristic.estimate(work.source, v));
+        }
+        return work.potential[v];
+    }
+
+    // run both searches from s and t until they have met on a shortest path, unless the calling thread just did
+    private Workspace search(int s, int t) {
+        validateVertex(s);
+        validateVertex(t);
+        Workspace work = workspace.get();
+        if (work.source == s && work.target == t) return work;
+
+        work.from.pq.clear();
+        work.to.pq.clear();
+        if (++work.version == Integer.MAX_VALUE) {
+            for (Side side : new Side[] {work.from, work.to}) {
+                Arrays.fill(side.reached, 0);
+                Arrays.fill(side.closed, 0);
+            }
+            Arrays.fill(work.known, 0);
+            work.version = 1;
+        }
+        work.source = s;
+        work.target = t;
+        work.settledCount = 0;
+        work.meet = s == t ? s : NONE;
+        work.length = s == t ? 0.0 : Double.POSITIVE_INFINITY;
+        start(work, work.from, s, potential(work, s));
+        start(work, work.to, t, -potential(work, t));
+
+        // the reduced distance of a key is key - p(s) forwards and key + p(t) backwards
+        double offsetFrom = -potential(work, s), offsetTo = potential(work, t);
+        Side from = work.from, to = work.to;
+        while (!from.pq.isEmpty() && !to.pq.isEmpty()) {
+            double keyFrom = from.pq.minKey(), keyTo = to.pq.minKey();
+            if (keyFrom + keyTo >= work.length) break;
+            if (keyFrom + offsetFrom <= keyTo + offsetTo) scan(work, from, to, forward, 1.0);
+            else scan(work, to, from, backward, -1.0);
+        }
+        return work;
+    }
+
+    private static void start(Workspace work, Side side, int v, double key) {
+        side.distTo[v] = 0.0;
+        side.edgeTo[v] = NONE;
+        side.reached[v] = work.version;
+        side.pq.insert(v, key);
+    }
+
+    // settle the next vertex of one side, keyed by distance + sign * p(v), and look for meetings with the other
+    private void scan(Workspace work, Side side, Side other, CompactEdgeWeightedDigraph graph, double sign) {
+        int current = work.version;
+        int v = side.pq.delMin();
+        side.closed[v] = current;
+        work.settledCount++;
+        double d = side.distTo[v];
+        for (int e = graph.getEdgeStart(v), end = graph.getEdgeEnd(v); e < end; e++) {
+            int w = graph.getHead(e);
+            double through = d + graph.getWeight(e);
+            if (side.reached[w] != current) {
+                side.reached[w] = current;
+            }
+            else if (through >= side.distTo[w] || side.closed[w] == current) continue;
+            side.distTo[w] = through;
+            side.edgeTo[w] = e;
+            side.pq.offer(w, through + sign * potential(work, w));
+            if (other.reached[w] == current && through + other.distTo[w] < work.length) {
+                work.length = through + other.distTo[w];
+                work.meet = w;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of vertices the last query of the calling thread settled in
+     * both directions together.
+     *
+     * @return the number of settled vertices
+     */
+    public int getSettledCount() {
+        return workspace.get().settledCount;
+    }
+
+    /**
+     * Is there a path from the vertex {@code s} to vertex {@code t}?
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return {@code true} if there is a path from vertex {@code s}
+     *         to vertex {@code t}, and {@code false} otherwise
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public boolean hasPath(int s, int t) {
+        return search(s, t).meet != NONE;
+    }
+
+    /**
+     * Returns the length of a shortest path from vertex {@code s} to vertex {@code t}.
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return the length of a shortest path from vertex {@code s} to vertex {@code t};
+     *         {@code Double.POSITIVE_INFINITY} if no such path
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public double dist(int s, int t) {
+        return search(s, t).length;
+    }
+
+    /**
+     * Returns a shortest path from vertex {@code s} to vertex {@code t}.
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return a shortest path from vertex {@code s} to vertex {@code t}
+     *         as an iterable of edges, and {@code null} if no such path
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public Iterable<DirectedEdge> path(int s, int t) {
+        Workspace work = search(s, t);
+        if (work.meet == NONE) return null;
+        Stack<DirectedEdge> head = new Stack<>();
+        for (int e = work.from.edgeTo[work.meet]; e != NONE; e = work.from.edgeTo[forward.getEdge(e).from()]) {
+            head.push(forward.getEdge(e));
+        }
+        Queue<DirectedEdge> path = new Queue<>();
+        for (DirectedEdge e : head) {
+            path.enqueue(e);
+        }
+        // the backward search reached each vertex by an original edge leaving it
+        for (int e = work.to.edgeTo[work.meet]; e != NONE; e = work.to.edgeTo[backward.getEdge(e).to()]) {
+            path.enqueue(backward.getEdge(e));
+        }
+        return path;
+    }
+
+    // throw an IllegalArgumentException unless {@code 0 <= v < V}
+    private void validateVertex(int v) {
+        if (v < 0 || v >= vertices)
+            throw new IllegalArgumentException("Vertex \'" + v + "\' is not between 0 and " + (vertices - 1));
+    }
+
+    /**
+     * Unit tests the {@code BidirectionalDijkstra} data type by comparing the vertices
+     * settled with {@link AStarSearch} on a random geometric digraph.
+     *
+     * @param args the command-line arguments: the number of vertices and queries
+     */
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+        int queries = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        double[][] coordinates = new double[n][2];
+        EdgeWeightedDigraph G = EdgeWeightedDigraph.geometric(coordinates, Math.sqrt(8.0 / (Math.PI * n)));
+        AStarSearch dijkstra = new AStarSearch(G);
+        AStarSearch astar = new AStarSearch(G, coordinates);
+        BidirectionalDijkstra bidirectional = new BidirectionalDijkstra(G);
+        BidirectionalDijkstra bidirectionalAStar = new BidirectionalDijkstra(G, coordinates);
+
+        long[] settled = new long[4];
+        long mismatches = 0;
+        for (int i = 0; i < queries; i++) {
+            int s = StdRandom.uniform(n), t = StdRandom.uniform(n);
+            double expected = dijkstra.dist(s, t);
+            settled[0] += dijkstra.getSettledCount();
+            if (Math.abs(expected - astar.dist(s, t)) > 1E-9) mismatches++;
+            settled[1] += astar.getSettledCount();
+            if (Math.abs(expected - bidirectional.dist(s, t)) > 1E-9) mismatches++;
+            settled[2] += bidirectional.getSettledCount();
+            if (Math.abs(expected - bidirectionalAStar.dist(s, t)) > 1E-9) mismatches++;
+            settled[3] += bidirectionalAStar.getSettledCount();
+        }
+        StdOut.printf("%d queries, vertices settled on average: Dijkstra %d, A* %d, bidirectional %d, "
+                        + "bidirectional A* %d; %d mismatches\n", queries, settled[0] / queries,
+                settled[1] / queries, settled[2] / queries, settled[3] / queries, mismatches);
+    }
+}
@@ -0,0 +1,445 @@
+package com.notorious.visualization.graphing.algorithm.shorest.path;
+
+import com.notorious.visualization.graphing.algorithm.graph.AdjMatrixEdgeWeightedDigraph;
+import com.notorious.visualization.graphing.algorithm.graph.DirectedEdge;
+import com.notorious.visualization.graphing.collection.stack.Stack;
+import com.notorious.visualization.graphing.util.StdOut;
+import com.notorious.visualization.graphing.util.StdRandom;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+
+/**
+ * The {@code BlockedFloydWarshall} class solves the all-pairs shortest paths problem in
+ * edge-weighted digraphs like {@link FloydWarshall}, with the same API, but arranged
+ * for the memory hierarchy of large graphs.
+ * <p>
+ * The distance matrix is a single flat {@code double[]} cut into square tiles, and
+ * each tile is stored contiguously, so that a tile loaded into cache is used in full.
+ * The <em>blocked Floyd–Warshall</em> algorithm runs one phase per diagonal tile: it
+ * first closes the diagonal tile over its own vertices, then updates the tiles in the
+ * same tile row and column through it, and finally every remaining tile from one tile
+ * of its row and one of its column. Each update is a small triple loop over three
+ * tiles that fit into cache together. Instead of an edge per pair, only the vertex
+ * before the last one on every shortest path is stored, in an {@code int[]} of the
+ * same layout; {@link #path(int, int)} looks the edges up in the digraph, so the
+ * digraph should not be changed afterwards. As the tiles are not updated in the order
+ * of the textbook loop, a cycle of weight zero can leave a cycle among the
+ * predecessors of a row; such rows are found at the end and rebuilt from the
+ * distances.
+ * <p>
+ * Like {@link FloydWarshall}, the constructor takes time proportional to
+ * <em>V</em><sup>3</sup>, but with about <em>V</em><sup>3</sup> / <em>B</em> instead
+ * of <em>V</em><sup>3</sup> cache misses for tile size <em>B</em>. Negative cycles
+ * are detected at the end of each phase.
+ * <p>
+ * Given a {@link ForkJoinPool}, the tiles of each phase are updated in parallel: the
+ * tiles in the row and column of the diagonal tile only depend on themselves and the
+ * diagonal tile, and every remaining tile only on itself and tiles of that row and
+ * column, so the tiles of each step are independent. Every tile still sees exactly
+ * the same updates in the same order, so the results, including the phase at which
+ * a negative cycle is detected, are identical to the sequential ones. The rows of
+ * predecessors are checked in parallel as well.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class BlockedFloydWarshall {
+
+    /**
+     * The default tile size: three tiles of 64 by 64 doubles take 96 KiB, which fits
+     * into the level 2 cache of current processors.
+     */
+    public static final int DEFAULT_TILE_SIZE = 64;
+
+    private static final int NONE = -1;
+    private static final double EPSILON = 1E-12;
+
+    private final AdjMatrixEdgeWeightedDigraph digraph;
+    private final int vertices;
+    private final int tile;        // width of a tile
+    private final int tiles;       // number of tiles per row
+    private final double[] distTo; // distances, tile by tile, every tile row by row
+    private final int[] pred;      // pred[index(v, w)] = vertex before w on the shortest v->w path
+    private final ForkJoinPool pool;  // null to run sequentially
+    private boolean hasNegativeCycle;
+
+    /**
+     * Computes the shortest paths between every pair of vertices with the default tile
+     * size. If no such shortest path exists for some pair of vertices, it computes a
+     * negative cycle.
+     *
+     * @param G the edge-weighted digraph
+     */
+    public BlockedFloydWarshall(AdjMatrixEdgeWeightedDigraph G) {
+        this(G, DEFAULT_TILE_SIZE);
+    }
+
+    /**
+     * Computes the shortest paths between every pair of vertices with the given tile
+     * size. If no such shortest path exists for some pair of vertices, it computes a
+     * negative cycle.
+     *
+     * @param G        the edge-weighted digraph
+     * @param tileSize the width of the square tiles
+     * @throws IllegalArgumentException if {@code tileSize < 1}
+     */
+    public BlockedFloydWarshall(AdjMatrixEdgeWeightedDigraph G, int tileSize) {
+        this(G, tileSize, null);
+    }
+
+    /**
+     * Computes the shortest paths between every pair of vertices with the given tile
+     * size, updating the tiles of each phase in parallel on the given pool. If no such
+     * shortest path exists for some pair of vertices, it computes a negative cycle.
+     *
+     * @param G        the edge-weighted digraph
+     * @param tileSize the width of the square tiles
+     * @param pool     the pool to run on, or {@code null} to run on the calling thread
+     * @throws IllegalArgumentException if {@code tileSize < 1}
+     */
+    public BlockedFloydWarshall(AdjMatrixEdgeWeightedDigraph G, int tileSize, ForkJoinPool pool) {
+        if (tileSize < 1) throw new IllegalArgumentException("Tile size must be positive!");
+        this.pool = pool;
+        digraph = G;
+        vertices = G.V();
+        tile = Math.max(1, Math.min(tileSize, vertices));
+        tiles = (vertices + tile - 1) / tile;
+        long cells = (long) tiles * tiles * tile * tile;
+        if (cells > Integer.MAX_VALUE - 8)
+            throw new IllegalArgumentException("Digraph with " + vertices + " vertices is too large");
+        distTo = new double[(int) cells];
+        pred = new int[(int) cells];
+        initialize(G);
+
+        for (int k = 0; k < tiles; k++) {
+            phase(k);
+            if (hasNegativeDiagonal()) {
+                hasNegativeCycle = true;
+                return;
+            }
+        }
+        repairPredecessors();
+        assert check(G);
+    }
+
+    // distances of the edges, infinity for the other pairs (and the padding)
+    private void initialize(AdjMatrixEdgeWeightedDigraph G) {
+        Arrays.fill(distTo, Double.POSITIVE_INFINITY);
+        Arrays.fill(pred, NONE);
+        for (int v = 0; v < vertices; v++) {
+            for (DirectedEdge e : G.adj(v)) {
+                distTo[index(e.from(), e.to())] = e.weight();
+                pred[index(e.from(), e.to())] = e.from();
+            }
+            // in case of self-loops
+            int i = index(v, v);
+            if (distTo[i] >= 0.0) {
+                distTo[i] = 0.0;
+                pred[i] = NONE;
+            }
+        }
+    }
+
+    // one phase: everything through the vertices of diagonal tile k
+    private void phase(int k) {
+        int diagonal = base(k, k);
+        relax(diagonal, diagonal, diagonal);
+        forEach(tiles, j -> {
+            if (j == k) return;
+            relax(base(k, j), diagonal, base(k, j));
+            relax(base(j, k), base(j, k), diagonal);
+        });
+        forEach(tiles * tiles, x -> {
+            int i = x / tiles, j = x % tiles;
+            if (i != k && j != k) relax(base(i, j), base(i, k), base(k, j));
+        });
+    }
+
+    // body(0), ..., body(count - 1), on the pool if there is one, one task per index
+    private void forEach(int count, IntConsumer body) {
+        ParallelRange.forEach(pool, count, 1, body);
+    }
+
+    // c[i][j] = min(c[i][j], a[i][k] + b[k][j]) over the tiles starting at c, a and b
+    private void relax(int c, int a, int b) {
+        if (c == b) {
+            // row k of b may change while it is used, so k has to be the outer loop
+            for (int k = 0; k < tile; k++) {
+                for (int i = 0; i < tile; i++) {
+                    relaxRow(c + i * tile, a + i * tile + k, b + k * tile);
+                }
+            }
+        }
+        else {
+            // every row of c only depends on the same row of a, so it stays in cache
+            for (int i = 0; i < tile; i++) {
+                for (int k = 0; k < tile; k++) {
+                    relaxRow(c + i * tile, a + i * tile + k, b + k * tile);
+                }
+            }
+        }
+    }
+
+    // c[j] = min(c[j], a + b[j]) over the tile rows starting at rowC and rowB, through the cell a
+    private void relaxRow(int rowC, int a, int rowB) {
+        double through = distTo[a];
+        if (through == Double.POSITIVE_INFINITY) return;
+        for (int j = 0; j < tile; j++) {
+            double distance = through + distTo[rowB + j];
+            if (distance < distTo[rowC + j]) {
+                distTo[rowC + j] = distance;
+                pred[rowC + j] = pred[rowB + j];
+            }
+        }
+    }
+
+    // the rows are updated out of order, so a cycle of weight zero can end up as a cycle
+    // among the predecessors of a row; find such rows and rebuild them from the distances
+    private void repairPredecessors() {
+        ThreadLocal<byte[]> states = ThreadLocal.withInitial(() -> new byte[vertices]);
+        forEach(vertices, s -> {
+            if (hasPredecessorCycle(s, states.get())) rebuildPredecessors(s);
+        });
+    }
+
+    // state[v]: 0 = unvisited, 1 = on the current walk, 2 = leads to the source
+    private boolean hasPredecessorCycle(int s, byte[] state) {
+        Arrays.fill(state, (byte) 0);
+        for (int t = 0; t < vertices; t++) {
+            int v = t;
+            while (v != NONE && state[v] == 0) {
+                state[v] = 1;
+                v = pred[index(s, v)];
+            }
+            if (v != NONE && state[v] == 1) return true;
+            for (v = t; v != NONE && state[v] == 1; v = pred[index(s, v)]) {
+                state[v] = 2;
+            }
+        }
+        return false;
+    }
+
+    // breadth-first search from s over the edges that lie on shortest paths
+    private void rebuildPredecessors(int s) {
+        boolean[] marked = new boolean[vertices];
+        int[] queue = new int[vertices];
+        int head = 0, tail = 0;
+        marked[s] = true;
+        queue[tail++] = s;
+        while (head < tail) {
+            int v = queue[head++];
+            double distance = distTo[index(s, v)];
+            for (DirectedEdge e : digraph.adj(v)) {
+                int w = e.to();
+                double target = distTo[index(s, w)];
+                if (marked[w] || distance + e.weight() > target + EPSILON * Math.max(1.0, Math.abs(target))) continue;
+                marked[w] = true;
+                pred[index(s, w)] = v;
+                queue[tail++] = w;
+            }
+        }
+    }
+
+    private boolean hasNegativeDiagonal() {
+        for (int v = 0; v < vertices; v++) {
+            if (distTo[index(v, v)] < 0.0) return true;
+        }
+        return false;
+    }
+
+    // first cell of tile (i, j)
+    private int base(int i, int j) {
+        return (i * tiles + j) * tile * tile;
+    }
+
+    // cell of the pair (v, w)
+    private int index(int v, int w) {
+        return base(v / tile, w / tile) + (v % tile) * tile + w % tile;
+    }
+
+    /**
+     * Returns the width of the tiles.
+     *
+     * @return the tile size
+     */
+    public int getTileSize() {
+        return tile;
+    }
+
+    /**
+     * Is there a negative cycle?
+     *
+     * @return {@code true} if there is a negative cycle, and {@code false} otherwise
+     */
+    public boolean hasNegativeCycle() {
+        return hasNegativeCycle;
+    }
+
+    /**
+     * Returns a negative cycle, or {@code null} if there is no such cycle. The
+     * predecessors left by the blocked phases need not describe a negative cycle, so
+     * the cycle is found with a Bellman–Ford pass over the digraph instead, which takes
+     * time proportional to <em>V</em><sup>3</sup>.
+     *
+     * @return a negative cycle as an iterable of edges,
+     *         or {@code null} if there is no such cycle
+     */
+    public Iterable<DirectedEdge> negativeCycle() {
+        if (!hasNegativeCycle()) return null;
+
+        // relax from a virtual source joined to every vertex until the last round that changes something
+        double[] dist = new double[vertices];
+        DirectedEdge[] edgeTo = new DirectedEdge[vertices];
+        int relaxed = NONE;
+        for (int round = 0; round < vertices; round++) {
+            relaxed = NONE;
+            for (int v = 0; v < vertices; v++) {
+                for (DirectedEdge e : digraph.adj(v)) {
+                    int w = e.to();
+                    if (dist[v] + e.weight() < dist[w]) {
+                        dist[w] = dist[v] + e.weight();
+                        edgeTo[w] = e;
+                        relaxed = w;
+                    }
+                }
+            }
+            if (relaxed == NONE) return null;
+        }
+
+        // a vertex relaxed in round V leads back into a negative cycle of the parent edges
+        int x = relaxed;
+        for (int i = 0; i < vertices; i++) {
+            x = edgeTo[x].from();
+        }
+        Stack<DirectedEdge> cycle = new Stack<>();
+        for (DirectedEdge e = edgeTo[x]; ; e = edgeTo[e.from()]) {
+            cycle.push(e);
+            if (e.from() == x) break;
+        }
+        return cycle;
+    }
+
+    /**
+     * Is there a path from the vertex {@code s} to vertex {@code t}?
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return {@code true} if there is a path from vertex {@code s}
+     *         to vertex {@code t}, and {@code false} otherwise
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public boolean hasPath(int s, int t) {
+        validateVertex(s);
+        validateVertex(t);
+        return distTo[index(s, t)] < Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns the length of a shortest path from vertex {@code s} to vertex {@code t}.
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return the length of a shortest path from vertex {@code s} to vertex {@code t};
+     *         {@code Double.POSITIVE_INFINITY} if no such path
+     * @throws UnsupportedOperationException if there is a negative cost cycle
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public double dist(int s, int t) {
+        validateVertex(s);
+        validateVertex(t);
+        if (hasNegativeCycle())
+            throw new UnsupportedOperationException("Negative cost cycle exists");
+        return distTo[index(s, t)];
+    }
+
+    /**
+     * Returns a shortest path from vertex {@code s} to vertex {@code t}.
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return a shortest path from vertex {@code s} to vertex {@code t}
+     *         as an iterable of edges, and {@code null} if no such path
+     * @throws UnsupportedOperationException if there is a negative cost cycle
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public Iterable<DirectedEdge> path(int s, int t) {
+        validateVertex(s);
+        validateVertex(t);
+        if (hasNegativeCycle())
+            throw new UnsupportedOperationException("Negative cost cycle exists");
+        if (!hasPath(s, t)) return null;
+        Stack<DirectedEdge> path = new Stack<>();
+        for (int w = t, v = pred[index(s, t)]; v != NONE; w = v, v = pred[index(s, v)]) {
+            path.push(digraph.edge(v, w));
+        }
+        return path;
+    }
+
+    // check optimality conditions, up to rounding since sums are formed in a different order
+    private boolean check(AdjMatrixEdgeWeightedDigraph G) {
+        if (!hasNegativeCycle()) {
+            for (int v = 0; v < G.V(); v++) {
+                for (DirectedEdge e : G.adj(v)) {
+                    int w = e.to();
+                    for (int i = 0; i < G.V(); i++) {
+                        double through = distTo[index(i, v)] + e.weight();
+                        if (distTo[index(i, w)] > through + EPSILON * Math.max(1.0, Math.abs(through))) {
+                            System.err.println("edge " + e + " is eligible");
+                            return false;
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    // throw an IllegalArgumentException unless {@code 0 <= v < V}
+    private void validateVertex(int v) {
+        if (v < 0 || v >= vertices)
+            throw new IllegalArgumentException("Vertex \'" + v + "\' is not between 0 and " + (vertices - 1));
+    }
+
+    /**
+     * Unit tests the {@code BlockedFloydWarshall} data type by comparing it, run
+     * sequentially and in parallel, with {@link FloydWarshall} on a random digraph.
+     *
+     * @param args the command-line arguments: the number of vertices and edges
+     */
+    public static void main(String[] args) {
+        int V = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int E = args.length > 1 ? Integer.parseInt(args[1]) : 10 * V;
+        AdjMatrixEdgeWeightedDigraph G = new AdjMatrixEdgeWeightedDigraph(V, E);
+
+        long start = System.currentTimeMillis();
+        FloydWarshall naive = new FloydWarshall(G);
+        long naiveTime = System.currentTimeMillis() - start;
+        start = System.currentTimeMillis();
+        BlockedFloydWarshall blocked = new BlockedFloydWarshall(G);
+        long blockedTime = System.currentTimeMillis() - start;
+        start = System.currentTimeMillis();
+        BlockedFloydWarshall parallel = new BlockedFloydWarshall(G, DEFAULT_TILE_SIZE, ForkJoinPool.commonPool());
+        long parallelTime = System.currentTimeMillis() - start;
+
+        int mismatches = 0;
+        for (int v = 0; v < V; v++) {
+            for (int w = 0; w < V; w++) {
+                if (Math.abs(naive.dist(v, w) - blocked.dist(v, w)) > 1E-9) mismatches++;
+                if (blocked.dist(v, w) != parallel.dist(v, w)) mismatches++;
+            }
+        }
+        StdOut.printf("%d vertices: naive %d ms, blocked %d ms, parallel %d ms, %d mismatches\n",
+                V, naiveTime, blockedTime, parallelTime, mismatches);
+        int s = StdRandom.uniform(V), t = StdRandom.uniform(V);
+        if (blocked.hasPath(s, t)) {
+            StdOut.printf("%d to %d (%5.2f)  ", s, t, blocked.dist(s, t));
+            for (DirectedEdge e : blocked.path(s, t)) {
+                StdOut.print(e + "  ");
+            }
+            StdOut.println();
+        }
+    }
+}
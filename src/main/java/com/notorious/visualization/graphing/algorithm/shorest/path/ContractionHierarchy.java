@@ -0,0 +1,721 @@
+package com.notorious.visualization.graphing.algorithm.shorest.path;
+
+import com.notorious.visualization.graphing.algorithm.graph.CompactEdgeWeightedDigraph;
+import com.notorious.visualization.graphing.algorithm.graph.DirectedEdge;
+import com.notorious.visualization.graphing.algorithm.graph.EdgeWeightedDigraph;
+import com.notorious.visualization.graphing.collection.queue.Queue;
+import com.notorious.visualization.graphing.util.DoubleIndexMinPQ;
+import com.notorious.visualization.graphing.util.StdOut;
+import com.notorious.visualization.graphing.util.StdRandom;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+
+/**
+ * The {@code ContractionHierarchy} class answers point-to-point shortest path queries in
+ * an edge-weighted digraph with nonnegative weights, with the {@code dist}, {@code hasPath}
+ * and {@code path} API of {@link FloydWarshall}, after preprocessing the digraph into a
+ * <em>contraction hierarchy</em>. On road-like digraphs a query settles a few hundred
+ * vertices instead of a large part of the digraph.
+ * <p>
+ * The preprocessing contracts the vertices one after another, from the least important
+ * to the most important one: it removes the vertex, and for every pair of its neighbors
+ * <em>u</em> and <em>w</em> adds a <em>shortcut</em> edge from <em>u</em> to <em>w</em>
+ * with the weight of the path through it, unless a <em>witness search</em>, a Dijkstra
+ * search from <em>u</em> that avoids the vertex, finds a path that is no longer. The
+ * distances between the remaining vertices thus never change. The importance of a vertex
+ * is the number of shortcuts its contraction would add less the number of edges it
+ * removes, plus the number of its neighbors already contracted and its depth in the
+ * hierarchy, which spreads the contractions evenly over the digraph. A witness search
+ * gives up after settling {@code 500} vertices, or {@code 20} when it only estimates the
+ * importance, in which case the shortcut is added, which is never wrong, only larger.
+ * <p>
+ * The vertices are contracted in rounds, so that the witness searches can run in parallel
+ * on a {@link ForkJoinPool}: each round takes every vertex that is less important than all
+ * of its neighbors, an independent set, finds the shortcuts of all of them at once with
+ * witness searches that avoid the whole set, and then contracts them. As the witness
+ * paths of a round never pass through another vertex of the round, the shortcuts do not
+ * depend on the order of its vertices. The importance of their neighbors is then updated
+ * in parallel as well.
+ * <p>
+ * A query runs Dijkstra's algorithm forwards from the source and backwards from the
+ * target, each only along edges that lead to more important vertices. Every shortest
+ * path has a shortest counterpart in the hierarchy that first goes up and then down, so
+ * the two searches meet at its most important vertex; each stops once its next key is
+ * no less than the shortest path &mu; found so far. {@link #path(int, int)} unpacks each
+ * shortcut into the two edges it replaces, recursively, down to edges of the digraph.
+ * Like {@link DijkstraEngine}, every thread reuses a workspace of version-stamped arrays
+ * and remembers its last query.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class ContractionHierarchy {
+
+    private static final int NONE = -1;
+    private static final int GRAIN = 256;               // vertices per parallel task
+    private static final int WITNESS_LIMIT = 500;       // vertices a witness search may settle
+    private static final int ESTIMATE_LIMIT = 20;       // the same, when only counting shortcuts
+
+    private final CompactEdgeWeightedDigraph graph;
+    private final int vertices;
+    private final int[] rank;          // rank[v] = position of v in the contraction order
+
+    // edges of the digraph and shortcuts: a shortcut replaces the arcs first and second
+    private int[] arcFrom, arcTo, arcFirst, arcSecond, arcEdge;
+    private double[] arcWeight;
+    private int arcCount;
+    private int shortcutCount;
+
+    // the hierarchy: upStart[v] .. upStart[v+1]-1 are the arcs from v to more important
+    // vertices, downStart[v] .. downStart[v+1]-1 the arcs into v from more important vertices
+    private final int[] upStart, upHead, upArc;
+    private final double[] upWeight;
+    private final int[] downStart, downHead, downArc;
+    private final double[] downWeight;
+    private final ThreadLocal<Query> workspace;
+
+    /**
+     * Preprocesses the given edge-weighted digraph into a contraction hierarchy, running
+     * the witness searches in parallel on the common pool.
+     *
+     * @param G the edge-weighted digraph
+     * @throws IllegalArgumentException if an edge weight is negative
+     */
+    public ContractionHierarchy(EdgeWeightedDigraph G) {
+        this(new CompactEdgeWeightedDigraph(G), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Preprocesses the given compact edge-weighted digraph into a contraction hierarchy,
+     * running the witness searches on the given pool. Later changes to the digraph are not
+     * seen by the hierarchy.
+     *
+     * @param G    the compact edge-weighted digraph
+     * @param pool the pool to run on, or {@code null} to run on the calling thread
+     * @throws IllegalArgumentException if an edge weight is negative
+     */
+    public ContractionHierarchy(CompactEdgeWeightedDigraph G, ForkJoinPool pool) {
+        for (int e = 0; e < G.getEdgeCount(); e++) {
+            if (G.getWeight(e) < 0)
+                throw new IllegalArgumentException("edge " + G.getEdge(e) + " has negative weight");
+        }
+        graph = G;
+        vertices = G.getVerticesCount();
+        rank = new int[vertices];
+        int capacity = Math.max(16, 2 * G.getEdgeCount());
+        arcFrom = new int[capacity];
+        arcTo = new int[capacity];
+        arcFirst = new int[capacity];
+        arcSecond = new int[capacity];
+        arcEdge = new int[capacity];
+        arcWeight = new double[capacity];
+
+        Contractor contractor = new Contractor(pool);
+        contractor.run();
+
+        upStart = new int[vertices + 1];
+        downStart = new int[vertices + 1];
+        for (int v = 0; v < vertices; v++) {
+            upStart[v + 1] = upStart[v] + contractor.up[v].length;
+            downStart[v + 1] = downStart[v] + contractor.down[v].length;
+        }
+        upHead = new int[upStart[vertices]];
+        upArc = new int[upStart[vertices]];
+        upWeight = new double[upStart[vertices]];
+        downHead = new int[downStart[vertices]];
+        downArc = new int[downStart[vertices]];
+        downWeight = new double[downStart[vertices]];
+        for (int v = 0; v < vertices; v++) {
+            for (int i = 0; i < contractor.up[v].length; i++) {
+                int a = contractor.up[v][i];
+                upHead[upStart[v] + i] = arcTo[a];
+                upArc[upStart[v] + i] = a;
+                upWeight[upStart[v] + i] = arcWeight[a];
+            }
+            for (int i = 0; i < contractor.down[v].length; i++) {
+                int a = contractor.down[v][i];
+                downHead[downStart[v] + i] = arcFrom[a];
+                downArc[downStart[v] + i] = a;
+                downWeight[downStart[v] + i] = arcWeight[a];
+            }
+        }
+        workspace = ThreadLocal.withInitial(() -> new Query(vertices));
+    }
+
+    // a new arc from u to w, an edge of the digraph or a shortcut over first and second
+    private int newArc(int u, int w, double weight, int first, int second, int edge) {
+        if (arcCount == arcFrom.length) {
+            int capacity = 2 * arcCount;
+            arcFrom = Arrays.copyOf(arcFrom, capacity);
+            arcTo = Arrays.copyOf(arcTo, capacity);
+            arcFirst = Arrays.copyOf(arcFirst, capacity);
+            arcSecond = Arrays.copyOf(arcSecond, capacity);
+            arcEdge = Arrays.copyOf(arcEdge, capacity);
+            arcWeight = Arrays.copyOf(arcWeight, capacity);
+        }
+        arcFrom[arcCount] = u;
+        arcTo[arcCount] = w;
+        arcWeight[arcCount] = weight;
+        arcFirst[arcCount] = first;
+        arcSecond[arcCount] = second;
+        arcEdge[arcCount] = edge;
+        return arcCount++;
+    }
+
+
+   /***************************************************************************
+    * Preprocessing.
+    ***************************************************************************/
+
+    // the digraph of the vertices not contracted yet, and the contraction of all of them
+    private final class Contractor {
+        private final ForkJoinPool pool;
+        private final ArcList[] out, in;       // arcs between remaining vertices
+        private final int[][] up, down;        // arcs of each vertex when it was contracted
+        private final int[] priority;
+        private final int[] contractedNeighbors;
+        private final int[] level;             // depth in the hierarchy
+        private final int[] round;             // round[v] = round v was picked in, or NONE
+        private final IntList[] shortcuts;     // per picked vertex: in-arc, out-arc pairs
+        private final ConcurrentLinkedQueue<Witness> idle;  // witness workspaces not in use
+
+        private Contractor(ForkJoinPool pool) {
+            this.pool = pool;
+            out = new ArcList[vertices];
+            in = new ArcList[vertices];
+            up = new int[vertices][];
+            down = new int[vertices][];
+            priority = new int[vertices];
+            contractedNeighbors = new int[vertices];
+            level = new int[vertices];
+            round = new int[vertices];
+            shortcuts = new IntList[vertices];
+            idle = new ConcurrentLinkedQueue<>();
+            Arrays.fill(round, NONE);
+            for (int v = 0; v < vertices; v++) {
+                out[v] = new ArcList();
+                in[v] = new ArcList();
+            }
+            for (int v = 0; v < vertices; v++) {
+                for (int e = graph.getEdgeStart(v); e < graph.getEdgeEnd(v); e++) {
+                    if (graph.getHead(e) != v) addArc(v, graph.getHead(e), graph.getWeight(e), NONE, NONE, e);
+                }
+            }
+        }
+
+        private void run() {
+            int[] remaining = new int[vertices];
+            for (int v = 0; v < vertices; v++) remaining[v] = v;
+            int count = vertices, nextRank = 0;
+            forEachSearch(remaining, count, this::updatePriority);
+
+            int[] picked = new int[vertices];
+            int[] dirty = new int[vertices];
+            int[] dirtyRound = new int[vertices];
+            Arrays.fill(dirtyRound, NONE);
+            for (int r = 0; count > 0; r++) {
+                // the vertices less important than all of their neighbors
+                int current = r;
+                forEach(remaining, count, v -> {
+                    if (isLocalMinimum(v)) round[v] = current;
+                });
+                int pickedCount = 0, left = 0;
+                for (int i = 0; i < count; i++) {
+                    int v = remaining[i];
+                    if (round[v] == r) picked[pickedCount++] = v;
+                    else remaining[left++] = v;
+                }
+                count = left;
+
+                forEachSearch(picked, pickedCount,
+                        (search, v) -> shortcuts[v] = findShortcuts(search, v, current, new IntList()));
+                int dirtyCount = 0;
+                for (int i = 0; i < pickedCount; i++) {
+                    int v = picked[i];
+                    rank[v] = nextRank++;
+                    contract(v);
+                    for (ArcList arcs : new ArcList[] {out[v], in[v]}) {
+                        for (int j = 0; j < arcs.size; j++) {
+                            int x = arcs.ends[j];
+                            contractedNeighbors[x]++;
+                            level[x] = Math.max(level[x], level[v] + 1);
+                            if (dirtyRound[x] != r) {
+                                dirtyRound[x] = r;
+                                dirty[dirtyCount++] = x;
+                            }
+                        }
+                    }
+                    out[v] = null;
+                    in[v] = null;
+                    shortcuts[v] = null;
+                }
+                forEachSearch(dirty, dirtyCount, this::updatePriority);
+            }
+        }
+
+        // is v less important than every remaining neighbor, ties going to the smaller id?
+        private boolean isLocalMinimum(int v) {
+            for (ArcList arcs : new ArcList[] {out[v], in[v]}) {
+                for (int j = 0; j < arcs.size; j++) {
+                    int x = arcs.ends[j];
+                    if (priority[x] < priority[v] || (priority[x] == priority[v] && x < v)) return false;
+                }
+            }
+            return true;
+        }
+
+        private void updatePriority(Witness search, int v) {
+            int added = findShortcuts(search, v, NONE, null).size / 2;
+            priority[v] = added - out[v].size - in[v].size + contractedNeighbors[v] + level[v];
+        }
+
+        // the in-arc, out-arc pairs through v that need a shortcut, with witness searches that
+        // avoid v and every vertex picked in round r; only counted if shortcuts is null
+        private IntList findShortcuts(Witness search, int v, int r, IntList shortcuts) {
+            IntList found = shortcuts == null ? new IntList() : shortcuts;
+            ArcList outArcs = out[v], inArcs = in[v];
+            double maxOut = 0.0;
+            for (int j = 0; j < outArcs.size; j++) maxOut = Math.max(maxOut, outArcs.weights[j]);
+            for (int i = 0; i < inArcs.size; i++) {
+                int u = inArcs.ends[i];
+                double weight = inArcs.weights[i];
+                search.run(u, v, r, weight + maxOut, outArcs, shortcuts == null ? ESTIMATE_LIMIT : WITNESS_LIMIT);
+                for (int j = 0; j < outArcs.size; j++) {
+                    int w = outArcs.ends[j];
+                    if (w == u) continue;
+                    if (search.distTo(w) > weight + outArcs.weights[j]) {
+                        found.add(inArcs.arcs[i]);
+                        found.add(outArcs.arcs[j]);
+                    }
+                }
+            }
+            return found;
+        }
+
+        // adds the shortcuts of v and removes v from the remaining digraph
+        private void contract(int v) {
+            up[v] = Arrays.copyOf(out[v].arcs, out[v].size);
+            down[v] = Arrays.copyOf(in[v].arcs, in[v].size);
+            IntList found = shortcuts[v];
+            for (int i = 0; i < found.size; i += 2) {
+                int a = found.items[i], b = found.items[i + 1];
+                if (addArc(arcFrom[a], arcTo[b], arcWeight[a] + arcWeight[b], a, b, NONE)) shortcutCount++;
+            }
+            for (int j = 0; j < in[v].size; j++) out[in[v].ends[j]].remove(in[v].arcs[j]);
+            for (int j = 0; j < out[v].size; j++) in[out[v].ends[j]].remove(out[v].arcs[j]);
+        }
+
+        // an arc from u to w, unless there already is one that is no heavier; true if it was added
+        private boolean addArc(int u, int w, double weight, int first, int second, int edge) {
+            ArcList arcs = out[u];
+            for (int j = 0; j < arcs.size; j++) {
+                if (arcs.ends[j] != w) continue;
+                if (arcs.weights[j] <= weight) return false;
+                int a = arcs.arcs[j], b = newArc(u, w, weight, first, second, edge);
+                arcs.set(j, b, w, weight);
+                in[w].replace(a, b, u, weight);
+                return true;
+            }
+            int b = newArc(u, w, weight, first, second, edge);
+            arcs.add(b, w, weight);
+            in[w].add(b, u, weight);
+            return true;
+        }
+
+        // body(items[0]), ..., body(items[count - 1]), on the pool if there is one
+        private void forEach(int[] items, int count, IntConsumer body) {
+            ParallelRange.forEach(pool, count, GRAIN, i -> body.accept(items[i]));
+        }
+
+        // as forEach, with a witness workspace per task; the workspaces are kept for the next
+        // task only until the contraction is done, not for the lifetime of the pool threads
+        private void forEachSearch(int[] items, int count, SearchBody body) {
+            ParallelRange.forEachChunk(pool, count, GRAIN, (lo, hi) -> {
+                Witness search = idle.poll();
+                if (search == null) search = new Witness();
+                try {
+                    for (int i = lo; i < hi; i++) body.accept(search, items[i]);
+                }
+                finally {
+                    idle.add(search);
+                }
+            });
+        }
+
+        // a Dijkstra search in the remaining digraph, in the workspace of one task
+        private final class Witness {
+            private final double[] distTo = new double[vertices];
+            private final int[] reached = new int[vertices];
+            private final int[] target = new int[vertices];
+            private final DoubleIndexMinPQ pq = new DoubleIndexMinPQ(vertices);
+            private int version;
+
+            // from u, avoiding v and the vertices picked in round r, until the heads of the
+            // given arcs are settled, the keys exceed limit, or settleLimit vertices are settled
+            private void run(int u, int v, int r, double limit, ArcList targets, int settleLimit) {
+                pq.clear();
+                if (++version == Integer.MAX_VALUE) {
+                    Arrays.fill(reached, 0);
+                    Arrays.fill(target, 0);
+                    version = 1;
+                }
+                int open = 0;
+                for (int j = 0; j < targets.size; j++) {
+                    int w = targets.ends[j];
+                    if (target[w] != version) {
+                        target[w] = version;
+                        open++;
+                    }
+                }
+                distTo[u] = 0.0;
+                reached[u] = version;
+                pq.insert(u, 0.0);
+                for (int settled = 0; !pq.isEmpty() && open > 0 && settled < settleLimit; settled++) {
+                    int x = pq.delMin();
+                    if (target[x] == version) open--;
+                    ArcList arcs = out[x];
+                    double d = distTo[x];
+                    for (int j = 0; j < arcs.size; j++) {
+                        int y = arcs.ends[j];
+                        if (y == v || r != NONE && round[y] == r) continue;
+                        double through = d + arcs.weights[j];
+                        if (through > limit) continue;
+                        if (reached[y] != version) {
+                            reached[y] = version;
+                            distTo[y] = through;
+                            pq.insert(y, through);
+                        }
+                        else if (through < distTo[y] && pq.contains(y)) {
+                            distTo[y] = through;
+                            pq.decreaseKey(y, through);
+                        }
+                    }
+                }
+            }
+
+            private double distTo(int w) {
+                return reached[w] == version ? distTo[w] : Double.POSITIVE_INFINITY;
+            }
+        }
+    }
+
+    // a loop body that runs witness searches in the given workspace
+    private interface SearchBody {
+        void accept(Contractor.Witness search, int v);
+    }
+
+    // the arcs into or out of one vertex, with their other ends and weights side by side,
+    // so that a witness search scans them without looking up every arc
+    private static final class ArcList {
+        private int[] arcs = new int[4];
+        private int[] ends = new int[4];
+        private double[] weights = new double[4];
+        private int size;
+
+        private void add(int arc, int end, double weight) {
+            if (size == arcs.length) {
+                arcs = Arrays.copyOf(arcs, 2 * size);
+                ends = Arrays.copyOf(ends, 2 * size);
+                weights = Arrays.copyOf(weights, 2 * size);
+            }
+            set(size++, arc, end, weight);
+        }
+
+        private void set(int i, int arc, int end, double weight) {
+            arcs[i] = arc;
+            ends[i] = end;
+            weights[i] = weight;
+        }
+
+        private void remove(int arc) {
+            for (int i = 0; i < size; i++) {
+                if (arcs[i] == arc) {
+                    size--;
+                    set(i, arcs[size], ends[size], weights[size]);
+                    return;
+                }
+            }
+        }
+
+        private void replace(int arc, int by, int end, double weight) {
+            for (int i = 0; i < size; i++) {
+                if (arcs[i] == arc) {
+                    set(i, by, end, weight);
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class IntList {
+        private int[] items = new int[4];
+        private int size;
+
+        private void add(int item) {
+            if (size == items.length) items = Arrays.copyOf(items, 2 * size);
+            items[size++] = item;
+        }
+    }
+
+
+   /***************************************************************************
+    * Queries.
+    ***************************************************************************/
+
+    // one direction of a query: upwards from the source, or from the target
+    private static final class Side {
+        private final double[] distTo;   // distTo[v] = distance of v, if reached[v] == version
+        private final int[] arcTo;       // arcTo[v] = arc v was reached by
+        private final int[] reached;     // reached[v] = version of the last query that reached v
+        private final DoubleIndexMinPQ pq;
+
+        private Side(int V) {
+            distTo = new double[V];
+            arcTo = new int[V];
+            reached = new int[V];
+            pq = new DoubleIndexMinPQ(V);
+        }
+    }
+
+    // the search arrays of one thread, holding the result of its last query
+    private static final class Query {
+        private final Side from, to;
+        private int version;
+        private int source = NONE, target = NONE;
+        private int meet;                   // most important vertex of the shortest path
+        private double length;              // length of the shortest path, mu
+        private int settledCount;
+
+        private Query(int V) {
+            from = new Side(V);
+            to = new Side(V);
+        }
+    }
+
+    // run both upward searches from s and t, unless the calling thread just did
+    private Query search(int s, int t) {
+        validateVertex(s);
+        validateVertex(t);
+        Query query = workspace.get();
+        if (query.source == s && query.target == t) return query;
+
+        query.from.pq.clear();
+        query.to.pq.clear();
+        if (++query.version == Integer.MAX_VALUE) {
+            Arrays.fill(query.from.reached, 0);
+            Arrays.fill(query.to.reached, 0);
+            query.version = 1;
+        }
+        query.source = s;
+        query.target = t;
+        query.settledCount = 0;
+        query.meet = s == t ? s : NONE;
+        query.length = s == t ? 0.0 : Double.POSITIVE_INFINITY;
+        start(query, query.from, s);
+        start(query, query.to, t);
+
+        // each side stops once its next key can no longer improve on mu
+        Side from = query.from, to = query.to;
+        while (true) {
+            boolean forward = !from.pq.isEmpty() && from.pq.minKey() < query.length;
+            boolean backward = !to.pq.isEmpty() && to.pq.minKey() < query.length;
+            if (forward && backward) {
+                if (from.pq.minKey() <= to.pq.minKey()) backward = false;
+                else forward = false;
+            }
+            if (forward) scan(query, from, to, upStart, upHead, upWeight, upArc);
+            else if (backward) scan(query, to, from, downStart, downHead, downWeight, downArc);
+            else return query;
+        }
+    }
+
+    private static void start(Query query, Side side, int v) {
+        side.distTo[v] = 0.0;
+        side.arcTo[v] = NONE;
+        side.reached[v] = query.version;
+        side.pq.insert(v, 0.0);
+    }
+
+    // settle the next vertex of one side along its arcs, and look for meetings with the other
+    private static void scan(Query query, Side side, Side other, int[] start, int[] head, double[] weight, int[] arc) {
+        int current = query.version;
+        int v = side.pq.delMin();
+        query.settledCount++;
+        double d = side.distTo[v];
+        for (int i = start[v], end = start[v + 1]; i < end; i++) {
+            int w = head[i];
+            double through = d + weight[i];
+            if (side.reached[w] != current) {
+                side.reached[w] = current;
+                side.distTo[w] = through;
+                side.arcTo[w] = arc[i];
+                side.pq.insert(w, through);
+            }
+            else if (through < side.distTo[w] && side.pq.contains(w)) {
+                side.distTo[w] = through;
+                side.arcTo[w] = arc[i];
+                side.pq.decreaseKey(w, through);
+            }
+            else continue;
+            if (other.reached[w] == current && through + other.distTo[w] < query.length) {
+                query.length = through + other.distTo[w];
+                query.meet = w;
+            }
+        }
+    }
+
+    // the edges of the digraph an arc stands for, in order
+    private void unpack(int arc, Queue<DirectedEdge> path) {
+        int[] stack = new int[16];
+        int size = 0;
+        stack[size++] = arc;
+        while (size > 0) {
+            int a = stack[--size];
+            if (arcEdge[a] != NONE) {
+                path.enqueue(graph.getEdge(arcEdge[a]));
+                continue;
+            }
+            if (size + 2 > stack.length) stack = Arrays.copyOf(stack, 2 * stack.length);
+            stack[size++] = arcSecond[a];
+            stack[size++] = arcFirst[a];
+        }
+    }
+
+    /**
+     * Returns the number of shortcuts the preprocessing added.
+     *
+     * @return the number of shortcuts
+     */
+    public int getShortcutCount() {
+        return shortcutCount;
+    }
+
+    /**
+     * Returns the position of vertex {@code v} in the contraction order, from {@code 0}
+     * for the least important vertex to {@code V-1} for the most important one.
+     *
+     * @param v the vertex
+     * @return the rank of {@code v}
+     * @throws IllegalArgumentException unless {@code 0 <= v < V}
+     */
+    public int getRank(int v) {
+        validateVertex(v);
+        return rank[v];
+    }
+
+    /**
+     * Returns the number of vertices the last query of the calling thread settled in
+     * both directions together.
+     *
+     * @return the number of settled vertices
+     */
+    public int getSettledCount() {
+        return workspace.get().settledCount;
+    }
+
+    /**
+     * Is there a path from the vertex {@code s} to vertex {@code t}?
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return {@code true} if there is a path from vertex {@code s}
+     *         to vertex {@code t}, and {@code false} otherwise
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public boolean hasPath(int s, int t) {
+        return search(s, t).meet != NONE;
+    }
+
+    /**
+     * Returns the length of a shortest path from vertex {@code s} to vertex {@code t}.
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return the length of a shortest path from vertex {@code s} to vertex {@code t};
+     *         {@code Double.POSITIVE_INFINITY} if no such path
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public double dist(int s, int t) {
+        return search(s, t).length;
+    }
+
+    /**
+     * Returns a shortest path from vertex {@code s} to vertex {@code t}.
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return a shortest path from vertex {@code s} to vertex {@code t}
+     *         as an iterable of edges, and {@code null} if no such path
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public Iterable<DirectedEdge> path(int s, int t) {
+        Query query = search(s, t);
+        if (query.meet == NONE) return null;
+        int[] upwards = new int[16];
+        int count = 0;
+        for (int a = query.from.arcTo[query.meet]; a != NONE; a = query.from.arcTo[arcFrom[a]]) {
+            if (count == upwards.length) upwards = Arrays.copyOf(upwards, 2 * count);
+            upwards[count++] = a;
+        }
+        Queue<DirectedEdge> path = new Queue<>();
+        while (count > 0) {
+            unpack(upwards[--count], path);
+        }
+        // the backward search reached each vertex by an arc leaving it
+        for (int a = query.to.arcTo[query.meet]; a != NONE; a = query.to.arcTo[arcTo[a]]) {
+            unpack(a, path);
+        }
+        return path;
+    }
+
+    // throw an IllegalArgumentException unless {@code 0 <= v < V}
+    private void validateVertex(int v) {
+        if (v < 0 || v >= vertices)
+            throw new IllegalArgumentException("Vertex \'" + v + "\' is not between 0 and " + (vertices - 1));
+    }
+
+    /**
+     * Unit tests the {@code ContractionHierarchy} data type by comparing its queries with
+     * {@link DijkstraEngine} on a random geometric digraph.
+     *
+     * @param args the command-line arguments: the number of vertices and queries
+     */
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        int queries = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        double[][] coordinates = new double[n][2];
+        EdgeWeightedDigraph G = EdgeWeightedDigraph.geometric(coordinates, Math.sqrt(8.0 / (Math.PI * n)));
+
+        long start = System.currentTimeMillis();
+        ContractionHierarchy hierarchy = new ContractionHierarchy(G);
+        long preprocessing = System.currentTimeMillis() - start;
+        DijkstraEngine dijkstra = new DijkstraEngine(G);
+
+        int[] sources = new int[queries], targets = new int[queries];
+        for (int i = 0; i < queries; i++) {
+            sources[i] = StdRandom.uniform(n);
+            targets[i] = StdRandom.uniform(n);
+        }
+        long settled = 0, mismatches = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < queries; i++) {
+            hierarchy.dist(sources[i], targets[i]);
+            settled += hierarchy.getSettledCount();
+        }
+        long hierarchyTime = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < queries; i++) {
+            if (Math.abs(dijkstra.dist(sources[i], targets[i]) - hierarchy.dist(sources[i], targets[i])) > 1E-9)
+                mismatches++;
+        }
+        long dijkstraTime = System.nanoTime() - start;
+        StdOut.printf("%d vertices, %d edges: %d shortcuts in %d ms; %d us per query settling %d vertices, "
+                        + "against %d us for Dijkstra; %d mismatches\n", n, G.E(), hierarchy.getShortcutCount(),
+                preprocessing, hierarchyTime / queries / 1000, settled / queries, dijkstraTime / queries / 1000,
+                mismatches);
+    }
+}
@@ -0,0 +1,423 @@
+package com.notorious.visualization.graphing.algorithm.shorest.path;
+
+import com.notorious.visualization.graphing.algorithm.graph.CompactEdgeWeightedDigraph;
+import com.notorious.visualization.graphing.algorithm.graph.DirectedEdge;
+import com.notorious.visualization.graphing.algorithm.graph.EdgeWeightedDigraph;
+import com.notorious.visualization.graphing.collection.stack.Stack;
+import com.notorious.visualization.graphing.util.StdOut;
+import com.notorious.visualization.graphing.util.StdRandom;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The {@code DeltaSteppingSP} class solves the single-source shortest paths problem in
+ * edge-weighted digraphs with nonnegative weights, like Dijkstra's algorithm, but
+ * settling many vertices at once in parallel on a {@link ForkJoinPool}.
+ * <p>
+ * <em>&Delta;-stepping</em> keeps the tentative distances in buckets of width &Delta;
+ * instead of a priority queue, and settles one bucket at a time. Edges of weight at most
+ * &Delta; are <em>light</em>: relaxing them can put a vertex back into the current bucket,
+ * so they are relaxed in rounds until the bucket stays empty. The remaining <em>heavy</em>
+ * edges can only reach later buckets, so they are relaxed once per bucket, after its light
+ * rounds. The vertices of every round are relaxed in parallel; a vertex's distance and
+ * last edge are only ever lowered together, under one of a set of striped locks, and the
+ * vertices reached by a round are collected without duplicates and sorted into the buckets
+ * on the calling thread. The edges of every vertex are reordered light ones first once, so
+ * that each phase scans exactly the edges it needs.
+ * <p>
+ * &Delta; trades the number of buckets against the work wasted by relaxing vertices whose
+ * distance is not final yet. Unless given, it is tuned from the weights so that a vertex
+ * has about one light edge on average, which is the choice of Meyer and Sanders for
+ * uniformly random weights, taken as a quantile of a sample of the weights for any other
+ * distribution. It is never smaller than 2<sup>&minus;16</sup> times the largest weight, so
+ * that the buckets fit into a small ring.
+ * <p>
+ * Every distance ends up as the smallest sum over its incoming edges of the final distance
+ * of the tail plus the weight, rounded like {@link DijkstraEngine} rounds it, so the
+ * distances are identical to those of Dijkstra's algorithm, whatever the thread schedule.
+ * Among several shortest paths, the one returned may differ.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class DeltaSteppingSP {
+
+    private static final int NONE = -1;
+    private static final int GRAIN = 256;          // frontier vertices per parallel task
+    private static final int LOCKS = 1 << 10;      // striped locks guarding distance and edge updates
+    private static final int SAMPLE = 1 << 12;     // weights sampled to tune delta
+    private static final int MAX_RING = 1 << 16;   // largest weight over delta
+
+    private final CompactEdgeWeightedDigraph graph;
+    private final int source;
+    private final double delta;
+    private final double[] distTo;    // distTo[v] = length of shortest s->v path
+    private final int[] edgeTo;       // edgeTo[v] = id of last edge on shortest s->v path
+
+    /**
+     * Computes a shortest-paths tree from {@code s} to every other vertex, in parallel on
+     * the common pool with a tuned &Delta;.
+     *
+     * @param G the edge-weighted digraph
+     * @param s the source vertex
+     * @throws IllegalArgumentException if an edge weight is negative
+     * @throws IllegalArgumentException unless {@code 0 <= s < V}
+     */
+    public DeltaSteppingSP(EdgeWeightedDigraph G, int s) {
+        this(new CompactEdgeWeightedDigraph(G), s, ForkJoinPool.commonPool(), 0.0);
+    }
+
+    /**
+     * Computes a shortest-paths tree from {@code s} to every other vertex on the given
+     * pool, with the given bucket width.
+     *
+     * @param G     the compact edge-weighted digraph
+     * @param s     the source vertex
+     * @param pool  the pool to run on, or {@code null} to run on the calling thread
+     * @param delta the bucket width, or {@code 0} to tune it from the weights
+     * @throws IllegalArgumentException if an edge weight is negative, or {@code delta} is
+     *         negative or not a number
+     * @throws IllegalArgumentException unless {@code 0 <= s < V}
+     */
+    public DeltaSteppingSP(CompactEdgeWeightedDigraph G, int s, ForkJoinPool pool, double delta) {
+        if (!(delta >= 0.0)) throw new IllegalArgumentException("Bucket width must be nonnegative");
+        graph = G;
+        int V = G.getVerticesCount();
+        if (s < 0 || s >= V)
+            throw new IllegalArgumentException("Vertex \'" + s + "\' is not between 0 and " + (V - 1));
+        double maxWeight = 0.0;
+        for (int e = 0; e < G.getEdgeCount(); e++) {
+            if (G.getWeight(e) < 0)
+                throw new IllegalArgumentException("edge " + G.getEdge(e) + " has negative weight");
+            maxWeight = Math.max(maxWeight, G.getWeight(e));
+        }
+        if (delta == 0.0) delta = tune(G);
+        this.delta = Math.max(delta, maxWeight / MAX_RING);
+        source = s;
+        distTo = new double[V];
+        edgeTo = new int[V];
+        new Stepper(pool, maxWeight).run();
+        assert check();
+    }
+
+    // about one light edge per vertex: the weight quantile 1 / average outdegree of a sample
+    private static double tune(CompactEdgeWeightedDigraph G) {
+        int E = G.getEdgeCount(), V = G.getVerticesCount();
+        if (E == 0) return 1.0;
+        int n = Math.min(E, SAMPLE);
+        double[] sample = new double[n];
+        long stride = Math.max(1, E / n);
+        for (int i = 0; i < n; i++) {
+            sample[i] = G.getWeight((int) (i * stride % E));
+        }
+        Arrays.sort(sample);
+        double degree = (double) E / Math.max(1, V);
+        int index = (int) Math.min(n - 1, Math.floor(n / Math.max(1.0, degree)));
+        if (sample[index] > 0.0) return sample[index];
+        // mostly zero weights: the smallest positive one, or anything if all are zero
+        for (double weight : sample) {
+            if (weight > 0.0) return weight;
+        }
+        return 1.0;
+    }
+
+    // the state of one run, dropped once the distances are final
+    private final class Stepper {
+        private final ForkJoinPool pool;
+        private final AtomicLongArray dist;      // bits of the tentative distances
+        private final Object[] locks;
+        private final int[] order;               // edge ids of every vertex, light ones first
+        private final int[] lightEnd;            // lightEnd[v] = end of the light edges of v in order
+        private final IntList[] ring;            // ring[b % ring.length] = vertices that entered bucket b
+        private int pending;                     // entries in the ring, some of them stale
+
+        private final AtomicIntegerArray mark;   // mark[v] = last step that lowered v
+        private final int[] touched;             // vertices lowered by this step
+        private final AtomicInteger touchedCount = new AtomicInteger();
+        private int step;
+
+        private final int[] queued;              // queued[v] = 1 + last bucket v was put in the frontier of
+        private final int[] settled;             // settled[v] = 1 + last bucket v was settled in
+
+        private Stepper(ForkJoinPool pool, double maxWeight) {
+            this.pool = pool;
+            int V = graph.getVerticesCount();
+            dist = new AtomicLongArray(V);
+            locks = new Object[LOCKS];
+            for (int i = 0; i < LOCKS; i++) {
+                locks[i] = new Object();
+            }
+            order = new int[graph.getEdgeCount()];
+            lightEnd = new int[V];
+            for (int v = 0; v < V; v++) {
+                int light = graph.getEdgeStart(v), heavy = graph.getEdgeEnd(v);
+                for (int e = graph.getEdgeStart(v); e < graph.getEdgeEnd(v); e++) {
+                    if (graph.getWeight(e) <= delta) order[light++] = e;
+                    else order[--heavy] = e;
+                }
+                lightEnd[v] = light;
+            }
+            ring = new IntList[(int) Math.ceil(maxWeight / delta) + 2];
+            for (int i = 0; i < ring.length; i++) {
+                ring[i] = new IntList();
+            }
+            mark = new AtomicIntegerArray(V);
+            touched = new int[V];
+            queued = new int[V];
+            settled = new int[V];
+        }
+
+        private void run() {
+            long infinity = Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+            for (int v = 0; v < distTo.length; v++) {
+                dist.set(v, infinity);
+            }
+            Arrays.fill(edgeTo, NONE);
+            dist.set(source, Double.doubleToRawLongBits(0.0));
+            ring[0].add(source);
+            pending = 1;
+
+            IntList frontier = new IntList(), next = new IntList(), bucket = new IntList();
+            for (long b = 0; pending > 0; b++) {
+                IntList slot = ring[(int) (b % ring.length)];
+                if (slot.size == 0) continue;
+                int label = (int) b + 1;    // stamps only need to differ between consecutive buckets
+                // keep entries of later buckets, drop stale ones, dedupe the rest into the frontier
+                frontier.clear();
+                int kept = 0;
+                for (int i = 0; i < slot.size; i++) {
+                    int v = slot.items[i];
+                    long at = bucket(v);
+                    if (at > b) slot.items[kept++] = v;
+                    else if (at == b && queued[v] != label) {
+                        queued[v] = label;
+                        frontier.add(v);
+                    }
+                }
+                pending -= slot.size - kept;
+                slot.size = kept;
+
+                bucket.clear();
+                while (frontier.size > 0) {
+                    // light rounds: relax until no vertex falls back into this bucket
+                    while (frontier.size > 0) {
+                        for (int i = 0; i < frontier.size; i++) {
+                            int v = frontier.items[i];
+                            queued[v] = 0;
+                            if (settled[v] != label) {
+                                settled[v] = label;
+                                bucket.add(v);
+                            }
+                        }
+                        relax(frontier, true);
+                        next.clear();
+                        distribute(b, label, next);
+                        IntList swap = frontier;
+                        frontier = next;
+                        next = swap;
+                    }
+                    // heavy edges reach later buckets, unless rounding put one back into this one
+                    relax(bucket, false);
+                    distribute(b, label, frontier);
+                }
+            }
+            for (int v = 0; v < distTo.length; v++) {
+                distTo[v] = Double.longBitsToDouble(dist.get(v));
+            }
+        }
+
+        private long bucket(int v) {
+            return (long) (Double.longBitsToDouble(dist.get(v)) / delta);
+        }
+
+        // relax the light or heavy edges of the given vertices, collecting the vertices lowered
+        private void relax(IntList vertices, boolean light) {
+            step++;
+            touchedCount.set(0);
+            ParallelRange.forEachChunk(pool, vertices.size, GRAIN, (lo, hi) -> relax(vertices, lo, hi, light));
+        }
+
+        private void relax(IntList vertices, int lo, int hi, boolean light) {
+            for (int i = lo; i < hi; i++) {
+                int v = vertices.items[i];
+                double d = Double.longBitsToDouble(dist.get(v));
+                int from = light ? graph.getEdgeStart(v) : lightEnd[v];
+                int to = light ? lightEnd[v] : graph.getEdgeEnd(v);
+                for (int j = from; j < to; j++) {
+                    int e = order[j];
+                    int w = graph.getHead(e);
+                    double through = d + graph.getWeight(e);
+                    if (through < Double.longBitsToDouble(dist.get(w))) lower(w, through, e);
+                }
+            }
+        }
+
+        private void lower(int w, double through, int e) {
+            synchronized (locks[w & (LOCKS - 1)]) {
+                if (through >= Double.longBitsToDouble(dist.get(w))) return;
+                dist.set(w, Double.doubleToRawLongBits(through));
+                edgeTo[w] = e;
+            }
+            int last = mark.get(w);
+            if (last != step && mark.compareAndSet(w, last, step)) {
+                touched[touchedCount.getAndIncrement()] = w;
+            }
+        }
+
+        // sort the vertices lowered by the last step into the frontier of bucket b, or later buckets
+        private void distribute(long b, int label, IntList frontier) {
+            int count = touchedCount.get();
+            for (int i = 0; i < count; i++) {
+                int w = touched[i];
+                long at = bucket(w);
+                if (at <= b) {
+                    if (queued[w] != label) {
+                        queued[w] = label;
+                        frontier.add(w);
+                    }
+                }
+                else {
+                    ring[(int) (at % ring.length)].add(w);
+                    pending++;
+                }
+            }
+        }
+    }
+
+    // a growable list of ints
+    private static final class IntList {
+        private int[] items = new int[16];
+        private int size;
+
+        private void add(int item) {
+            if (size == items.length) items = Arrays.copyOf(items, 2 * size);
+            items[size++] = item;
+        }
+
+        private void clear() {
+            size = 0;
+        }
+    }
+
+    /**
+     * Returns the source vertex.
+     *
+     * @return the source vertex
+     */
+    public int getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the bucket width &Delta; that was used.
+     *
+     * @return the bucket width
+     */
+    public double getDelta() {
+        return delta;
+    }
+
+    /**
+     * Returns the length of a shortest path from the source vertex to vertex {@code v}.
+     *
+     * @param v the destination vertex
+     * @return the length of a shortest path from the source vertex to vertex {@code v};
+     *         {@code Double.POSITIVE_INFINITY} if no such path
+     * @throws IllegalArgumentException unless {@code 0 <= v < V}
+     */
+    public double distTo(int v) {
+        validateVertex(v);
+        return distTo[v];
+    }
+
+    /**
+     * Returns true if there is a path from the source vertex to vertex {@code v}.
+     *
+     * @param v the destination vertex
+     * @return {@code true} if there is a path from the source vertex to vertex {@code v};
+     *         {@code false} otherwise
+     * @throws IllegalArgumentException unless {@code 0 <= v < V}
+     */
+    public boolean hasPathTo(int v) {
+        validateVertex(v);
+        return distTo[v] < Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns a shortest path from the source vertex to vertex {@code v}.
+     *
+     * @param v the destination vertex
+     * @return a shortest path from the source vertex to vertex {@code v}
+     *         as an iterable of edges, and {@code null} if no such path
+     * @throws IllegalArgumentException unless {@code 0 <= v < V}
+     */
+    public Iterable<DirectedEdge> pathTo(int v) {
+        if (!hasPathTo(v)) return null;
+        Stack<DirectedEdge> path = new Stack<>();
+        for (int e = edgeTo[v]; e != NONE; e = edgeTo[graph.getEdge(e).from()]) {
+            path.push(graph.getEdge(e));
+        }
+        return path;
+    }
+
+    // check optimality conditions: no edge is eligible, and every tree edge is tight
+    private boolean check() {
+        for (int v = 0; v < distTo.length; v++) {
+            for (int e = graph.getEdgeStart(v); e < graph.getEdgeEnd(v); e++) {
+                if (distTo[v] + graph.getWeight(e) < distTo[graph.getHead(e)]) {
+                    System.err.println("edge " + graph.getEdge(e) + " not relaxed");
+                    return false;
+                }
+            }
+            int e = edgeTo[v];
+            if (e != NONE && distTo[graph.getEdge(e).from()] + graph.getWeight(e) != distTo[v]) {
+                System.err.println("edge " + graph.getEdge(e) + " on shortest path not tight");
+                return false;
+            }
+        }
+        return distTo[source] == 0.0 && edgeTo[source] == NONE;
+    }
+
+    // throw an IllegalArgumentException unless {@code 0 <= v < V}
+    private void validateVertex(int v) {
+        if (v < 0 || v >= distTo.length)
+            throw new IllegalArgumentException("Vertex \'" + v + "\' is not between 0 and " + (distTo.length - 1));
+    }
+
+    /**
+     * Unit tests the {@code DeltaSteppingSP} data type by comparing it with
+     * {@link DijkstraEngine} on a random sparse digraph.
+     *
+     * @param args the command-line arguments: the number of vertices and edges
+     */
+    public static void main(String[] args) {
+        int V = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        int E = args.length > 1 ? Integer.parseInt(args[1]) : 8 * V;
+        CompactEdgeWeightedDigraph G = new CompactEdgeWeightedDigraph(new EdgeWeightedDigraph(V, E));
+        int s = StdRandom.uniform(V);
+
+        long start = System.currentTimeMillis();
+        DijkstraEngine.Search dijkstra = new DijkstraEngine(G).search(s);
+        long dijkstraTime = System.currentTimeMillis() - start;
+        start = System.currentTimeMillis();
+        DeltaSteppingSP sequential = new DeltaSteppingSP(G, s, null, 0.0);
+        long sequentialTime = System.currentTimeMillis() - start;
+        start = System.currentTimeMillis();
+        DeltaSteppingSP parallel = new DeltaSteppingSP(G, s, ForkJoinPool.commonPool(), 0.0);
+        long parallelTime = System.currentTimeMillis() - start;
+
+        int mismatches = 0;
+        for (int v = 0; v < V; v++) {
+            if (dijkstra.distTo(v) != sequential.distTo(v)) mismatches++;
+            if (dijkstra.distTo(v) != parallel.distTo(v)) mismatches++;
+        }
+        StdOut.printf("%d vertices, %d edges, delta %.4f: Dijkstra %d ms, sequential %d ms, parallel %d ms "
+                        + "on %d threads, %d mismatches\n", V, E, parallel.getDelta(), dijkstraTime,
+                sequentialTime, parallelTime, ForkJoinPool.commonPool().getParallelism(), mismatches);
+    }
+}
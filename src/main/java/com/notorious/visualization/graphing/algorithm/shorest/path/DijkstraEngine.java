@@ -0,0 +1,335 @@
+package com.notorious.visualization.graphing.algorithm.shorest.path;
+
+import com.notorious.visualization.graphing.algorithm.graph.CompactEdgeWeightedDigraph;
+import com.notorious.visualization.graphing.algorithm.graph.DirectedEdge;
+import com.notorious.visualization.graphing.algorithm.graph.EdgeWeightedDigraph;
+import com.notorious.visualization.graphing.collection.stack.Stack;
+import com.notorious.visualization.graphing.util.DoubleIndexMinPQ;
+import com.notorious.visualization.graphing.util.StdOut;
+import com.notorious.visualization.graphing.util.StdRandom;
+
+import java.util.Arrays;
+
+/**
+ * The {@code DijkstraEngine} class answers single-source and point-to-point shortest path
+ * queries in an edge-weighted digraph with nonnegative weights, for callers that run many
+ * queries against the same digraph, possibly from many threads at once.
+ * <p>
+ * The digraph is copied once into a {@link CompactEdgeWeightedDigraph}. Every thread gets
+ * its own {@link Search} workspace the first time it queries the engine, and reuses it for
+ * all of its later queries, so that a query allocates nothing: the keys are kept in a
+ * {@link DoubleIndexMinPQ} of primitive doubles, and the distance and edge arrays are not
+ * refilled between queries. Instead, each query gets a new version number, and an entry
+ * only counts if it was stamped with the current version; everything else reads as
+ * unreached. A query therefore costs time proportional to the part of the digraph it
+ * explores, not to <em>V</em>.
+ * <p>
+ * A point-to-point query stops as soon as its target is settled. Only the vertices settled
+ * by then have final distances, which {@link Search#isSettled(int)} tells apart.
+ * <p>
+ * A query takes time proportional to <em>E</em> log <em>V</em> in the worst case.
+ * The workspace of each thread takes space proportional to <em>V</em>.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class DijkstraEngine {
+
+    private static final int NONE = -1;
+
+    private final CompactEdgeWeightedDigraph graph;
+    private final int vertices;
+    private final ThreadLocal<Search> workspace;
+
+    /**
+     * The workspace of one thread, holding the result of the last query that thread ran.
+     * It is only valid until the same thread runs its next query on the same engine, and
+     * must not be handed to other threads. It does not refer back to the engine, so an
+     * engine no longer in use can be collected even while threads that queried it live on.
+     */
+    public static final class Search {
+        private final CompactEdgeWeightedDigraph graph;
+        private final double[] distTo;   // distTo[v] = distance of v, if reached[v] == version
+        private final int[] edgeTo;      // edgeTo[v] = id of last edge on path to v, if reached[v] == version
+        private final int[] reached;     // reached[v] = version of the last query that reached v
+        private final int[] settled;     // settled[v] = version of the last query that settled v
+        private final DoubleIndexMinPQ pq;
+        private int version;
+        private int source = NONE;
+        private int settledCount;
+
+        private Search(CompactEdgeWeightedDigraph graph, int V) {
+            this.graph = graph;
+            distTo = new double[V];
+            edgeTo = new int[V];
+            reached = new int[V];
+            settled = new int[V];
+            pq = new DoubleIndexMinPQ(V);
+        }
+
+        // start a new query, so that every vertex reads as unreached again
+        private void reset(int s) {
+            pq.clear();
+            if (++version == Integer.MAX_VALUE) {
+                // only once every 2^31 queries: make the old stamps invalid for real
+                Arrays.fill(reached, 0);
+                Arrays.fill(settled, 0);
+                version = 1;
+            }
+            source = s;
+            settledCount = 0;
+        }
+
+        // run Dijkstra from the source until target is settled, or everything if target is NONE
+        private void run(int target) {
+            int current = version;
+            distTo[source] = 0.0;
+            edgeTo[source] = NONE;
+            reached[source] = current;
+            pq.insert(source, 0.0);
+            while (!pq.isEmpty()) {
+                int v = pq.delMin();
+                settled[v] = current;
+                settledCount++;
+                if (v == target) return;
+                double d = distTo[v];
+                for (int e = graph.getEdgeStart(v), end = graph.getEdgeEnd(v); e < end; e++) {
+                    int w = graph.getHead(e);
+                    double through = d + graph.getWeight(e);
+                    if (reached[w] != current) {
+                        reached[w] = current;
+                        distTo[w] = through;
+                        edgeTo[w] = e;
+                        pq.insert(w, through);
+                    }
+                    else if (through < distTo[w] && settled[w] != current) {
+                        distTo[w] = through;
+                        edgeTo[w] = e;
+                        pq.decreaseKey(w, through);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Returns the source vertex of the last query.
+         *
+         * @return the source vertex, or {@code -1} if no query has been run yet
+         */
+        public int getSource() {
+            return source;
+        }
+
+        /**
+         * Returns the number of vertices the last query settled, a measure of the work it did.
+         *
+         * @return the number of settled vertices
+         */
+        public int getSettledCount() {
+            return settledCount;
+        }
+
+        /**
+         * Is the distance of vertex {@code v} final? After a full query this is the case
+         * for every vertex reachable from the source; after a point-to-point query only for
+         * the vertices that were settled before the target.
+         *
+         * @param v the vertex
+         * @return {@code true} if {@code v} was settled by the last query
+         * @throws IllegalArgumentException unless {@code 0 <= v < V}
+         */
+        public boolean isSettled(int v) {
+            validateVertex(v, distTo.length);
+            return settled[v] == version;
+        }
+
+        /**
+         * Is there a path from the source to vertex {@code v}? Only meaningful for settled
+         * vertices, or for any vertex after a full query.
+         *
+         * @param v the destination vertex
+         * @return {@code true} if the last query found a path to {@code v}
+         * @throws IllegalArgumentException unless {@code 0 <= v < V}
+         */
+        public boolean hasPathTo(int v) {
+            validateVertex(v, distTo.length);
+            return reached[v] == version;
+        }
+
+        /**
+         * Returns the length of the shortest path from the source to vertex {@code v} found
+         * by the last query. Only final for settled vertices, or for any vertex after a full
+         * query.
+         *
+         * @param v the destination vertex
+         * @return the length of the path, {@code Double.POSITIVE_INFINITY} if there is none
+         * @throws IllegalArgumentException unless {@code 0 <= v < V}
+         */
+        public double distTo(int v) {
+            validateVertex(v, distTo.length);
+            return reached[v] == version ? distTo[v] : Double.POSITIVE_INFINITY;
+        }
+
+        /**
+         * Returns the shortest path from the source to vertex {@code v} found by the last
+         * query. Only final for settled vertices, or for any vertex after a full query.
+         *
+         * @param v the destination vertex
+         * @return the path as an iterable of edges, and {@code null} if there is none
+         * @throws IllegalArgumentException unless {@code 0 <= v < V}
+         */
+        public Iterable<DirectedEdge> pathTo(int v) {
+            if (!hasPathTo(v)) return null;
+            Stack<DirectedEdge> path = new Stack<>();
+            for (int e = edgeTo[v]; e != NONE; e = edgeTo[graph.getEdge(e).from()]) {
+                path.push(graph.getEdge(e));
+            }
+            return path;
+        }
+
+        // copies the distances and edge ids of the last query, with infinity and -1 for unreached vertices
+        void copyTo(double[] dist, int[] edge) {
+            for (int v = 0; v < dist.length; v++) {
+                boolean current = reached[v] == version;
+                dist[v] = current ? distTo[v] : Double.POSITIVE_INFINITY;
+                edge[v] = current ? edgeTo[v] : NONE;
+            }
+        }
+    }
+
+    /**
+     * Initializes an engine for the given edge-weighted digraph. Later changes to the
+     * digraph are not seen by the engine.
+     *
+     * @param G the edge-weighted digraph
+     * @throws IllegalArgumentException if an edge weight is negative
+     */
+    public DijkstraEngine(EdgeWeightedDigraph G) {
+        this(new CompactEdgeWeightedDigraph(G));
+    }
+
+    /**
+     * Initializes an engine for the given compact edge-weighted digraph.
+     *
+     * @param G the compact edge-weighted digraph
+     * @throws IllegalArgumentException if an edge weight is negative
+     */
+    public DijkstraEngine(CompactEdgeWeightedDigraph G) {
+        for (int e = 0; e < G.getEdgeCount(); e++) {
+            if (G.getWeight(e) < 0)
+                throw new IllegalArgumentException("edge " + G.getEdge(e) + " has negative weight");
+        }
+        graph = G;
+        vertices = G.getVerticesCount();
+        workspace = ThreadLocal.withInitial(() -> new Search(G, G.getVerticesCount()));
+    }
+
+    /**
+     * Returns the digraph this engine answers queries on.
+     *
+     * @return the compact edge-weighted digraph
+     */
+    public CompactEdgeWeightedDigraph getGraph() {
+        return graph;
+    }
+
+    /**
+     * Computes the shortest paths from {@code s} to every other vertex in the workspace of
+     * the calling thread.
+     *
+     * @param s the source vertex
+     * @return the workspace of the calling thread, valid until its next query
+     * @throws IllegalArgumentException unless {@code 0 <= s < V}
+     */
+    public Search search(int s) {
+        validateVertex(s, vertices);
+        return run(s, NONE);
+    }
+
+    /**
+     * Computes shortest paths from {@code s} in the workspace of the calling thread,
+     * stopping as soon as the shortest path to {@code t} is known.
+     *
+     * @param s the source vertex
+     * @param t the target vertex
+     * @return the workspace of the calling thread, valid until its next query
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public Search search(int s, int t) {
+        validateVertex(s, vertices);
+        validateVertex(t, vertices);
+        return run(s, t);
+    }
+
+    // run a query from s in the workspace of the calling thread, until t or everything if t is NONE
+    private Search run(int s, int t) {
+        Search search = workspace.get();
+        search.reset(s);
+        search.run(t);
+        return search;
+    }
+
+    /**
+     * Returns the length of a shortest path from vertex {@code s} to vertex {@code t}.
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return the length of a shortest path from vertex {@code s} to vertex {@code t};
+     *         {@code Double.POSITIVE_INFINITY} if no such path
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public double dist(int s, int t) {
+        return search(s, t).distTo(t);
+    }
+
+    /**
+     * Returns a shortest path from vertex {@code s} to vertex {@code t}.
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return a shortest path from vertex {@code s} to vertex {@code t}
+     *         as an iterable of edges, and {@code null} if no such path
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public Iterable<DirectedEdge> path(int s, int t) {
+        return search(s, t).pathTo(t);
+    }
+
+    // throw an IllegalArgumentException unless {@code 0 <= v < V}
+    private static void validateVertex(int v, int V) {
+        if (v < 0 || v >= V)
+            throw new IllegalArgumentException("Vertex \'" + v + "\' is not between 0 and " + (V - 1));
+    }
+
+    /**
+     * Unit tests the {@code DijkstraEngine} data type by timing random point-to-point
+     * queries on a random sparse digraph.
+     *
+     * @param args the command-line arguments: the number of vertices, edges and queries
+     */
+    public static void main(String[] args) {
+        int V = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+        int E = args.length > 1 ? Integer.parseInt(args[1]) : 4 * V;
+        int queries = args.length > 2 ? Integer.parseInt(args[2]) : 500;
+        DijkstraEngine engine = new DijkstraEngine(new EdgeWeightedDigraph(V, E));
+
+        long settled = 0;
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < queries; i++) {
+            settled += engine.search(StdRandom.uniform(V), StdRandom.uniform(V)).getSettledCount();
+        }
+        long elapsed = Math.max(1, System.currentTimeMillis() - start);
+        StdOut.printf("%d queries in %d ms (%d per second), %d vertices settled on average\n",
+                queries, elapsed, 1000L * queries / elapsed, settled / queries);
+
+        Search search = engine.search(0, V - 1);
+        if (search.hasPathTo(V - 1)) {
+            StdOut.printf("%d to %d (%5.2f)  ", 0, V - 1, search.distTo(V - 1));
+            for (DirectedEdge e : search.pathTo(V - 1)) {
+                StdOut.print(e + "  ");
+            }
+            StdOut.println();
+        }
+    }
+}
@@ -25,6 +25,9 @@ import com.notorious.visualization.graphing.collection.stack.Stack;
 import com.notorious.visualization.graphing.util.StdOut;
 import com.notorious.visualization.graphing.util.StdRandom;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
 /**
  *  The {@code FloydWarshall} class represents a data type for solving the
  *  all-pairs shortest paths problem in edge-weighted digraphs with
@@ -40,6 +43,14 @@ import com.notorious.visualization.graphing.util.StdRandom;
  *  methods take constant time; the {@code path()} and {@code negativeCycle()}
  *  method takes time proportional to the number of edges returned.
  *  <p>
+ *  When an edge is added, or an edge gets lighter, {@code addEdge()} and
+ *  {@code decreaseEdge()} update the shortest paths instead of computing them
+ *  again: only the rows whose distance to the head of the edge improves through
+ *  it can change, and each of them is updated from the row of that head in time
+ *  proportional to <em>V</em>, so an update takes time proportional to
+ *  <em>V</em><sup>2</sup> in the worst case and to <em>V</em> times the number
+ *  of improved rows in general. The rows are independent and updated in parallel.
+ *  <p>
  *  For additional documentation,    
  *  see <a href="http://algs4.cs.princeton.edu/44sp">Section 4.4</a> of    
  *  <i>Algorithms, 4th Edition</i> by Robert Sedgewick and Kevin Wayne. 
@@ -104,6 +115,95 @@ public class FloydWarshall {
         assert check(G);
     }
 
+    /**
+     * Adds the directed edge {@code e} to the digraph the shortest paths were
+     * computed for, and updates the shortest paths, in parallel on the common pool.
+     * If the edge closes a negative cycle, it computes that cycle instead.
+     * @param  e the edge
+     * @return the number of vertices whose shortest paths improved
+     * @throws UnsupportedOperationException if there is a negative cost cycle
+     * @throws IllegalArgumentException unless both endpoints are between {@code 0} and {@code V-1}
+     */
+    public int addEdge(DirectedEdge e) {
+        return addEdge(e, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Adds the directed edge {@code e} to the digraph the shortest paths were
+     * computed for, and updates the shortest paths on the given pool. If the edge
+     * closes a negative cycle, it computes that cycle instead.
+     * @param  e the edge
+     * @param  pool the pool to run on, or {@code null} to run on the calling thread
+     * @return the number of vertices whose shortest paths improved
+     * @throws UnsupportedOperationException if there is a negative cost cycle
+     * @throws IllegalArgumentException unless both endpoints are between {@code 0} and {@code V-1}
+     */
+    public int addEdge(DirectedEdge e, ForkJoinPool pool) {
+        int u = e.from(), v = e.to();
+        validateVertex(u);
+        validateVertex(v);
+        if (hasNegativeCycle())
+            throw new UnsupportedOperationException("Negative cost cycle exists");
+
+        // a path from v back to u closes a cycle, which is negative if it is shorter than -weight
+        if (distTo[v][u] + e.weight() < 0.0) {
+            hasNegativeCycle = true;
+            distTo[v][v] = distTo[v][u] + e.weight();
+            edgeTo[v][v] = e;
+            return 0;
+        }
+
+        // only the rows that reach v faster through e can change; row v is not one of them,
+        // so every other row can be updated from it independently
+        int[] rows = IntStream.range(0, distTo.length)
+                              .filter(s -> distTo[s][u] + e.weight() < distTo[s][v])
+                              .toArray();
+        if (pool == null || rows.length < 2) {
+            for (int s : rows) relaxRow(s, e);
+        }
+        else {
+            pool.submit(() -> IntStream.of(rows).parallel().forEach(s -> relaxRow(s, e))).join();
+        }
+        return rows.length;
+    }
+
+    /**
+     * Lowers the weight of the edge from {@code u} to {@code v} to {@code weight},
+     * and updates the shortest paths, in parallel on the common pool. The paths only
+     * ever get shorter, so the edge must not have weighed less than {@code weight}
+     * before. If the edge closes a negative cycle, it computes that cycle instead.
+     * @param  u the tail of the edge
+     * @param  v the head of the edge
+     * @param  weight the new weight of the edge
+     * @return the number of vertices whose shortest paths improved
+     * @throws UnsupportedOperationException if there is a negative cost cycle
+     * @throws IllegalArgumentException unless {@code 0 <= u < V} and {@code 0 <= v < V}
+     * @throws IllegalArgumentException if the shortest path from {@code u} to {@code v}
+     *         is the edge itself, and it weighs less than {@code weight}
+     */
+    public int decreaseEdge(int u, int v, double weight) {
+        validateVertex(u);
+        validateVertex(v);
+        DirectedEdge edge = edgeTo[u][v];
+        if (edge != null && edge.from() == u && edge.weight() < weight)
+            throw new IllegalArgumentException("edge " + edge + " weighs less than " + weight);
+        // the lighter edge replaces the heavier one on every shortest path using it
+        return addEdge(new DirectedEdge(u, v, weight));
+    }
+
+    // update the paths from s to every vertex through the new edge e
+    private void relaxRow(int s, DirectedEdge e) {
+        int v = e.to();
+        double through = distTo[s][e.from()] + e.weight();
+        double[] fromV = distTo[v];
+        for (int t = 0; t < fromV.length; t++) {
+            if (through + fromV[t] < distTo[s][t]) {
+                distTo[s][t] = through + fromV[t];
+                edgeTo[s][t] = t == v ? e : edgeTo[v][t];
+            }
+        }
+    }
+
     /**
      * Is there a negative cycle?
      * @return {@code true} if there is a negative cycle, and {@code false} otherwise
@@ -0,0 +1,79 @@
+package com.notorious.visualization.graphing.algorithm.shorest.path;
+
+import com.notorious.visualization.graphing.algorithm.graph.CompactEdgeWeightedDigraph;
+
+/**
+ * A lower bound on the length of the shortest path between two vertices, used to direct
+ * point-to-point searches such as {@link AStarSearch} and {@link BidirectionalDijkstra}
+ * towards their target.
+ * <p>
+ * A heuristic is <em>admissible</em> if it never overestimates the length of a shortest
+ * path, and <em>consistent</em> if in addition {@code estimate(v, t) <= weight(e) +
+ * estimate(w, t)} and {@code estimate(s, w) <= estimate(s, v) + weight(e)} for every edge
+ * <em>e</em> from <em>v</em> to <em>w</em>. {@link AStarSearch} finds shortest paths with
+ * any admissible heuristic and settles every vertex at most once with a consistent one;
+ * {@link BidirectionalDijkstra} needs a consistent one.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+@FunctionalInterface
+public interface Heuristic {
+
+    /**
+     * The heuristic that estimates every distance as 0, which turns a goal-directed search
+     * back into Dijkstra's algorithm.
+     */
+    Heuristic NONE = (v, w) -> 0.0;
+
+    /**
+     * Returns a lower bound on the length of a shortest path from {@code v} to {@code w}.
+     *
+     * @param v the first vertex
+     * @param w the second vertex
+     * @return a lower bound on the distance from {@code v} to {@code w}
+     */
+    double estimate(int v, int w);
+
+    /**
+     * Returns the consistent heuristic given by the straight-line distance between two
+     * vertices of the given digraph, scaled by the smallest ratio of an edge's weight to its
+     * length, so that it remains a lower bound even if edges are cheaper than their length.
+     * If an edge of positive length has weight 0, the scale is 0 and the heuristic is
+     * useless, but still correct.
+     *
+     * @param G           the digraph
+     * @param coordinates coordinates[v] = the x- and y-coordinate of vertex v
+     * @return the Euclidean heuristic
+     * @throws IllegalArgumentException unless there are coordinates for every vertex
+     */
+    static Heuristic euclidean(CompactEdgeWeightedDigraph G, double[][] coordinates) {
+        int n = G.getVerticesCount();
+        if (coordinates.length != n)
+            throw new IllegalArgumentException("Expected coordinates for " + n + " vertices, got " + coordinates.length);
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int v = 0; v < n; v++) {
+            x[v] = coordinates[v][0];
+            y[v] = coordinates[v][1];
+        }
+
+        double scale = Double.POSITIVE_INFINITY;
+        for (int v = 0; v < n; v++) {
+            for (int e = G.getEdgeStart(v); e < G.getEdgeEnd(v); e++) {
+                int w = G.getHead(e);
+                double dx = x[v] - x[w], dy = y[v] - y[w];
+                double length = Math.sqrt(dx * dx + dy * dy);
+                if (length > 0.0) scale = Math.min(scale, G.getWeight(e) / length);
+            }
+        }
+        if (scale == Double.POSITIVE_INFINITY) return NONE;
+        // shave off a little, so that rounding in the square roots cannot overestimate
+        double factor = Math.max(0.0, scale * (1.0 - 1E-9));
+        return (v, w) -> {
+            double dx = x[v] - x[w], dy = y[v] - y[w];
+            return factor * Math.sqrt(dx * dx + dy * dy);
+        };
+    }
+}
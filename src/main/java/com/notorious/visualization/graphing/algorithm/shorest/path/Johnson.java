@@ -0,0 +1,383 @@
+package com.notorious.visualization.graphing.algorithm.shorest.path;
+
+import com.notorious.visualization.graphing.algorithm.graph.CompactEdgeWeightedDigraph;
+import com.notorious.visualization.graphing.algorithm.graph.DirectedEdge;
+import com.notorious.visualization.graphing.algorithm.graph.EdgeWeightedDigraph;
+import com.notorious.visualization.graphing.collection.stack.Stack;
+import com.notorious.visualization.graphing.util.DoubleIndexMinPQ;
+import com.notorious.visualization.graphing.util.StdOut;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * The {@code Johnson} class solves the all-pairs shortest paths problem in sparse
+ * edge-weighted digraphs, which may have negative edge weights, with the same
+ * {@code dist} and {@code path} API as {@link FloydWarshall} but working on an
+ * {@link EdgeWeightedDigraph} instead of an adjacency matrix.
+ * <p>
+ * <em>Johnson's algorithm</em> first computes a potential <em>h</em>(<em>v</em>) for every
+ * vertex, the length of a shortest path to <em>v</em> from a virtual source joined to every
+ * vertex by an edge of weight 0. This is done once, with a {@link BellmanFordSP} from that
+ * virtual source, which finds a negative cycle as soon as one closes. The reduced weights
+ * <em>w</em>(<em>u</em>, <em>v</em>) + <em>h</em>(<em>u</em>) &minus;
+ * <em>h</em>(<em>v</em>) are nonnegative, so one Dijkstra per source then finds every
+ * shortest path, and a reduced distance <em>d'</em>(<em>s</em>, <em>t</em>) is turned back
+ * into <em>d'</em> &minus; <em>h</em>(<em>s</em>) + <em>h</em>(<em>t</em>). The digraph is
+ * copied into a {@link CompactEdgeWeightedDigraph} first, and every thread reuses one set
+ * of search arrays and one primitive heap for all of its sources.
+ * <p>
+ * The searches are independent, so they run in parallel on a {@link ForkJoinPool}. The
+ * results are either stored compactly, as a flat {@code double[]} of distances and a flat
+ * {@code int[]} of edge ids instead of a matrix of edge references, or handed to a
+ * {@link RowConsumer} one source at a time without being stored at all, which needs space
+ * proportional to <em>V</em> + <em>E</em> per thread only.
+ * <p>
+ * The constructor takes time proportional to <em>V E</em> log <em>V</em> in the worst case,
+ * and much less than the <em>V</em><sup>3</sup> of {@link FloydWarshall} on sparse digraphs.
+ * Afterwards, the {@code dist()}, {@code hasPath()} and {@code hasNegativeCycle()} methods
+ * take constant time; the {@code path()} and {@code negativeCycle()} methods take time
+ * proportional to the number of edges returned.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class Johnson {
+
+    private static final int NONE = -1;
+    private static final double EPSILON = 1E-12;
+
+    /**
+     * Receives the shortest paths from one source. The arrays are only valid during the
+     * call and are reused afterwards, and calls for different sources may be made
+     * concurrently from different threads.
+     */
+    @FunctionalInterface
+    public interface RowConsumer {
+
+        /**
+         * Accepts the shortest paths from one source.
+         *
+         * @param source the source vertex
+         * @param distTo distTo[v] = length of a shortest path from {@code source} to v,
+         *               {@code Double.POSITIVE_INFINITY} if there is none
+         * @param edgeTo edgeTo[v] = last edge on a shortest path from {@code source} to v,
+         *               {@code null} for the source and unreachable vertices
+         */
+        void accept(int source, double[] distTo, DirectedEdge[] edgeTo);
+    }
+
+    private final CompactEdgeWeightedDigraph graph;
+    private final int vertices;
+    private final double[] potential;      // potential[v] = h(v)
+    private final double[] reduced;        // reduced[e] = reduced weight of edge e
+    private final RowConsumer consumer;    // null to store the results
+    private final double[] distTo;         // distTo[s*V + t] = length of shortest s->t path
+    private final int[] edgeTo;            // edgeTo[s*V + t] = id of last edge on shortest s->t path
+    private final ThreadLocal<Workspace> workspace;
+    private Iterable<DirectedEdge> cycle;  // negative cycle, or null if there is none
+
+    // the search arrays of one thread, reused for every source it runs
+    private static final class Workspace {
+        private final double[] dist;
+        private final int[] edge;
+        private final DoubleIndexMinPQ pq;
+        private double[] rowDist;          // only allocated to stream the results
+        private DirectedEdge[] rowEdge;
+
+        private Workspace(int V) {
+            dist = new double[V];
+            edge = new int[V];
+            pq = new DoubleIndexMinPQ(V);
+        }
+    }
+
+    /**
+     * Computes the shortest paths between every pair of vertices, in parallel on the
+     * common pool, and stores them. If no such shortest path exists for some pair of
+     * vertices, it computes a negative cycle.
+     *
+     * @param G the edge-weighted digraph
+     * @throws IllegalArgumentException if <em>V</em><sup>2</sup> results do not fit into an array
+     */
+    public Johnson(EdgeWeightedDigraph G) {
+        this(G, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Computes the shortest paths between every pair of vertices on the given pool and
+     * stores them. If no such shortest path exists for some pair of vertices, it computes
+     * a negative cycle.
+     *
+     * @param G    the edge-weighted digraph
+     * @param pool the pool to run on, or {@code null} to run on the calling thread
+     * @throws IllegalArgumentException if <em>V</em><sup>2</sup> results do not fit into an array
+     */
+    public Johnson(EdgeWeightedDigraph G, ForkJoinPool pool) {
+        this(G, pool, null);
+    }
+
+    /**
+     * Computes the shortest paths between every pair of vertices on the given pool and
+     * hands them to the given consumer, one source at a time, instead of storing them.
+     * If no such shortest path exists for some pair of vertices, it computes a negative
+     * cycle and the consumer is never called. With a pool, the consumer is called
+     * concurrently and in no particular order of sources.
+     *
+     * @param G        the edge-weighted digraph
+     * @param pool     the pool to run on, or {@code null} to run on the calling thread
+     * @param consumer the consumer of the shortest paths from every source
+     */
+    public Johnson(EdgeWeightedDigraph G, ForkJoinPool pool, RowConsumer consumer) {
+        graph = new CompactEdgeWeightedDigraph(G);
+        vertices = graph.getVerticesCount();
+        this.consumer = consumer;
+        if (consumer == null) {
+            long cells = (long) vertices * vertices;
+            if (cells > Integer.MAX_VALUE - 8)
+                throw new IllegalArgumentException("Digraph with " + vertices + " vertices is too large to store all pairs, use a RowConsumer");
+            distTo = new double[(int) cells];
+            edgeTo = new int[(int) cells];
+        }
+        else {
+            distTo = null;
+            edgeTo = null;
+        }
+        potential = new double[vertices];
+        reduced = new double[graph.getEdgeCount()];
+        workspace = ThreadLocal.withInitial(() -> new Workspace(vertices));
+
+        BellmanFordSP potentials = new BellmanFordSP(graph, null);
+        if (potentials.hasNegativeCycle()) {
+            cycle = potentials.negativeCycle();
+            return;
+        }
+        for (int v = 0; v < vertices; v++) {
+            potential[v] = potentials.distTo(v);
+        }
+        for (int v = 0; v < vertices; v++) {
+            for (int e = graph.getEdgeStart(v); e < graph.getEdgeEnd(v); e++) {
+                // rounding may leave a tiny negative value on an edge of a shortest path
+                reduced[e] = Math.max(0.0, graph.getWeight(e) + potential[v] - potential[graph.getHead(e)]);
+            }
+        }
+
+        if (pool == null) {
+            for (int s = 0; s < vertices; s++) {
+                solve(s);
+            }
+        }
+        else {
+            pool.submit(() -> IntStream.range(0, vertices).parallel().forEach(this::solve)).join();
+        }
+        assert check();
+    }
+
+    // Dijkstra from s on the reduced weights
+    private void solve(int s) {
+        Workspace work = workspace.get();
+        double[] dist = work.dist;
+        int[] edge = work.edge;
+        DoubleIndexMinPQ pq = work.pq;
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        Arrays.fill(edge, NONE);
+        dist[s] = 0.0;
+        pq.insert(s, 0.0);
+        while (!pq.isEmpty()) {
+            int v = pq.delMin();
+            double d = dist[v];
+            for (int e = graph.getEdgeStart(v), end = graph.getEdgeEnd(v); e < end; e++) {
+                int w = graph.getHead(e);
+                double through = d + reduced[e];
+                if (through < dist[w]) {
+                    dist[w] = through;
+                    edge[w] = e;
+                    pq.offer(w, through);
+                }
+            }
+        }
+
+        double h = potential[s];
+        if (consumer == null) {
+            int row = s * vertices;
+            for (int t = 0; t < vertices; t++) {
+                distTo[row + t] = dist[t] - h + potential[t];
+            }
+            System.arraycopy(edge, 0, edgeTo, row, vertices);
+        }
+        else {
+            if (work.rowDist == null) {
+                work.rowDist = new double[vertices];
+                work.rowEdge = new DirectedEdge[vertices];
+            }
+            for (int t = 0; t < vertices; t++) {
+                work.rowDist[t] = dist[t] - h + potential[t];
+                work.rowEdge[t] = edge[t] == NONE ? null : graph.getEdge(edge[t]);
+            }
+            consumer.accept(s, work.rowDist, work.rowEdge);
+        }
+    }
+
+    /**
+     * Is there a negative cycle?
+     *
+     * @return {@code true} if there is a negative cycle, and {@code false} otherwise
+     */
+    public boolean hasNegativeCycle() {
+        return cycle != null;
+    }
+
+    /**
+     * Returns a negative cycle, or {@code null} if there is no such cycle.
+     *
+     * @return a negative cycle as an iterable of edges,
+     *         or {@code null} if there is no such cycle
+     */
+    public Iterable<DirectedEdge> negativeCycle() {
+        return cycle;
+    }
+
+    /**
+     * Returns the potential of vertex {@code v}: the length of a shortest path to {@code v}
+     * from a virtual source joined to every vertex by an edge of weight 0.
+     *
+     * @param v the vertex
+     * @return the potential of vertex {@code v}
+     * @throws UnsupportedOperationException if there is a negative cost cycle
+     * @throws IllegalArgumentException unless {@code 0 <= v < V}
+     */
+    public double getPotential(int v) {
+        validateVertex(v);
+        if (hasNegativeCycle())
+            throw new UnsupportedOperationException("Negative cost cycle exists");
+        return potential[v];
+    }
+
+    /**
+     * Is there a path from the vertex {@code s} to vertex {@code t}?
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return {@code true} if there is a path from vertex {@code s}
+     *         to vertex {@code t}, and {@code false} otherwise
+     * @throws UnsupportedOperationException if there is a negative cost cycle,
+     *         or the results were handed to a {@link RowConsumer}
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public boolean hasPath(int s, int t) {
+        return dist(s, t) < Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns the length of a shortest path from vertex {@code s} to vertex {@code t}.
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return the length of a shortest path from vertex {@code s} to vertex {@code t};
+     *         {@code Double.POSITIVE_INFINITY} if no such path
+     * @throws UnsupportedOperationException if there is a negative cost cycle,
+     *         or the results were handed to a {@link RowConsumer}
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public double dist(int s, int t) {
+        validateVertex(s);
+        validateVertex(t);
+        validateStored();
+        return distTo[s * vertices + t];
+    }
+
+    /**
+     * Returns a shortest path from vertex {@code s} to vertex {@code t}.
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return a shortest path from vertex {@code s} to vertex {@code t}
+     *         as an iterable of edges, and {@code null} if no such path
+     * @throws UnsupportedOperationException if there is a negative cost cycle,
+     *         or the results were handed to a {@link RowConsumer}
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public Iterable<DirectedEdge> path(int s, int t) {
+        if (!hasPath(s, t)) return null;
+        Stack<DirectedEdge> path = new Stack<>();
+        int row = s * vertices;
+        for (int e = edgeTo[row + t]; e != NONE; e = edgeTo[row + graph.getEdge(e).from()]) {
+            path.push(graph.getEdge(e));
+        }
+        return path;
+    }
+
+    private void validateStored() {
+        if (hasNegativeCycle())
+            throw new UnsupportedOperationException("Negative cost cycle exists");
+        if (consumer != null)
+            throw new UnsupportedOperationException("Shortest paths were handed to a RowConsumer and not stored");
+    }
+
+    // check optimality conditions of the stored results, up to rounding of the potentials
+    private boolean check() {
+        if (hasNegativeCycle() || consumer != null) return true;
+        for (int s = 0; s < vertices; s++) {
+            int row = s * vertices;
+            if (distTo[row + s] != 0.0) {
+                System.err.println("distTo[" + s + "][" + s + "] not 0");
+                return false;
+            }
+            for (int v = 0; v < vertices; v++) {
+                for (int e = graph.getEdgeStart(v); e < graph.getEdgeEnd(v); e++) {
+                    double through = distTo[row + v] + graph.getWeight(e);
+                    if (distTo[row + graph.getHead(e)] > through + EPSILON * Math.max(1.0, Math.abs(through))) {
+                        System.err.println("edge " + graph.getEdge(e) + " is eligible from " + s);
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    // throw an IllegalArgumentException unless {@code 0 <= v < V}
+    private void validateVertex(int v) {
+        if (v < 0 || v >= vertices)
+            throw new IllegalArgumentException("Vertex \'" + v + "\' is not between 0 and " + (vertices - 1));
+    }
+
+    /**
+     * Unit tests the {@code Johnson} data type on a random sparse digraph, storing the
+     * results and streaming them.
+     *
+     * @param args the command-line arguments: the number of vertices and edges
+     */
+    public static void main(String[] args) {
+        int V = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int E = args.length > 1 ? Integer.parseInt(args[1]) : 4 * V;
+        EdgeWeightedDigraph G = new EdgeWeightedDigraph(V, E);
+
+        long start = System.currentTimeMillis();
+        Johnson stored = new Johnson(G);
+        long storedTime = System.currentTimeMillis() - start;
+
+        double[] longest = new double[V];
+        start = System.currentTimeMillis();
+        new Johnson(G, ForkJoinPool.commonPool(), (s, distTo, edgeTo) -> {
+            for (double d : distTo) {
+                if (d < Double.POSITIVE_INFINITY) longest[s] = Math.max(longest[s], d);
+            }
+        });
+        long streamedTime = System.currentTimeMillis() - start;
+
+        double diameter = 0.0;
+        for (double d : longest) diameter = Math.max(diameter, d);
+        StdOut.printf("%d vertices, %d edges: stored %d ms, streamed %d ms, longest shortest path %5.2f\n",
+                V, E, storedTime, streamedTime, diameter);
+        if (stored.hasPath(0, V - 1)) {
+            StdOut.printf("%d to %d (%5.2f)  ", 0, V - 1, stored.dist(0, V - 1));
+            for (DirectedEdge e : stored.path(0, V - 1)) {
+                StdOut.print(e + "  ");
+            }
+            StdOut.println();
+        }
+    }
+}
@@ -0,0 +1,587 @@
+package com.notorious.visualization.graphing.algorithm.shorest.path;
+
+import com.notorious.visualization.graphing.algorithm.graph.AdjMatrixEdgeWeightedDigraph;
+import com.notorious.visualization.graphing.algorithm.graph.CompactEdgeWeightedDigraph;
+import com.notorious.visualization.graphing.algorithm.graph.DirectedEdge;
+import com.notorious.visualization.graphing.algorithm.graph.EdgeWeightedDigraph;
+import com.notorious.visualization.graphing.collection.queue.Queue;
+import com.notorious.visualization.graphing.util.StdOut;
+import com.notorious.visualization.graphing.util.StdRandom;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+
+/**
+ * The {@code OutOfCoreFloydWarshall} class solves the all-pairs shortest paths problem
+ * like {@link BlockedFloydWarshall}, with the same API, for digraphs whose matrices do not
+ * fit into the heap. The distance and successor matrices are kept in two files on local
+ * disk, cut into square tiles that are stored contiguously, and memory-mapped.
+ * <p>
+ * The blocked Floyd–Warshall phases are scheduled so that every tile is loaded into the
+ * heap exactly once per phase, which is the least any blocked schedule can do: phase
+ * <em>k</em> first closes the diagonal tile, then updates the tiles of tile row
+ * <em>k</em> and keeps them in the heap. Every other tile row is then streamed through:
+ * its tile in column <em>k</em> is loaded and updated first, and each remaining tile is
+ * loaded, updated from that tile and the resident one of row <em>k</em>, and written back.
+ * With <em>T</em> tiles per row, the constructor thus loads <em>T</em><sup>3</sup> tiles,
+ * and holds one tile row, <em>V B</em> distances and successors for tile size
+ * <em>B</em>, plus two tiles per thread in the heap. The final repair of the successors
+ * below needs a few arrays of length <em>V</em> per thread. The operating system decides
+ * which pages of the files stay in memory.
+ * <p>
+ * For every pair, the vertex after the first one on a shortest path is stored, so
+ * {@link #path(int, int)} follows the successors of the rows towards the target, and
+ * looks up the lightest edge between each two of them. As the tiles are not updated in
+ * the order of the textbook loop, a cycle of weight zero can leave a cycle among the
+ * successors towards a target; such targets are found at the end, walking the mapped
+ * successor file, and rebuilt from the distances. Queries read from the mapped files, so
+ * they do not need the matrices in the heap either. Given a {@link ForkJoinPool}, the
+ * tile rows of each phase are updated in parallel; every tile still sees the same
+ * updates in the same order, so the results are identical to the sequential ones.
+ * <p>
+ * The files are temporary and deleted by {@link #close()}, after which no query can be
+ * answered; mapped pages are only released once the mappings are garbage collected.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class OutOfCoreFloydWarshall implements AutoCloseable {
+
+    /**
+     * The default tile size: a tile of 256 by 256 distances and successors takes 768 KiB,
+     * so that a tile row of an 80,000 vertex digraph takes about 240 MiB of heap.
+     */
+    public static final int DEFAULT_TILE_SIZE = 256;
+
+    private static final int NONE = -1;
+    private static final double EPSILON = 1E-12;
+    private static final long SEGMENT_BYTES = 1L << 30;    // largest mapping, in bytes
+
+    private final CompactEdgeWeightedDigraph graph;
+    private final int vertices;
+    private final int tile;               // width of a tile
+    private final int tiles;              // number of tiles per row
+    private final int tileCells;          // tile * tile
+    private final int tilesPerSegment;    // tiles per mapping
+    private final File distanceFile;
+    private final File successorFile;
+    private final DoubleBuffer[] distances;   // distances, tile by tile, every tile row by row
+    private final IntBuffer[] successors;     // vertex after v on the shortest v->w path
+    private final ForkJoinPool pool;          // null to run sequentially
+    private final AtomicLong loads = new AtomicLong();
+    private boolean hasNegativeCycle;
+    private Iterable<DirectedEdge> cycle;
+    private volatile boolean closed;
+
+    /**
+     * Computes the shortest paths between every pair of vertices with the default tile
+     * size, in temporary files in the given directory. If no such shortest path exists
+     * for some pair of vertices, it computes a negative cycle.
+     *
+     * @param G         the edge-weighted digraph
+     * @param directory the directory for the tile files
+     * @throws UncheckedIOException if the files cannot be created or mapped
+     */
+    public OutOfCoreFloydWarshall(EdgeWeightedDigraph G, File directory) {
+        this(G, directory, DEFAULT_TILE_SIZE, null);
+    }
+
+    /**
+     * Computes the shortest paths between every pair of vertices with the given tile
+     * size, in temporary files in the given directory, updating the tile rows of each
+     * phase in parallel on the given pool. If no such shortest path exists for some pair
+     * of vertices, it computes a negative cycle.
+     *
+     * @param G         the edge-weighted digraph
+     * @param directory the directory for the tile files
+     * @param tileSize  the width of the square tiles
+     * @param pool      the pool to run on, or {@code null} to run on the calling thread
+     * @throws IllegalArgumentException unless {@code 1 <= tileSize <= 11585}, so that a
+     *         tile of distances can be mapped at once
+     * @throws UncheckedIOException if the files cannot be created or mapped
+     */
+    public OutOfCoreFloydWarshall(EdgeWeightedDigraph G, File directory, int tileSize, ForkJoinPool pool) {
+        if (tileSize < 1 || 8L * tileSize * tileSize > SEGMENT_BYTES)
+            throw new IllegalArgumentException("Tile size must be between 1 and 11585!");
+        this.pool = pool;
+        graph = new CompactEdgeWeightedDigraph(G);
+        vertices = G.V();
+        tile = Math.max(1, Math.min(tileSize, vertices));
+        tiles = (vertices + tile - 1) / tile;
+        if ((long) tiles * tiles > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Tile size " + tileSize + " is too small for " + vertices + " vertices");
+        tileCells = tile * tile;
+        tilesPerSegment = (int) (SEGMENT_BYTES / (8L * tileCells));
+        int segments = (int) Math.max(1, ((long) tiles * tiles + tilesPerSegment - 1) / tilesPerSegment);
+        distances = new DoubleBuffer[segments];
+        successors = new IntBuffer[segments];
+        // the files must not outlive a failed construction
+        try {
+            distanceFile = File.createTempFile("floyd-warshall-distances-", ".tiles", directory);
+            successorFile = File.createTempFile("floyd-warshall-successors-", ".tiles", directory);
+            distanceFile.deleteOnExit();
+            successorFile.deleteOnExit();
+            MappedByteBuffer[] mapped = map(distanceFile, 8, segments);
+            for (int i = 0; i < segments; i++) distances[i] = mapped[i].asDoubleBuffer();
+            mapped = map(successorFile, 4, segments);
+            for (int i = 0; i < segments; i++) successors[i] = mapped[i].asIntBuffer();
+            initialize();
+
+            for (int k = 0; k < tiles; k++) {
+                phase(k);
+                if (hasNegativeDiagonal()) {
+                    hasNegativeCycle = true;
+                    return;
+                }
+            }
+            repairSuccessors();
+        }
+        catch (IOException ioe) {
+            close();
+            throw new UncheckedIOException(ioe);
+        }
+        catch (RuntimeException | Error e) {
+            close();
+            throw e;
+        }
+        assert check();
+    }
+
+    // maps the file in segments of whole tiles, cellBytes per cell
+    private MappedByteBuffer[] map(File file, int cellBytes, int segments) throws IOException {
+        long segmentBytes = (long) cellBytes * tilesPerSegment * tileCells;
+        long total = (long) cellBytes * tiles * tiles * tileCells;
+        MappedByteBuffer[] mapped = new MappedByteBuffer[segments];
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(total);
+            FileChannel channel = raf.getChannel();
+            for (int i = 0; i < segments; i++) {
+                long offset = i * segmentBytes;
+                mapped[i] = channel.map(FileChannel.MapMode.READ_WRITE, offset, Math.min(segmentBytes, total - offset));
+                mapped[i].order(ByteOrder.nativeOrder());
+            }
+        }
+        return mapped;
+    }
+
+    // distances of the edges, infinity for the other pairs (and the padding)
+    private void initialize() {
+        Tile empty = new Tile(0, 0);
+        Arrays.fill(empty.dist, Double.POSITIVE_INFINITY);
+        Arrays.fill(empty.next, NONE);
+        for (int i = 0; i < tiles; i++) {
+            for (int j = 0; j < tiles; j++) {
+                store(new Tile(i, j, empty.dist, empty.next));
+            }
+        }
+        for (int v = 0; v < vertices; v++) {
+            for (int e = graph.getEdgeStart(v); e < graph.getEdgeEnd(v); e++) {
+                long cell = cell(v, graph.getHead(e));
+                if (graph.getWeight(e) < getDistance(cell)) {
+                    setDistance(cell, graph.getWeight(e));
+                    setSuccessor(cell, graph.getHead(e));
+                }
+            }
+            // in case of self-loops
+            long cell = cell(v, v);
+            if (getDistance(cell) >= 0.0) {
+                setDistance(cell, 0.0);
+                setSuccessor(cell, NONE);
+            }
+        }
+    }
+
+    // one phase: everything through the vertices of diagonal tile k, every tile loaded once
+    private void phase(int k) {
+        Tile diagonal = load(k, k);
+        relax(diagonal, diagonal, diagonal);
+        store(diagonal);
+        Tile[] row = new Tile[tiles];
+        row[k] = diagonal;
+        forEach(tiles, j -> {
+            if (j == k) return;
+            Tile t = load(k, j);
+            relax(t, diagonal, t);
+            store(t);
+            row[j] = t;
+        });
+        forEach(tiles, i -> {
+            if (i == k) return;
+            Tile column = load(i, k);
+            relax(column, column, diagonal);
+            store(column);
+            for (int j = 0; j < tiles; j++) {
+                if (j == k) continue;
+                Tile t = load(i, j);
+                relax(t, column, row[j]);
+                store(t);
+            }
+        });
+    }
+
+    // body(0), ..., body(count - 1), on the pool if there is one, one task per index
+    private void forEach(int count, IntConsumer body) {
+        ParallelRange.forEach(pool, count, 1, body);
+    }
+
+    // c[i][j] = min(c[i][j], a[i][k] + b[k][j]) over the tiles c, a and b
+    private void relax(Tile c, Tile a, Tile b) {
+        if (c == b) {
+            // row k of b may change while it is used, so k has to be the outer loop
+            for (int k = 0; k < tile; k++) {
+                for (int i = 0; i < tile; i++) {
+                    relaxRow(c, i * tile, a, i * tile + k, b, k * tile);
+                }
+            }
+        }
+        else {
+            // every row of c only depends on the same row of a, so it stays in cache
+            for (int i = 0; i < tile; i++) {
+                for (int k = 0; k < tile; k++) {
+                    relaxRow(c, i * tile, a, i * tile + k, b, k * tile);
+                }
+            }
+        }
+    }
+
+    // c[j] = min(c[j], a + b[j]) over the tile rows starting at rowC and rowB, through the cell a
+    private void relaxRow(Tile c, int rowC, Tile a, int cellA, Tile b, int rowB) {
+        double through = a.dist[cellA];
+        if (through == Double.POSITIVE_INFINITY) return;
+        int hop = a.next[cellA];
+        for (int j = 0; j < tile; j++) {
+            double distance = through + b.dist[rowB + j];
+            if (distance < c.dist[rowC + j]) {
+                c.dist[rowC + j] = distance;
+                c.next[rowC + j] = hop;
+            }
+        }
+    }
+
+    // the columns are updated out of order, so a cycle of weight zero can end up as a cycle
+    // among the successors towards a target; find such targets and rebuild them from the
+    // distances, the targets of one tile column per task
+    private void repairSuccessors() {
+        CompactEdgeWeightedDigraph reverse = graph.reverse();
+        ThreadLocal<byte[]> states = ThreadLocal.withInitial(() -> new byte[vertices]);
+        forEach(tiles, j -> {
+            for (int t = j * tile; t < (j + 1) * tile && t < vertices; t++) {
+                if (hasSuccessorCycle(t, states.get())) rebuildSuccessors(reverse, t);
+            }
+        });
+    }
+
+    // state[v]: 0 = unvisited, 1 = on the current walk, 2 = leads to the target
+    private boolean hasSuccessorCycle(int t, byte[] state) {
+        Arrays.fill(state, (byte) 0);
+        for (int s = 0; s < vertices; s++) {
+            int v = s;
+            while (v != NONE && state[v] == 0) {
+                state[v] = 1;
+                v = getSuccessor(cell(v, t));
+            }
+            if (v != NONE && state[v] == 1) return true;
+            for (v = s; v != NONE && state[v] == 1; v = getSuccessor(cell(v, t))) {
+                state[v] = 2;
+            }
+        }
+        return false;
+    }
+
+    // breadth-first search backwards from t over the edges that lie on shortest paths
+    private void rebuildSuccessors(CompactEdgeWeightedDigraph reverse, int t) {
+        boolean[] marked = new boolean[vertices];
+        int[] queue = new int[vertices];
+        int head = 0, tail = 0;
+        marked[t] = true;
+        queue[tail++] = t;
+        while (head < tail) {
+            int w = queue[head++];
+            double distance = getDistance(cell(w, t));
+            for (int e = reverse.getEdgeStart(w); e < reverse.getEdgeEnd(w); e++) {
+                int v = reverse.getHead(e);
+                double target = getDistance(cell(v, t));
+                if (marked[v] || reverse.getWeight(e) + distance > target + EPSILON * Math.max(1.0, Math.abs(target)))
+                    continue;
+                marked[v] = true;
+                setSuccessor(cell(v, t), w);
+                queue[tail++] = v;
+            }
+        }
+    }
+
+    private boolean hasNegativeDiagonal() {
+        for (int v = 0; v < vertices; v++) {
+            if (getDistance(cell(v, v)) < 0.0) return true;
+        }
+        return false;
+    }
+
+
+   /***************************************************************************
+    * Tiles in the heap, and cells in the mapped files.
+    ***************************************************************************/
+
+    // a tile loaded into the heap
+    private final class Tile {
+        private final int number;
+        private final double[] dist;
+        private final int[] next;
+
+        private Tile(int i, int j) {
+            this(i, j, new double[tileCells], new int[tileCells]);
+        }
+
+        private Tile(int i, int j, double[] dist, int[] next) {
+            this.number = i * tiles + j;
+            this.dist = dist;
+            this.next = next;
+        }
+    }
+
+    private Tile load(int i, int j) {
+        Tile t = new Tile(i, j);
+        distanceView(t.number).get(t.dist);
+        successorView(t.number).get(t.next);
+        loads.incrementAndGet();
+        return t;
+    }
+
+    private void store(Tile t) {
+        distanceView(t.number).put(t.dist);
+        successorView(t.number).put(t.next);
+    }
+
+    // a buffer of its own positioned at the first cell of the tile, safe to use from any thread
+    private DoubleBuffer distanceView(int number) {
+        DoubleBuffer view = distances[number / tilesPerSegment].duplicate();
+        view.position((number % tilesPerSegment) * tileCells);
+        return view;
+    }
+
+    private IntBuffer successorView(int number) {
+        IntBuffer view = successors[number / tilesPerSegment].duplicate();
+        view.position((number % tilesPerSegment) * tileCells);
+        return view;
+    }
+
+    // cell of the pair (v, w), counted over all tiles
+    private long cell(int v, int w) {
+        long number = (long) (v / tile) * tiles + w / tile;
+        return number * tileCells + (v % tile) * tile + w % tile;
+    }
+
+    private long cellsPerSegment() {
+        return (long) tilesPerSegment * tileCells;
+    }
+
+    private double getDistance(long cell) {
+        return distances[(int) (cell / cellsPerSegment())].get((int) (cell % cellsPerSegment()));
+    }
+
+    private void setDistance(long cell, double distance) {
+        distances[(int) (cell / cellsPerSegment())].put((int) (cell % cellsPerSegment()), distance);
+    }
+
+    private int getSuccessor(long cell) {
+        return successors[(int) (cell / cellsPerSegment())].get((int) (cell % cellsPerSegment()));
+    }
+
+    private void setSuccessor(long cell, int w) {
+        successors[(int) (cell / cellsPerSegment())].put((int) (cell % cellsPerSegment()), w);
+    }
+
+    /**
+     * Returns the width of the tiles.
+     *
+     * @return the tile size
+     */
+    public int getTileSize() {
+        return tile;
+    }
+
+    /**
+     * Returns the number of tiles loaded into the heap by the phases, which is the cube
+     * of the number of tiles per row unless a negative cycle ended them early.
+     *
+     * @return the number of tile loads
+     */
+    public long getTileLoads() {
+        return loads.get();
+    }
+
+    /**
+     * Is there a negative cycle?
+     *
+     * @return {@code true} if there is a negative cycle, and {@code false} otherwise
+     */
+    public boolean hasNegativeCycle() {
+        return hasNegativeCycle;
+    }
+
+    /**
+     * Returns a negative cycle, or {@code null} if there is no such cycle. The successors
+     * left by the phases need not describe a negative cycle, so the cycle is found by
+     * {@link BellmanFordSP} from a virtual source instead.
+     *
+     * @return a negative cycle as an iterable of edges,
+     *         or {@code null} if there is no such cycle
+     */
+    public Iterable<DirectedEdge> negativeCycle() {
+        if (!hasNegativeCycle()) return null;
+        if (cycle == null) cycle = new BellmanFordSP(graph, pool).negativeCycle();
+        return cycle;
+    }
+
+    /**
+     * Is there a path from the vertex {@code s} to vertex {@code t}?
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return {@code true} if there is a path from vertex {@code s}
+     *         to vertex {@code t}, and {@code false} otherwise
+     * @throws IllegalStateException if the files have been closed
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public boolean hasPath(int s, int t) {
+        validateVertex(s);
+        validateVertex(t);
+        validateOpen();
+        return getDistance(cell(s, t)) < Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns the length of a shortest path from vertex {@code s} to vertex {@code t}.
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return the length of a shortest path from vertex {@code s} to vertex {@code t};
+     *         {@code Double.POSITIVE_INFINITY} if no such path
+     * @throws UnsupportedOperationException if there is a negative cost cycle
+     * @throws IllegalStateException if the files have been closed
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public double dist(int s, int t) {
+        validateVertex(s);
+        validateVertex(t);
+        validateOpen();
+        if (hasNegativeCycle())
+            throw new UnsupportedOperationException("Negative cost cycle exists");
+        return getDistance(cell(s, t));
+    }
+
+    /**
+     * Returns a shortest path from vertex {@code s} to vertex {@code t}.
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return a shortest path from vertex {@code s} to vertex {@code t}
+     *         as an iterable of edges, and {@code null} if no such path
+     * @throws UnsupportedOperationException if there is a negative cost cycle
+     * @throws IllegalStateException if the files have been closed
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public Iterable<DirectedEdge> path(int s, int t) {
+        if (!hasPath(s, t)) return null;
+        if (hasNegativeCycle())
+            throw new UnsupportedOperationException("Negative cost cycle exists");
+        Queue<DirectedEdge> path = new Queue<>();
+        for (int v = s, w = getSuccessor(cell(s, t)); w != NONE; v = w, w = getSuccessor(cell(w, t))) {
+            path.enqueue(graph.getLightestEdge(v, w));
+        }
+        return path;
+    }
+
+    /**
+     * Deletes the tile files. The queries cannot be answered afterwards.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (distanceFile != null) distanceFile.delete();
+        if (successorFile != null) successorFile.delete();
+    }
+
+    // check optimality conditions, up to rounding since sums are formed in a different order
+    private boolean check() {
+        if (!hasNegativeCycle()) {
+            for (int v = 0; v < vertices; v++) {
+                for (int e = graph.getEdgeStart(v); e < graph.getEdgeEnd(v); e++) {
+                    int w = graph.getHead(e);
+                    for (int i = 0; i < vertices; i++) {
+                        double through = getDistance(cell(i, v)) + graph.getWeight(e);
+                        if (getDistance(cell(i, w)) > through + EPSILON * Math.max(1.0, Math.abs(through))) {
+                            System.err.println("edge " + graph.getEdge(e) + " is eligible");
+                            return false;
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private void validateOpen() {
+        if (closed) throw new IllegalStateException("Tile files have been closed");
+    }
+
+    // throw an IllegalArgumentException unless {@code 0 <= v < V}
+    private void validateVertex(int v) {
+        if (v < 0 || v >= vertices)
+            throw new IllegalArgumentException("Vertex \'" + v + "\' is not between 0 and " + (vertices - 1));
+    }
+
+    /**
+     * Unit tests the {@code OutOfCoreFloydWarshall} data type by comparing it with
+     * {@link BlockedFloydWarshall} on a random digraph.
+     *
+     * @param args the command-line arguments: the number of vertices and edges, and the tile size
+     */
+    public static void main(String[] args) {
+        int V = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int E = args.length > 1 ? Integer.parseInt(args[1]) : 10 * V;
+        int tileSize = args.length > 2 ? Integer.parseInt(args[2]) : 128;
+        AdjMatrixEdgeWeightedDigraph M = new AdjMatrixEdgeWeightedDigraph(V, E);
+        EdgeWeightedDigraph G = new EdgeWeightedDigraph(V);
+        for (int v = 0; v < V; v++) {
+            for (DirectedEdge e : M.adj(v)) G.addEdge(e);
+        }
+
+        long start = System.currentTimeMillis();
+        BlockedFloydWarshall inMemory = new BlockedFloydWarshall(M);
+        long inMemoryTime = System.currentTimeMillis() - start;
+        start = System.currentTimeMillis();
+        try (OutOfCoreFloydWarshall outOfCore = new OutOfCoreFloydWarshall(G,
+                new File(System.getProperty("java.io.tmpdir")), tileSize, ForkJoinPool.commonPool())) {
+            long outOfCoreTime = System.currentTimeMillis() - start;
+            int mismatches = 0;
+            for (int v = 0; v < V; v++) {
+                for (int w = 0; w < V; w++) {
+                    if (Math.abs(inMemory.dist(v, w) - outOfCore.dist(v, w)) > 1E-9) mismatches++;
+                }
+            }
+            StdOut.printf("%d vertices: in memory %d ms, out of core %d ms with %d tile loads, %d mismatches\n",
+                    V, inMemoryTime, outOfCoreTime, outOfCore.getTileLoads(), mismatches);
+            int s = StdRandom.uniform(V), t = StdRandom.uniform(V);
+            if (outOfCore.hasPath(s, t)) {
+                StdOut.printf("%d to %d (%5.2f)  ", s, t, outOfCore.dist(s, t));
+                for (DirectedEdge e : outOfCore.path(s, t)) {
+                    StdOut.print(e + "  ");
+                }
+                StdOut.println();
+            }
+        }
+    }
+}
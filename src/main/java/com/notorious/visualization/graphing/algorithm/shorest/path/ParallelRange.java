@@ -0,0 +1,84 @@
+package com.notorious.visualization.graphing.algorithm.shorest.path;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * The {@code ParallelRange} class runs a loop body over the indices {@code 0} to
+ * {@code count - 1} on a {@link ForkJoinPool}, splitting the range in halves until a
+ * part holds at most {@code grain} indices. Without a pool, or with no more than
+ * {@code grain} indices, the loop runs on the calling thread.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+final class ParallelRange {
+
+    /**
+     * A loop body over a part {@code lo} to {@code hi - 1} of the range.
+     */
+    interface Chunk {
+        void accept(int lo, int hi);
+    }
+
+    private ParallelRange() {
+    }
+
+    /**
+     * Runs {@code body(0)}, ..., {@code body(count - 1)}.
+     *
+     * @param pool  the pool to run on, or {@code null} to run on the calling thread
+     * @param count the number of indices
+     * @param grain the most indices a single task runs
+     * @param body  the loop body
+     */
+    static void forEach(ForkJoinPool pool, int count, int grain, IntConsumer body) {
+        forEachChunk(pool, count, grain, (lo, hi) -> {
+            for (int i = lo; i < hi; i++) {
+                body.accept(i);
+            }
+        });
+    }
+
+    /**
+     * Runs {@code chunk} over disjoint parts of {@code 0} to {@code count - 1} that
+     * together cover it, each of at most {@code grain} indices.
+     *
+     * @param pool  the pool to run on, or {@code null} to run on the calling thread
+     * @param count the number of indices
+     * @param grain the most indices a single task runs
+     * @param chunk the loop body over a part of the range
+     */
+    static void forEachChunk(ForkJoinPool pool, int count, int grain, Chunk chunk) {
+        if (count <= 0) return;
+        if (pool == null || count <= grain) chunk.accept(0, count);
+        else pool.invoke(new Task(0, count, grain, chunk));
+    }
+
+    // splits a range in halves down to grain indices
+    private static final class Task extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int lo, hi, grain;
+        private final transient Chunk chunk;
+
+        private Task(int lo, int hi, int grain, Chunk chunk) {
+            this.lo = lo;
+            this.hi = hi;
+            this.grain = grain;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= grain) {
+                chunk.accept(lo, hi);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new Task(lo, mid, grain, chunk), new Task(mid, hi, grain, chunk));
+        }
+    }
+}
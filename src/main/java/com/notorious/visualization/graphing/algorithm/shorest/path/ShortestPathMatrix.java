@@ -0,0 +1,447 @@
+package com.notorious.visualization.graphing.algorithm.shorest.path;
+
+import com.notorious.visualization.graphing.algorithm.graph.CompactEdgeWeightedDigraph;
+import com.notorious.visualization.graphing.algorithm.graph.DirectedEdge;
+import com.notorious.visualization.graphing.algorithm.graph.EdgeWeightedDigraph;
+import com.notorious.visualization.graphing.collection.queue.Queue;
+import com.notorious.visualization.graphing.collection.stack.Stack;
+import com.notorious.visualization.graphing.util.StdOut;
+import com.notorious.visualization.graphing.util.StdRandom;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The {@code ShortestPathMatrix} class solves the all-pairs shortest paths problem like
+ * {@link FloydWarshall}, with the same API, but stores the result in a selectable compact
+ * layout instead of a {@code double[V][V]} and a {@code DirectedEdge[V][V]}.
+ * <p>
+ * The distances are kept as {@code double}s or, at half the size, as {@code float}s. The
+ * routes are kept as vertex ids instead of edge references: either the vertex before
+ * <em>t</em> on the shortest path from <em>s</em> (the <em>predecessor</em>), or the vertex
+ * after <em>s</em> (the <em>successor</em>, the next hop of a router). A vertex id takes
+ * 2 bytes as long as <em>V</em> &lt; 65535, and 4 bytes otherwise. {@link #path(int, int)}
+ * turns the vertices back into edges by looking for the lightest edge between each pair
+ * of consecutive vertices. For the inputs of undirected graphs, in which every edge has a
+ * reverse of the same weight, the distances can be stored for one half of the matrix only;
+ * the routes cannot, as the first hop from <em>s</em> to <em>t</em> tells nothing about the
+ * first hop from <em>t</em> to <em>s</em>. All of them are kept in chunks, so the matrix
+ * is not limited to 2<sup>31</sup> entries.
+ * <p>
+ * With {@code float} distances, a half matrix and 2-byte routes, a pair takes 4 bytes,
+ * against 12 to 16 bytes and an edge object per pair for {@link FloydWarshall}. The
+ * {@code float} distances are the {@code double} ones rounded, so they may differ from the
+ * weight of the path returned in the last bits.
+ * <p>
+ * The matrix is filled by {@link Johnson}, row by row as each source is solved, without
+ * ever holding a full matrix of {@code double}s. Successors are taken from shortest-paths
+ * trees into each target, computed on the reverse digraph, so that following them always
+ * ends at the target. The constructor takes time proportional to <em>V E</em> log
+ * <em>V</em>; {@code dist()} and {@code hasPath()} take constant time, and {@code path()}
+ * time proportional to the sum of the outdegrees of the vertices on the path.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class ShortestPathMatrix {
+
+    /**
+     * The type the distances are stored as.
+     */
+    public enum Precision {
+        /** 8 bytes per distance, exactly as computed. */
+        DOUBLE,
+        /** 4 bytes per distance, rounded to the nearest {@code float}. */
+        FLOAT
+    }
+
+    /**
+     * Which vertex of every shortest path is stored to find the path again.
+     */
+    public enum Routes {
+        /** No routes: only {@code dist()} and {@code hasPath()} are supported. */
+        NONE,
+        /** The vertex before the target on the shortest path from the source. */
+        PREDECESSOR,
+        /** The vertex after the source on the shortest path to the target. */
+        SUCCESSOR
+    }
+
+    private static final int NONE = -1;
+    private static final int CHUNK_BITS = 26;   // 64 Mi entries per chunk
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+    private final CompactEdgeWeightedDigraph graph;
+    private final int vertices;
+    private final Precision precision;
+    private final Routes routes;
+    private final boolean symmetric;
+    private final Cells distances;
+    private final Cells hops;           // predecessor or successor vertices, null without routes
+    private Iterable<DirectedEdge> cycle;
+
+    /**
+     * Computes the shortest paths between every pair of vertices in parallel on the common
+     * pool, and stores them in the given layout with a full matrix of distances. If no
+     * such shortest path exists for some pair of vertices, it computes a negative cycle.
+     *
+     * @param G         the edge-weighted digraph
+     * @param precision the type to store the distances as
+     * @param routes    which vertex of every shortest path to store
+     */
+    public ShortestPathMatrix(EdgeWeightedDigraph G, Precision precision, Routes routes) {
+        this(G, precision, routes, false, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Computes the shortest paths between every pair of vertices on the given pool, and
+     * stores them in the given layout. If no such shortest path exists for some pair of
+     * vertices, it computes a negative cycle.
+     *
+     * @param G         the edge-weighted digraph
+     * @param precision the type to store the distances as
+     * @param routes    which vertex of every shortest path to store
+     * @param symmetric whether to store the distances for one half of the matrix only
+     * @param pool      the pool to run on, or {@code null} to run on the calling thread
+     * @throws IllegalArgumentException if {@code symmetric} is set but some edge does not
+     *         have a reverse edge of the same weight
+     */
+    public ShortestPathMatrix(EdgeWeightedDigraph G, Precision precision, Routes routes,
+                              boolean symmetric, ForkJoinPool pool) {
+        if (precision == null || routes == null) throw new IllegalArgumentException("Layout must not be null");
+        if (symmetric && !isSymmetric(G))
+            throw new IllegalArgumentException("Digraph is not symmetric, every edge needs a reverse of the same weight");
+        graph = new CompactEdgeWeightedDigraph(G);
+        vertices = G.V();
+        this.precision = precision;
+        this.routes = routes;
+        this.symmetric = symmetric;
+        long pairs = symmetric ? (long) vertices * (vertices + 1) / 2 : (long) vertices * vertices;
+        distances = precision == Precision.FLOAT ? new FloatCells(pairs) : new DoubleCells(pairs);
+        hops = routes == Routes.NONE ? null : vertices < Character.MAX_VALUE ? new CharCells((long) vertices * vertices)
+                : new IntCells((long) vertices * vertices);
+
+        Johnson johnson;
+        if (routes == Routes.SUCCESSOR) {
+            // a source of the reverse digraph is a target of the original one
+            johnson = new Johnson(reverse(G), pool, (t, distTo, edgeTo) -> {
+                for (int v = 0; v < vertices; v++) {
+                    if (!symmetric || v <= t) distances.set(index(v, t), distTo[v]);
+                    hops.set((long) v * vertices + t, edgeTo[v] == null ? NONE : edgeTo[v].from());
+                }
+            });
+        }
+        else {
+            johnson = new Johnson(G, pool, (s, distTo, edgeTo) -> {
+                for (int v = symmetric ? s : 0; v < vertices; v++) {
+                    distances.set(index(s, v), distTo[v]);
+                }
+                if (hops == null) return;
+                for (int v = 0; v < vertices; v++) {
+                    hops.set((long) s * vertices + v, edgeTo[v] == null ? NONE : edgeTo[v].from());
+                }
+            });
+        }
+        if (johnson.hasNegativeCycle()) cycle = johnson.negativeCycle();
+    }
+
+    // is there a reverse edge of the same weight for every edge?
+    private static boolean isSymmetric(EdgeWeightedDigraph G) {
+        double[][] forward = new double[G.E()][], backward = new double[G.E()][];
+        int i = 0;
+        for (DirectedEdge e : G.edges()) {
+            forward[i] = new double[] {e.from(), e.to(), e.weight()};
+            backward[i++] = new double[] {e.to(), e.from(), e.weight()};
+        }
+        Comparator<double[]> order = (a, b) -> a[0] != b[0] ? Double.compare(a[0], b[0])
+                : a[1] != b[1] ? Double.compare(a[1], b[1]) : Double.compare(a[2], b[2]);
+        Arrays.sort(forward, order);
+        Arrays.sort(backward, order);
+        for (int j = 0; j < forward.length; j++) {
+            if (order.compare(forward[j], backward[j]) != 0) return false;
+        }
+        return true;
+    }
+
+    private static EdgeWeightedDigraph reverse(EdgeWeightedDigraph G) {
+        EdgeWeightedDigraph R = new EdgeWeightedDigraph(G.V());
+        for (DirectedEdge e : G.edges()) {
+            R.addEdge(new DirectedEdge(e.to(), e.from(), e.weight()));
+        }
+        return R;
+    }
+
+    // position of the distance from s to t: row by row, or the upper half row by row
+    private long index(int s, int t) {
+        if (!symmetric) return (long) s * vertices + t;
+        int i = Math.min(s, t), j = Math.max(s, t);
+        // rows 0 .. i-1 of the upper half hold V + (V-1) + ... + (V-i+1) entries
+        return (long) i * vertices - (long) i * (i - 1) / 2 + (j - i);
+    }
+
+    /**
+     * Returns the type the distances are stored as.
+     *
+     * @return the precision of the distances
+     */
+    public Precision getPrecision() {
+        return precision;
+    }
+
+    /**
+     * Returns which vertex of every shortest path is stored.
+     *
+     * @return the kind of routes stored
+     */
+    public Routes getRoutes() {
+        return routes;
+    }
+
+    /**
+     * Returns whether the distances are stored for one half of the matrix only.
+     *
+     * @return {@code true} if the distances are stored as a half matrix
+     */
+    public boolean isSymmetric() {
+        return symmetric;
+    }
+
+    /**
+     * Returns the number of bytes taken by the stored distances and routes.
+     *
+     * @return the size of the matrix in bytes
+     */
+    public long getByteSize() {
+        return distances.getByteSize() + (hops == null ? 0 : hops.getByteSize());
+    }
+
+    /**
+     * Is there a negative cycle?
+     *
+     * @return {@code true} if there is a negative cycle, and {@code false} otherwise
+     */
+    public boolean hasNegativeCycle() {
+        return cycle != null;
+    }
+
+    /**
+     * Returns a negative cycle, or {@code null} if there is no such cycle.
+     *
+     * @return a negative cycle as an iterable of edges,
+     *         or {@code null} if there is no such cycle
+     */
+    public Iterable<DirectedEdge> negativeCycle() {
+        return cycle;
+    }
+
+    /**
+     * Is there a path from the vertex {@code s} to vertex {@code t}?
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return {@code true} if there is a path from vertex {@code s}
+     *         to vertex {@code t}, and {@code false} otherwise
+     * @throws UnsupportedOperationException if there is a negative cost cycle
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public boolean hasPath(int s, int t) {
+        return dist(s, t) < Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns the length of a shortest path from vertex {@code s} to vertex {@code t},
+     * rounded to a {@code float} if the distances are stored as such.
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return the length of a shortest path from vertex {@code s} to vertex {@code t};
+     *         {@code Double.POSITIVE_INFINITY} if no such path
+     * @throws UnsupportedOperationException if there is a negative cost cycle
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public double dist(int s, int t) {
+        validateVertex(s);
+        validateVertex(t);
+        if (hasNegativeCycle())
+            throw new UnsupportedOperationException("Negative cost cycle exists");
+        return distances.get(index(s, t));
+    }
+
+    /**
+     * Returns a shortest path from vertex {@code s} to vertex {@code t}.
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return a shortest path from vertex {@code s} to vertex {@code t}
+     *         as an iterable of edges, and {@code null} if no such path
+     * @throws UnsupportedOperationException if there is a negative cost cycle,
+     *         or no routes are stored
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public Iterable<DirectedEdge> path(int s, int t) {
+        if (routes == Routes.NONE)
+            throw new UnsupportedOperationException("No routes are stored");
+        if (!hasPath(s, t)) return null;
+        if (routes == Routes.PREDECESSOR) {
+            Stack<DirectedEdge> path = new Stack<>();
+            long row = (long) s * vertices;
+            for (int w = t, v = hop(row + t); v != NONE; w = v, v = hop(row + v)) {
+                path.push(graph.getLightestEdge(v, w));
+            }
+            return path;
+        }
+        Queue<DirectedEdge> path = new Queue<>();
+        for (int v = s, w = hop((long) s * vertices + t); w != NONE; v = w, w = hop((long) w * vertices + t)) {
+            path.enqueue(graph.getLightestEdge(v, w));
+        }
+        return path;
+    }
+
+    // the vertex stored at position i of the routes, or NONE
+    private int hop(long i) {
+        return (int) hops.get(i);
+    }
+
+    // throw an IllegalArgumentException unless {@code 0 <= v < V}
+    private void validateVertex(int v) {
+        if (v < 0 || v >= vertices)
+            throw new IllegalArgumentException("Vertex \'" + v + "\' is not between 0 and " + (vertices - 1));
+    }
+
+
+   /***************************************************************************
+    * Chunked storage, so that a matrix may have more than 2^31 entries.
+    ***************************************************************************/
+
+    private abstract static class Cells {
+        protected final int chunks;
+
+        private Cells(long size) {
+            chunks = (int) ((size + CHUNK_SIZE - 1) >>> CHUNK_BITS);
+        }
+
+        // the length of chunk c of a matrix with the given number of entries
+        protected static int length(long size, int c) {
+            return (int) Math.min(CHUNK_SIZE, size - ((long) c << CHUNK_BITS));
+        }
+
+        abstract double get(long i);
+
+        abstract void set(long i, double value);
+
+        abstract long getByteSize();
+    }
+
+    private static final class DoubleCells extends Cells {
+        private final double[][] cells;
+        private final long size;
+
+        private DoubleCells(long size) {
+            super(size);
+            this.size = size;
+            cells = new double[chunks][];
+            for (int c = 0; c < chunks; c++) cells[c] = new double[length(size, c)];
+        }
+
+        double get(long i)                 { return cells[(int) (i >>> CHUNK_BITS)][(int) i & (CHUNK_SIZE - 1)]; }
+        void set(long i, double value)     { cells[(int) (i >>> CHUNK_BITS)][(int) i & (CHUNK_SIZE - 1)] = value; }
+        long getByteSize()                 { return 8 * size; }
+    }
+
+    private static final class FloatCells extends Cells {
+        private final float[][] cells;
+        private final long size;
+
+        private FloatCells(long size) {
+            super(size);
+            this.size = size;
+            cells = new float[chunks][];
+            for (int c = 0; c < chunks; c++) cells[c] = new float[length(size, c)];
+        }
+
+        double get(long i)                 { return cells[(int) (i >>> CHUNK_BITS)][(int) i & (CHUNK_SIZE - 1)]; }
+        void set(long i, double value)     { cells[(int) (i >>> CHUNK_BITS)][(int) i & (CHUNK_SIZE - 1)] = (float) value; }
+        long getByteSize()                 { return 4 * size; }
+    }
+
+    // vertex ids below 65535, with the largest char standing for none
+    private static final class CharCells extends Cells {
+        private final char[][] cells;
+        private final long size;
+
+        private CharCells(long size) {
+            super(size);
+            this.size = size;
+            cells = new char[chunks][];
+            for (int c = 0; c < chunks; c++) cells[c] = new char[length(size, c)];
+        }
+
+        double get(long i) {
+            char value = cells[(int) (i >>> CHUNK_BITS)][(int) i & (CHUNK_SIZE - 1)];
+            return value == Character.MAX_VALUE ? NONE : value;
+        }
+
+        void set(long i, double value) {
+            cells[(int) (i >>> CHUNK_BITS)][(int) i & (CHUNK_SIZE - 1)] = value == NONE ? Character.MAX_VALUE : (char) value;
+        }
+
+        long getByteSize()                 { return 2 * size; }
+    }
+
+    private static final class IntCells extends Cells {
+        private final int[][] cells;
+        private final long size;
+
+        private IntCells(long size) {
+            super(size);
+            this.size = size;
+            cells = new int[chunks][];
+            for (int c = 0; c < chunks; c++) cells[c] = new int[length(size, c)];
+        }
+
+        double get(long i)                 { return cells[(int) (i >>> CHUNK_BITS)][(int) i & (CHUNK_SIZE - 1)]; }
+        void set(long i, double value)     { cells[(int) (i >>> CHUNK_BITS)][(int) i & (CHUNK_SIZE - 1)] = (int) value; }
+        long getByteSize()                 { return 4 * size; }
+    }
+
+    /**
+     * Unit tests the {@code ShortestPathMatrix} data type by comparing the sizes of its
+     * layouts on a random undirected graph.
+     *
+     * @param args the command-line arguments: the number of vertices and edges
+     */
+    public static void main(String[] args) {
+        int V = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int E = args.length > 1 ? Integer.parseInt(args[1]) : 4 * V;
+        EdgeWeightedDigraph G = new EdgeWeightedDigraph(V);
+        for (int i = 0; i < E; i++) {
+            int v = StdRandom.uniform(V), w = StdRandom.uniform(V);
+            double weight = 0.01 * StdRandom.uniform(1, 100);
+            G.addEdge(new DirectedEdge(v, w, weight));
+            G.addEdge(new DirectedEdge(w, v, weight));
+        }
+        ShortestPathMatrix exact = new ShortestPathMatrix(G, Precision.DOUBLE, Routes.PREDECESSOR);
+        ShortestPathMatrix compact = new ShortestPathMatrix(G, Precision.FLOAT, Routes.SUCCESSOR, true,
+                ForkJoinPool.commonPool());
+        StdOut.printf("%d vertices: %d bytes per pair with double distances and predecessors, "
+                        + "%d bytes per pair with a half matrix of floats and successors\n", V,
+                exact.getByteSize() / ((long) V * V), compact.getByteSize() / ((long) V * V));
+
+        double error = 0.0;
+        for (int v = 0; v < V; v++) {
+            for (int w = 0; w < V; w++) {
+                if (exact.hasPath(v, w)) error = Math.max(error, Math.abs(exact.dist(v, w) - compact.dist(v, w)));
+            }
+        }
+        StdOut.println("largest rounding error: " + error);
+        if (compact.hasPath(0, V - 1)) {
+            StdOut.printf("%d to %d (%5.2f)  ", 0, V - 1, compact.dist(0, V - 1));
+            for (DirectedEdge e : compact.path(0, V - 1)) {
+                StdOut.print(e + "  ");
+            }
+            StdOut.println();
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package com.notorious.visualization.graphing.algorithm.shorest.path;
+
+import com.notorious.visualization.graphing.algorithm.graph.CompactEdgeWeightedDigraph;
+import com.notorious.visualization.graphing.algorithm.graph.DirectedEdge;
+import com.notorious.visualization.graphing.algorithm.graph.EdgeWeightedDigraph;
+import com.notorious.visualization.graphing.collection.queue.Queue;
+import com.notorious.visualization.graphing.util.StdOut;
+import com.notorious.visualization.graphing.util.StdRandom;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The {@code ShortestPathSnapshot} class is a file holding the solution of the all-pairs
+ * shortest paths problem, which is written once and then mapped into memory by every
+ * process that answers queries, instead of being computed again on every start. It has
+ * the query API of {@link FloydWarshall}, reading straight from the mapped pages, so
+ * loading a snapshot takes time independent of its size and the operating system shares
+ * and pages the matrices between processes as needed.
+ * <p>
+ * A snapshot starts with a 32 byte header: a magic number, the format version, the
+ * number of vertices and edges, and a {@link #fingerprint(EdgeWeightedDigraph)
+ * fingerprint} of the digraph it was computed for, which is checked on loading. It is
+ * followed by the <em>V</em><sup>2</sup> distances as {@code double}s and the
+ * <em>V</em><sup>2</sup> successors as {@code int}s, the vertex after the first one on a
+ * shortest path, both in the byte order of the platform that wrote them. Both matrices
+ * are stored column by column, one target after another, so that the successors
+ * followed by {@link #path(int, int)} lie next to each other. A snapshot is written to
+ * a partial file next to it, with the header last, and then moved over the file at once,
+ * so that a snapshot that was not completely written is never loaded, and processes
+ * that mapped the old one keep their pages.
+ * <p>
+ * The snapshot is computed by {@link Johnson} on the reverse digraph: a source of the
+ * reverse digraph is a target of the digraph, so every shortest-paths tree fills one
+ * column, and following successors towards a target stays in its tree and always ends
+ * there. {@code path()} looks up the lightest edge between each two successive vertices.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class ShortestPathSnapshot {
+
+    private static final long MAGIC = 0x41505350534e4150L;  // "APSPSNAP"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int NONE = -1;
+    private static final int SEGMENT_BITS = 27;          // 128 Mi cells per mapping
+    private static final int SEGMENT_CELLS = 1 << SEGMENT_BITS;
+
+    private final File file;
+    private final CompactEdgeWeightedDigraph graph;
+    private final int vertices;
+    private final long fingerprint;
+    private final MappedByteBuffer[] distances;
+    private final MappedByteBuffer[] successors;
+
+    // maps the matrices of the file, with the header already checked
+    private ShortestPathSnapshot(File file, EdgeWeightedDigraph G, FileChannel channel, FileChannel.MapMode mode)
+            throws IOException {
+        this.file = file;
+        graph = new CompactEdgeWeightedDigraph(G);
+        vertices = G.V();
+        fingerprint = fingerprint(G);
+        long cells = (long) vertices * vertices;
+        distances = map(channel, mode, HEADER_BYTES, cells, 8);
+        successors = map(channel, mode, HEADER_BYTES + 8 * cells, cells, 4);
+    }
+
+    private static MappedByteBuffer[] map(FileChannel channel, FileChannel.MapMode mode, long offset, long cells,
+                                          int cellBytes) throws IOException {
+        int segments = (int) Math.max(1, (cells + SEGMENT_CELLS - 1) >>> SEGMENT_BITS);
+        MappedByteBuffer[] mapped = new MappedByteBuffer[segments];
+        for (int i = 0; i < segments; i++) {
+            long first = (long) i << SEGMENT_BITS;
+            long length = Math.min(SEGMENT_CELLS, cells - first) * cellBytes;
+            mapped[i] = channel.map(mode, offset + first * cellBytes, length);
+            mapped[i].order(ByteOrder.nativeOrder());
+        }
+        return mapped;
+    }
+
+    /**
+     * Computes the shortest paths between every pair of vertices on the given pool and
+     * writes them to a snapshot file, which is returned ready for queries.
+     *
+     * @param file the file to write, replaced if it exists
+     * @param G    the edge-weighted digraph
+     * @param pool the pool to run on, or {@code null} to run on the calling thread
+     * @return the snapshot
+     * @throws IllegalArgumentException if the digraph has a negative cycle
+     * @throws UncheckedIOException if the file cannot be written
+     */
+    public static ShortestPathSnapshot write(File file, EdgeWeightedDigraph G, ForkJoinPool pool) {
+        EdgeWeightedDigraph reverse = new EdgeWeightedDigraph(G.V());
+        for (DirectedEdge e : G.edges()) {
+            reverse.addEdge(new DirectedEdge(e.to(), e.from(), e.weight()));
+        }
+        int V = G.V();
+        long cells = (long) V * V;
+        File partial = new File(file.getAbsoluteFile().getParentFile(), file.getName() + ".partial");
+        // write, close, then move; on every failure the partial file is deleted
+        boolean moved = false;
+        try {
+            ShortestPathSnapshot snapshot;
+            try (RandomAccessFile raf = new RandomAccessFile(partial, "rw")) {
+                raf.setLength(0);
+                raf.setLength(HEADER_BYTES + 12 * cells);
+                FileChannel channel = raf.getChannel();
+                ShortestPathSnapshot result = new ShortestPathSnapshot(file, G, channel, FileChannel.MapMode.READ_WRITE);
+
+                // a source of the reverse digraph is a target of the original one
+                Johnson johnson = new Johnson(reverse, pool, (t, distTo, edgeTo) -> {
+                    long column = (long) t * V;
+                    for (int v = 0; v < V; v++) {
+                        result.putDistance(column + v, distTo[v]);
+                        result.putSuccessor(column + v, edgeTo[v] == null ? NONE : edgeTo[v].from());
+                    }
+                });
+                if (johnson.hasNegativeCycle()) throw new IllegalArgumentException("Digraph has a negative cycle");
+                for (MappedByteBuffer segment : result.distances) segment.force();
+                for (MappedByteBuffer segment : result.successors) segment.force();
+
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.nativeOrder());
+                header.putLong(MAGIC).putInt(VERSION).putInt(V).putInt(G.E()).putInt(0).putLong(result.fingerprint);
+                header.flip();
+                channel.write(header, 0);
+                channel.force(true);
+                snapshot = result;
+            }
+            // replace the file at once, so that it is never seen partially written
+            Files.move(partial.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            moved = true;
+            return snapshot;
+        }
+        catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+        finally {
+            if (!moved) partial.delete();
+        }
+    }
+
+    /**
+     * Maps a snapshot file into memory for queries.
+     *
+     * @param file the snapshot file
+     * @param G    the edge-weighted digraph the snapshot was computed for
+     * @return the snapshot
+     * @throws IllegalArgumentException if the file is not a complete snapshot, or was
+     *         computed for a different digraph
+     * @throws UncheckedIOException if the file cannot be read
+     */
+    public static ShortestPathSnapshot load(File file, EdgeWeightedDigraph G) {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            FileChannel channel = raf.getChannel();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.nativeOrder());
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // read the whole header
+            }
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getLong() != MAGIC)
+                throw new IllegalArgumentException("File \'" + file + "\' is not a complete snapshot");
+            int version = header.getInt();
+            if (version != VERSION)
+                throw new IllegalArgumentException("Snapshot version " + version + " is not supported");
+            int V = header.getInt(), E = header.getInt();
+            header.getInt();
+            long fingerprint = header.getLong();
+            if (V != G.V() || E != G.E() || fingerprint != fingerprint(G))
+                throw new IllegalArgumentException("Snapshot was computed for a different digraph");
+            if (channel.size() != HEADER_BYTES + 12L * V * V)
+                throw new IllegalArgumentException("File \'" + file + "\' is not a complete snapshot");
+            return new ShortestPathSnapshot(file, G, channel, FileChannel.MapMode.READ_ONLY);
+        }
+        catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    /**
+     * Returns a fingerprint of the vertices and weighted edges of a digraph, which does
+     * not depend on the order the edges were added in.
+     *
+     * @param G the edge-weighted digraph
+     * @return the fingerprint of the digraph
+     */
+    public static long fingerprint(EdgeWeightedDigraph G) {
+        long sum = mix(G.V());
+        for (DirectedEdge e : G.edges()) {
+            long h = mix(((long) e.from() << 32) ^ e.to());
+            sum += mix(h ^ Double.doubleToLongBits(e.weight()));
+        }
+        return mix(sum);
+    }
+
+    // the finalizer of the SplitMix64 generator, which spreads every bit over the whole word
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    // cell of the pair (s, t), target by target
+    private long cell(int s, int t) {
+        return (long) t * vertices + s;
+    }
+
+    private double getDistance(long cell) {
+        return distances[(int) (cell >>> SEGMENT_BITS)].getDouble(((int) cell & (SEGMENT_CELLS - 1)) << 3);
+    }
+
+    private void putDistance(long cell, double distance) {
+        distances[(int) (cell >>> SEGMENT_BITS)].putDouble(((int) cell & (SEGMENT_CELLS - 1)) << 3, distance);
+    }
+
+    private int getSuccessor(long cell) {
+        return successors[(int) (cell >>> SEGMENT_BITS)].getInt(((int) cell & (SEGMENT_CELLS - 1)) << 2);
+    }
+
+    private void putSuccessor(long cell, int w) {
+        successors[(int) (cell >>> SEGMENT_BITS)].putInt(((int) cell & (SEGMENT_CELLS - 1)) << 2, w);
+    }
+
+    /**
+     * Returns the snapshot file.
+     *
+     * @return the file
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the fingerprint of the digraph the snapshot was computed for.
+     *
+     * @return the fingerprint of the digraph
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Is there a path from the vertex {@code s} to vertex {@code t}?
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return {@code true} if there is a path from vertex {@code s}
+     *         to vertex {@code t}, and {@code false} otherwise
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public boolean hasPath(int s, int t) {
+        return dist(s, t) < Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns the length of a shortest path from vertex {@code s} to vertex {@code t}.
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return the length of a shortest path from vertex {@code s} to vertex {@code t};
+     *         {@code Double.POSITIVE_INFINITY} if no such path
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public double dist(int s, int t) {
+        validateVertex(s);
+        validateVertex(t);
+        return getDistance(cell(s, t));
+    }
+
+    /**
+     * Returns a shortest path from vertex {@code s} to vertex {@code t}.
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return a shortest path from vertex {@code s} to vertex {@code t}
+     *         as an iterable of edges, and {@code null} if no such path
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public Iterable<DirectedEdge> path(int s, int t) {
+        if (!hasPath(s, t)) return null;
+        Queue<DirectedEdge> path = new Queue<>();
+        for (int v = s, w = getSuccessor(cell(s, t)); w != NONE; v = w, w = getSuccessor(cell(w, t))) {
+            path.enqueue(graph.getLightestEdge(v, w));
+        }
+        return path;
+    }
+
+    // throw an IllegalArgumentException unless {@code 0 <= v < V}
+    private void validateVertex(int v) {
+        if (v < 0 || v >= vertices)
+            throw new IllegalArgumentException("Vertex \'" + v + "\' is not between 0 and " + (vertices - 1));
+    }
+
+    /**
+     * Unit tests the {@code ShortestPathSnapshot} data type by writing a snapshot of a
+     * random digraph, loading it again and comparing it with {@link Johnson}.
+     *
+     * @param args the command-line arguments: the number of vertices and edges
+     * @throws IOException if the temporary file cannot be created
+     */
+    public static void main(String[] args) throws IOException {
+        int V = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int E = args.length > 1 ? Integer.parseInt(args[1]) : 8 * V;
+        EdgeWeightedDigraph G = new EdgeWeightedDigraph(V);
+        for (int i = 0; i < E; i++) {
+            G.addEdge(new DirectedEdge(StdRandom.uniform(V), StdRandom.uniform(V), 0.01 * StdRandom.uniform(1, 100)));
+        }
+        File file = File.createTempFile("apsp-", ".snapshot");
+        file.deleteOnExit();
+
+        long start = System.currentTimeMillis();
+        ShortestPathSnapshot.write(file, G, ForkJoinPool.commonPool());
+        long writeTime = System.currentTimeMillis() - start;
+        start = System.nanoTime();
+        ShortestPathSnapshot snapshot = ShortestPathSnapshot.load(file, G);
+        long loadTime = (System.nanoTime() - start) / 1000;
+
+        Johnson johnson = new Johnson(G);
+        int mismatches = 0;
+        for (int v = 0; v < V; v++) {
+            for (int w = 0; w < V; w++) {
+                if (Math.abs(johnson.dist(v, w) - snapshot.dist(v, w)) > 1E-9) mismatches++;
+            }
+        }
+        StdOut.printf("%d vertices: written in %d ms, %d MiB loaded in %d us, %d mismatches\n",
+                V, writeTime, file.length() >> 20, loadTime, mismatches);
+        if (snapshot.hasPath(0, V - 1)) {
+            StdOut.printf("%d to %d (%5.2f)  ", 0, V - 1, snapshot.dist(0, V - 1));
+            for (DirectedEdge e : snapshot.path(0, V - 1)) {
+                StdOut.print(e + "  ");
+            }
+            StdOut.println();
+        }
+    }
+}
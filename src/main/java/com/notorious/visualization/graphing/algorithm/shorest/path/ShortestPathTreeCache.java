@@ -0,0 +1,338 @@
+package com.notorious.visualization.graphing.algorithm.shorest.path;
+
+import com.notorious.visualization.graphing.algorithm.graph.CompactEdgeWeightedDigraph;
+import com.notorious.visualization.graphing.algorithm.graph.DirectedEdge;
+import com.notorious.visualization.graphing.algorithm.graph.EdgeWeightedDigraph;
+import com.notorious.visualization.graphing.collection.stack.Stack;
+import com.notorious.visualization.graphing.util.StdOut;
+import com.notorious.visualization.graphing.util.StdRandom;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code ShortestPathTreeCache} class answers shortest path queries in an
+ * edge-weighted digraph with nonnegative weights from a cache of shortest-paths trees,
+ * for query traffic in which a small set of hot sources accounts for most queries. It
+ * has the query API of {@link FloydWarshall}, at the memory cost of the cached trees
+ * instead of all <em>V</em><sup>2</sup> pairs.
+ * <p>
+ * The tree of a source is the distance and the id of the last edge of every vertex, which
+ * takes 12 <em>V</em> bytes; the memory budget divides into as many trees as fit. A
+ * query for a cached source takes constant time for {@code dist()} and time
+ * proportional to the length of the path for {@code path()}. On a miss, the tree is
+ * computed by a {@link DijkstraEngine} in the calling thread and cached, and, once the
+ * cache is full, another tree is evicted: the least recently used one, or the least
+ * frequently used one, with ties going to the least recently used.
+ * <p>
+ * Any number of threads may query the cache at once. Cached trees are looked up without
+ * locking, and trees are never changed once computed, so a tree that is evicted while a
+ * query reads it stays valid for that query. Threads that miss on the same source wait
+ * for the one computing its tree instead of computing it again; trees still being
+ * computed are never evicted, so the cache may hold one tree more than its capacity for
+ * every thread computing one.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class ShortestPathTreeCache {
+
+    /**
+     * Which tree to evict when the cache is full.
+     */
+    public enum Eviction {
+        /** The tree whose last query is the oldest. */
+        LEAST_RECENTLY_USED,
+        /** The tree with the fewest queries, the least recently used among those. */
+        LEAST_FREQUENTLY_USED
+    }
+
+    private static final int NONE = -1;
+    private static final long TREE_OVERHEAD_BYTES = 96;  // headers of the tree and its arrays
+
+    private final DijkstraEngine engine;
+    private final CompactEdgeWeightedDigraph graph;
+    private final int vertices;
+    private final Eviction eviction;
+    private final int capacity;
+    private final ConcurrentHashMap<Integer, CompletableFuture<Tree>> trees = new ConcurrentHashMap<>();
+    private final Object evictionLock = new Object();
+    private final AtomicLong clock = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    // the shortest-paths tree of one source, never changed once computed
+    private static final class Tree {
+        private final double[] distTo;      // distTo[v] = length of shortest s->v path
+        private final int[] edgeTo;         // edgeTo[v] = id of last edge on shortest s->v path
+        private final LongAdder uses = new LongAdder();
+        private volatile long lastUse;
+
+        private Tree(DijkstraEngine engine, int s) {
+            int V = engine.getGraph().getVerticesCount();
+            distTo = new double[V];
+            edgeTo = new int[V];
+            engine.search(s).copyTo(distTo, edgeTo);
+        }
+
+        private void use(long tick) {
+            uses.increment();
+            lastUse = tick;
+        }
+    }
+
+    /**
+     * Initializes a cache for the given edge-weighted digraph that holds as many trees as
+     * fit into the given memory budget, and evicts the least recently used one. Later
+     * changes to the digraph are not seen by the cache.
+     *
+     * @param G            the edge-weighted digraph
+     * @param memoryBudget the number of bytes the cached trees may take
+     * @throws IllegalArgumentException if an edge weight is negative
+     * @throws IllegalArgumentException if not even one tree fits into the budget
+     */
+    public ShortestPathTreeCache(EdgeWeightedDigraph G, long memoryBudget) {
+        this(new DijkstraEngine(G), memoryBudget, Eviction.LEAST_RECENTLY_USED);
+    }
+
+    /**
+     * Initializes a cache that computes its trees with the given engine, holds as many
+     * trees as fit into the given memory budget, and evicts them as given.
+     *
+     * @param engine       the engine to compute missing trees with
+     * @param memoryBudget the number of bytes the cached trees may take
+     * @param eviction     which tree to evict when the cache is full
+     * @throws IllegalArgumentException if not even one tree fits into the budget
+     */
+    public ShortestPathTreeCache(DijkstraEngine engine, long memoryBudget, Eviction eviction) {
+        if (eviction == null) throw new IllegalArgumentException("Eviction must not be null");
+        this.engine = engine;
+        this.eviction = eviction;
+        graph = engine.getGraph();
+        vertices = graph.getVerticesCount();
+        long trees = memoryBudget / getTreeBytes();
+        if (trees < 1)
+            throw new IllegalArgumentException("Memory budget of " + memoryBudget + " bytes is less than one tree of "
+                    + getTreeBytes() + " bytes");
+        capacity = (int) Math.min(trees, Integer.MAX_VALUE);
+    }
+
+    // the tree of s, from the cache or computed and cached
+    private Tree tree(int s) {
+        validateVertex(s);
+        CompletableFuture<Tree> entry = trees.get(s);
+        if (entry == null) {
+            CompletableFuture<Tree> created = new CompletableFuture<>();
+            entry = trees.putIfAbsent(s, created);
+            if (entry == null) {
+                misses.increment();
+                Tree tree;
+                try {
+                    tree = new Tree(engine, s);
+                }
+                catch (RuntimeException | Error e) {
+                    trees.remove(s, created);
+                    created.completeExceptionally(e);
+                    throw e;
+                }
+                // stamp the new tree before it can be seen, so no concurrent miss takes it
+                // for the coldest one and evicts it
+                tree.use(clock.incrementAndGet());
+                created.complete(tree);
+                evict(s);
+                return tree;
+            }
+        }
+        // waiting for a tree another thread is still computing is not answered from the cache
+        if (entry.isDone()) hits.increment();
+        else misses.increment();
+        Tree tree = entry.join();
+        tree.use(clock.incrementAndGet());
+        return tree;
+    }
+
+    // evicts trees other than the one of s until the cache is within its capacity; only on
+    // misses, which cost a whole Dijkstra anyway, so a scan over the cache is fine
+    private void evict(int s) {
+        synchronized (evictionLock) {
+            while (trees.size() > capacity) {
+                Map.Entry<Integer, CompletableFuture<Tree>> victim = null;
+                for (Map.Entry<Integer, CompletableFuture<Tree>> entry : trees.entrySet()) {
+                    CompletableFuture<Tree> future = entry.getValue();
+                    if (entry.getKey() == s || !future.isDone() || future.isCompletedExceptionally()) continue;
+                    if (victim == null || isColder(future.join(), victim.getValue().join())) victim = entry;
+                }
+                if (victim == null) return;  // every other tree is still being computed
+                trees.remove(victim.getKey(), victim.getValue());
+            }
+        }
+    }
+
+    // should a be evicted before b?
+    private boolean isColder(Tree a, Tree b) {
+        if (eviction == Eviction.LEAST_FREQUENTLY_USED) {
+            long usesA = a.uses.sum(), usesB = b.uses.sum();
+            if (usesA != usesB) return usesA < usesB;
+        }
+        return a.lastUse < b.lastUse;
+    }
+
+    /**
+     * Returns the number of bytes one cached tree takes.
+     *
+     * @return the size of a tree in bytes
+     */
+    public long getTreeBytes() {
+        return 12L * vertices + TREE_OVERHEAD_BYTES;
+    }
+
+    /**
+     * Returns the largest number of trees the cache holds.
+     *
+     * @return the capacity of the cache
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the eviction policy of the cache.
+     *
+     * @return which tree is evicted when the cache is full
+     */
+    public Eviction getEviction() {
+        return eviction;
+    }
+
+    /**
+     * Returns the number of trees currently cached or being computed.
+     *
+     * @return the number of trees
+     */
+    public int size() {
+        return trees.size();
+    }
+
+    /**
+     * Is the tree of source {@code s} cached? This does not count as a query of it.
+     *
+     * @param s the source vertex
+     * @return {@code true} if the tree of {@code s} is cached or being computed
+     * @throws IllegalArgumentException unless {@code 0 <= s < V}
+     */
+    public boolean contains(int s) {
+        validateVertex(s);
+        return trees.containsKey(s);
+    }
+
+    /**
+     * Returns the number of queries answered from a cached tree.
+     *
+     * @return the number of hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of queries that had to compute their tree, or to wait for
+     * another thread computing it.
+     *
+     * @return the number of misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Is there a path from the vertex {@code s} to vertex {@code t}?
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return {@code true} if there is a path from vertex {@code s}
+     *         to vertex {@code t}, and {@code false} otherwise
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public boolean hasPath(int s, int t) {
+        return dist(s, t) < Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns the length of a shortest path from vertex {@code s} to vertex {@code t}.
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return the length of a shortest path from vertex {@code s} to vertex {@code t};
+     *         {@code Double.POSITIVE_INFINITY} if no such path
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public double dist(int s, int t) {
+        validateVertex(t);
+        return tree(s).distTo[t];
+    }
+
+    /**
+     * Returns a shortest path from vertex {@code s} to vertex {@code t}.
+     *
+     * @param s the source vertex
+     * @param t the destination vertex
+     * @return a shortest path from vertex {@code s} to vertex {@code t}
+     *         as an iterable of edges, and {@code null} if no such path
+     * @throws IllegalArgumentException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+     */
+    public Iterable<DirectedEdge> path(int s, int t) {
+        validateVertex(t);
+        Tree tree = tree(s);
+        if (tree.distTo[t] == Double.POSITIVE_INFINITY) return null;
+        Stack<DirectedEdge> path = new Stack<>();
+        for (int e = tree.edgeTo[t]; e != NONE; e = tree.edgeTo[graph.getEdge(e).from()]) {
+            path.push(graph.getEdge(e));
+        }
+        return path;
+    }
+
+    // throw an IllegalArgumentException unless {@code 0 <= v < V}
+    private void validateVertex(int v) {
+        if (v < 0 || v >= vertices)
+            throw new IllegalArgumentException("Vertex \'" + v + "\' is not between 0 and " + (vertices - 1));
+    }
+
+    /**
+     * Unit tests the {@code ShortestPathTreeCache} data type by comparing the hit rates of
+     * both eviction policies on skewed random queries.
+     *
+     * @param args the command-line arguments: the number of vertices, edges and queries
+     */
+    public static void main(String[] args) {
+        int V = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int E = args.length > 1 ? Integer.parseInt(args[1]) : 4 * V;
+        int queries = args.length > 2 ? Integer.parseInt(args[2]) : 5000;
+        EdgeWeightedDigraph G = new EdgeWeightedDigraph(V);
+        for (int i = 0; i < E; i++) {
+            G.addEdge(new DirectedEdge(StdRandom.uniform(V), StdRandom.uniform(V), 0.01 * StdRandom.uniform(1, 100)));
+        }
+        DijkstraEngine engine = new DijkstraEngine(G);
+        long budget = 200 * (12L * V + TREE_OVERHEAD_BYTES);
+
+        // 80 % of the queries from 200 hot sources, the rest from anywhere
+        int[] sources = new int[queries];
+        for (int i = 0; i < queries; i++) {
+            sources[i] = StdRandom.uniform() < 0.8 ? StdRandom.uniform(200) * (V / 200) : StdRandom.uniform(V);
+        }
+        for (Eviction eviction : Eviction.values()) {
+            ShortestPathTreeCache cache = new ShortestPathTreeCache(engine, budget, eviction);
+            long start = System.currentTimeMillis();
+            double sum = 0.0;
+            for (int i = 0; i < queries; i++) {
+                double d = cache.dist(sources[i], StdRandom.uniform(V));
+                if (d < Double.POSITIVE_INFINITY) sum += d;
+            }
+            StdOut.printf("%s: %d trees, %d hits, %d misses in %d ms (checksum %.2f)\n", eviction,
+                    cache.getCapacity(), cache.getHits(), cache.getMisses(), System.currentTimeMillis() - start, sum);
+        }
+    }
+}
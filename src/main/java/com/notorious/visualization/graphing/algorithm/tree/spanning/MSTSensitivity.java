@@ -0,0 +1,293 @@
+package com.notorious.visualization.graphing.algorithm.tree.spanning;
+
+import com.notorious.visualization.graphing.algorithm.graph.Edge;
+import com.notorious.visualization.graphing.algorithm.graph.WeightedEdgeGraph;
+import com.notorious.visualization.graphing.algorithm.tree.spanning.kruskal.KruskalMST;
+import com.notorious.visualization.graphing.collection.cache.Cache;
+import com.notorious.visualization.graphing.collection.queue.Queue;
+import com.notorious.visualization.graphing.util.In;
+import com.notorious.visualization.graphing.util.StdOut;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The {@code MSTSensitivity} class answers <em>what-if</em> questions about a minimum
+ * spanning forest without recomputing it: how far each edge weight may move before
+ * the forest changes, which edge would take over, and what the second-best spanning
+ * forest is.
+ * <p>
+ * For a non-tree edge <em>f</em> = <em>v-w</em>, the forest stays minimum as long as
+ * <em>f</em> weighs no less than the heaviest edge on the tree path between <em>v</em>
+ * and <em>w</em>, found with a {@link TreePathMaximum}. For a tree edge <em>e</em>, the
+ * forest stays minimum as long as <em>e</em> weighs no more than its <em>replacement</em>,
+ * the lightest non-tree edge whose tree path covers <em>e</em>. Replacements are found
+ * by taking the non-tree edges in ascending order of weight and walking their tree
+ * paths, skipping already covered edges with a union-find style jump pointer, so
+ * every tree edge is assigned once. The second-best spanning forest swaps the tree
+ * edge and replacement with the smallest weight difference.
+ * <p>
+ * Tree edges may get lighter and non-tree edges heavier by any amount; only the
+ * other direction is limited. Edges are looked up by identity, so queries must use
+ * the {@link Edge} objects of the graph. The constructor takes time proportional to
+ * <em>E</em> log <em>V</em>; afterwards, every query takes constant time.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class MSTSensitivity {
+
+    private final TreePathMaximum index;
+    private final Map<Edge, Integer> position;   // tree edge i -> i, non-tree edge j -> -(j + 1)
+    private final Edge[] nonTree;                // non-tree edges of the graph, self-loops excluded
+    private final int[] pathMaximum;             // pathMaximum[j] = index of the heaviest tree edge on non-tree edge j's path
+    private final Edge[] replacement;            // replacement[i] = lightest non-tree edge covering tree edge i
+    private final double weight;                 // weight of the forest
+    private int swapRemoved = -1;                // the swap giving the second-best forest
+    private Edge swapAdded;
+
+    /**
+     * Computes the minimum spanning forest of the graph with {@link KruskalMST} and
+     * analyzes it.
+     *
+     * @param graph the edge-weighted graph
+     */
+    public MSTSensitivity(WeightedEdgeGraph graph) {
+        this(graph, new KruskalMST(graph).getEdges());
+    }
+
+    /**
+     * Analyzes a given minimum spanning forest of the graph.
+     *
+     * @param graph  the edge-weighted graph
+     * @param forest a minimum spanning forest made of edges of the graph
+     * @throws IllegalArgumentException if the edges do not form a forest
+     */
+    public MSTSensitivity(WeightedEdgeGraph graph, Iterable<Edge> forest) {
+        index = new TreePathMaximum(graph.getVerticesCount(), forest);
+        int trees = index.getEdgeCount();
+        position = new IdentityHashMap<>();
+        double total = 0D;
+        for (int i = 0; i < trees; i++) {
+            position.put(index.getEdge(i), i);
+            total += index.getEdge(i).getWeight();
+        }
+        weight = total;
+
+        // the non-tree edges, in ascending order of weight
+        Edge[] edges = new Edge[graph.getEdgeCount()];
+        int n = 0;
+        for (Edge e : graph.getEdges()) {
+            int v = e.getEndpointA();
+            if (!position.containsKey(e) && v != e.getOtherEndpoint(v)) edges[n++] = e;
+        }
+        nonTree = Arrays.copyOf(edges, n);
+        Arrays.sort(nonTree);
+        pathMaximum = new int[n];
+        for (int j = 0; j < n; j++) {
+            Edge f = nonTree[j];
+            int v = f.getEndpointA(), w = f.getOtherEndpoint(v);
+            if (!index.isConnected(v, w))
+                throw new IllegalArgumentException("Not a spanning forest: " + f + " connects two trees");
+            pathMaximum[j] = index.getMaximumEdgeIndex(v, w);
+            position.put(f, -(j + 1));
+        }
+
+        replacement = new Edge[trees];
+        cover();
+
+        // the cheapest swap gives the second-best forest
+        double best = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < trees; i++) {
+            if (replacement[i] == null) continue;
+            double increase = replacement[i].getWeight() - index.getEdge(i).getWeight();
+            if (increase < best) {
+                best = increase;
+                swapRemoved = i;
+                swapAdded = replacement[i];
+            }
+        }
+    }
+
+    // assign to every tree edge the lightest non-tree edge whose tree path covers it
+    private void cover() {
+        int vertices = index.getVerticesCount();
+        int[] jump = new int[vertices];   // jump[v] = v if v's parent edge is uncovered, else a vertex above v
+        for (int v = 0; v < vertices; v++) {
+            jump[v] = v;
+        }
+        for (Edge f : nonTree) {
+            int v = f.getEndpointA(), w = f.getOtherEndpoint(v);
+            int ancestor = index.lowestCommonAncestor(v, w);
+            climb(v, ancestor, f, jump);
+            climb(w, ancestor, f, jump);
+        }
+    }
+
+    private void climb(int v, int ancestor, Edge f, int[] jump) {
+        int depth = index.getDepth(ancestor);
+        for (int x = find(v, jump); index.getDepth(x) > depth; x = find(x, jump)) {
+            replacement[index.getParentEdgeIndex(x)] = f;
+            jump[x] = index.getParent(x);
+        }
+    }
+
+    private static int find(int v, int[] jump) {
+        while (v != jump[v]) {
+            jump[v] = jump[jump[v]];    // path compression by halving
+            v = jump[v];
+        }
+        return v;
+    }
+
+    /**
+     * Returns the weight of the analyzed minimum spanning forest.
+     *
+     * @return the weight of the forest
+     */
+    public double getWeight() {
+        return weight;
+    }
+
+    /**
+     * Is the given graph edge part of the minimum spanning forest?
+     *
+     * @param e an edge of the graph
+     * @return {@code true} if {@code e} is a tree edge
+     * @throws IllegalArgumentException if {@code e} is not an edge of the graph (or a self-loop)
+     */
+    public boolean isTreeEdge(Edge e) {
+        return positionOf(e) >= 0;
+    }
+
+    /**
+     * Returns the edge that replaces a tree edge when it is removed or gets too heavy.
+     *
+     * @param e a tree edge
+     * @return the lightest non-tree edge reconnecting the forest without {@code e},
+     *         or {@code null} if {@code e} is a bridge
+     * @throws IllegalArgumentException if {@code e} is not a tree edge
+     */
+    public Edge getReplacement(Edge e) {
+        return replacement[treeIndex(e)];
+    }
+
+    /**
+     * Returns how much the weight of a tree edge may increase before the forest
+     * stops being minimum. Any decrease keeps it minimum.
+     *
+     * @param e a tree edge
+     * @return the weight increase tolerated, {@code Double.POSITIVE_INFINITY} for a bridge
+     * @throws IllegalArgumentException if {@code e} is not a tree edge
+     */
+    public double getIncreaseTolerance(Edge e) {
+        int i = treeIndex(e);
+        if (replacement[i] == null) return Double.POSITIVE_INFINITY;
+        return replacement[i].getWeight() - e.getWeight();
+    }
+
+    /**
+     * Returns the heaviest tree edge on the tree path between the endpoints of a
+     * non-tree edge, which is the edge it would replace.
+     *
+     * @param f a non-tree edge
+     * @return the tree path maximum of {@code f}
+     * @throws IllegalArgumentException if {@code f} is not a non-tree edge
+     */
+    public Edge getPathMaximum(Edge f) {
+        return index.getEdge(pathMaximum[nonTreeIndex(f)]);
+    }
+
+    /**
+     * Returns how much the weight of a non-tree edge may decrease before the forest
+     * stops being minimum. Any increase keeps it minimum.
+     *
+     * @param f a non-tree edge
+     * @return the weight decrease tolerated
+     * @throws IllegalArgumentException if {@code f} is not a non-tree edge
+     */
+    public double getDecreaseTolerance(Edge f) {
+        return f.getWeight() - getPathMaximum(f).getWeight();
+    }
+
+    /**
+     * Is there a second spanning forest, that is, does the graph have a non-tree edge
+     * other than a self-loop?
+     *
+     * @return {@code true} if a second-best spanning forest exists
+     */
+    public boolean hasSecondBest() {
+        return swapAdded != null;
+    }
+
+    /**
+     * Returns the weight of the second-best spanning forest, which may equal the
+     * weight of the minimum one when weights are tied.
+     *
+     * @return the weight, or {@code Double.POSITIVE_INFINITY} if there is none
+     */
+    public double getSecondBestWeight() {
+        if (!hasSecondBest()) return Double.POSITIVE_INFINITY;
+        return weight - index.getEdge(swapRemoved).getWeight() + swapAdded.getWeight();
+    }
+
+    /**
+     * Returns the edges of the second-best spanning forest.
+     *
+     * @return the edges, or {@code null} if there is no second-best forest
+     */
+    public Iterable<Edge> getSecondBestEdges() {
+        if (!hasSecondBest()) return null;
+        Queue<Edge> edges = new Queue<>();
+        for (int i = 0; i < index.getEdgeCount(); i++) {
+            if (i != swapRemoved) edges.enqueue(index.getEdge(i));
+        }
+        edges.enqueue(swapAdded);
+        return edges;
+    }
+
+    private int positionOf(Edge e) {
+        Integer i = position.get(e);
+        if (i == null) throw new IllegalArgumentException("Edge " + e + " is not an edge of the graph");
+        return i;
+    }
+
+    private int treeIndex(Edge e) {
+        int i = positionOf(e);
+        if (i < 0) throw new IllegalArgumentException("Edge " + e + " is not a tree edge");
+        return i;
+    }
+
+    private int nonTreeIndex(Edge f) {
+        int i = positionOf(f);
+        if (i >= 0) throw new IllegalArgumentException("Edge " + f + " is a tree edge");
+        return -i - 1;
+    }
+
+    private static final String TEST_DATA_REFERENCE_ROOT = "org/notorious/visualization/graphing/collection/algorithm/tree/spanning/";
+    private static final String TEST_DATA_TINY = "tinyEWG.txt";
+
+    /**
+     * Unit tests the {@code MSTSensitivity} data type.
+     *
+     * @param args the command-line arguments
+     */
+    public static void main(String[] args) {
+        In in = new In(Cache.class.getClassLoader().getResource(TEST_DATA_REFERENCE_ROOT + TEST_DATA_TINY));
+        WeightedEdgeGraph graph = new WeightedEdgeGraph(in);
+        MSTSensitivity sensitivity = new MSTSensitivity(graph);
+        for (Edge e : graph.getEdges()) {
+            if (sensitivity.isTreeEdge(e)) {
+                StdOut.printf("tree     %s  +%.5f  replaced by %s\n", e, sensitivity.getIncreaseTolerance(e),
+                        sensitivity.getReplacement(e));
+            }
+            else {
+                StdOut.printf("non-tree %s  -%.5f  would replace %s\n", e, sensitivity.getDecreaseTolerance(e),
+                        sensitivity.getPathMaximum(e));
+            }
+        }
+        StdOut.printf("MST %.5f, second best %.5f\n", sensitivity.getWeight(), sensitivity.getSecondBestWeight());
+    }
+}
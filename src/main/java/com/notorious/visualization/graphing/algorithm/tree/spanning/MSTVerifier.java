@@ -0,0 +1,138 @@
+package com.notorious.visualization.graphing.algorithm.tree.spanning;
+
+import com.notorious.visualization.graphing.algorithm.graph.Edge;
+import com.notorious.visualization.graphing.algorithm.graph.WeightedEdgeGraph;
+import com.notorious.visualization.graphing.util.union.UF;
+
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+/**
+ * The {@code MSTVerifier} class certifies that a set of edges is a minimum spanning
+ * forest of an edge-weighted graph.
+ * <p>
+ * The forest is first checked to be acyclic with a {@link UF}. It is then indexed with
+ * a {@link TreePathMaximum}, and every graph edge <em>v-w</em> is checked against it:
+ * <em>v</em> and <em>w</em> must be in the same tree (the forest is spanning) and the
+ * edge must weigh no less than the heaviest edge on the tree path between them
+ * (the <em>cycle optimality conditions</em>, which are equivalent to the cut
+ * optimality conditions checked edge by edge in the textbook {@code check()}).
+ * <p>
+ * A full verification takes time proportional to (<em>V</em> + <em>E</em>) log <em>V</em>,
+ * about the cost of computing the tree in the first place. In <em>sampled</em> mode
+ * the forest structure is still checked completely, every graph edge included for
+ * the spanning condition, but only a random fraction of the graph edges is tested for
+ * the cycle optimality conditions, so the per-edge cost can be tuned for production.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class MSTVerifier {
+
+    private final int checkedEdges;
+    private String violation;
+
+    /**
+     * Verifies every edge of the graph against the given forest.
+     *
+     * @param graph  the edge-weighted graph
+     * @param forest the candidate minimum spanning forest
+     */
+    public MSTVerifier(WeightedEdgeGraph graph, Iterable<Edge> forest) {
+        this(graph, forest, 1D, 0L);
+    }
+
+    /**
+     * Verifies a random sample of the graph edges against the given forest.
+     *
+     * @param graph      the edge-weighted graph
+     * @param forest     the candidate minimum spanning forest
+     * @param sampleRate the probability that a graph edge is tested, between 0 and 1
+     * @param seed       the seed of the sampling
+     * @throws IllegalArgumentException unless {@code 0 <= sampleRate <= 1}
+     */
+    public MSTVerifier(WeightedEdgeGraph graph, Iterable<Edge> forest, double sampleRate, long seed) {
+        if (!(sampleRate >= 0D && sampleRate <= 1D))
+            throw new IllegalArgumentException("Sample rate must be between 0 and 1!");
+        int vertices = graph.getVerticesCount();
+
+        // check that it is acyclic
+        UF uf = new UF(vertices);
+        for (Edge e : forest) {
+            int v = e.getEndpointA(), w = e.getOtherEndpoint(v);
+            if (uf.connected(v, w)) {
+                violation = "Not a forest: " + e + " closes a cycle";
+                checkedEdges = 0;
+                return;
+            }
+            uf.union(v, w);
+        }
+
+        // check that it is a spanning forest with the cycle optimality conditions
+        TreePathMaximum index = new TreePathMaximum(vertices, forest);
+        SplittableRandom random = new SplittableRandom(seed);
+        int checked = 0;
+        for (int v = 0; v < vertices; v++) {
+            for (Edge f : graph.getAdjacent(v)) {
+                int w = f.getOtherEndpoint(v);
+                if (w < v) continue;   // each edge is seen from both endpoints
+                if (!index.isConnected(v, w)) {
+                    violation = "Not a spanning forest: " + f + " connects two trees";
+                    break;
+                }
+                if (sampleRate < 1D && random.nextDouble() >= sampleRate) continue;
+                checked++;
+                if (f.getWeight() < index.getMaximumWeight(v, w)) {
+                    violation = "Edge " + f + " violates cycle optimality conditions against "
+                            + index.getMaximumEdge(v, w);
+                    break;
+                }
+            }
+            if (violation != null) break;
+        }
+        checkedEdges = checked;
+    }
+
+    /**
+     * Certifies the forest against the graph, reporting the first violation to
+     * standard error. Intended to back the {@code assert check()} idiom.
+     *
+     * @param graph  the edge-weighted graph
+     * @param forest the candidate minimum spanning forest
+     * @return {@code true} if the forest is a minimum spanning forest of the graph
+     */
+    public static boolean check(WeightedEdgeGraph graph, Iterable<Edge> forest) {
+        MSTVerifier verifier = new MSTVerifier(graph, forest);
+        verifier.getViolation().ifPresent(System.err::println);
+        return verifier.isMinimumSpanningForest();
+    }
+
+    /**
+     * Did every tested condition hold?
+     *
+     * @return {@code true} if no violation was found
+     */
+    public boolean isMinimumSpanningForest() {
+        return violation == null;
+    }
+
+    /**
+     * Returns a description of the first violation found, if any.
+     *
+     * @return the first violation, or an empty optional if the forest passed
+     */
+    public Optional<String> getViolation() {
+        return Optional.ofNullable(violation);
+    }
+
+    /**
+     * Returns the number of graph edges that were tested for the cycle optimality
+     * conditions.
+     *
+     * @return the number of tested graph edges
+     */
+    public int getCheckedEdgeCount() {
+        return checkedEdges;
+    }
+}
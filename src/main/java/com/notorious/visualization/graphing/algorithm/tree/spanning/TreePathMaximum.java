@@ -0,0 +1,334 @@
+package com.notorious.visualization.graphing.algorithm.tree.spanning;
+
+import com.notorious.visualization.graphing.algorithm.graph.Edge;
+import com.notorious.visualization.graphing.collection.cache.Cache;
+
+/**
+ * The {@code TreePathMaximum} class indexes a spanning forest so that the heaviest
+ * edge on the tree path between any two vertices can be found quickly.
+ * <p>
+ * Every tree is rooted at its smallest vertex and the index stores, for each vertex,
+ * its 2<sup><em>j</em></sup>-th ancestor together with the heaviest edge on the way
+ * up to it (<em>binary lifting</em>). The lowest common ancestor of two vertices and
+ * the maximum edge on the path between them are then assembled from at most
+ * 2 log <em>V</em> table entries.
+ * <p>
+ * The constructor takes time and space proportional to <em>V</em> log <em>V</em>.
+ * Afterwards, the {@code lowestCommonAncestor()}, {@code getMaximumEdge()} and
+ * {@code getMaximumWeight()} methods take time proportional to log <em>V</em>;
+ * the other accessors take constant time.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class TreePathMaximum {
+
+    private final int vertices;
+    private final Edge[] edges;       // edges[i] = the i-th forest edge
+    private final int[] tree;         // tree[v] = root of the tree containing v
+    private final int[] depth;        // depth[v] = number of edges between v and its root
+    private final int[] parentEdge;   // parentEdge[v] = index of the edge to v's parent, -1 for roots
+    private final int[][] up;         // up[j][v] = 2^j-th ancestor of v (the root if above it)
+    private final int[][] max;        // max[j][v] = index of the heaviest edge between v and up[j][v]
+
+    /**
+     * Indexes the given spanning forest.
+     *
+     * @param vertices the number of vertices of the underlying graph
+     * @param forest   the edges of the forest
+     * @throws IllegalArgumentException if the edges contain a cycle
+     * @throws IllegalArgumentException if an endpoint is not between {@code 0} and {@code V-1}
+     */
+    public TreePathMaximum(int vertices, Iterable<Edge> forest) {
+        if (vertices < 0) throw new IllegalArgumentException("Number of vertices must be non-negative!");
+        this.vertices = vertices;
+        Cache<Edge> list = new Cache<>();
+        for (Edge e : forest) {
+            list.add(e);
+        }
+        // the cache iterates in reverse insertion order, so fill back to front
+        edges = new Edge[list.size()];
+        int n = edges.length;
+        for (Edge e : list) {
+            validateVertex(e.getEndpointA());
+            validateVertex(e.getOtherEndpoint(e.getEndpointA()));
+            edges[--n] = e;
+        }
+        if (edges.length >= Math.max(vertices, 1)) throw new IllegalArgumentException("Edges do not form a forest!");
+
+        // compressed adjacency lists of edge indices
+        int[] start = new int[vertices + 1];
+        for (Edge e : edges) {
+            start[e.getEndpointA() + 1]++;
+            start[e.getOtherEndpoint(e.getEndpointA()) + 1]++;
+        }
+        for (int v = 0; v < vertices; v++) start[v + 1] += start[v];
+        int[] next = start.clone();
+        int[] incident = new int[2 * edges.length];
+        for (int i = 0; i < edges.length; i++) {
+            int v = edges[i].getEndpointA();
+            incident[next[v]++] = i;
+            incident[next[edges[i].getOtherEndpoint(v)]++] = i;
+        }
+
+        int levels = 1;
+        while ((1 << levels) < vertices) levels++;
+        tree = new int[vertices];
+        depth = new int[vertices];
+        parentEdge = new int[vertices];
+        up = new int[levels][vertices];
+        max = new int[levels][vertices];
+
+        // breadth-first search from the smallest vertex of every tree
+        boolean[] marked = new boolean[vertices];
+        int[] queue = new int[vertices];
+        for (int s = 0; s < vertices; s++) {
+            if (marked[s]) continue;
+            int head = 0, tail = 0;
+            queue[tail++] = s;
+            marked[s] = true;
+            up[0][s] = s;
+            parentEdge[s] = -1;
+            max[0][s] = -1;
+            tree[s] = s;
+            while (head < tail) {
+                int v = queue[head++];
+                for (int k = start[v]; k < start[v + 1]; k++) {
+                    int i = incident[k];
+                    if (i == parentEdge[v]) continue;
+                    int w = edges[i].getOtherEndpoint(v);
+                    if (marked[w]) throw new IllegalArgumentException("Edges do not form a forest!");
+                    marked[w] = true;
+                    tree[w] = s;
+                    depth[w] = depth[v] + 1;
+                    parentEdge[w] = i;
+                    up[0][w] = v;
+                    max[0][w] = i;
+                    queue[tail++] = w;
+                }
+            }
+        }
+
+        // double the jumps level by level
+        for (int j = 1; j < levels; j++) {
+            int[] lower = up[j - 1], lowerMax = max[j - 1];
+            for (int v = 0; v < vertices; v++) {
+                int mid = lower[v];
+                up[j][v] = lower[mid];
+                max[j][v] = heavier(lowerMax[v], lowerMax[mid]);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of vertices.
+     *
+     * @return the number of vertices
+     */
+    public int getVerticesCount() {
+        return vertices;
+    }
+
+    /**
+     * Returns the number of edges in the indexed forest.
+     *
+     * @return the number of forest edges
+     */
+    public int getEdgeCount() {
+        return edges.length;
+    }
+
+    /**
+     * Returns the forest edges, in index order.
+     *
+     * @return the forest edges
+     */
+    public Iterable<Edge> getEdges() {
+        Cache<Edge> list = new Cache<>();
+        for (int i = edges.length - 1; i >= 0; i--) {
+            list.add(edges[i]);
+        }
+        return list;
+    }
+
+    /**
+     * Returns the forest edge with the given index.
+     *
+     * @param index the edge index, between {@code 0} and {@code getEdgeCount() - 1}
+     * @return the edge
+     */
+    public Edge getEdge(int index) {
+        return edges[index];
+    }
+
+    /**
+     * Are the two vertices in the same tree of the forest?
+     *
+     * @param u one vertex
+     * @param v the other vertex
+     * @return {@code true} if a tree path connects {@code u} and {@code v}
+     */
+    public boolean isConnected(int u, int v) {
+        validateVertex(u);
+        validateVertex(v);
+        return tree[u] == tree[v];
+    }
+
+    /**
+     * Returns the root of the tree containing the given vertex.
+     *
+     * @param v the vertex
+     * @return the root of the tree containing {@code v}
+     */
+    public int getRoot(int v) {
+        validateVertex(v);
+        return tree[v];
+    }
+
+    /**
+     * Returns the depth of the given vertex below its root.
+     *
+     * @param v the vertex
+     * @return the number of edges between {@code v} and its root
+     */
+    public int getDepth(int v) {
+        validateVertex(v);
+        return depth[v];
+    }
+
+    /**
+     * Returns the parent of the given vertex, or the vertex itself if it is a root.
+     *
+     * @param v the vertex
+     * @return the parent of {@code v}
+     */
+    public int getParent(int v) {
+        validateVertex(v);
+        return up[0][v];
+    }
+
+    /**
+     * Returns the index of the edge between the given vertex and its parent.
+     *
+     * @param v the vertex
+     * @return the index of the parent edge, or {@code -1} if {@code v} is a root
+     */
+    public int getParentEdgeIndex(int v) {
+        validateVertex(v);
+        return parentEdge[v];
+    }
+
+    /**
+     * Returns the lowest common ancestor of two vertices of the same tree.
+     *
+     * @param u one vertex
+     * @param v the other vertex
+     * @return the lowest common ancestor of {@code u} and {@code v}
+     * @throws IllegalArgumentException if {@code u} and {@code v} are in different trees
+     */
+    public int lowestCommonAncestor(int u, int v) {
+        requireConnected(u, v);
+        if (depth[u] < depth[v]) {
+            int swap = u;
+            u = v;
+            v = swap;
+        }
+        u = lift(u, depth[u] - depth[v]);
+        if (u == v) return u;
+        for (int j = up.length - 1; j >= 0; j--) {
+            if (up[j][u] != up[j][v]) {
+                u = up[j][u];
+                v = up[j][v];
+            }
+        }
+        return up[0][u];
+    }
+
+    /**
+     * Returns the index of the heaviest edge on the tree path between two vertices.
+     *
+     * @param u one vertex
+     * @param v the other vertex
+     * @return the index of the heaviest path edge, or {@code -1} if {@code u == v}
+     * @throws IllegalArgumentException if {@code u} and {@code v} are in different trees
+     */
+    public int getMaximumEdgeIndex(int u, int v) {
+        requireConnected(u, v);
+        if (depth[u] < depth[v]) {
+            int swap = u;
+            u = v;
+            v = swap;
+        }
+        int best = -1;
+        int diff = depth[u] - depth[v];
+        for (int j = 0; diff > 0; j++, diff >>= 1) {
+            if ((diff & 1) != 0) {
+                best = heavier(best, max[j][u]);
+                u = up[j][u];
+            }
+        }
+        if (u == v) return best;
+        for (int j = up.length - 1; j >= 0; j--) {
+            if (up[j][u] != up[j][v]) {
+                best = heavier(best, heavier(max[j][u], max[j][v]));
+                u = up[j][u];
+                v = up[j][v];
+            }
+        }
+        return heavier(best, heavier(max[0][u], max[0][v]));
+    }
+
+    /**
+     * Returns the heaviest edge on the tree path between two vertices.
+     *
+     * @param u one vertex
+     * @param v the other vertex
+     * @return the heaviest path edge
+     * @throws IllegalArgumentException if {@code u == v} or they are in different trees
+     */
+    public Edge getMaximumEdge(int u, int v) {
+        int i = getMaximumEdgeIndex(u, v);
+        if (i < 0) throw new IllegalArgumentException("Path between a vertex and itself has no edges!");
+        return edges[i];
+    }
+
+    /**
+     * Returns the weight of the heaviest edge on the tree path between two vertices.
+     *
+     * @param u one vertex
+     * @param v the other vertex
+     * @return the heaviest path weight; {@code Double.NEGATIVE_INFINITY} if {@code u == v}
+     * @throws IllegalArgumentException if {@code u} and {@code v} are in different trees
+     */
+    public double getMaximumWeight(int u, int v) {
+        int i = getMaximumEdgeIndex(u, v);
+        return i < 0 ? Double.NEGATIVE_INFINITY : edges[i].getWeight();
+    }
+
+    // returns the ancestor of v that is the given number of levels up
+    private int lift(int v, int levels) {
+        for (int j = 0; levels > 0; j++, levels >>= 1) {
+            if ((levels & 1) != 0) v = up[j][v];
+        }
+        return v;
+    }
+
+    // returns whichever of the two edge indices is heavier; -1 stands for no edge
+    private int heavier(int i, int j) {
+        if (i < 0) return j;
+        if (j < 0) return i;
+        return edges[j].getWeight() > edges[i].getWeight() ? j : i;
+    }
+
+    private void requireConnected(int u, int v) {
+        if (!isConnected(u, v))
+            throw new IllegalArgumentException("Vertices " + u + " and " + v + " are in different trees!");
+    }
+
+    // throw an IllegalArgumentException unless {@code 0 <= v < V}
+    private void validateVertex(int vertex) {
+        if (vertex < 0 || vertex >= vertices)
+            throw new IllegalArgumentException("Vertex \'" + vertex + "\' is not between 0 and " + (vertices - 1));
+    }
+}
@@ -0,0 +1,307 @@
+package com.notorious.visualization.graphing.algorithm.tree.spanning.euclidean;
+
+import com.notorious.visualization.graphing.algorithm.graph.Edge;
+import com.notorious.visualization.graphing.algorithm.graph.WeightedEdgeGraph;
+import com.notorious.visualization.graphing.algorithm.tree.spanning.kruskal.KruskalMST;
+import com.notorious.visualization.graphing.util.StdDraw;
+import com.notorious.visualization.graphing.util.StdOut;
+import com.notorious.visualization.graphing.util.StdRandom;
+import com.notorious.visualization.graphing.util.union.UF;
+
+import java.util.Arrays;
+
+/**
+ * The {@code EuclideanMST} class computes a minimum spanning tree of a set of points in
+ * the plane, where every pair of points is joined by an edge weighted by their
+ * Euclidean distance, without ever materializing those <em>n</em><sup>2</sup> edges.
+ * <p>
+ * Candidate edges are generated with Borůvka rounds over a 2-d tree: in each round,
+ * every point searches the tree for its nearest point in a different component,
+ * pruning whole subtrees that lie in its own component or further away than the best
+ * edge found so far for that component. The lightest such edge of each component is
+ * kept as a candidate, and components are merged along the candidates. Ties between
+ * equal distances are broken by vertex index, so the candidates always contain a
+ * minimum spanning tree. Borůvka needs at most log <em>n</em> rounds and keeps at
+ * most 2<em>n</em> candidates, which are finally handed to {@link KruskalMST}.
+ * <p>
+ * For uniformly distributed points the constructor takes time proportional to
+ * <em>n</em> log<sup>2</sup> <em>n</em> in practice and space proportional to
+ * <em>n</em>.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class EuclideanMST {
+
+    private static final int LEAF_SIZE = 8;
+
+    private final int points;
+
+    // 2-d tree stored as an implicit binary tree over a permutation of the points;
+    // inside the tree every point is identified by its position in that permutation
+    private final int[] order;         // order[i] = index of the point at position i
+    private final double[] x;          // x[i], y[i] = coordinates of the point at position i
+    private final double[] y;
+    private final int[] nodeLo;        // nodeLo[k], nodeHi[k] = range of positions covered by node k
+    private final int[] nodeHi;
+    private final double[] minX, maxX, minY, maxY;
+    private final int[] nodeComponent; // component shared by every point below node k, -1 if mixed
+
+    private final WeightedEdgeGraph candidates;
+    private final KruskalMST mst;
+
+    /**
+     * Computes a Euclidean minimum spanning tree of the given points.
+     *
+     * @param coordinates {@code coordinates[i][0]} and {@code coordinates[i][1]} are
+     *                    the x and y coordinates of point {@code i}
+     * @throws IllegalArgumentException if a point does not have two finite coordinates
+     */
+    public EuclideanMST(double[][] coordinates) {
+        points = coordinates.length;
+        double[] pointX = new double[points];
+        double[] pointY = new double[points];
+        for (int i = 0; i < points; i++) {
+            if (coordinates[i].length < 2) throw new IllegalArgumentException("Point " + i + " needs two coordinates!");
+            pointX[i] = coordinates[i][0];
+            pointY[i] = coordinates[i][1];
+            if (Double.isNaN(pointX[i]) || Double.isNaN(pointY[i])
+                    || Double.isInfinite(pointX[i]) || Double.isInfinite(pointY[i]))
+                throw new IllegalArgumentException("Point " + i + " is not finite!");
+        }
+
+        int nodes = 1;
+        while (nodes * LEAF_SIZE < points) nodes <<= 1;
+        nodes = 2 * nodes - 1;
+        order = new int[points];
+        for (int i = 0; i < points; i++) order[i] = i;
+        nodeLo = new int[nodes];
+        nodeHi = new int[nodes];
+        minX = new double[nodes];
+        maxX = new double[nodes];
+        minY = new double[nodes];
+        maxY = new double[nodes];
+        nodeComponent = new int[nodes];
+        build(0, 0, points, pointX, pointY);
+
+        // lay the coordinates out in tree order so that leaves are contiguous in memory
+        x = new double[points];
+        y = new double[points];
+        for (int i = 0; i < points; i++) {
+            x[i] = pointX[order[i]];
+            y[i] = pointY[order[i]];
+        }
+
+        candidates = new WeightedEdgeGraph(points);
+        boruvka();
+        mst = new KruskalMST(candidates);
+    }
+
+    // recursively split order[lo, hi) at the median of its widest dimension
+    private void build(int node, int lo, int hi, double[] pointX, double[] pointY) {
+        nodeLo[node] = lo;
+        nodeHi[node] = hi;
+        double x0 = Double.POSITIVE_INFINITY, x1 = Double.NEGATIVE_INFINITY;
+        double y0 = Double.POSITIVE_INFINITY, y1 = Double.NEGATIVE_INFINITY;
+        for (int i = lo; i < hi; i++) {
+            int p = order[i];
+            x0 = Math.min(x0, pointX[p]);
+            x1 = Math.max(x1, pointX[p]);
+            y0 = Math.min(y0, pointY[p]);
+            y1 = Math.max(y1, pointY[p]);
+        }
+        minX[node] = x0;
+        maxX[node] = x1;
+        minY[node] = y0;
+        maxY[node] = y1;
+        if (isLeaf(node)) return;
+        int mid = (lo + hi) >>> 1;
+        select(lo, hi - 1, mid, x1 - x0 >= y1 - y0 ? pointX : pointY);
+        build(2 * node + 1, lo, mid, pointX, pointY);
+        build(2 * node + 2, mid, hi, pointX, pointY);
+    }
+
+    private boolean isLeaf(int node) {
+        return 2 * node + 1 >= nodeLo.length || nodeHi[node] - nodeLo[node] <= LEAF_SIZE;
+    }
+
+    // quickselect: rearrange order[lo..hi] so that order[k] holds the k-th smallest key
+    private void select(int lo, int hi, int k, double[] key) {
+        while (hi > lo) {
+            int swap = lo + StdRandom.uniform(hi - lo + 1);
+            exch(lo, swap);
+            double pivot = key[order[lo]];
+            int i = lo, j = hi + 1;
+            while (true) {
+                while (key[order[++i]] < pivot) if (i == hi) break;
+                while (pivot < key[order[--j]]) if (j == lo) break;
+                if (i >= j) break;
+                exch(i, j);
+            }
+            exch(lo, j);
+            if      (j > k) hi = j - 1;
+            else if (j < k) lo = j + 1;
+            else return;
+        }
+    }
+
+    private void exch(int i, int j) {
+        int swap = order[i];
+        order[i] = order[j];
+        order[j] = swap;
+    }
+
+    // run Borůvka rounds until a single component (or no candidate) remains
+    private void boruvka() {
+        UF uf = new UF(points);
+        int[] component = new int[points];
+        double[] bestDistance = new double[points];   // indexed by component root
+        int[] bestFrom = new int[points];
+        int[] bestTo = new int[points];
+        double[] lowerBound = new double[points];     // no point of another component is closer
+        int[] stack = new int[64];
+
+        while (uf.count() > 1) {
+            for (int p = 0; p < points; p++) {
+                component[p] = uf.find(p);
+                bestDistance[p] = Double.POSITIVE_INFINITY;
+                bestFrom[p] = -1;
+            }
+            label(component);
+
+            // nearest point in another component, for every point
+            for (int p = 0; p < points; p++) {
+                int c = component[p];
+                // components only grow, so the distance found in earlier rounds stays a lower bound
+                if (lowerBound[p] > bestDistance[c]) continue;
+                int top = 0;
+                stack[top++] = 0;
+                while (top > 0) {
+                    int node = stack[--top];
+                    if (nodeComponent[node] == c) continue;
+                    if (boxDistance(node, p) > bestDistance[c]) continue;
+                    if (isLeaf(node)) {
+                        for (int q = nodeLo[node]; q < nodeHi[node]; q++) {
+                            if (component[q] == c) continue;
+                            double dx = x[p] - x[q], dy = y[p] - y[q];
+                            double d = dx * dx + dy * dy;
+                            if (lighter(d, p, q, bestDistance[c], bestFrom[c], bestTo[c])) {
+                                bestDistance[c] = d;
+                                bestFrom[c] = p;
+                                bestTo[c] = q;
+                            }
+                        }
+                        continue;
+                    }
+                    int near = 2 * node + 1, far = 2 * node + 2;
+                    if (boxDistance(far, p) < boxDistance(near, p)) {
+                        near = far;
+                        far = 2 * node + 1;
+                    }
+                    if (top + 2 > stack.length) stack = Arrays.copyOf(stack, 2 * stack.length);
+                    stack[top++] = far;     // visit the nearer child first
+                    stack[top++] = near;
+                }
+                lowerBound[p] = bestDistance[c];
+            }
+
+            // keep the lightest edge out of every component and merge along it
+            int merged = 0;
+            for (int c = 0; c < points; c++) {
+                if (component[c] != c || bestFrom[c] < 0) continue;
+                int p = bestFrom[c], q = bestTo[c];
+                candidates.addEdge(new Edge(order[p], order[q], Math.sqrt(bestDistance[c])));
+                if (!uf.connected(p, q)) {
+                    uf.union(p, q);
+                    merged++;
+                }
+            }
+            if (merged == 0) break;
+        }
+    }
+
+    // is the edge p-q (squared length d) lighter than the best one so far, ties broken by point index
+    private boolean lighter(double d, int p, int q, double best, int bestP, int bestQ) {
+        if (d != best) return d < best;
+        if (bestP < 0) return true;
+        int lo = Math.min(order[p], order[q]), hi = Math.max(order[p], order[q]);
+        int bestLo = Math.min(order[bestP], order[bestQ]), bestHi = Math.max(order[bestP], order[bestQ]);
+        return lo < bestLo || (lo == bestLo && hi < bestHi);
+    }
+
+    // squared distance from the point at position p to the bounding box of a node
+    private double boxDistance(int node, int p) {
+        double dx = Math.max(0D, Math.max(minX[node] - x[p], x[p] - maxX[node]));
+        double dy = Math.max(0D, Math.max(minY[node] - y[p], y[p] - maxY[node]));
+        return dx * dx + dy * dy;
+    }
+
+    // recompute the component shared by every point below each node, bottom up
+    private void label(int[] component) {
+        for (int node = nodeLo.length - 1; node >= 0; node--) {
+            if (nodeHi[node] <= nodeLo[node]) {
+                nodeComponent[node] = -1;
+            } else if (isLeaf(node)) {
+                int c = component[nodeLo[node]];
+                for (int i = nodeLo[node] + 1; i < nodeHi[node] && c >= 0; i++) {
+                    if (component[i] != c) c = -1;
+                }
+                nodeComponent[node] = c;
+            } else {
+                int l = nodeComponent[2 * node + 1], r = nodeComponent[2 * node + 2];
+                nodeComponent[node] = l == r ? l : -1;
+            }
+        }
+    }
+
+    /**
+     * Returns the edges in the Euclidean minimum spanning tree.
+     *
+     * @return the edges of the tree, weighted by Euclidean distance
+     */
+    public Iterable<Edge> getEdges() {
+        return mst.getEdges();
+    }
+
+    /**
+     * Returns the total length of the Euclidean minimum spanning tree.
+     *
+     * @return the sum of the edge lengths
+     */
+    public double getWeight() {
+        return mst.getWeight();
+    }
+
+    /**
+     * Returns the sparse candidate graph the tree was extracted from. It has at most
+     * 2<em>n</em> edges and is suitable for rendering or for running other spanning
+     * tree algorithms such as the animated ones.
+     *
+     * @return the candidate graph
+     */
+    public WeightedEdgeGraph getCandidateGraph() {
+        return candidates;
+    }
+
+    /**
+     * Unit tests the {@code EuclideanMST} data type on random points.
+     *
+     * @param args the command-line arguments
+     */
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        double[][] coords = new double[n][2];
+        for (int i = 0; i < n; i++) {
+            coords[i][0] = StdRandom.uniform();
+            coords[i][1] = StdRandom.uniform();
+        }
+        EuclideanMST mst = new EuclideanMST(coords);
+        StdOut.printf("%d points, %d candidates, length %.5f\n", n, mst.getCandidateGraph().getEdgeCount(), mst.getWeight());
+        StdDraw.setPenRadius(0.002);
+        for (Edge e : mst.getEdges()) {
+            int v = e.getEndpointA(), w = e.getOtherEndpoint(v);
+            StdDraw.line(coords[v][0], coords[v][1], coords[w][0], coords[w][1]);
+        }
+    }
+}
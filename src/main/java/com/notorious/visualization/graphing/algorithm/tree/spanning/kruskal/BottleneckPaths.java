@@ -0,0 +1,140 @@
+package com.notorious.visualization.graphing.algorithm.tree.spanning.kruskal;
+
+import com.notorious.visualization.graphing.algorithm.graph.Edge;
+import com.notorious.visualization.graphing.algorithm.graph.WeightedEdgeGraph;
+import com.notorious.visualization.graphing.algorithm.tree.spanning.TreePathMaximum;
+import com.notorious.visualization.graphing.collection.cache.Cache;
+import com.notorious.visualization.graphing.collection.queue.Queue;
+import com.notorious.visualization.graphing.collection.stack.Stack;
+import com.notorious.visualization.graphing.util.In;
+import com.notorious.visualization.graphing.util.StdOut;
+
+/**
+ * The {@code BottleneckPaths} class answers <em>minimax path</em> queries on an
+ * edge-weighted graph: among all paths between two vertices, find one whose heaviest
+ * edge is as light as possible, and report that edge's weight (the <em>bottleneck</em>).
+ * <p>
+ * For every pair of vertices the tree path in a minimum spanning tree is a minimax
+ * path, so no all-pairs computation is needed. This implementation indexes a
+ * {@link KruskalMST} with a {@link TreePathMaximum}. For <em>widest path</em>
+ * (maximin capacity) queries, build the tree over negated weights.
+ * <p>
+ * The constructor takes time and space proportional to <em>V</em> log <em>V</em>
+ * (not counting the tree). Afterwards, {@code bottleneck()} and {@code hasPath()}
+ * take time proportional to log <em>V</em>, and {@code path()} takes time proportional
+ * to the number of edges returned.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class BottleneckPaths {
+
+    private final TreePathMaximum index;
+
+    /**
+     * Builds the bottleneck index of the given graph.
+     *
+     * @param graph the edge-weighted graph
+     */
+    public BottleneckPaths(WeightedEdgeGraph graph) {
+        this(new KruskalMST(graph));
+    }
+
+    /**
+     * Builds the bottleneck index over an already computed spanning tree (or forest).
+     *
+     * @param mst the minimum spanning tree (or forest)
+     */
+    public BottleneckPaths(KruskalMST mst) {
+        index = new TreePathMaximum(mst.getVerticesCount(), mst.getEdges());
+    }
+
+    /**
+     * Is there a path between vertex {@code u} and vertex {@code v}?
+     *
+     * @param u one vertex
+     * @param v the other vertex
+     * @return {@code true} if {@code u} and {@code v} are connected
+     * @throws IllegalArgumentException unless {@code 0 <= u, v < V}
+     */
+    public boolean hasPath(int u, int v) {
+        return index.isConnected(u, v);
+    }
+
+    /**
+     * Returns the bottleneck between vertex {@code u} and vertex {@code v}: the
+     * smallest possible weight of the heaviest edge on a path between them.
+     *
+     * @param u one vertex
+     * @param v the other vertex
+     * @return the bottleneck weight; {@code Double.NEGATIVE_INFINITY} if {@code u == v}
+     *         and {@code Double.POSITIVE_INFINITY} if no path exists
+     * @throws IllegalArgumentException unless {@code 0 <= u, v < V}
+     */
+    public double bottleneck(int u, int v) {
+        if (!hasPath(u, v)) return Double.POSITIVE_INFINITY;
+        return index.getMaximumWeight(u, v);
+    }
+
+    /**
+     * Returns the bottleneck edge between vertex {@code u} and vertex {@code v}.
+     *
+     * @param u one vertex
+     * @param v the other vertex
+     * @return the heaviest edge of a minimax path between {@code u} and {@code v}
+     * @throws IllegalArgumentException if {@code u == v} or no path exists
+     */
+    public Edge bottleneckEdge(int u, int v) {
+        return index.getMaximumEdge(u, v);
+    }
+
+    /**
+     * Returns a minimax path from vertex {@code u} to vertex {@code v}.
+     *
+     * @param u the source vertex
+     * @param v the destination vertex
+     * @return the edges of a minimax path from {@code u} to {@code v} in order,
+     *         or {@code null} if no such path
+     * @throws IllegalArgumentException unless {@code 0 <= u, v < V}
+     */
+    public Iterable<Edge> path(int u, int v) {
+        if (!hasPath(u, v)) return null;
+        int ancestor = index.lowestCommonAncestor(u, v);
+        Queue<Edge> path = new Queue<>();
+        for (int x = u; x != ancestor; x = index.getParent(x)) {
+            path.enqueue(index.getEdge(index.getParentEdgeIndex(x)));
+        }
+        Stack<Edge> down = new Stack<>();
+        for (int x = v; x != ancestor; x = index.getParent(x)) {
+            down.push(index.getEdge(index.getParentEdgeIndex(x)));
+        }
+        for (Edge e : down) {
+            path.enqueue(e);
+        }
+        return path;
+    }
+
+    private static final String TEST_DATA_REFERENCE_ROOT = "org/notorious/visualization/graphing/collection/algorithm/tree/spanning/";
+    private static final String TEST_DATA_TINY = "tinyEWG.txt";
+
+    /**
+     * Unit tests the {@code BottleneckPaths} data type.
+     *
+     * @param args the command-line arguments
+     */
+    public static void main(String[] args) {
+        In in = new In(Cache.class.getClassLoader().getResource(TEST_DATA_REFERENCE_ROOT + TEST_DATA_TINY));
+        WeightedEdgeGraph graph = new WeightedEdgeGraph(in);
+        BottleneckPaths paths = new BottleneckPaths(graph);
+        for (int u = 0; u < graph.getVerticesCount(); u++) {
+            for (int v = u + 1; v < graph.getVerticesCount(); v++) {
+                StdOut.printf("%d to %d (%.2f)  ", u, v, paths.bottleneck(u, v));
+                for (Edge e : paths.path(u, v)) {
+                    StdOut.print(e + "  ");
+                }
+                StdOut.println();
+            }
+        }
+    }
+}
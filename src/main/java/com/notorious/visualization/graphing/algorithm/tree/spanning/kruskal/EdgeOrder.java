@@ -0,0 +1,67 @@
+package com.notorious.visualization.graphing.algorithm.tree.spanning.kruskal;
+
+import com.notorious.visualization.graphing.algorithm.graph.Edge;
+import com.notorious.visualization.graphing.algorithm.graph.WeightedEdgeGraph;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * The {@code EdgeOrder} class defines the order in which {@link KruskalMST} and
+ * {@link ParallelKruskalMST} consider the edges of a graph: ascending weight, with edges
+ * of equal weight in the order {@code getEdges()} returns them. As this order is total,
+ * both take the same edges into the tree, even when weights tie.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+final class EdgeOrder {
+
+    private EdgeOrder() {
+    }
+
+    /**
+     * Returns the edges of the graph in the order {@code getEdges()} returns them; the
+     * index of an edge in this array breaks ties between edges of equal weight.
+     *
+     * @param edgeGraph the edge-weighted graph
+     * @return the edges of the graph
+     */
+    static Edge[] edges(WeightedEdgeGraph edgeGraph) {
+        Edge[] edges = new Edge[edgeGraph.getEdgeCount()];
+        int n = 0;
+        for (Edge e : edgeGraph.getEdges()) {
+            edges[n++] = e;
+        }
+        return edges;
+    }
+
+    /**
+     * Returns the order on indices into {@code edges}: by the weight of the edge, then by
+     * the index.
+     *
+     * @param edges the edges, as returned by {@link #edges(WeightedEdgeGraph)}
+     * @return the comparator of edge indices
+     */
+    static Comparator<Integer> byIndex(Edge[] edges) {
+        return (i, j) -> {
+            int cmp = edges[i].compareTo(edges[j]);
+            return cmp != 0 ? cmp : Integer.compare(i, j);
+        };
+    }
+
+    /**
+     * Returns the edges of the graph sorted in this order, in parallel. The sort is stable,
+     * so edges of equal weight keep their {@code getEdges()} order, the same order
+     * {@link #byIndex(Edge[])} defines.
+     *
+     * @param edgeGraph the edge-weighted graph
+     * @return the edges of the graph in ascending order
+     */
+    static Edge[] sorted(WeightedEdgeGraph edgeGraph) {
+        Edge[] edges = edges(edgeGraph);
+        Arrays.parallelSort(edges);
+        return edges;
+    }
+}
@@ -0,0 +1,521 @@
+package com.notorious.visualization.graphing.algorithm.tree.spanning.kruskal;
+
+import com.notorious.visualization.graphing.algorithm.graph.Edge;
+import com.notorious.visualization.graphing.collection.cache.Cache;
+import com.notorious.visualization.graphing.util.EdgeListReader;
+import com.notorious.visualization.graphing.util.StdOut;
+import com.notorious.visualization.graphing.util.union.UF;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The {@code ExternalKruskalMST} class computes a minimum spanning forest of an
+ * edge-weighted graph that is stored in an edge list file too large to be held in
+ * memory, using a semi-external variant of Kruskal's algorithm.
+ * <p>
+ * The edge file is streamed once with an {@link EdgeListReader}. Edges are collected
+ * into fixed size runs of primitive arrays, each run is sorted by weight and spilled
+ * to a temporary file, and the runs are then merged with a <em>k</em>-way merge whose
+ * output feeds a {@link UF} directly. At most {@code 64} runs are open at once: if
+ * there are more, groups of consecutive runs are first merged into longer runs, in as
+ * many passes as needed. Only the union-find structure, the run buffer and one small
+ * read buffer per open run live on the heap, so memory is proportional to <em>V</em>
+ * plus the run size no matter how many edges the file holds. If the whole file fits
+ * in a single run, nothing is written to disk.
+ * <p>
+ * Edges of equal weight are taken in file order, and self-loops are discarded while
+ * reading. The constructor takes time proportional to <em>E</em> log <em>E</em> and
+ * performs two sequential passes over <em>E</em> edges of disk I/O, plus one for each
+ * extra merge pass. The tree itself
+ * is kept in primitive arrays of length <em>V</em> - 1; {@link #getEdges()} creates
+ * {@link Edge} objects on demand.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ * @see KruskalMST
+ */
+public class ExternalKruskalMST {
+
+    /**
+     * The default number of edges per sorted run (16 bytes each on the heap).
+     */
+    public static final int DEFAULT_RUN_SIZE = 1 << 22;
+
+    private static final int RECORD_BYTES = 16;
+    private static final int RUN_BUFFER_BYTES = 1 << 16;
+    private static final int MAX_FAN_IN = 64;      // most run files merged at once
+
+    private final int vertices;
+    private int[] treeA;            // treeA[i], treeB[i] = endpoints of the i-th MST edge
+    private int[] treeB;
+    private double[] treeWeight;    // treeWeight[i] = weight of the i-th MST edge
+    private int size;               // number of edges in the MST
+    private double weight;          // weight of MST
+    private int runs;               // number of sorted runs produced
+
+    /**
+     * Computes a minimum spanning forest of the graph stored in the given edge file,
+     * using the default run size and the system temporary directory.
+     *
+     * @param edgeFile the edge list file
+     * @throws IllegalArgumentException if the file cannot be read
+     */
+    public ExternalKruskalMST(File edgeFile) {
+        this(edgeFile, DEFAULT_RUN_SIZE, new File(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * Computes a minimum spanning forest of the graph stored in the given edge file.
+     *
+     * @param edgeFile      the edge list file
+     * @param runSize       the maximum number of edges sorted in memory at once
+     * @param tempDirectory the directory the sorted runs are spilled to
+     * @throws IllegalArgumentException if the file cannot be read
+     * @throws IllegalArgumentException if {@code runSize < 1}
+     */
+    public ExternalKruskalMST(File edgeFile, int runSize, File tempDirectory) {
+        if (runSize < 1) throw new IllegalArgumentException("Run size must be positive!");
+        try (EdgeListReader reader = new EdgeListReader(edgeFile)) {
+            this.vertices = reader.getVerticesCount();
+            int treeSize = Math.max(vertices - 1, 0);
+            treeA = new int[treeSize];
+            treeB = new int[treeSize];
+            treeWeight = new double[treeSize];
+            int capacity = (int) Math.min(runSize, Math.max(reader.getEdgeCount(), 1));
+            RunBuffer buffer = new RunBuffer(capacity);
+            Cache<File> spilled = new Cache<>();    // every temporary file, for clean up
+            try {
+                File[] pending = new File[0];
+                while (buffer.fill(reader)) {
+                    buffer.sort();
+                    runs++;
+                    if (reader.getEdgeCount() <= capacity) break;  // single run: never touch the disk
+                    File run = buffer.spill(tempDirectory, spilled);
+                    pending = Arrays.copyOf(pending, pending.length + 1);
+                    pending[pending.length - 1] = run;
+                }
+                if (pending.length == 0) {
+                    kruskal(buffer.iterator());
+                } else {
+                    buffer = null;  // release the run buffer before merging
+                    while (pending.length > MAX_FAN_IN) {
+                        pending = mergePass(pending, tempDirectory, spilled);
+                    }
+                    kruskal(new RunMerger(pending));
+                }
+            } finally {
+                for (File f : spilled) {
+                    if (f.exists() && !f.delete()) f.deleteOnExit();
+                }
+            }
+        }
+        // check optimality conditions
+        assert check();
+    }
+
+    // merge each group of MAX_FAN_IN consecutive runs into one longer run, keeping file order
+    private static File[] mergePass(File[] pending, File directory, Cache<File> spilled) {
+        File[] merged = new File[(pending.length + MAX_FAN_IN - 1) / MAX_FAN_IN];
+        for (int g = 0; g < merged.length; g++) {
+            File[] group = Arrays.copyOfRange(pending, g * MAX_FAN_IN,
+                    Math.min(pending.length, (g + 1) * MAX_FAN_IN));
+            if (group.length == 1) {
+                merged[g] = group[0];
+                continue;
+            }
+            try {
+                merged[g] = File.createTempFile("kruskal-run-", ".bin", directory);
+                spilled.add(merged[g]);
+                try (RunMerger in = new RunMerger(group);
+                     DataOutputStream out = new DataOutputStream(
+                             new BufferedOutputStream(new FileOutputStream(merged[g]), RUN_BUFFER_BYTES))) {
+                    while (in.next()) {
+                        out.writeInt(in.getEndpointA());
+                        out.writeInt(in.getEndpointB());
+                        out.writeDouble(in.getWeight());
+                    }
+                }
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+            for (File f : group) {
+                if (!f.delete()) f.deleteOnExit();
+            }
+        }
+        return merged;
+    }
+
+    // run greedy algorithm over the merged, weight-ordered edge stream
+    private void kruskal(EdgeCursor edges) {
+        try (EdgeCursor cursor = edges) {
+            UF uf = new UF(vertices);
+            while (size < treeA.length && cursor.next()) {
+                int v = cursor.getEndpointA();
+                int w = cursor.getEndpointB();
+                if (uf.find(v) != uf.find(w)) {  // v-w does not create a cycle
+                    uf.union(v, w);              // merge v and w components
+                    treeA[size] = v;             // add edge v-w to mst
+                    treeB[size] = w;
+                    treeWeight[size] = cursor.getWeight();
+                    weight += cursor.getWeight();
+                    size++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the edges in a minimum spanning tree (or forest), in the order they were
+     * accepted (ascending weight).
+     *
+     * @return the edges in a minimum spanning tree (or forest) as an iterable of edges
+     */
+    public Iterable<Edge> getEdges() {
+        return () -> new Iterator<Edge>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < size;
+            }
+
+            @Override
+            public Edge next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                Edge e = new Edge(treeA[i], treeB[i], treeWeight[i]);
+                i++;
+                return e;
+            }
+        };
+    }
+
+    /**
+     * Returns the number of edges in the minimum spanning tree (or forest).
+     *
+     * @return the number of edges in the minimum spanning tree (or forest)
+     */
+    public int getEdgeCount() {
+        return size;
+    }
+
+    /**
+     * Returns the sum of the edge weights in a minimum spanning tree (or forest).
+     *
+     * @return the sum of the edge weights in a minimum spanning tree (or forest)
+     */
+    public double getWeight() {
+        return weight;
+    }
+
+    /**
+     * Returns the number of sorted runs the edge file was split into.
+     *
+     * @return the number of sorted runs
+     */
+    public int getRunCount() {
+        return runs;
+    }
+
+    // check that the result is a forest and that its weight is consistent
+    private boolean check() {
+        double total = 0D;
+        UF uf = new UF(vertices);
+        for (int i = 0; i < size; i++) {
+            total += treeWeight[i];
+            if (uf.connected(treeA[i], treeB[i])) {
+                System.err.println("Not a forest");
+                return false;
+            }
+            uf.union(treeA[i], treeB[i]);
+        }
+        if (Math.abs(total - weight) > 1E-12 * Math.max(1D, Math.abs(weight))) {
+            System.err.printf("Weight of edges does not equal weight(): %f vs. %f\n", total, weight);
+            return false;
+        }
+        return true;
+    }
+
+    // a forward-only stream of edges in ascending weight order
+    private interface EdgeCursor extends AutoCloseable {
+        boolean next();
+
+        int getEndpointA();
+
+        int getEndpointB();
+
+        double getWeight();
+
+        @Override
+        void close();
+    }
+
+    // an in-memory run of edges held in parallel primitive arrays
+    private static class RunBuffer {
+        private final int[] a;
+        private final int[] b;
+        private final double[] weight;
+        private int n;
+
+        RunBuffer(int capacity) {
+            a = new int[capacity];
+            b = new int[capacity];
+            weight = new double[capacity];
+        }
+
+        // reads up to capacity non self-loop edges; returns false if none were left
+        boolean fill(EdgeListReader reader) {
+            n = 0;
+            while (n < a.length && reader.next()) {
+                if (reader.getEndpointA() == reader.getEndpointB()) continue;
+                a[n] = reader.getEndpointA();
+                b[n] = reader.getEndpointB();
+                weight[n] = reader.getWeight();
+                n++;
+            }
+            return n > 0;
+        }
+
+        // stable merge sort by weight, so equal weights keep their file order
+        void sort() {
+            int[] order = new int[n];
+            int[] aux = new int[n];
+            for (int i = 0; i < n; i++) order[i] = i;
+            for (int width = 1; width < n; width += width) {
+                for (int lo = 0; lo < n - width; lo += width + width) {
+                    merge(order, aux, lo, lo + width - 1, Math.min(lo + width + width - 1, n - 1));
+                }
+            }
+            permute(order);
+        }
+
+        private void merge(int[] order, int[] aux, int lo, int mid, int hi) {
+            if (weight[order[mid]] <= weight[order[mid + 1]]) return;
+            System.arraycopy(order, lo, aux, lo, hi - lo + 1);
+            int i = lo, j = mid + 1;
+            for (int k = lo; k <= hi; k++) {
+                if      (i > mid)                             order[k] = aux[j++];
+                else if (j > hi)                              order[k] = aux[i++];
+                else if (weight[aux[j]] < weight[aux[i]])     order[k] = aux[j++];
+                else                                          order[k] = aux[i++];
+            }
+        }
+
+        // apply the sorted order in place by following permutation cycles
+        private void permute(int[] order) {
+            for (int i = 0; i < n; i++) {
+                if (order[i] < 0 || order[i] == i) continue;
+                int ta = a[i], tb = b[i];
+                double tw = weight[i];
+                int j = i;
+                while (order[j] != i) {
+                    int k = order[j];
+                    a[j] = a[k];
+                    b[j] = b[k];
+                    weight[j] = weight[k];
+                    order[j] = -1;
+                    j = k;
+                }
+                a[j] = ta;
+                b[j] = tb;
+                weight[j] = tw;
+                order[j] = -1;
+            }
+        }
+
+        // write the run to a new temporary file, registered for clean up before it is written
+        File spill(File directory, Cache<File> spilled) {
+            try {
+                File file = File.createTempFile("kruskal-run-", ".bin", directory);
+                spilled.add(file);
+                try (DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(new FileOutputStream(file), RUN_BUFFER_BYTES))) {
+                    for (int i = 0; i < n; i++) {
+                        out.writeInt(a[i]);
+                        out.writeInt(b[i]);
+                        out.writeDouble(weight[i]);
+                    }
+                }
+                return file;
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        }
+
+        EdgeCursor iterator() {
+            return new EdgeCursor() {
+                private int i = -1;
+
+                public boolean next() {
+                    return ++i < n;
+                }
+
+                public int getEndpointA() {
+                    return a[i];
+                }
+
+                public int getEndpointB() {
+                    return b[i];
+                }
+
+                public double getWeight() {
+                    return weight[i];
+                }
+
+                public void close() {
+                }
+            };
+        }
+    }
+
+    // k-way merge of sorted run files, using a binary heap of run indices;
+    // ties are broken by run index so equal weights keep their file order
+    private static class RunMerger implements EdgeCursor {
+        private final DataInputStream[] in;
+        private final int[] headA;
+        private final int[] headB;
+        private final double[] headWeight;
+        private final int[] heap;   // 1-based binary heap of run indices
+        private int n;
+        private int current = -1;
+        private int a, b;
+        private double weight;
+
+        RunMerger(File[] files) {
+            int k = files.length;
+            in = new DataInputStream[k];
+            headA = new int[k];
+            headB = new int[k];
+            headWeight = new double[k];
+            heap = new int[k + 1];
+            try {
+                for (int r = 0; r < k; r++) {
+                    in[r] = new DataInputStream(new BufferedInputStream(new FileInputStream(files[r]), RUN_BUFFER_BYTES));
+                }
+                for (int i = 0; i < k; i++) {
+                    if (advance(i)) insert(i);
+                }
+            } catch (IOException ioe) {
+                close();
+                throw new UncheckedIOException(ioe);
+            } catch (RuntimeException re) {
+                close();
+                throw re;
+            }
+        }
+
+        public boolean next() {
+            if (current >= 0 && advance(current)) insert(current);
+            if (n == 0) return false;
+            current = heap[1];
+            a = headA[current];
+            b = headB[current];
+            weight = headWeight[current];
+            heap[1] = heap[n--];
+            sink(1);
+            return true;
+        }
+
+        public int getEndpointA() {
+            return a;
+        }
+
+        public int getEndpointB() {
+            return b;
+        }
+
+        public double getWeight() {
+            return weight;
+        }
+
+        public void close() {
+            for (DataInputStream s : in) {
+                if (s == null) continue;
+                try {
+                    s.close();
+                } catch (IOException ignored) {
+                    // the run files are deleted right after
+                }
+            }
+        }
+
+        // read the next record of run r into its head slot; false once exhausted
+        private boolean advance(int r) {
+            try {
+                headA[r] = in[r].readInt();
+                headB[r] = in[r].readInt();
+                headWeight[r] = in[r].readDouble();
+                return true;
+            } catch (EOFException eof) {
+                return false;
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        }
+
+        private boolean less(int i, int j) {
+            int r = heap[i], s = heap[j];
+            if (headWeight[r] != headWeight[s]) return headWeight[r] < headWeight[s];
+            return r < s;
+        }
+
+        private void insert(int r) {
+            heap[++n] = r;
+            int k = n;
+            while (k > 1 && less(k, k / 2)) {
+                exch(k, k / 2);
+                k = k / 2;
+            }
+        }
+
+        private void sink(int k) {
+            while (2 * k <= n) {
+                int j = 2 * k;
+                if (j < n && less(j + 1, j)) j++;
+                if (!less(j, k)) break;
+                exch(k, j);
+                k = j;
+            }
+        }
+
+        private void exch(int i, int j) {
+            int swap = heap[i];
+            heap[i] = heap[j];
+            heap[j] = swap;
+        }
+    }
+
+    private static final String TEST_DATA_REFERENCE_ROOT = "org/notorious/visualization/graphing/collection/algorithm/tree/spanning/";
+    private static final String TEST_DATA_MEDIUM = "mediumEWG.txt";
+
+    /**
+     * Unit tests the {@code ExternalKruskalMST} data type. Takes an optional edge file
+     * and run size; defaults to the bundled medium graph split into runs of 100 edges.
+     *
+     * @param args the command-line arguments
+     * @throws URISyntaxException if the bundled resource cannot be located
+     */
+    public static void main(String[] args) throws URISyntaxException {
+        File file = args.length > 0 ? new File(args[0])
+                : new File(Cache.class.getClassLoader().getResource(TEST_DATA_REFERENCE_ROOT + TEST_DATA_MEDIUM).toURI());
+        int runSize = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        ExternalKruskalMST mst = new ExternalKruskalMST(file, runSize, new File(System.getProperty("java.io.tmpdir")));
+        for (Edge e : mst.getEdges()) {
+            StdOut.println(e);
+        }
+        StdOut.printf("%.5f (%d runs)\n", mst.getWeight(), mst.getRunCount());
+    }
+}
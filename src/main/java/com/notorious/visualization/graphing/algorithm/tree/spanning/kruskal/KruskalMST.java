@@ -36,6 +36,7 @@ package com.notorious.visualization.graphing.algorithm.tree.spanning.kruskal; /*
 
 import com.notorious.visualization.graphing.algorithm.graph.Edge;
 import com.notorious.visualization.graphing.algorithm.graph.WeightedEdgeGraph;
+import com.notorious.visualization.graphing.algorithm.tree.spanning.MSTVerifier;
 import com.notorious.visualization.graphing.collection.cache.Cache;
 import com.notorious.visualization.graphing.collection.queue.Queue;
 import com.notorious.visualization.graphing.util.In;
@@ -50,7 +51,9 @@ import java.util.Iterator;
  *  The {@code KruskalMST} class represents a data type for computing a
  *  <em>minimum spanning tree</em> in an edge-weighted graph.
  *  The edge weights can be positive, zero, or negative and need not
- *  be distinct. If the graph is not connected, it computes a <em>minimum
+ *  be distinct; edges of equal weight are considered in the order
+ *  {@code getEdges()} returns them, so the tree is deterministic.
+ *  If the graph is not connected, it computes a <em>minimum
  *  spanning forest</em>, which is the union of minimum spanning trees
  *  in each connected component. The {@code weight()} method returns the 
  *  weight of a minimum spanning tree and the {@code edges()} method
@@ -88,15 +91,16 @@ public class KruskalMST {
         mst = new Queue<>();
         this.vertices = edgeGraph.getVerticesCount();
         // more efficient to build heap by passing array of edges
-        MinPQ<Edge> pq = new MinPQ<>();
-        for (Edge e : edgeGraph.getEdges()) {
-            pq.insert(e);
+        Edge[] edges = EdgeOrder.edges(edgeGraph);
+        MinPQ<Integer> pq = new MinPQ<>(EdgeOrder.byIndex(edges));
+        for (int i = 0; i < edges.length; i++) {
+            pq.insert(i);
         }
 
         // run greedy algorithm
         UF uf = new UF(edgeGraph.getVerticesCount());
         while (!pq.isEmpty() && mst.size() < edgeGraph.getVerticesCount() - 1) {
-            Edge e = pq.delMin();
+            Edge e = edges[pq.delMin()];
             int v = e.getEndpointA();
             int w = e.getOtherEndpoint(v);
             if (!uf.connected(v, w)) { // v-w does not create a cycle
@@ -144,7 +148,16 @@ public class KruskalMST {
     }
 
     /**
-     * Returns the edges in a minimum spanning tree (or forest).
+     * Returns the number of vertices of the graph the tree (or forest) spans.
+     * @return the number of vertices
+     */
+    public int getVerticesCount() {
+        return vertices;
+    }
+
+    /**
+     * Returns the edges in a minimum spanning tree (or forest), in the order
+     * Kruskal's algorithm accepted them (ascending weight).
      * @return the edges in a minimum spanning tree (or forest) as
      *    an iterable of edges
      */
@@ -160,7 +173,7 @@ public class KruskalMST {
         return weight;
     }
     
-    // check optimality conditions (takes time proportional to E V lg* V)
+    // check optimality conditions (takes time proportional to (E + V) lg V)
     private boolean check(WeightedEdgeGraph edgeGraph) {
 
         // check total weight
@@ -173,53 +186,10 @@ public class KruskalMST {
             return false;
         }
 
-        // check that it is acyclic
-        UF uf = new UF(edgeGraph.getVerticesCount());
-        for (Edge e : getEdges()) {
-            int v = e.getEndpointA(), w = e.getOtherEndpoint(v);
-            if (uf.connected(v, w)) {
-                System.err.println("Not a forest");
-                return false;
-            }
-            uf.union(v, w);
-        }
-
-        // check that it is a spanning forest
-        for (Edge e : edgeGraph.getEdges()) {
-            int v = e.getEndpointA(), w = e.getOtherEndpoint(v);
-            if (!uf.connected(v, w)) {
-                System.err.println("Not a spanning forest");
-                return false;
-            }
-        }
-
-        // check that it is a minimal spanning forest (cut optimality conditions)
-        for (Edge e : getEdges()) {
-
-            // all edges in MST except e
-            uf = new UF(edgeGraph.getVerticesCount());
-            for (Edge f : mst) {
-                int x = f.getEndpointA(), y = f.getOtherEndpoint(x);
-                if (f != e) uf.union(x, y);
-            }
-            
-            // check that e is min weight edge in crossing cut
-            for (Edge f : edgeGraph.getEdges()) {
-                int x = f.getEndpointA(), y = f.getOtherEndpoint(x);
-                if (!uf.connected(x, y)) {
-                    if (f.getWeight() < e.getWeight()) {
-                        System.err.println("Edge " + f + " violates cut optimality conditions");
-                        return false;
-                    }
-                }
-            }
-
-        }
-
-        return true;
+        // check that it is an acyclic, spanning and minimal forest (cycle optimality conditions)
+        return MSTVerifier.check(edgeGraph, getEdges());
     }
 
-
     private static final String TEST_DATA_REFERENCE_ROOT = "org/notorious/visualization/graphing/collection/algorithm/tree/spanning/";
     private static final String TEST_DATA_MEDIUM = "tinyEWG.txt";
     private static final String TEST_DATA_LARGE = "largeEWG.txt";
@@ -0,0 +1,142 @@
+package com.notorious.visualization.graphing.algorithm.tree.spanning.kruskal;
+
+import com.notorious.visualization.graphing.algorithm.graph.Edge;
+import com.notorious.visualization.graphing.algorithm.graph.WeightedEdgeGraph;
+import com.notorious.visualization.graphing.algorithm.tree.spanning.MSTVerifier;
+import com.notorious.visualization.graphing.collection.cache.Cache;
+import com.notorious.visualization.graphing.collection.queue.Queue;
+import com.notorious.visualization.graphing.util.In;
+import com.notorious.visualization.graphing.util.StdOut;
+import com.notorious.visualization.graphing.util.union.ConcurrentUF;
+
+import java.util.stream.IntStream;
+
+/**
+ * The {@code ParallelKruskalMST} class is a drop-in replacement for {@link KruskalMST}
+ * that spreads the work of Kruskal's algorithm over the common fork-join pool. Both
+ * consider the edges in the same order, ties going to the one {@code getEdges()}
+ * returns first, so it returns the identical tree, edge for edge and in the same order.
+ * <p>
+ * The edges are sorted with the stable {@code Arrays.parallelSort()} and then taken
+ * in blocks. Within a block, every edge is first tested concurrently against a
+ * {@link ConcurrentUF} holding only the edges committed so far: an edge whose
+ * endpoints are already connected would be rejected by the sequential algorithm as
+ * well, because connectivity only grows. The surviving edges are then committed one
+ * by one in weight order, as {@link KruskalMST} does. Late in the run almost
+ * every edge is rejected, so the sequential part shrinks to a few finds per block.
+ * <p>
+ * The constructor takes time proportional to <em>E</em> log <em>E</em> / <em>P</em>
+ * plus the sequential commits, with <em>P</em> processors, and extra space
+ * proportional to <em>E</em>.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class ParallelKruskalMST {
+
+    private static final double FLOATING_POINT_EPSILON = 1E-12;
+    private static final int MIN_BLOCK_SIZE = 1 << 12;
+
+    private final int vertices;
+    private final Queue<Edge> mst = new Queue<>();   // edges in MST, in acceptance order
+    private double weight;                           // weight of MST
+
+    /**
+     * Computes a minimum spanning tree (or forest) of an edge-weighted graph.
+     *
+     * @param edgeGraph the edge-weighted graph
+     */
+    public ParallelKruskalMST(WeightedEdgeGraph edgeGraph) {
+        vertices = edgeGraph.getVerticesCount();
+        Edge[] edges = EdgeOrder.sorted(edgeGraph);
+        ConcurrentUF uf = new ConcurrentUF(vertices);
+
+        // a block about as long as the number of edges still needed keeps both phases busy
+        boolean[] rejected = new boolean[Math.max(MIN_BLOCK_SIZE, vertices)];
+        for (int lo = 0; lo < edges.length && mst.size() < vertices - 1; ) {
+            int hi = (int) Math.min(edges.length, (long) lo + rejected.length);
+            int start = lo;
+
+            // filter: drop edges that already close a cycle, concurrently
+            IntStream.range(start, hi).parallel().forEach(i -> {
+                int v = edges[i].getEndpointA();
+                rejected[i - start] = uf.connected(v, edges[i].getOtherEndpoint(v));
+            });
+
+            // commit: the sequential greedy step over the survivors, in weight order
+            for (int i = start; i < hi && mst.size() < vertices - 1; i++) {
+                if (rejected[i - start]) continue;
+                Edge e = edges[i];
+                int v = e.getEndpointA();
+                if (uf.union(v, e.getOtherEndpoint(v))) {   // v-w does not create a cycle
+                    mst.enqueue(e);
+                    weight += e.getWeight();
+                }
+            }
+            lo = hi;
+        }
+
+        // check optimality conditions
+        assert check(edgeGraph);
+    }
+
+    /**
+     * Returns the number of vertices of the graph the tree (or forest) spans.
+     *
+     * @return the number of vertices
+     */
+    public int getVerticesCount() {
+        return vertices;
+    }
+
+    /**
+     * Returns the edges in a minimum spanning tree (or forest), in the order
+     * Kruskal's algorithm accepted them (ascending weight).
+     *
+     * @return the edges in a minimum spanning tree (or forest)
+     */
+    public Iterable<Edge> getEdges() {
+        return mst;
+    }
+
+    /**
+     * Returns the sum of the edge weights in a minimum spanning tree (or forest).
+     *
+     * @return the sum of the edge weights in a minimum spanning tree (or forest)
+     */
+    public double getWeight() {
+        return weight;
+    }
+
+    // check optimality conditions (takes time proportional to (E + V) lg V)
+    private boolean check(WeightedEdgeGraph edgeGraph) {
+        double total = 0D;
+        for (Edge e : getEdges()) {
+            total += e.getWeight();
+        }
+        if (Math.abs(total - getWeight()) > FLOATING_POINT_EPSILON) {
+            System.err.printf("Weight of edges does not equal getWeight(): %f vs. %f\n", total, getWeight());
+            return false;
+        }
+        return MSTVerifier.check(edgeGraph, getEdges());
+    }
+
+    private static final String TEST_DATA_REFERENCE_ROOT = "org/notorious/visualization/graphing/collection/algorithm/tree/spanning/";
+    private static final String TEST_DATA_MEDIUM = "mediumEWG.txt";
+
+    /**
+     * Unit tests the {@code ParallelKruskalMST} data type.
+     *
+     * @param args the command-line arguments
+     */
+    public static void main(String[] args) {
+        In in = new In(Cache.class.getClassLoader().getResource(TEST_DATA_REFERENCE_ROOT + TEST_DATA_MEDIUM));
+        WeightedEdgeGraph edgeGraph = new WeightedEdgeGraph(in);
+        ParallelKruskalMST mst = new ParallelKruskalMST(edgeGraph);
+        for (Edge e : mst.getEdges()) {
+            StdOut.println(e);
+        }
+        StdOut.printf("%.5f\n", mst.getWeight());
+    }
+}
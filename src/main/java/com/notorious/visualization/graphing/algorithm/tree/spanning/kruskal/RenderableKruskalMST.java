@@ -36,6 +36,7 @@ package com.notorious.visualization.graphing.algorithm.tree.spanning.kruskal; /*
 
 import com.notorious.visualization.graphing.algorithm.graph.Edge;
 import com.notorious.visualization.graphing.algorithm.graph.WeightedEdgeGraph;
+import com.notorious.visualization.graphing.algorithm.tree.spanning.MSTVerifier;
 import com.notorious.visualization.graphing.algorithm.tree.spanning.prim.RenderablePrimMST;
 import com.notorious.visualization.graphing.collection.queue.Queue;
 import com.notorious.visualization.graphing.util.MinPQ;
@@ -145,7 +146,7 @@ public class RenderableKruskalMST {
         return weight;
     }
     
-    // check optimality conditions (takes time proportional to E V lg* V)
+    // check optimality conditions (takes time proportional to (E + V) lg V)
     private boolean check(WeightedEdgeGraph edgeGraph) {
 
         // check total weight
@@ -158,49 +159,8 @@ public class RenderableKruskalMST {
             return false;
         }
 
-        // check that it is acyclic
-        UF uf = new UF(edgeGraph.getVerticesCount());
-        for (Edge e : getEdges()) {
-            int v = e.getEndpointA(), w = e.getOtherEndpoint(v);
-            if (uf.connected(v, w)) {
-                System.err.println("Not a forest!");
-                return false;
-            }
-            uf.union(v, w);
-        }
-
-        // check that it is a spanning forest
-        for (Edge e : edgeGraph.getEdges()) {
-            int v = e.getEndpointA(), w = e.getOtherEndpoint(v);
-            if (!uf.connected(v, w)) {
-                System.err.println("Not a spanning forest!");
-                return false;
-            }
-        }
-
-        // check that it is a minimal spanning forest (cut optimality conditions)
-        for (Edge e : getEdges()) {
-            // all edges in MST except e
-            uf = new UF(edgeGraph.getVerticesCount());
-            for (Edge f : mst) {
-                int x = f.getEndpointA(), y = f.getOtherEndpoint(x);
-                if (f != e) uf.union(x, y);
-            }
-            
-            // check that e is min weight edge in crossing cut
-            for (Edge f : edgeGraph.getEdges()) {
-                int x = f.getEndpointA(), y = f.getOtherEndpoint(x);
-                if (!uf.connected(x, y)) {
-                    if (f.getWeight() < e.getWeight()) {
-                        System.err.println("Edge " + f + " violates cut optimality conditions!");
-                        return false;
-                    }
-                }
-            }
-
-        }
-
-        return true;
+        // check that it is an acyclic, spanning and minimal forest (cycle optimality conditions)
+        return MSTVerifier.check(edgeGraph, getEdges());
     }
 
     //Convenience methods for coordinate access
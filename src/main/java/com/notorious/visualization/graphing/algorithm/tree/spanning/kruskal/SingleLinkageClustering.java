@@ -0,0 +1,275 @@
+package com.notorious.visualization.graphing.algorithm.tree.spanning.kruskal;
+
+import com.notorious.visualization.graphing.algorithm.graph.Edge;
+import com.notorious.visualization.graphing.algorithm.graph.WeightedEdgeGraph;
+import com.notorious.visualization.graphing.collection.cache.Cache;
+import com.notorious.visualization.graphing.util.In;
+import com.notorious.visualization.graphing.util.StdOut;
+import com.notorious.visualization.graphing.util.union.UF;
+
+/**
+ * The {@code SingleLinkageClustering} class represents the single-linkage hierarchical
+ * clustering of the vertices of an edge-weighted graph, where the distance between two
+ * clusters is the weight of the lightest edge joining them.
+ * <p>
+ * Kruskal's algorithm performs exactly the single-linkage merges: every edge it accepts
+ * joins the two closest clusters. This class takes the accepted edges of a
+ * {@link KruskalMST} in acceptance order and records them as a <em>dendrogram</em>
+ * held in primitive arrays. Merge <em>i</em> joins the clusters with ids
+ * {@code getLeftChild(i)} and {@code getRightChild(i)} at height
+ * {@code getMergeHeight(i)}; the vertices are the leaf clusters {@code 0} through
+ * <em>V</em> - 1 and merge <em>i</em> creates cluster <em>V</em> + <em>i</em>.
+ * <p>
+ * The constructor takes time proportional to <em>V</em> (not counting the tree).
+ * Afterwards, a flat clustering into <em>k</em> clusters or at a cut distance
+ * <em>d</em> is produced in time proportional to <em>V</em> by replaying a prefix of
+ * the merge sequence, without recomputing the tree; {@code getClusterCount()} takes
+ * time proportional to log <em>V</em>.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class SingleLinkageClustering {
+
+    private final int vertices;
+    private final int merges;          // number of merges (edges in the spanning forest)
+    private final int[] mergeA;        // mergeA[i], mergeB[i] = vertices joined by merge i
+    private final int[] mergeB;
+    private final double[] height;     // height[i] = distance at which merge i happens
+    private final int[] left;          // left[i], right[i] = cluster ids joined by merge i
+    private final int[] right;
+    private final int[] size;          // size[i] = number of vertices in the cluster created by merge i
+
+    /**
+     * Computes the single-linkage clustering of the given graph.
+     *
+     * @param graph the edge-weighted graph
+     */
+    public SingleLinkageClustering(WeightedEdgeGraph graph) {
+        this(new KruskalMST(graph));
+    }
+
+    /**
+     * Records the single-linkage clustering given by an already computed spanning
+     * tree (or forest).
+     *
+     * @param mst the minimum spanning tree (or forest)
+     */
+    public SingleLinkageClustering(KruskalMST mst) {
+        this.vertices = mst.getVerticesCount();
+        int n = 0;
+        for (Edge ignored : mst.getEdges()) n++;
+        merges = n;
+        mergeA = new int[merges];
+        mergeB = new int[merges];
+        height = new double[merges];
+        left = new int[merges];
+        right = new int[merges];
+        size = new int[merges];
+
+        int[] cluster = new int[vertices];      // cluster[root] = id of the cluster rooted there
+        int[] members = new int[vertices];      // members[root] = vertices in that cluster
+        for (int v = 0; v < vertices; v++) {
+            cluster[v] = v;
+            members[v] = 1;
+        }
+        UF uf = new UF(vertices);
+        int i = 0;
+        for (Edge e : mst.getEdges()) {
+            int v = e.getEndpointA(), w = e.getOtherEndpoint(v);
+            int rootV = uf.find(v), rootW = uf.find(w);
+            mergeA[i] = v;
+            mergeB[i] = w;
+            height[i] = e.getWeight();
+            left[i] = Math.min(cluster[rootV], cluster[rootW]);
+            right[i] = Math.max(cluster[rootV], cluster[rootW]);
+            size[i] = members[rootV] + members[rootW];
+            uf.union(v, w);
+            int root = uf.find(v);
+            cluster[root] = vertices + i;
+            members[root] = size[i];
+            i++;
+        }
+    }
+
+    /**
+     * Returns the number of vertices (leaf clusters).
+     *
+     * @return the number of vertices
+     */
+    public int getVerticesCount() {
+        return vertices;
+    }
+
+    /**
+     * Returns the number of merges in the dendrogram. If the graph is connected
+     * this is <em>V</em> - 1.
+     *
+     * @return the number of merges
+     */
+    public int getMergeCount() {
+        return merges;
+    }
+
+    /**
+     * Returns the smallest number of clusters reachable by merging, which is the
+     * number of connected components of the graph.
+     *
+     * @return the minimum number of clusters
+     */
+    public int getMinimumClusterCount() {
+        return vertices - merges;
+    }
+
+    /**
+     * Returns the distance at which the given merge happens.
+     *
+     * @param merge the merge index, between {@code 0} and {@code getMergeCount() - 1}
+     * @return the merge height
+     */
+    public double getMergeHeight(int merge) {
+        validateMerge(merge);
+        return height[merge];
+    }
+
+    /**
+     * Returns the id of the smaller cluster id joined by the given merge.
+     *
+     * @param merge the merge index
+     * @return a cluster id (a vertex if below {@code V}, otherwise {@code V} + merge index)
+     */
+    public int getLeftChild(int merge) {
+        validateMerge(merge);
+        return left[merge];
+    }
+
+    /**
+     * Returns the id of the larger cluster id joined by the given merge.
+     *
+     * @param merge the merge index
+     * @return a cluster id (a vertex if below {@code V}, otherwise {@code V} + merge index)
+     */
+    public int getRightChild(int merge) {
+        validateMerge(merge);
+        return right[merge];
+    }
+
+    /**
+     * Returns the number of vertices in the cluster created by the given merge.
+     *
+     * @param merge the merge index
+     * @return the size of the merged cluster
+     */
+    public int getMergeSize(int merge) {
+        validateMerge(merge);
+        return size[merge];
+    }
+
+    /**
+     * Returns the graph edge that triggered the given merge.
+     *
+     * @param merge the merge index
+     * @return the merging edge
+     */
+    public Edge getMergeEdge(int merge) {
+        validateMerge(merge);
+        return new Edge(mergeA[merge], mergeB[merge], height[merge]);
+    }
+
+    /**
+     * Returns the number of clusters left when every merge at distance at most
+     * {@code distance} has been applied.
+     *
+     * @param distance the cut distance
+     * @return the number of clusters at that distance
+     */
+    public int getClusterCount(double distance) {
+        return vertices - mergesAtOrBelow(distance);
+    }
+
+    /**
+     * Splits the vertices into {@code k} clusters by stopping the merges early.
+     * Clusters are labelled {@code 0} through {@code k - 1} in order of their
+     * smallest vertex.
+     *
+     * @param k the number of clusters
+     * @return {@code labels[v]} = the cluster of vertex {@code v}
+     * @throws IllegalArgumentException unless
+     *         {@code getMinimumClusterCount() <= k <= V}
+     */
+    public int[] getClusters(int k) {
+        if (k < getMinimumClusterCount() || k > vertices)
+            throw new IllegalArgumentException("Number of clusters must be between "
+                    + getMinimumClusterCount() + " and " + vertices + "!");
+        return replay(vertices - k);
+    }
+
+    /**
+     * Cuts the dendrogram at the given distance: two vertices share a cluster if and
+     * only if a chain of edges no heavier than {@code distance} connects them.
+     * Clusters are labelled in order of their smallest vertex.
+     *
+     * @param distance the cut distance
+     * @return {@code labels[v]} = the cluster of vertex {@code v}
+     */
+    public int[] getClustersAtDistance(double distance) {
+        return replay(mergesAtOrBelow(distance));
+    }
+
+    // apply the first count merges and label the resulting components
+    private int[] replay(int count) {
+        UF uf = new UF(vertices);
+        for (int i = 0; i < count; i++) {
+            uf.union(mergeA[i], mergeB[i]);
+        }
+        int[] labels = new int[vertices];
+        int[] label = new int[vertices];   // label[root] = 1 + label of that root's cluster
+        int next = 0;
+        for (int v = 0; v < vertices; v++) {
+            int root = uf.find(v);
+            if (label[root] == 0) label[root] = ++next;
+            labels[v] = label[root] - 1;
+        }
+        return labels;
+    }
+
+    // number of merges with height <= distance (heights are non-decreasing)
+    private int mergesAtOrBelow(double distance) {
+        int lo = 0, hi = merges;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (height[mid] <= distance) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private void validateMerge(int merge) {
+        if (merge < 0 || merge >= merges)
+            throw new IllegalArgumentException("Merge \'" + merge + "\' is not between 0 and " + (merges - 1));
+    }
+
+    private static final String TEST_DATA_REFERENCE_ROOT = "org/notorious/visualization/graphing/collection/algorithm/tree/spanning/";
+    private static final String TEST_DATA_TINY = "tinyEWG.txt";
+
+    /**
+     * Unit tests the {@code SingleLinkageClustering} data type.
+     *
+     * @param args the command-line arguments
+     */
+    public static void main(String[] args) {
+        In in = new In(Cache.class.getClassLoader().getResource(TEST_DATA_REFERENCE_ROOT + TEST_DATA_TINY));
+        SingleLinkageClustering clustering = new SingleLinkageClustering(new WeightedEdgeGraph(in));
+        for (int i = 0; i < clustering.getMergeCount(); i++) {
+            StdOut.printf("%d + %d -> %d (%.5f, size %d)\n", clustering.getLeftChild(i), clustering.getRightChild(i),
+                    clustering.getVerticesCount() + i, clustering.getMergeHeight(i), clustering.getMergeSize(i));
+        }
+        for (int k = clustering.getVerticesCount(); k >= clustering.getMinimumClusterCount(); k--) {
+            int[] labels = clustering.getClusters(k);
+            StdOut.print(k + " clusters:");
+            for (int label : labels) StdOut.print(" " + label);
+            StdOut.println();
+        }
+    }
+}
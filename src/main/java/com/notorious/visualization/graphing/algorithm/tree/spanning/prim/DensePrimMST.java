@@ -0,0 +1,303 @@
+package com.notorious.visualization.graphing.algorithm.tree.spanning.prim;
+
+import com.notorious.visualization.graphing.algorithm.graph.AdjMatrixEdgeWeightedDigraph;
+import com.notorious.visualization.graphing.algorithm.graph.DirectedEdge;
+import com.notorious.visualization.graphing.algorithm.graph.Edge;
+import com.notorious.visualization.graphing.algorithm.graph.WeightedEdgeGraph;
+import com.notorious.visualization.graphing.algorithm.tree.spanning.MSTVerifier;
+import com.notorious.visualization.graphing.collection.queue.Queue;
+import com.notorious.visualization.graphing.util.StdOut;
+import com.notorious.visualization.graphing.util.StdRandom;
+
+import java.util.stream.IntStream;
+
+/**
+ * The {@code DensePrimMST} class computes a minimum spanning tree (or forest) of a
+ * dense graph with the array-based version of Prim's algorithm, which keeps the best
+ * known distance of every non-tree vertex in a flat {@code double[]} instead of a heap.
+ * <p>
+ * Each step scans the non-tree vertices once, relaxing them against the vertex that
+ * just joined the tree and finding the next closest vertex in the same pass. The
+ * non-tree vertices are kept packed at the front of an index array, so the scans get
+ * shorter as the tree grows and never branch on a visited flag. Ties are broken by
+ * the smallest vertex, which keeps the result identical whether the scan is split
+ * into parallel chunks or not.
+ * <p>
+ * The graph is either an {@link AdjMatrixEdgeWeightedDigraph}, read as undirected by
+ * taking the lighter of {@code v->w} and {@code w->v}, or an implicit complete graph
+ * given by a {@link WeightFunction}, such as the Euclidean distances between points.
+ * No per-edge objects are created. The constructor takes time proportional to
+ * <em>V</em><sup>2</sup> and extra space proportional to <em>V</em>, which beats the
+ * <em>E</em> log <em>V</em> of the heap-based algorithms once <em>E</em> approaches
+ * <em>V</em><sup>2</sup>.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class DensePrimMST {
+
+    // scans shorter than this are not worth splitting across threads
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+    private static final int CHUNK_SIZE = 1 << 12;
+
+    /**
+     * The weight of the undirected edge between two vertices of an implicit graph.
+     */
+    @FunctionalInterface
+    public interface WeightFunction {
+
+        /**
+         * Returns the weight of the edge between {@code v} and {@code w}.
+         *
+         * @param v one vertex
+         * @param w the other vertex
+         * @return the edge weight, or {@code Double.POSITIVE_INFINITY} if there is no edge
+         */
+        double weight(int v, int w);
+    }
+
+    private final int vertices;
+    private final int[] parent;      // parent[v] = tree neighbour that brought v in, -1 for roots
+    private final double[] distTo;   // distTo[v] = weight of the edge to parent[v]
+    private final WeightFunction weights;
+    private final boolean parallel;
+
+    // scratch state of the current step
+    private final int[] remaining;   // remaining[0, count) = vertices not yet in the tree
+    private int[] chunkBest;         // chunkBest[c] = position in remaining[] of chunk c's closest vertex
+
+    /**
+     * Computes a minimum spanning tree (or forest) of an adjacency-matrix graph,
+     * treating every directed edge as undirected.
+     *
+     * @param graph the edge-weighted graph
+     */
+    public DensePrimMST(AdjMatrixEdgeWeightedDigraph graph) {
+        this(graph.V(), undirected(graph), false);
+    }
+
+    /**
+     * Computes a Euclidean minimum spanning tree of the complete graph on the given points.
+     *
+     * @param coordinates {@code coordinates[i][0]} and {@code coordinates[i][1]} are
+     *                    the x and y coordinates of point {@code i}
+     * @param parallel    whether to split each scan across the common fork-join pool
+     */
+    public DensePrimMST(double[][] coordinates, boolean parallel) {
+        this(coordinates.length, euclidean(coordinates), parallel);
+    }
+
+    /**
+     * Computes a minimum spanning tree (or forest) of an implicit graph.
+     *
+     * @param vertices the number of vertices
+     * @param weights  the edge weights, which must be symmetric
+     * @param parallel whether to split each scan across the common fork-join pool
+     * @throws IllegalArgumentException if {@code vertices < 0}
+     */
+    public DensePrimMST(int vertices, WeightFunction weights, boolean parallel) {
+        if (vertices < 0) throw new IllegalArgumentException("Number of vertices must be non-negative!");
+        this.vertices = vertices;
+        this.weights = weights;
+        this.parallel = parallel;
+        parent = new int[vertices];
+        distTo = new double[vertices];
+        remaining = new int[vertices];
+        for (int v = 0; v < vertices; v++) {
+            parent[v] = -1;
+            distTo[v] = Double.POSITIVE_INFINITY;
+            remaining[v] = v;
+        }
+        prim();
+        assert check();
+    }
+
+    private void prim() {
+        int count = vertices;
+        int v = -1;                           // vertex that joined the tree last
+        while (count > 0) {
+            int best = v < 0 ? minimum(count) : relax(v, count);
+            if (distTo[remaining[best]] == Double.POSITIVE_INFINITY) {
+                // nothing reachable is left: start a new tree at the smallest remaining vertex
+                best = smallest(count);
+                distTo[remaining[best]] = 0D;
+            }
+            v = remaining[best];
+            remaining[best] = remaining[--count];
+            remaining[count] = v;
+        }
+    }
+
+    // relax remaining[0, count) against v and return the position of the closest one
+    private int relax(int v, int count) {
+        if (!parallel || count < PARALLEL_THRESHOLD) return relax(v, 0, count);
+        int chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        if (chunkBest == null || chunkBest.length < chunks) chunkBest = new int[chunks];
+        IntStream.range(0, chunks).parallel().forEach(c ->
+                chunkBest[c] = relax(v, c * CHUNK_SIZE, Math.min(count, (c + 1) * CHUNK_SIZE)));
+        int best = chunkBest[0];
+        for (int c = 1; c < chunks; c++) {
+            best = closer(chunkBest[c], best);
+        }
+        return best;
+    }
+
+    private int relax(int v, int lo, int hi) {
+        int best = lo, bestVertex = Integer.MAX_VALUE;
+        double bestDist = Double.POSITIVE_INFINITY;
+        for (int i = lo; i < hi; i++) {
+            int w = remaining[i];
+            double weight = weights.weight(v, w);
+            double dist = distTo[w];
+            if (weight < dist) {
+                dist = weight;
+                distTo[w] = weight;
+                parent[w] = v;
+            }
+            if (dist < bestDist || (dist == bestDist && w < bestVertex)) {
+                best = i;
+                bestDist = dist;
+                bestVertex = w;
+            }
+        }
+        return best;
+    }
+
+    // position of the closest vertex in remaining[0, count), without relaxing
+    private int minimum(int count) {
+        int best = 0;
+        for (int i = 1; i < count; i++) {
+            best = closer(i, best);
+        }
+        return best;
+    }
+
+    // position of the smallest vertex in remaining[0, count)
+    private int smallest(int count) {
+        int best = 0;
+        for (int i = 1; i < count; i++) {
+            if (remaining[i] < remaining[best]) best = i;
+        }
+        return best;
+    }
+
+    // whichever of the two positions holds the closer vertex, ties going to the smaller vertex
+    private int closer(int i, int j) {
+        double a = distTo[remaining[i]], b = distTo[remaining[j]];
+        if (a != b) return a < b ? i : j;
+        return remaining[i] < remaining[j] ? i : j;
+    }
+
+    private static WeightFunction undirected(AdjMatrixEdgeWeightedDigraph graph) {
+        return (v, w) -> {
+            DirectedEdge forward = graph.edge(v, w), backward = graph.edge(w, v);
+            double weight = Double.POSITIVE_INFINITY;
+            if (forward != null) weight = forward.weight();
+            if (backward != null) weight = Math.min(weight, backward.weight());
+            return weight;
+        };
+    }
+
+    private static WeightFunction euclidean(double[][] coordinates) {
+        int n = coordinates.length;
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = coordinates[i][0];
+            y[i] = coordinates[i][1];
+        }
+        return (v, w) -> {
+            double dx = x[v] - x[w], dy = y[v] - y[w];
+            return Math.sqrt(dx * dx + dy * dy);
+        };
+    }
+
+    /**
+     * Returns the number of vertices.
+     *
+     * @return the number of vertices
+     */
+    public int getVerticesCount() {
+        return vertices;
+    }
+
+    /**
+     * Returns the tree neighbour through which the given vertex joined the tree.
+     *
+     * @param v the vertex
+     * @return the parent of {@code v}, or {@code -1} if {@code v} is the root of its tree
+     * @throws IllegalArgumentException unless {@code 0 <= v < V}
+     */
+    public int getParent(int v) {
+        validateVertex(v);
+        return parent[v];
+    }
+
+    /**
+     * Returns the edges in a minimum spanning tree (or forest).
+     *
+     * @return the edges in a minimum spanning tree (or forest)
+     */
+    public Iterable<Edge> getEdges() {
+        Queue<Edge> mst = new Queue<>();
+        for (int v = 0; v < vertices; v++) {
+            if (parent[v] >= 0) mst.enqueue(new Edge(parent[v], v, distTo[v]));
+        }
+        return mst;
+    }
+
+    /**
+     * Returns the sum of the edge weights in a minimum spanning tree (or forest).
+     *
+     * @return the sum of the edge weights in a minimum spanning tree (or forest)
+     */
+    public double getWeight() {
+        double weight = 0D;
+        for (int v = 0; v < vertices; v++) {
+            if (parent[v] >= 0) weight += distTo[v];
+        }
+        return weight;
+    }
+
+    // check optimality conditions against the explicit graph, skipping large inputs
+    // (takes time proportional to V^2 lg V)
+    private boolean check() {
+        if (vertices > 2048) return true;
+        WeightedEdgeGraph graph = new WeightedEdgeGraph(vertices);
+        for (int v = 0; v < vertices; v++) {
+            for (int w = v + 1; w < vertices; w++) {
+                double weight = weights.weight(v, w);
+                if (weight != Double.POSITIVE_INFINITY) graph.addEdge(new Edge(v, w, weight));
+            }
+        }
+        return MSTVerifier.check(graph, getEdges());
+    }
+
+    // throw an IllegalArgumentException unless {@code 0 <= v < V}
+    private void validateVertex(int v) {
+        if (v < 0 || v >= vertices)
+            throw new IllegalArgumentException("Vertex \'" + v + "\' is not between 0 and " + (vertices - 1));
+    }
+
+    /**
+     * Unit tests the {@code DensePrimMST} data type on random points.
+     *
+     * @param args the command-line arguments
+     */
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        double[][] coords = new double[n][2];
+        for (int i = 0; i < n; i++) {
+            coords[i][0] = StdRandom.uniform();
+            coords[i][1] = StdRandom.uniform();
+        }
+        long start = System.currentTimeMillis();
+        DensePrimMST sequential = new DensePrimMST(coords, false);
+        long middle = System.currentTimeMillis();
+        DensePrimMST parallel = new DensePrimMST(coords, true);
+        long end = System.currentTimeMillis();
+        StdOut.printf("%d points: sequential %.5f in %d ms, parallel %.5f in %d ms\n", n,
+                sequential.getWeight(), middle - start, parallel.getWeight(), end - middle);
+    }
+}
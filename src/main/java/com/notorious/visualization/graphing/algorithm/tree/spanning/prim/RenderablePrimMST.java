@@ -2,11 +2,11 @@ package com.notorious.visualization.graphing.algorithm.tree.spanning.prim;
 
 import com.notorious.visualization.graphing.algorithm.graph.Edge;
 import com.notorious.visualization.graphing.algorithm.graph.WeightedEdgeGraph;
+import com.notorious.visualization.graphing.algorithm.tree.spanning.MSTVerifier;
 import com.notorious.visualization.graphing.algorithm.tree.spanning.kruskal.KruskalMST;
 import com.notorious.visualization.graphing.collection.queue.Queue;
 import com.notorious.visualization.graphing.util.IndexMinPQ;
 import com.notorious.visualization.graphing.util.StdDraw;
-import com.notorious.visualization.graphing.util.union.UF;
 
 /**
  *  The <tt>PrimMST</tt> class represents a data type for computing a
@@ -152,7 +152,7 @@ public class RenderablePrimMST {
     }
 
 
-    // check optimality conditions (takes time proportional to E V lg* V)
+    // check optimality conditions (takes time proportional to (E + V) lg V)
     private boolean check(WeightedEdgeGraph graph) {
 
         // check weight
@@ -166,50 +166,8 @@ public class RenderablePrimMST {
             return false;
         }
 
-        // check that it is acyclic
-        UF uf = new UF(graph.getVerticesCount());
-        for (Edge e : edges()) {
-            int v = e.getEndpointA(), w = e.getOtherEndpoint(v);
-            if (uf.connected(v, w)) {
-                System.err.println("Not a forest");
-                return false;
-            }
-            uf.union(v, w);
-        }
-
-        // check that it is a spanning forest
-        for (Edge e : edges()) {
-            int v = e.getEndpointA(), w = e.getOtherEndpoint(v);
-            if (!uf.connected(v, w)) {
-                System.err.println("Not a spanning forest");
-                return false;
-            }
-        }
-
-        // check that it is a minimal spanning forest (cut optimality conditions)
-        for (Edge e : edges()) {
-
-            // all edges in MST except e
-            uf = new UF(graph.getVerticesCount());
-            for (Edge f : edges()) {
-                int x = f.getEndpointA(), y = f.getOtherEndpoint(x);
-                if (f != e) uf.union(x, y);
-            }
-
-            // check that e is min weight edge in crossing cut
-            for (Edge f : graph.getEdges()) {
-                int x = f.getEndpointA(), y = f.getOtherEndpoint(x);
-                if (!uf.connected(x, y)) {
-                    if (f.getWeight() < e.getWeight()) {
-                        System.err.println("Edge " + f + " violates cut optimality conditions");
-                        return false;
-                    }
-                }
-            }
-
-        }
-
-        return true;
+        // check that it is an acyclic, spanning and minimal forest (cycle optimality conditions)
+        return MSTVerifier.check(graph, edges());
     }
 
     //Convenience methods for coordinate access
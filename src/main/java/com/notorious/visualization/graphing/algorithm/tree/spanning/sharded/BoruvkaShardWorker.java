@@ -0,0 +1,211 @@
+package com.notorious.visualization.graphing.algorithm.tree.spanning.sharded;
+
+import com.notorious.visualization.graphing.util.BinaryIn;
+import com.notorious.visualization.graphing.util.BinaryOut;
+import com.notorious.visualization.graphing.util.EdgeListReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.util.Arrays;
+
+/**
+ * The {@code BoruvkaShardWorker} class is one worker of a {@link ShardedBoruvkaMST}
+ * computation. It owns the vertex range
+ * [<em>shard</em> &middot; <em>V</em> / <em>shards</em>,
+ * (<em>shard</em> + 1) &middot; <em>V</em> / <em>shards</em>) and keeps in memory only
+ * the edges with an endpoint in that range, held in primitive arrays.
+ * <p>
+ * The worker talks to the coordinator over a socket. Each round it receives the
+ * components merged in the previous round, applies them to its mirror of the
+ * coordinator's component forest, drops the edges that became internal, and answers
+ * with the lightest edge leaving every component that touches its range. Edges are
+ * ordered by weight and then by their position in the edge list, which is the same
+ * total order on every worker.
+ * <p>
+ * Workers are normally launched by the coordinator, but can also be started by hand:
+ * <pre>
+ *     java BoruvkaShardWorker host port shard shards edges.txt
+ * </pre>
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class BoruvkaShardWorker {
+
+    private final int shard;
+    private final int vertices;
+    private final int lo, hi;          // owned vertex range [lo, hi)
+
+    // owned edges, compacted as they become internal
+    private int edges;
+    private int[] endpointA;
+    private int[] endpointB;
+    private double[] weight;
+    private long[] id;                 // id[i] = position of edge i in the edge list
+
+    private final int[] parent;        // mirror of the coordinator's component forest
+
+    /**
+     * Loads the edges of one shard of the given edge list.
+     *
+     * @param edgeList the edge list, in the format read by {@link EdgeListReader}
+     * @param shard    the index of this shard, between {@code 0} and {@code shards - 1}
+     * @param shards   the number of shards
+     * @throws IllegalArgumentException unless {@code 0 <= shard < shards}
+     */
+    public BoruvkaShardWorker(File edgeList, int shard, int shards) {
+        if (shard < 0 || shard >= shards)
+            throw new IllegalArgumentException("Shard \'" + shard + "\' is not between 0 and " + (shards - 1));
+        this.shard = shard;
+        endpointA = new int[16];
+        endpointB = new int[16];
+        weight = new double[16];
+        id = new long[16];
+        try (EdgeListReader reader = new EdgeListReader(edgeList)) {
+            vertices = reader.getVerticesCount();
+            lo = lowerBound(shard, shards, vertices);
+            hi = lowerBound(shard + 1, shards, vertices);
+            for (long position = 0; reader.next(); position++) {
+                int v = reader.getEndpointA(), w = reader.getEndpointB();
+                if (v == w || !(owns(v) || owns(w))) continue;
+                if (edges == id.length) grow();
+                endpointA[edges] = v;
+                endpointB[edges] = w;
+                weight[edges] = reader.getWeight();
+                id[edges] = position;
+                edges++;
+            }
+        }
+        parent = new int[vertices];
+        for (int v = 0; v < vertices; v++) {
+            parent[v] = v;
+        }
+    }
+
+    // first vertex of the given shard
+    static int lowerBound(int shard, int shards, int vertices) {
+        return (int) ((long) shard * vertices / shards);
+    }
+
+    private boolean owns(int v) {
+        return v >= lo && v < hi;
+    }
+
+    private void grow() {
+        int capacity = 2 * id.length;
+        endpointA = Arrays.copyOf(endpointA, capacity);
+        endpointB = Arrays.copyOf(endpointB, capacity);
+        weight = Arrays.copyOf(weight, capacity);
+        id = Arrays.copyOf(id, capacity);
+    }
+
+    /**
+     * Returns the number of edges this worker currently holds.
+     *
+     * @return the number of held edges
+     */
+    public int getEdgeCount() {
+        return edges;
+    }
+
+    /**
+     * Connects to the coordinator and answers its rounds until told to stop.
+     *
+     * @param host the host of the coordinator
+     * @param port the port of the coordinator
+     * @throws UncheckedIOException if the connection fails
+     */
+    public void serve(String host, int port) {
+        try (Socket socket = new Socket(host, port)) {
+            BinaryOut out = new BinaryOut(socket);
+            out.write(shard);
+            out.flush();
+            BinaryIn in = new BinaryIn(socket);   // blocks until the first round arrives
+
+            double[] bestWeight = new double[vertices];
+            int[] best = new int[vertices];        // best[c] = index of the lightest edge leaving c, -1 if none
+            int[] touched = new int[vertices];
+            Arrays.fill(best, -1);
+            while (true) {
+                int merges = in.readInt();
+                if (merges < 0) break;
+                for (int i = 0; i < merges; i++) {
+                    int child = in.readInt();
+                    parent[child] = in.readInt();
+                }
+                compact();
+
+                // lightest outgoing edge of every component touching the shard
+                int components = 0;
+                for (int i = 0; i < edges; i++) {
+                    int a = find(endpointA[i]), b = find(endpointB[i]);
+                    components = propose(a, i, best, bestWeight, touched, components);
+                    components = propose(b, i, best, bestWeight, touched, components);
+                }
+                out.write(components);
+                for (int k = 0; k < components; k++) {
+                    int c = touched[k], i = best[c];
+                    out.write(c);
+                    out.write(endpointA[i]);
+                    out.write(endpointB[i]);
+                    out.write(weight[i]);
+                    out.write(id[i]);
+                    best[c] = -1;
+                }
+                out.flush();
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Shard " + shard + " lost its coordinator", e);
+        }
+    }
+
+    private int propose(int c, int i, int[] best, double[] bestWeight, int[] touched, int components) {
+        if (best[c] < 0) {
+            touched[components++] = c;
+            best[c] = i;
+            bestWeight[c] = weight[i];
+        }
+        else if (weight[i] < bestWeight[c] || (weight[i] == bestWeight[c] && id[i] < id[best[c]])) {
+            best[c] = i;
+            bestWeight[c] = weight[i];
+        }
+        return components;
+    }
+
+    // drop the edges whose endpoints are now in the same component
+    private void compact() {
+        int kept = 0;
+        for (int i = 0; i < edges; i++) {
+            if (find(endpointA[i]) == find(endpointB[i])) continue;
+            endpointA[kept] = endpointA[i];
+            endpointB[kept] = endpointB[i];
+            weight[kept] = weight[i];
+            id[kept] = id[i];
+            kept++;
+        }
+        edges = kept;
+    }
+
+    private int find(int v) {
+        while (v != parent[v]) {
+            parent[v] = parent[parent[v]];    // path compression by halving
+            v = parent[v];
+        }
+        return v;
+    }
+
+    /**
+     * Runs a worker: {@code java BoruvkaShardWorker host port shard shards edges.txt}.
+     *
+     * @param args the command-line arguments
+     */
+    public static void main(String[] args) {
+        BoruvkaShardWorker worker = new BoruvkaShardWorker(new File(args[4]),
+                Integer.parseInt(args[2]), Integer.parseInt(args[3]));
+        worker.serve(args[0], Integer.parseInt(args[1]));
+    }
+}
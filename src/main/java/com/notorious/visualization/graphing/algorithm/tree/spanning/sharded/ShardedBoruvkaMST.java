@@ -0,0 +1,339 @@
+package com.notorious.visualization.graphing.algorithm.tree.spanning.sharded;
+
+import com.notorious.visualization.graphing.algorithm.graph.Edge;
+import com.notorious.visualization.graphing.collection.cache.Cache;
+import com.notorious.visualization.graphing.collection.queue.Queue;
+import com.notorious.visualization.graphing.util.BinaryIn;
+import com.notorious.visualization.graphing.util.BinaryOut;
+import com.notorious.visualization.graphing.util.EdgeListReader;
+import com.notorious.visualization.graphing.util.StdOut;
+import com.notorious.visualization.graphing.util.union.UF;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URISyntaxException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code ShardedBoruvkaMST} class computes a minimum spanning forest of a graph
+ * that is split by vertex range across several {@link BoruvkaShardWorker} processes,
+ * so that no single heap has to hold all the edges.
+ * <p>
+ * This class is the coordinator of <em>Borůvka's algorithm</em>. In every round, each
+ * worker proposes the lightest edge leaving every component that touches its range;
+ * the coordinator keeps the lightest proposal per component, adds those edges to the
+ * forest and broadcasts the resulting component merges, which the workers apply to
+ * their own copy of the component forest. Edges are totally ordered by weight and
+ * then by position in the edge list, so the proposals never close a cycle and the
+ * result does not depend on the number of workers. The number of components at
+ * least halves every round, so there are at most log <em>V</em> rounds.
+ * <p>
+ * Messages go over local sockets with {@link BinaryIn} and {@link BinaryOut}. Each
+ * round moves at most one proposal per component and worker, and the coordinator
+ * only needs space proportional to <em>V</em>. The workers are either launched as
+ * separate JVMs on the same classpath, or started by hand against a given port.
+ * A launched worker that exits with a nonzero status, or any worker that closes its
+ * connection in the middle of the algorithm, fails the computation with an
+ * {@link UncheckedIOException}, which carries the standard error of the launched
+ * workers that failed.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class ShardedBoruvkaMST {
+
+    private static final int ACCEPT_TIMEOUT = 120000;   // milliseconds
+    private static final int ACCEPT_POLL = 500;         // milliseconds between checks for dead workers
+    private static final int EXIT_TIMEOUT = 2000;       // milliseconds to wait for failed workers to exit
+    private static final int MAX_LOG_CHARS = 4000;      // tail of a worker's standard error to report
+
+    private final int vertices;
+    private final int shards;
+    private final Queue<Edge> mst = new Queue<>();
+    private double weight;
+    private int rounds;
+
+    /**
+     * Computes a minimum spanning forest of the edge list, launching one worker JVM
+     * per shard on this host.
+     *
+     * @param edgeList the edge list, in the format read by {@link EdgeListReader}
+     * @param shards   the number of worker processes
+     * @throws IllegalArgumentException if {@code shards < 1}
+     * @throws UncheckedIOException if a worker cannot be started or fails
+     */
+    public ShardedBoruvkaMST(File edgeList, int shards) {
+        this(edgeList, shards, 0, true);
+    }
+
+    /**
+     * Computes a minimum spanning forest of the edge list with workers that connect
+     * to the given port, launching them first if asked to.
+     *
+     * @param edgeList the edge list, in the format read by {@link EdgeListReader}
+     * @param shards   the number of workers
+     * @param port     the port to listen on, or {@code 0} for any free port
+     * @param launch   whether to launch the workers as JVMs on this host; otherwise
+     *                 they have to be started with {@link BoruvkaShardWorker#main}
+     * @throws IllegalArgumentException if {@code shards < 1}
+     * @throws UncheckedIOException if a worker cannot be started or fails
+     */
+    public ShardedBoruvkaMST(File edgeList, int shards, int port, boolean launch) {
+        if (shards < 1) throw new IllegalArgumentException("Number of shards must be positive!");
+        this.shards = shards;
+        try (EdgeListReader reader = new EdgeListReader(edgeList)) {
+            vertices = reader.getVerticesCount();
+        }
+
+        Process[] workers = new Process[launch ? shards : 0];
+        File[] logs = new File[workers.length];     // standard error of each launched worker
+        Socket[] sockets = new Socket[shards];
+        try (ServerSocket server = new ServerSocket(port, shards, InetAddress.getLoopbackAddress())) {
+            server.setSoTimeout(ACCEPT_POLL);
+            for (int i = 0; i < workers.length; i++) {
+                logs[i] = File.createTempFile("boruvka-shard-" + i + "-", ".log");
+                workers[i] = launch(edgeList, server.getLocalPort(), i, logs[i]);
+            }
+            BinaryIn[] in = new BinaryIn[shards];
+            BinaryOut[] out = new BinaryOut[shards];
+            for (int k = 0; k < shards; k++) {
+                Socket socket = accept(server, workers);
+                BinaryIn reply = new BinaryIn(socket);
+                int shard = reply.readInt();
+                if (shard < 0 || shard >= shards || sockets[shard] != null)
+                    throw new IllegalStateException("Unexpected worker for shard " + shard);
+                sockets[shard] = socket;
+                in[shard] = reply;
+                out[shard] = new BinaryOut(socket);
+            }
+            boruvka(in, out);
+            for (int i = 0; i < workers.length; i++) {
+                int status = workers[i].waitFor();
+                if (status != 0) throw new UncheckedIOException(new IOException(describe(i, status, logs[i])));
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Sharded MST failed" + failures(workers, logs), e);
+        }
+        catch (NoSuchElementException e) {
+            // a worker closed its connection in the middle of a message, most likely because it died
+            IOException truncated = new EOFException("A worker closed its connection early");
+            truncated.initCause(e);
+            throw new UncheckedIOException("Sharded MST failed" + failures(workers, logs), truncated);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the workers", e);
+        }
+        finally {
+            for (Socket socket : sockets) {
+                closeQuietly(socket);
+            }
+            for (Process worker : workers) {
+                if (worker != null && worker.isAlive()) worker.destroy();
+            }
+            for (File log : logs) {
+                if (log != null && !log.delete()) log.deleteOnExit();
+            }
+        }
+    }
+
+    // the next worker connection; fails early instead of waiting out the timeout once a
+    // launched worker has exited with an error
+    private static Socket accept(ServerSocket server, Process[] workers) throws IOException {
+        long deadline = System.currentTimeMillis() + ACCEPT_TIMEOUT;
+        while (true) {
+            try {
+                return server.accept();
+            }
+            catch (SocketTimeoutException e) {
+                for (Process worker : workers) {
+                    if (!worker.isAlive() && worker.exitValue() != 0)
+                        throw new IOException("A worker exited before connecting");
+                }
+                if (System.currentTimeMillis() >= deadline) throw e;
+            }
+        }
+    }
+
+    // the exit status and standard error of every launched worker that has failed, giving
+    // them a moment to exit first; workers still running by then are left out
+    private static String failures(Process[] workers, File[] logs) {
+        StringBuilder failures = new StringBuilder();
+        long deadline = System.currentTimeMillis() + EXIT_TIMEOUT;
+        for (int i = 0; i < workers.length; i++) {
+            if (workers[i] == null) continue;
+            try {
+                long left = Math.max(0, deadline - System.currentTimeMillis());
+                if (!workers[i].waitFor(left, TimeUnit.MILLISECONDS)) continue;
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            int status = workers[i].exitValue();
+            if (status != 0) failures.append(System.lineSeparator()).append(describe(i, status, logs[i]));
+        }
+        return failures.toString();
+    }
+
+    private static String describe(int shard, int status, File log) {
+        String text;
+        try {
+            text = new String(Files.readAllBytes(log.toPath()), Charset.defaultCharset()).trim();
+        }
+        catch (IOException e) {
+            text = "";
+        }
+        if (text.length() > MAX_LOG_CHARS) text = "..." + text.substring(text.length() - MAX_LOG_CHARS);
+        return "Worker for shard " + shard + " exited with status " + status
+                + (text.isEmpty() ? "" : ":" + System.lineSeparator() + text);
+    }
+
+    // start a worker JVM for the given shard on the classpath of this one, with its standard
+    // error going to the given file
+    private Process launch(File edgeList, int port, int shard, File log) throws IOException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        ProcessBuilder builder = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                BoruvkaShardWorker.class.getName(), InetAddress.getLoopbackAddress().getHostAddress(),
+                String.valueOf(port), String.valueOf(shard), String.valueOf(shards), edgeList.getAbsolutePath());
+        builder.redirectOutput(ProcessBuilder.Redirect.INHERIT);
+        builder.redirectError(log);
+        return builder.start();
+    }
+
+    private void boruvka(BinaryIn[] in, BinaryOut[] out) {
+        UF uf = new UF(vertices);
+        double[] bestWeight = new double[vertices];
+        long[] bestId = new long[vertices];
+        int[] bestA = new int[vertices];
+        int[] bestB = new int[vertices];
+        int[] touched = new int[vertices];
+        Arrays.fill(bestId, -1L);
+        int[] merges = new int[0];   // child, root pairs of the last round
+
+        while (true) {
+            for (BinaryOut o : out) {
+                o.write(merges.length / 2);
+                for (int x : merges) o.write(x);
+                o.flush();
+            }
+
+            // the lightest proposal for every component
+            int components = 0;
+            for (BinaryIn i : in) {
+                int proposals = i.readInt();
+                if (proposals < 0) throw new IllegalStateException("Malformed proposal count " + proposals);
+                for (int k = 0; k < proposals; k++) {
+                    int c = i.readInt(), a = i.readInt(), b = i.readInt();
+                    double w = i.readDouble();
+                    long id = i.readLong();
+                    if (bestId[c] < 0) touched[components++] = c;
+                    else if (!(w < bestWeight[c] || (w == bestWeight[c] && id < bestId[c]))) continue;
+                    bestWeight[c] = w;
+                    bestId[c] = id;
+                    bestA[c] = a;
+                    bestB[c] = b;
+                }
+            }
+            if (components == 0) break;
+            rounds++;
+
+            // add the chosen edges; an edge chosen by both its components is added once
+            int[] next = new int[2 * components];
+            int n = 0;
+            for (int k = 0; k < components; k++) {
+                int c = touched[k];
+                int rootA = uf.find(bestA[c]), rootB = uf.find(bestB[c]);
+                if (rootA != rootB) {
+                    uf.union(rootA, rootB);
+                    int root = uf.find(rootA);
+                    next[n++] = root == rootA ? rootB : rootA;
+                    next[n++] = root;
+                    mst.enqueue(new Edge(bestA[c], bestB[c], bestWeight[c]));
+                    weight += bestWeight[c];
+                }
+                bestId[c] = -1L;
+            }
+            merges = Arrays.copyOf(next, n);
+        }
+        for (BinaryOut o : out) {
+            o.write(-1);
+            o.flush();
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        if (socket == null) return;
+        try {
+            socket.close();
+        }
+        catch (IOException ignored) {
+            // nothing left to do with it
+        }
+    }
+
+    /**
+     * Returns the number of vertices of the graph.
+     *
+     * @return the number of vertices
+     */
+    public int getVerticesCount() {
+        return vertices;
+    }
+
+    /**
+     * Returns the number of Borůvka rounds that added edges.
+     *
+     * @return the number of rounds
+     */
+    public int getRoundCount() {
+        return rounds;
+    }
+
+    /**
+     * Returns the edges in a minimum spanning tree (or forest), in the order they
+     * were added.
+     *
+     * @return the edges in a minimum spanning tree (or forest)
+     */
+    public Iterable<Edge> getEdges() {
+        return mst;
+    }
+
+    /**
+     * Returns the sum of the edge weights in a minimum spanning tree (or forest).
+     *
+     * @return the sum of the edge weights in a minimum spanning tree (or forest)
+     */
+    public double getWeight() {
+        return weight;
+    }
+
+    private static final String TEST_DATA_REFERENCE_ROOT = "org/notorious/visualization/graphing/collection/algorithm/tree/spanning/";
+    private static final String TEST_DATA_MEDIUM = "mediumEWG.txt";
+
+    /**
+     * Unit tests the {@code ShardedBoruvkaMST} data type with local worker JVMs.
+     *
+     * @param args the command-line arguments
+     * @throws URISyntaxException if the test data cannot be located
+     */
+    public static void main(String[] args) throws URISyntaxException {
+        int shards = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        File file = new File(Cache.class.getClassLoader().getResource(TEST_DATA_REFERENCE_ROOT + TEST_DATA_MEDIUM).toURI());
+        ShardedBoruvkaMST mst = new ShardedBoruvkaMST(file, shards);
+        StdOut.printf("%d shards, %d rounds, %.5f\n", shards, mst.getRoundCount(), mst.getWeight());
+    }
+}
@@ -0,0 +1,274 @@
+package com.notorious.visualization.graphing.algorithm.tree.steiner;
+
+import com.notorious.visualization.graphing.algorithm.graph.Edge;
+import com.notorious.visualization.graphing.algorithm.graph.WeightedEdgeGraph;
+import com.notorious.visualization.graphing.algorithm.tree.spanning.kruskal.KruskalMST;
+import com.notorious.visualization.graphing.collection.cache.Cache;
+import com.notorious.visualization.graphing.collection.queue.Queue;
+import com.notorious.visualization.graphing.util.In;
+import com.notorious.visualization.graphing.util.IndexMinPQ;
+import com.notorious.visualization.graphing.util.StdOut;
+import com.notorious.visualization.graphing.util.union.UF;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The {@code MehlhornSteinerTree} class computes a tree of an undirected graph with
+ * non-negative edge weights that connects a given set of <em>terminal</em> vertices,
+ * weighing at most twice as much as the optimal Steiner tree.
+ * <p>
+ * This implementation uses <em>Mehlhorn's algorithm</em>. A single Dijkstra search
+ * started from all terminals at once splits the vertices into <em>Voronoi regions</em>,
+ * one per terminal, together with a shortest-path tree inside every region. Each
+ * graph edge <em>v-w</em> joining two regions gives a path between their terminals of
+ * length <em>dist(v)</em> + <em>weight(v-w)</em> + <em>dist(w)</em>; the lightest
+ * such path for every pair of adjacent regions becomes an edge of a small terminal
+ * graph, whose minimum spanning tree is computed with {@link KruskalMST}. Every
+ * terminal tree edge is then expanded back into its bridging graph edge and the two
+ * shortest paths on either side, which yields a tree of the graph whose leaves are
+ * all terminals. This replaces the metric closure over all pairs of terminals (and
+ * the all-pairs shortest paths it needs) of the classic 2-approximation.
+ * <p>
+ * Terminals in different connected components are connected within each component,
+ * giving a Steiner forest. The constructor takes time proportional to
+ * <em>E</em> log <em>V</em> and extra space proportional to <em>E</em> + <em>V</em>.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class MehlhornSteinerTree {
+
+    private final int vertices;
+    private final int[] terminals;      // terminals[i] = the i-th distinct terminal
+    private final double[] distTo;      // distTo[v] = distance from v to the nearest terminal
+    private final int[] region;         // region[v] = index of the nearest terminal, -1 if unreachable
+    private final Edge[] edgeTo;        // edgeTo[v] = last edge on the shortest path to v
+    private final Queue<Edge> tree = new Queue<>();
+    private double weight;
+
+    /**
+     * Computes an approximate Steiner tree (or forest) connecting the given terminals.
+     *
+     * @param graph     the edge-weighted graph
+     * @param terminals the vertices that have to be connected; duplicates are ignored
+     * @throws IllegalArgumentException if an edge weight is negative
+     * @throws IllegalArgumentException unless every terminal is between {@code 0} and {@code V-1}
+     */
+    public MehlhornSteinerTree(WeightedEdgeGraph graph, int... terminals) {
+        vertices = graph.getVerticesCount();
+        for (Edge e : graph.getEdges()) {
+            if (e.getWeight() < 0) throw new IllegalArgumentException("Edge " + e + " has negative weight");
+        }
+        distTo = new double[vertices];
+        region = new int[vertices];
+        edgeTo = new Edge[vertices];
+        for (int v = 0; v < vertices; v++) {
+            distTo[v] = Double.POSITIVE_INFINITY;
+            region[v] = -1;
+        }
+
+        // keep the distinct terminals in the given order
+        int[] distinct = new int[terminals.length];
+        int count = 0;
+        for (int t : terminals) {
+            validateVertex(t);
+            if (region[t] >= 0) continue;
+            region[t] = count;
+            distinct[count++] = t;
+        }
+        this.terminals = Arrays.copyOf(distinct, count);
+
+        voronoi(graph);
+        WeightedEdgeGraph terminalGraph = new WeightedEdgeGraph(count);
+        Map<Edge, Edge> bridges = bridges(graph, terminalGraph);
+        expand(new KruskalMST(terminalGraph), bridges);
+        assert check();
+    }
+
+    // multi-source Dijkstra from every terminal at once
+    private void voronoi(WeightedEdgeGraph graph) {
+        IndexMinPQ<Double> pq = new IndexMinPQ<>(Math.max(1, vertices));
+        for (int t : terminals) {
+            distTo[t] = 0D;
+            pq.insert(t, 0D);
+        }
+        while (!pq.isEmpty()) {
+            int v = pq.delMin();
+            for (Edge e : graph.getAdjacent(v)) {
+                int w = e.getOtherEndpoint(v);
+                double distance = distTo[v] + e.getWeight();
+                if (distance < distTo[w]) {
+                    distTo[w] = distance;
+                    edgeTo[w] = e;
+                    region[w] = region[v];
+                    if (pq.contains(w)) pq.decreaseKey(w, distance);
+                    else                pq.insert(w, distance);
+                }
+            }
+        }
+    }
+
+    // the lightest bridging edge between every pair of adjacent regions, as terminal graph edges
+    private Map<Edge, Edge> bridges(WeightedEdgeGraph graph, WeightedEdgeGraph terminalGraph) {
+        Map<Long, Edge> lightest = new HashMap<>();
+        for (Edge e : graph.getEdges()) {
+            int v = e.getEndpointA(), w = e.getOtherEndpoint(v);
+            int a = region[v], b = region[w];
+            if (a < 0 || b < 0 || a == b) continue;
+            long pair = (long) Math.min(a, b) * terminals.length + Math.max(a, b);
+            Edge best = lightest.get(pair);
+            if (best == null || length(e) < length(best)) lightest.put(pair, e);
+        }
+        Map<Edge, Edge> bridges = new IdentityHashMap<>();
+        for (Edge e : lightest.values()) {
+            int v = e.getEndpointA(), w = e.getOtherEndpoint(v);
+            Edge terminalEdge = new Edge(region[v], region[w], length(e));
+            terminalGraph.addEdge(terminalEdge);
+            bridges.put(terminalEdge, e);
+        }
+        return bridges;
+    }
+
+    // length of the terminal-to-terminal path through the bridging edge e
+    private double length(Edge e) {
+        int v = e.getEndpointA(), w = e.getOtherEndpoint(v);
+        return distTo[v] + e.getWeight() + distTo[w];
+    }
+
+    // replace every terminal tree edge by its bridging edge and the shortest paths to the terminals
+    private void expand(KruskalMST terminalTree, Map<Edge, Edge> bridges) {
+        boolean[] added = new boolean[vertices];     // added[v] = edgeTo[v] is in the tree
+        for (Edge terminalEdge : terminalTree.getEdges()) {
+            Edge bridge = bridges.get(terminalEdge);
+            add(bridge);
+            int v = bridge.getEndpointA();
+            climb(v, added);
+            climb(bridge.getOtherEndpoint(v), added);
+        }
+    }
+
+    // add the shortest path from v up to its terminal, stopping where it is already in the tree
+    private void climb(int v, boolean[] added) {
+        while (edgeTo[v] != null && !added[v]) {
+            added[v] = true;
+            add(edgeTo[v]);
+            v = edgeTo[v].getOtherEndpoint(v);
+        }
+    }
+
+    private void add(Edge e) {
+        tree.enqueue(e);
+        weight += e.getWeight();
+    }
+
+    /**
+     * Returns the number of vertices of the graph.
+     *
+     * @return the number of vertices
+     */
+    public int getVerticesCount() {
+        return vertices;
+    }
+
+    /**
+     * Returns the distinct terminals, in the order they were first given.
+     *
+     * @return the terminals
+     */
+    public int[] getTerminals() {
+        return terminals.clone();
+    }
+
+    /**
+     * Returns the terminal closest to the given vertex, whose Voronoi region it is in.
+     *
+     * @param v the vertex
+     * @return the nearest terminal, or {@code -1} if no terminal can reach {@code v}
+     * @throws IllegalArgumentException unless {@code 0 <= v < V}
+     */
+    public int getNearestTerminal(int v) {
+        validateVertex(v);
+        return region[v] < 0 ? -1 : terminals[region[v]];
+    }
+
+    /**
+     * Returns the edges of the Steiner tree (or forest).
+     *
+     * @return the edges of the tree
+     */
+    public Iterable<Edge> getEdges() {
+        return tree;
+    }
+
+    /**
+     * Returns the number of edges of the Steiner tree (or forest).
+     *
+     * @return the number of edges
+     */
+    public int getEdgeCount() {
+        return tree.size();
+    }
+
+    /**
+     * Returns the sum of the edge weights of the Steiner tree (or forest), which is
+     * at most twice the optimum.
+     *
+     * @return the weight of the tree
+     */
+    public double getWeight() {
+        return weight;
+    }
+
+    // check that the edges form a forest whose leaves are all terminals
+    private boolean check() {
+        int[] degree = new int[vertices];
+        UF uf = new UF(vertices);
+        for (Edge e : tree) {
+            int v = e.getEndpointA(), w = e.getOtherEndpoint(v);
+            if (uf.connected(v, w)) {
+                System.err.println("Steiner tree contains a cycle through " + e);
+                return false;
+            }
+            uf.union(v, w);
+            degree[v]++;
+            degree[w]++;
+        }
+        boolean[] terminal = new boolean[vertices];
+        for (int t : terminals) terminal[t] = true;
+        for (int v = 0; v < vertices; v++) {
+            if (degree[v] == 1 && !terminal[v]) {
+                System.err.println("Steiner tree has a non-terminal leaf " + v);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // throw an IllegalArgumentException unless {@code 0 <= v < V}
+    private void validateVertex(int v) {
+        if (v < 0 || v >= vertices)
+            throw new IllegalArgumentException("Vertex \'" + v + "\' is not between 0 and " + (vertices - 1));
+    }
+
+    private static final String TEST_DATA_REFERENCE_ROOT = "org/notorious/visualization/graphing/collection/algorithm/tree/spanning/";
+    private static final String TEST_DATA_MEDIUM = "mediumEWG.txt";
+
+    /**
+     * Unit tests the {@code MehlhornSteinerTree} data type.
+     *
+     * @param args the command-line arguments
+     */
+    public static void main(String[] args) {
+        In in = new In(Cache.class.getClassLoader().getResource(TEST_DATA_REFERENCE_ROOT + TEST_DATA_MEDIUM));
+        WeightedEdgeGraph graph = new WeightedEdgeGraph(in);
+        MehlhornSteinerTree steiner = new MehlhornSteinerTree(graph, 0, 25, 50, 75, 100, 125, 150, 175, 200, 225);
+        for (Edge e : steiner.getEdges()) {
+            StdOut.println(e);
+        }
+        StdOut.printf("%d edges, %.5f\n", steiner.getEdgeCount(), steiner.getWeight());
+    }
+}
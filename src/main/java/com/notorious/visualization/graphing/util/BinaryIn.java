@@ -28,6 +28,10 @@ import java.util.NoSuchElementException;
  *  <p>
  *  The client should not intermix calls to {@code BinaryIn} with calls
  *  to {@code In}; otherwise unexpected behavior will result.
+ *  <p>
+ *  Bytes are taken from the underlying stream only when a read needs them
+ *  (never one byte ahead), so a request/response protocol over a socket does
+ *  not block waiting for data the peer has not sent yet.
  *
  *  @author Robert Sedgewick
  *  @author Kevin Wayne
@@ -44,7 +48,6 @@ public final class BinaryIn {
      */
     public BinaryIn() {
         in = new BufferedInputStream(System.in);
-        fillBuffer();
     }
 
    /**
@@ -54,7 +57,6 @@ public final class BinaryIn {
      */
     public BinaryIn(InputStream is) {
         in = new BufferedInputStream(is);
-        fillBuffer();
     }
 
    /**
@@ -66,7 +68,6 @@ public final class BinaryIn {
         try {
             InputStream is = socket.getInputStream();
             in = new BufferedInputStream(is);
-            fillBuffer();
         }
         catch (IOException ioe) {
             System.err.println("Could not open " + socket);
@@ -83,7 +84,6 @@ public final class BinaryIn {
             URLConnection site = url.openConnection();
             InputStream is     = site.getInputStream();
             in = new BufferedInputStream(is);
-            fillBuffer();
         }
         catch (IOException ioe) {
             System.err.println("Could not open " + url);
@@ -103,7 +103,6 @@ public final class BinaryIn {
             if (file.exists()) {
                 FileInputStream fis = new FileInputStream(file);
                 in = new BufferedInputStream(fis);
-                fillBuffer();
                 return;
             }
 
@@ -118,7 +117,6 @@ public final class BinaryIn {
             URLConnection site = url.openConnection();
             InputStream is     = site.getInputStream();
             in = new BufferedInputStream(is);
-            fillBuffer();
         }
         catch (IOException ioe) {
             System.err.println("Could not open " + name);
@@ -154,6 +152,7 @@ public final class BinaryIn {
      *         {@code false} otherwise
      */
     public boolean isEmpty() {
+        if (n == 0) fillBuffer();
         return buffer == EOF;
     }
 
@@ -167,7 +166,6 @@ public final class BinaryIn {
         if (isEmpty()) throw new NoSuchElementException("Reading from empty input stream");
         n--;
         boolean bit = ((buffer >> n) & 1) == 1;
-        if (n == 0) fillBuffer();
         return bit;
     }
 
@@ -183,7 +181,7 @@ public final class BinaryIn {
         // special case when aligned byte
         if (n == 8) {
             int x = buffer;
-            fillBuffer();
+            n = 0;
             return (char) (x & 0xff);
         }
 
@@ -0,0 +1,281 @@
+package com.notorious.visualization.graphing.util;
+
+import java.util.NoSuchElementException;
+
+/**
+ * The {@code DoubleIndexMinPQ} class represents an indexed priority queue of primitive
+ * {@code double} keys. It supports the same <em>insert</em>, <em>delete-the-minimum</em>
+ * and <em>decrease-key</em> operations as {@link IndexMinPQ}, without boxing a key per
+ * operation, and can be emptied with {@link #clear()} and reused for another search.
+ * <p>
+ * This implementation uses a 4-ary heap that keeps each key next to its index, so that
+ * sinking compares four keys that sit in adjacent memory instead of chasing an index into
+ * a separate key array. The <em>insert</em>, <em>delete-the-minimum</em> and
+ * <em>decrease-key</em> operations take logarithmic time. The <em>clear</em> operation
+ * takes time proportional to the number of keys still on the priority queue, and all
+ * other operations take constant time. Construction takes time proportional to the
+ * specified capacity.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class DoubleIndexMinPQ {
+
+    private static final int ARITY = 4;
+
+    private final int maxN;          // maximum number of elements on PQ
+    private int n;                   // number of elements on PQ
+    private final int[] pq;          // 4-ary heap of indices, using 0-based indexing
+    private final double[] heapKey;  // heapKey[k] = key of pq[k]
+    private final int[] qp;          // inverse of pq - qp[pq[k]] = k, or -1 if not on PQ
+
+    /**
+     * Initializes an empty indexed priority queue with indices between {@code 0}
+     * and {@code maxN - 1}.
+     *
+     * @param maxN the keys on this priority queue are indexed from {@code 0} to {@code maxN - 1}
+     * @throws IllegalArgumentException if {@code maxN < 0}
+     */
+    public DoubleIndexMinPQ(int maxN) {
+        if (maxN < 0) throw new IllegalArgumentException("Capacity must be nonnegative");
+        this.maxN = maxN;
+        pq = new int[maxN];
+        heapKey = new double[maxN];
+        qp = new int[maxN];
+        for (int i = 0; i < maxN; i++)
+            qp[i] = -1;
+    }
+
+    /**
+     * Returns the largest index plus one that this priority queue accepts.
+     *
+     * @return the capacity of this priority queue
+     */
+    public int getCapacity() {
+        return maxN;
+    }
+
+    /**
+     * Returns true if this priority queue is empty.
+     *
+     * @return {@code true} if this priority queue is empty; {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    /**
+     * Returns the number of keys on this priority queue.
+     *
+     * @return the number of keys on this priority queue
+     */
+    public int size() {
+        return n;
+    }
+
+    /**
+     * Is {@code i} an index on this priority queue?
+     *
+     * @param i an index
+     * @return {@code true} if {@code i} is an index on this priority queue; {@code false} otherwise
+     * @throws IndexOutOfBoundsException unless {@code 0 <= i < maxN}
+     */
+    public boolean contains(int i) {
+        validateIndex(i);
+        return qp[i] != -1;
+    }
+
+    /**
+     * Associates key with index {@code i}.
+     *
+     * @param i an index
+     * @param key the key to associate with index {@code i}
+     * @throws IndexOutOfBoundsException unless {@code 0 <= i < maxN}
+     * @throws IllegalArgumentException if there already is an item associated with index {@code i}
+     */
+    public void insert(int i, double key) {
+        if (contains(i)) throw new IllegalArgumentException("index is already in the priority queue");
+        pq[n] = i;
+        heapKey[n] = key;
+        qp[i] = n;
+        swim(n++);
+    }
+
+    /**
+     * Returns an index associated with a minimum key.
+     *
+     * @return an index associated with a minimum key
+     * @throws NoSuchElementException if this priority queue is empty
+     */
+    public int minIndex() {
+        if (n == 0) throw new NoSuchElementException("Priority queue underflow");
+        return pq[0];
+    }
+
+    /**
+     * Returns a minimum key.
+     *
+     * @return a minimum key
+     * @throws NoSuchElementException if this priority queue is empty
+     */
+    public double minKey() {
+        if (n == 0) throw new NoSuchElementException("Priority queue underflow");
+        return heapKey[0];
+    }
+
+    /**
+     * Removes a minimum key and returns its associated index.
+     *
+     * @return an index associated with a minimum key
+     * @throws NoSuchElementException if this priority queue is empty
+     */
+    public int delMin() {
+        if (n == 0) throw new NoSuchElementException("Priority queue underflow");
+        int min = pq[0];
+        qp[min] = -1;
+        if (--n > 0) {
+            pq[0] = pq[n];
+            heapKey[0] = heapKey[n];
+            qp[pq[0]] = 0;
+            sink(0);
+        }
+        return min;
+    }
+
+    /**
+     * Returns the key associated with index {@code i}.
+     *
+     * @param i the index of the key to return
+     * @return the key associated with index {@code i}
+     * @throws IndexOutOfBoundsException unless {@code 0 <= i < maxN}
+     * @throws NoSuchElementException no key is associated with index {@code i}
+     */
+    public double keyOf(int i) {
+        if (!contains(i)) throw new NoSuchElementException("index is not in the priority queue");
+        return heapKey[qp[i]];
+    }
+
+    /**
+     * Decrease the key associated with index {@code i} to the specified value.
+     *
+     * @param i the index of the key to decrease
+     * @param key decrease the key associated with index {@code i} to this key
+     * @throws IndexOutOfBoundsException unless {@code 0 <= i < maxN}
+     * @throws IllegalArgumentException if {@code key >= keyOf(i)}
+     * @throws NoSuchElementException no key is associated with index {@code i}
+     */
+    public void decreaseKey(int i, double key) {
+        if (!contains(i)) throw new NoSuchElementException("index is not in the priority queue");
+        int k = qp[i];
+        if (heapKey[k] <= key)
+            throw new IllegalArgumentException("Calling decreaseKey() with given argument would not strictly decrease the key");
+        heapKey[k] = key;
+        swim(k);
+    }
+
+    /**
+     * Inserts index {@code i} with the given key, or decreases its key if it is already on
+     * this priority queue with a larger one. This is the usual relaxation step of a
+     * shortest path search.
+     *
+     * @param i an index
+     * @param key the new key of index {@code i}
+     * @return {@code true} if the priority queue changed; {@code false} if {@code i}
+     *         already had a key that is no larger than {@code key}
+     * @throws IndexOutOfBoundsException unless {@code 0 <= i < maxN}
+     */
+    public boolean offer(int i, double key) {
+        validateIndex(i);
+        int k = qp[i];
+        if (k == -1) {
+            pq[n] = i;
+            heapKey[n] = key;
+            qp[i] = n;
+            swim(n++);
+            return true;
+        }
+        if (heapKey[k] <= key) return false;
+        heapKey[k] = key;
+        swim(k);
+        return true;
+    }
+
+    /**
+     * Removes every key from this priority queue, so that it can be reused.
+     */
+    public void clear() {
+        for (int k = 0; k < n; k++)
+            qp[pq[k]] = -1;
+        n = 0;
+    }
+
+    private void validateIndex(int i) {
+        if (i < 0 || i >= maxN) throw new IndexOutOfBoundsException("index " + i + " is not between 0 and " + (maxN - 1));
+    }
+
+
+   /***************************************************************************
+    * Heap helper functions.
+    ***************************************************************************/
+
+    // move the entry at position k up, shifting parents down instead of swapping
+    private void swim(int k) {
+        int index = pq[k];
+        double key = heapKey[k];
+        while (k > 0) {
+            int parent = (k - 1) / ARITY;
+            if (heapKey[parent] <= key) break;
+            pq[k] = pq[parent];
+            heapKey[k] = heapKey[parent];
+            qp[pq[k]] = k;
+            k = parent;
+        }
+        pq[k] = index;
+        heapKey[k] = key;
+        qp[index] = k;
+    }
+
+    // move the entry at position k down, shifting the smallest child up instead of swapping
+    private void sink(int k) {
+        int index = pq[k];
+        double key = heapKey[k];
+        while (true) {
+            int first = ARITY * k + 1;
+            if (first >= n) break;
+            int last = Math.min(first + ARITY, n);
+            int child = first;
+            for (int j = first + 1; j < last; j++) {
+                if (heapKey[j] < heapKey[child]) child = j;
+            }
+            if (heapKey[child] >= key) break;
+            pq[k] = pq[child];
+            heapKey[k] = heapKey[child];
+            qp[pq[k]] = k;
+            k = child;
+        }
+        pq[k] = index;
+        heapKey[k] = key;
+        qp[index] = k;
+    }
+
+    /**
+     * Unit tests the {@code DoubleIndexMinPQ} data type.
+     *
+     * @param args the command-line arguments
+     */
+    public static void main(String[] args) {
+        double[] keys = { 0.5, 0.25, 0.75, 0.125, 1.0, 0.375, 0.625, 0.875, 0.0625 };
+        DoubleIndexMinPQ pq = new DoubleIndexMinPQ(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            pq.insert(i, keys[i]);
+        }
+        pq.decreaseKey(4, 0.0);
+        pq.offer(2, 0.8);
+        while (!pq.isEmpty()) {
+            double key = pq.minKey();
+            int i = pq.delMin();
+            StdOut.println(i + " " + key);
+        }
+    }
+}
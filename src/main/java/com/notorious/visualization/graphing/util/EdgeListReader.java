@@ -0,0 +1,280 @@
+package com.notorious.visualization.graphing.util;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+
+/**
+ * The {@code EdgeListReader} class streams the edges of an edge-weighted graph file
+ * one at a time, without building a graph and without allocating per edge.
+ * <p>
+ * The expected format is the same one read by the {@code In} based graph
+ * constructors: the number of vertices <em>V</em>, followed by the number of
+ * edges <em>E</em>, followed by <em>E</em> triples of two vertices and an edge
+ * weight, with each entry separated by whitespace. Unlike {@link In}, which goes
+ * through a {@link java.util.Scanner} and a regular expression per token, this
+ * reader tokenizes raw bytes from a large buffer, so it runs at close to disk speed
+ * on multi-gigabyte files. The edge count is read as a {@code long} so files with
+ * more than 2<sup>31</sup> edges are supported.
+ * <p>
+ * Usage follows a cursor pattern:
+ * <pre>
+ *     while (reader.next()) {
+ *         int v = reader.getEndpointA();
+ *         int w = reader.getEndpointB();
+ *         double weight = reader.getWeight();
+ *     }
+ * </pre>
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class EdgeListReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final char[] token = new char[64];
+    private int position;
+    private int limit;
+
+    private final int vertices;
+    private final long edges;
+    private long read;
+
+    private int endpointA;
+    private int endpointB;
+    private double weight;
+
+    /**
+     * Opens an edge list reader over the given file and reads its header.
+     *
+     * @param file the edge list file
+     * @throws IllegalArgumentException if the file cannot be opened
+     * @throws IllegalArgumentException if the number of vertices or edges is negative
+     */
+    public EdgeListReader(File file) {
+        this(open(file));
+    }
+
+    /**
+     * Opens an edge list reader over the given input stream and reads its header.
+     * The stream is closed when this reader is closed.
+     *
+     * @param in the input stream
+     * @throws IllegalArgumentException if the number of vertices or edges is negative
+     * @throws NumberFormatException if a count is not an integer or is out of range
+     */
+    public EdgeListReader(InputStream in) {
+        if (in == null) throw new IllegalArgumentException("input stream argument is null");
+        this.in = in;
+        long v = readLong();
+        this.edges = readLong();
+        if (v < 0 || v > Integer.MAX_VALUE) throw new IllegalArgumentException("Number of vertices must be non-negative!");
+        if (edges < 0) throw new IllegalArgumentException("Number of edges must be non-negative!");
+        this.vertices = (int) v;
+    }
+
+    private static InputStream open(File file) {
+        if (file == null) throw new IllegalArgumentException("file argument is null");
+        try {
+            return new FileInputStream(file);
+        } catch (IOException ioe) {
+            throw new IllegalArgumentException("Could not open " + file, ioe);
+        }
+    }
+
+    /**
+     * Gets the number of vertices declared in the header.
+     *
+     * @return the number of vertices
+     */
+    public int getVerticesCount() {
+        return vertices;
+    }
+
+    /**
+     * Gets the number of edges declared in the header.
+     *
+     * @return the number of edges
+     */
+    public long getEdgeCount() {
+        return edges;
+    }
+
+    /**
+     * Advances to the next edge of the file.
+     *
+     * @return {@code true} if an edge was read; {@code false} once all
+     *         {@link #getEdgeCount()} edges have been consumed
+     * @throws IllegalArgumentException if an endpoint is not between {@code 0} and {@code V-1}
+     * @throws NumberFormatException if a token is not a number or is out of range
+     * @throws NoSuchElementException if the file ends before the declared edge count
+     */
+    public boolean next() {
+        if (read == edges) return false;
+        endpointA = readVertex();
+        endpointB = readVertex();
+        weight = readDouble();
+        read++;
+        return true;
+    }
+
+    /**
+     * Advances to the next edge of the file, skipping over its weight without
+     * parsing it. Afterwards {@link #getWeight()} returns {@code Double.NaN}.
+     * This is the fast path for clients that only need connectivity.
+     *
+     * @return {@code true} if an edge was read; {@code false} once all
+     *         {@link #getEdgeCount()} edges have been consumed
+     * @throws IllegalArgumentException if an endpoint is not between {@code 0} and {@code V-1}
+     * @throws NoSuchElementException if the file ends before the declared edge count
+     */
+    public boolean nextEndpoints() {
+        if (read == edges) return false;
+        endpointA = readVertex();
+        endpointB = readVertex();
+        int c = skipWhitespace();
+        while (!isDelimiter(c)) c = readByte();
+        weight = Double.NaN;
+        read++;
+        return true;
+    }
+
+    /**
+     * Gets the endpoint A of the current edge.
+     *
+     * @return the endpoint A
+     */
+    public int getEndpointA() {
+        return endpointA;
+    }
+
+    /**
+     * Gets the endpoint B of the current edge.
+     *
+     * @return the endpoint B
+     */
+    public int getEndpointB() {
+        return endpointB;
+    }
+
+    /**
+     * Gets the weight of the current edge.
+     *
+     * @return the weight
+     */
+    public double getWeight() {
+        return weight;
+    }
+
+    /**
+     * Closes the underlying stream.
+     */
+    @Override
+    public void close() {
+        try {
+            in.close();
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    private int readVertex() {
+        long v = readLong();
+        if (v < 0 || v >= vertices)
+            throw new IllegalArgumentException("Vertex \'" + v + "\' is not between 0 and " + (vertices - 1));
+        return (int) v;
+    }
+
+    // reads a whitespace delimited integer token, rejecting values beyond the range of a long
+    private long readLong() {
+        int c = skipWhitespace();
+        boolean negative = c == '-';
+        if (negative || c == '+') c = readByte();
+        if (c < '0' || c > '9') throw new NumberFormatException("Expected an integer but found '" + (char) c + "'");
+        long value = 0;
+        while (c >= '0' && c <= '9') {
+            int d = c - '0';
+            if (value > (Long.MAX_VALUE - d) / 10)
+                throw new NumberFormatException("Integer token is out of range after " + value);
+            value = value * 10 + d;
+            c = readByte();
+        }
+        return negative ? -value : value;
+    }
+
+    // reads a whitespace delimited floating point token; plain decimals with at most
+    // 18 significant digits are converted exactly, anything else (exponents, special
+    // values, long fractions) falls back to Double.parseDouble
+    private double readDouble() {
+        int c = skipWhitespace();
+        int length = 0;
+        boolean negative = c == '-';
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean fraction = false;
+        boolean simple = true;
+        boolean anyDigit = false;
+        while (!isDelimiter(c)) {
+            if (length == token.length) throw new NumberFormatException("Weight token is too long");
+            token[length++] = (char) c;
+            if (c >= '0' && c <= '9') {
+                anyDigit = true;
+                mantissa = mantissa * 10 + (c - '0');
+                if (mantissa > 0) digits++;
+                if (fraction) scale++;
+            } else if (c == '.' && !fraction) {
+                fraction = true;
+            } else if (!((c == '-' || c == '+') && length == 1)) {
+                simple = false;
+            }
+            c = readByte();
+        }
+        if (simple && !anyDigit)
+            throw new NumberFormatException("Expected a weight but found '" + new String(token, 0, length) + "'");
+        if (simple && digits <= 18 && scale < POWERS_OF_TEN.length && mantissa < (1L << 53)) {
+            double value = mantissa / POWERS_OF_TEN[scale];
+            return negative ? -value : value;
+        }
+        return Double.parseDouble(new String(token, 0, length));
+    }
+
+    private static boolean isDelimiter(int c) {
+        return c == -1 || c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    private int skipWhitespace() {
+        int c = readByte();
+        while (c == ' ' || c == '\n' || c == '\r' || c == '\t') c = readByte();
+        if (c == -1) throw new NoSuchElementException("Edge list ended after " + read + " of " + edges + " edges");
+        return c;
+    }
+
+    private int readByte() {
+        if (position == limit) {
+            try {
+                limit = in.read(buffer, 0, BUFFER_SIZE);
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++] & 0xFF;
+    }
+}
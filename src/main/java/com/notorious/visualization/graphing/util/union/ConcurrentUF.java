@@ -0,0 +1,121 @@
+package com.notorious.visualization.graphing.util.union;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * The {@code ConcurrentUF} class is a lock-free <em>union–find data type</em> with the
+ * same API as {@link UF}, safe to share between threads.
+ * <p>
+ * The parent links live in an {@link AtomicIntegerArray}. The <em>find</em> operation
+ * compresses paths by halving with compare-and-set, so concurrent finds never block
+ * each other and a lost update only costs a little compression. The <em>union</em>
+ * operation links the root with the smaller index below the root with the larger
+ * index with a single compare-and-set, retrying if another thread changed either
+ * root first; linking by index keeps the forest acyclic without locks or ranks.
+ * <p>
+ * Any mix of concurrent operations is linearizable: {@code connected()} only answers
+ * {@code false} after seeing a root that was still a root, and {@code union()} returns
+ * {@code true} for exactly one of several threads merging the same two components.
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class ConcurrentUF {
+
+    private final AtomicIntegerArray parent;   // parent[i] = parent of i
+    private final AtomicInteger count;         // number of components
+
+    /**
+     * Initializes an empty union–find data structure with {@code n} sites
+     * {@code 0} through {@code n-1}. Each site is initially in its own component.
+     *
+     * @param n the number of sites
+     * @throws IllegalArgumentException if {@code n < 0}
+     */
+    public ConcurrentUF(int n) {
+        if (n < 0) throw new IllegalArgumentException("Number of sites must be non-negative!");
+        parent = new AtomicIntegerArray(n);
+        for (int i = 0; i < n; i++) {
+            parent.set(i, i);
+        }
+        count = new AtomicInteger(n);
+    }
+
+    /**
+     * Returns the component identifier for the component containing site {@code p}.
+     *
+     * @param p the integer representing one site
+     * @return the component identifier for the component containing site {@code p}
+     * @throws IndexOutOfBoundsException unless {@code 0 <= p < n}
+     */
+    public int find(int p) {
+        validate(p);
+        while (true) {
+            int up = parent.get(p);
+            if (up == p) return p;
+            int grand = parent.get(up);
+            if (grand != up) parent.compareAndSet(p, up, grand);    // path compression by halving
+            p = grand;
+        }
+    }
+
+    /**
+     * Returns the number of components.
+     *
+     * @return the number of components (between {@code 1} and {@code n})
+     */
+    public int count() {
+        return count.get();
+    }
+
+    /**
+     * Returns true if the two sites are in the same component.
+     *
+     * @param p the integer representing one site
+     * @param q the integer representing the other site
+     * @return {@code true} if the two sites {@code p} and {@code q} are in the same component;
+     *         {@code false} otherwise
+     * @throws IndexOutOfBoundsException unless both {@code 0 <= p < n} and {@code 0 <= q < n}
+     */
+    public boolean connected(int p, int q) {
+        while (true) {
+            p = find(p);
+            q = find(q);
+            if (p == q) return true;
+            if (parent.get(p) == p) return false;    // p was still a root after q was found
+        }
+    }
+
+    /**
+     * Merges the component containing site {@code p} with the component containing
+     * site {@code q}.
+     *
+     * @param p the integer representing one site
+     * @param q the integer representing the other site
+     * @return {@code true} if this call merged two components; {@code false} if the
+     *         sites were already connected
+     * @throws IndexOutOfBoundsException unless both {@code 0 <= p < n} and {@code 0 <= q < n}
+     */
+    public boolean union(int p, int q) {
+        while (true) {
+            int rootP = find(p);
+            int rootQ = find(q);
+            if (rootP == rootQ) return false;
+            int lower = Math.min(rootP, rootQ), higher = Math.max(rootP, rootQ);
+            if (parent.compareAndSet(lower, lower, higher)) {
+                count.decrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    // validate that p is a valid index
+    private void validate(int p) {
+        int n = parent.length();
+        if (p < 0 || p >= n) {
+            throw new IndexOutOfBoundsException("index " + p + " is not between 0 and " + (n - 1));
+        }
+    }
+}
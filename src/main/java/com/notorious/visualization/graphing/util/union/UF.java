@@ -123,6 +123,18 @@ public class UF {
         }
     }
 
+    /**
+     * Puts every site back into its own component, reusing the arrays of this
+     * data structure instead of allocating a new one.
+     */
+    public void reset() {
+        count = parent.length;
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+            rank[i] = 0;
+        }
+    }
+
     /**
      * Returns the component identifier for the component containing site {@code p}.
      *
@@ -1,13 +1,48 @@
 package org.notorious.visualization.graphing.collection;
 
+import com.notorious.visualization.graphing.algorithm.cut.KargerMinCut;
+import com.notorious.visualization.graphing.algorithm.graph.AdjMatrixEdgeWeightedDigraph;
+import com.notorious.visualization.graphing.algorithm.graph.DirectedEdge;
 import com.notorious.visualization.graphing.algorithm.graph.Edge;
+import com.notorious.visualization.graphing.algorithm.graph.StreamingConnectedComponents;
 import com.notorious.visualization.graphing.algorithm.graph.WeightedEdgeGraph;
+import com.notorious.visualization.graphing.algorithm.tree.spanning.MSTSensitivity;
+import com.notorious.visualization.graphing.algorithm.tree.spanning.MSTVerifier;
+import com.notorious.visualization.graphing.algorithm.tree.spanning.euclidean.EuclideanMST;
+import com.notorious.visualization.graphing.algorithm.tree.spanning.kruskal.BottleneckPaths;
+import com.notorious.visualization.graphing.algorithm.tree.spanning.kruskal.ExternalKruskalMST;
 import com.notorious.visualization.graphing.algorithm.tree.spanning.kruskal.KruskalMST;
+import com.notorious.visualization.graphing.algorithm.tree.spanning.kruskal.ParallelKruskalMST;
+import com.notorious.visualization.graphing.algorithm.tree.spanning.kruskal.SingleLinkageClustering;
+import com.notorious.visualization.graphing.algorithm.tree.spanning.prim.DensePrimMST;
+import com.notorious.visualization.graphing.algorithm.tree.spanning.sharded.ShardedBoruvkaMST;
+import com.notorious.visualization.graphing.algorithm.tree.steiner.MehlhornSteinerTree;
 import com.notorious.visualization.graphing.collection.cache.Cache;
+import com.notorious.visualization.graphing.util.EdgeListReader;
 import com.notorious.visualization.graphing.util.In;
 import com.notorious.visualization.graphing.util.StdOut;
+import com.notorious.visualization.graphing.util.StdRandom;
+import com.notorious.visualization.graphing.util.union.UF;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
 
 /**
  * ....
@@ -19,6 +54,7 @@ import org.junit.Test;
 public class MSTTesting {
 
     private static final String TEST_DATA_REFERENCE_ROOT = "org/notorious/visualization/graphing/collection/algorithm/tree/spanning/";
+    private static final String TEST_DATA_TINY = "tinyEWG.txt";
     private static final String TEST_DATA_MEDIUM = "mediumEWG.txt";
 
     @Test
@@ -33,4 +69,380 @@ public class MSTTesting {
         StdOut.printf("%.5f\n", mst.getWeight());
         StdOut.println("\nCompleted Stack Test!");
     }
+
+    @Test
+    public void testExternalKruskal() throws URISyntaxException {
+        StdOut.println("Starting External Kruskal Test...");
+        URL resource = Cache.class.getClassLoader().getResource(TEST_DATA_REFERENCE_ROOT + TEST_DATA_MEDIUM);
+        KruskalMST expected = new KruskalMST(new WeightedEdgeGraph(new In(resource)));
+        // a run size far below E forces several spilled runs and a real k-way merge
+        ExternalKruskalMST mst = new ExternalKruskalMST(new File(resource.toURI()), 100,
+                new File(System.getProperty("java.io.tmpdir")));
+        StdOut.printf("%.5f in %d runs\n", mst.getWeight(), mst.getRunCount());
+        assertTrue(mst.getRunCount() > 1);
+        assertEquals(expected.getWeight(), mst.getWeight(), 1E-12);
+        // more runs than can be merged at once: the runs are first merged into longer ones
+        ExternalKruskalMST passes = new ExternalKruskalMST(new File(resource.toURI()), 10,
+                new File(System.getProperty("java.io.tmpdir")));
+        assertTrue(passes.getRunCount() > 64);
+        assertEquals(expected.getWeight(), passes.getWeight(), 1E-12);
+        // an overflowing count or a weight without digits is rejected, not read as a small number
+        for (String text : new String[] {"99999999999999999999\n0\n", "2\n1\n0 1 -\n", "2\n1\n0 1 +\n"}) {
+            try (EdgeListReader reader = new EdgeListReader(
+                    new ByteArrayInputStream(text.getBytes(StandardCharsets.US_ASCII)))) {
+                reader.next();
+                fail("'" + text + "' should be rejected");
+            }
+            catch (NumberFormatException ignored) {
+            }
+        }
+        StdOut.println("\nCompleted External Kruskal Test!");
+    }
+
+    @Test
+    public void testMSTVerifier() {
+        StdOut.println("Starting MST Verifier Test...");
+        In in = new In(Cache.class.getClassLoader().getResource(TEST_DATA_REFERENCE_ROOT + TEST_DATA_MEDIUM));
+        WeightedEdgeGraph G = new WeightedEdgeGraph(in);
+        KruskalMST mst = new KruskalMST(G);
+        MSTVerifier verifier = new MSTVerifier(G, mst.getEdges());
+        assertTrue(verifier.isMinimumSpanningForest());
+        assertEquals(G.getEdgeCount(), verifier.getCheckedEdgeCount());
+
+        // dropping the heaviest tree edge leaves a forest that no longer spans the graph
+        Cache<Edge> partial = new Cache<>();
+        Edge heaviest = null;
+        for (Edge e : mst.getEdges()) {
+            if (heaviest == null || e.getWeight() > heaviest.getWeight()) heaviest = e;
+        }
+        for (Edge e : mst.getEdges()) {
+            if (e != heaviest) partial.add(e);
+        }
+        MSTVerifier broken = new MSTVerifier(G, partial);
+        assertFalse(broken.isMinimumSpanningForest());
+        StdOut.println(broken.getViolation().orElse(""));
+
+        MSTVerifier sampled = new MSTVerifier(G, mst.getEdges(), 0.1, 42L);
+        assertTrue(sampled.isMinimumSpanningForest());
+        assertTrue(sampled.getCheckedEdgeCount() < G.getEdgeCount());
+        // sampling leaves out optimality tests, never the spanning check
+        assertFalse(new MSTVerifier(G, partial, 0D, 42L).isMinimumSpanningForest());
+        StdOut.println("\nCompleted MST Verifier Test!");
+    }
+
+    @Test
+    public void testSingleLinkageClustering() {
+        StdOut.println("Starting Single Linkage Clustering Test...");
+        In in = new In(Cache.class.getClassLoader().getResource(TEST_DATA_REFERENCE_ROOT + TEST_DATA_MEDIUM));
+        WeightedEdgeGraph G = new WeightedEdgeGraph(in);
+        SingleLinkageClustering clustering = new SingleLinkageClustering(G);
+        for (int k = G.getVerticesCount(); k >= clustering.getMinimumClusterCount(); k -= 37) {
+            int[] labels = clustering.getClusters(k);
+            int clusters = 0;
+            for (int label : labels) clusters = Math.max(clusters, label + 1);
+            assertEquals(k, clusters);
+        }
+        double cut = clustering.getMergeHeight(clustering.getMergeCount() / 2);
+        int[] labels = clustering.getClustersAtDistance(cut);
+        for (Edge e : G.getEdges()) {
+            int v = e.getEndpointA(), w = e.getOtherEndpoint(v);
+            if (e.getWeight() <= cut) assertEquals(labels[v], labels[w]);
+        }
+        StdOut.println(clustering.getClusterCount(cut) + " clusters at distance " + cut);
+        StdOut.println("\nCompleted Single Linkage Clustering Test!");
+    }
+
+    @Test
+    public void testBottleneckPaths() {
+        StdOut.println("Starting Bottleneck Paths Test...");
+        StdRandom.setSeed(29L);
+        // sparse enough to leave several components
+        WeightedEdgeGraph G = new WeightedEdgeGraph(60, 90);
+        KruskalMST mst = new KruskalMST(G);
+        BottleneckPaths paths = new BottleneckPaths(mst);
+
+        // the tree as adjacency lists, to walk the path between two vertices by brute force
+        Cache<Edge>[] tree = treeAdjacency(G.getVerticesCount(), mst.getEdges());
+        for (int u = 0; u < G.getVerticesCount(); u++) {
+            double[] heaviest = new double[G.getVerticesCount()];
+            boolean[] reached = new boolean[G.getVerticesCount()];
+            ArrayDeque<Integer> stack = new ArrayDeque<>();
+            heaviest[u] = Double.NEGATIVE_INFINITY;
+            reached[u] = true;
+            stack.push(u);
+            while (!stack.isEmpty()) {
+                int x = stack.pop();
+                for (Edge e : tree[x]) {
+                    int y = e.getOtherEndpoint(x);
+                    if (reached[y]) continue;
+                    reached[y] = true;
+                    heaviest[y] = Math.max(heaviest[x], e.getWeight());
+                    stack.push(y);
+                }
+            }
+            for (int v = 0; v < G.getVerticesCount(); v++) {
+                assertEquals(reached[v], paths.hasPath(u, v));
+                if (u == v) continue;
+                if (!reached[v]) {
+                    assertEquals(Double.POSITIVE_INFINITY, paths.bottleneck(u, v), 0D);
+                    assertNull(paths.path(u, v));
+                    continue;
+                }
+                assertEquals(heaviest[v], paths.bottleneck(u, v), 0D);
+                assertEquals(heaviest[v], paths.bottleneckEdge(u, v).getWeight(), 0D);
+                // the path is consecutive from u to v and its heaviest edge is the bottleneck
+                double max = Double.NEGATIVE_INFINITY;
+                int at = u;
+                for (Edge e : paths.path(u, v)) {
+                    at = e.getOtherEndpoint(at);
+                    max = Math.max(max, e.getWeight());
+                }
+                assertEquals(v, at);
+                assertEquals(heaviest[v], max, 0D);
+            }
+        }
+
+        // no path in the graph has a lighter heaviest edge: below the bottleneck u and v are apart
+        for (int i = 0; i < 200; i++) {
+            int u = StdRandom.uniform(G.getVerticesCount()), v = StdRandom.uniform(G.getVerticesCount());
+            if (u == v || !paths.hasPath(u, v)) continue;
+            UF uf = new UF(G.getVerticesCount());
+            for (Edge e : G.getEdges()) {
+                int x = e.getEndpointA();
+                if (e.getWeight() < paths.bottleneck(u, v)) uf.union(x, e.getOtherEndpoint(x));
+            }
+            assertFalse(uf.connected(u, v));
+        }
+        StdOut.println("\nCompleted Bottleneck Paths Test!");
+    }
+
+    // the edges of a forest as adjacency lists
+    @SuppressWarnings("unchecked")
+    private static Cache<Edge>[] treeAdjacency(int vertices, Iterable<Edge> forest) {
+        Cache<Edge>[] adjacent = (Cache<Edge>[]) new Cache[vertices];
+        for (int v = 0; v < vertices; v++) adjacent[v] = new Cache<>();
+        for (Edge e : forest) {
+            int v = e.getEndpointA();
+            adjacent[v].add(e);
+            adjacent[e.getOtherEndpoint(v)].add(e);
+        }
+        return adjacent;
+    }
+
+    @Test
+    public void testEuclideanMST() {
+        StdOut.println("Starting Euclidean MST Test...");
+        StdRandom.setSeed(30L);
+        int n = 300;
+        double[][] coords = new double[n][2];
+        for (int i = 0; i < n; i++) {
+            // a coarse grid produces plenty of equal distances
+            coords[i][0] = StdRandom.uniform(20) / 20D;
+            coords[i][1] = StdRandom.uniform(20) / 20D;
+        }
+        WeightedEdgeGraph complete = new WeightedEdgeGraph(n);
+        for (int v = 0; v < n; v++) {
+            for (int w = v + 1; w < n; w++) {
+                complete.addEdge(new Edge(v, w, Math.hypot(coords[v][0] - coords[w][0], coords[v][1] - coords[w][1])));
+            }
+        }
+        EuclideanMST mst = new EuclideanMST(coords);
+        assertTrue(mst.getCandidateGraph().getEdgeCount() <= 2 * n);
+        assertEquals(new KruskalMST(complete).getWeight(), mst.getWeight(), 1E-9);
+        assertTrue(new MSTVerifier(complete, mst.getEdges()).isMinimumSpanningForest());
+        StdOut.println(mst.getCandidateGraph().getEdgeCount() + " candidates, length " + mst.getWeight());
+        StdOut.println("\nCompleted Euclidean MST Test!");
+    }
+
+    @Test
+    public void testDensePrim() {
+        StdOut.println("Starting Dense Prim Test...");
+        In in = new In(Cache.class.getClassLoader().getResource(TEST_DATA_REFERENCE_ROOT + TEST_DATA_MEDIUM));
+        WeightedEdgeGraph G = new WeightedEdgeGraph(in);
+        AdjMatrixEdgeWeightedDigraph matrix = new AdjMatrixEdgeWeightedDigraph(G.getVerticesCount());
+        for (Edge e : G.getEdges()) {
+            int v = e.getEndpointA();
+            matrix.addEdge(new DirectedEdge(v, e.getOtherEndpoint(v), e.getWeight()));
+        }
+        DensePrimMST dense = new DensePrimMST(matrix);
+        assertEquals(new KruskalMST(G).getWeight(), dense.getWeight(), 1E-9);
+        assertTrue(MSTVerifier.check(G, dense.getEdges()));
+
+        double[][] coords = new double[20000][2];
+        for (int i = 0; i < coords.length; i++) {
+            coords[i][0] = StdRandom.uniform();
+            coords[i][1] = StdRandom.uniform();
+        }
+        DensePrimMST sequential = new DensePrimMST(coords, false);
+        DensePrimMST parallel = new DensePrimMST(coords, true);
+        for (int v = 0; v < coords.length; v++) {
+            assertEquals(sequential.getParent(v), parallel.getParent(v));
+        }
+        StdOut.println("Dense Prim weight " + dense.getWeight() + ", parallel points " + parallel.getWeight());
+        StdOut.println("\nCompleted Dense Prim Test!");
+    }
+
+    @Test
+    public void testParallelKruskal() {
+        StdOut.println("Starting Parallel Kruskal Test...");
+        StdRandom.setSeed(32L);
+        // few distinct weights, so the order of equal edges matters
+        WeightedEdgeGraph G = new WeightedEdgeGraph(5000, 60000);
+        assertSameEdges(new KruskalMST(G).getEdges(), new ParallelKruskalMST(G).getEdges());
+
+        // weights in {0, 1, 2}: almost every edge ties, and the trees are still identical
+        for (int graph = 0; graph < 50; graph++) {
+            WeightedEdgeGraph H = new WeightedEdgeGraph(60);
+            for (int i = 0; i < 400; i++) {
+                H.addEdge(new Edge(StdRandom.uniform(60), StdRandom.uniform(60), StdRandom.uniform(3)));
+            }
+            KruskalMST expected = new KruskalMST(H);
+            ParallelKruskalMST mst = new ParallelKruskalMST(H);
+            assertEquals(expected.getWeight(), mst.getWeight(), 1E-9);
+            assertTrue(MSTVerifier.check(H, mst.getEdges()));
+            assertSameEdges(expected.getEdges(), mst.getEdges());
+        }
+        StdOut.println("\nCompleted Parallel Kruskal Test!");
+    }
+
+    // the same edge objects in the same order
+    private static void assertSameEdges(Iterable<Edge> expected, Iterable<Edge> actual) {
+        Iterator<Edge> a = actual.iterator();
+        for (Edge e : expected) {
+            assertTrue(a.hasNext());
+            assertSame(e, a.next());
+        }
+        assertFalse(a.hasNext());
+    }
+
+    @Test
+    public void testShardedBoruvka() throws URISyntaxException, IOException {
+        StdOut.println("Starting Sharded Boruvka Test...");
+        URL resource = Cache.class.getClassLoader().getResource(TEST_DATA_REFERENCE_ROOT + TEST_DATA_MEDIUM);
+        KruskalMST expected = new KruskalMST(new WeightedEdgeGraph(new In(resource)));
+        ShardedBoruvkaMST sharded = new ShardedBoruvkaMST(new File(resource.toURI()), 3);
+        assertEquals(expected.getWeight(), sharded.getWeight(), 1E-9);
+        int edges = 0;
+        for (Edge ignored : sharded.getEdges()) edges++;
+        assertEquals(expected.getVerticesCount() - 1, edges);
+        StdOut.println(sharded.getRoundCount() + " rounds, weight " + sharded.getWeight());
+
+        // the header is fine for the coordinator, but the workers fail on the edge to vertex 7
+        File broken = File.createTempFile("broken-", ".txt");
+        try {
+            Files.write(broken.toPath(), "3\n2\n0 1 1.0\n1 7 2.0\n".getBytes(StandardCharsets.US_ASCII));
+            ShardedBoruvkaMST failed = new ShardedBoruvkaMST(broken, 2);
+            fail("a failed worker should fail the MST, not give weight " + failed.getWeight());
+        }
+        catch (UncheckedIOException e) {
+            assertTrue(e.getMessage().contains("exited with status"));
+        }
+        finally {
+            assertTrue(broken.delete());
+        }
+        StdOut.println("\nCompleted Sharded Boruvka Test!");
+    }
+
+    @Test
+    public void testSteinerTree() {
+        StdOut.println("Starting Steiner Tree Test...");
+        In in = new In(Cache.class.getClassLoader().getResource(TEST_DATA_REFERENCE_ROOT + TEST_DATA_MEDIUM));
+        WeightedEdgeGraph G = new WeightedEdgeGraph(in);
+        int[] terminals = {3, 17, 42, 99, 128, 200, 249};
+        MehlhornSteinerTree steiner = new MehlhornSteinerTree(G, terminals);
+        UF uf = new UF(G.getVerticesCount());
+        int[] degree = new int[G.getVerticesCount()];
+        for (Edge e : steiner.getEdges()) {
+            int v = e.getEndpointA(), w = e.getOtherEndpoint(v);
+            assertFalse(uf.connected(v, w));
+            uf.union(v, w);
+            degree[v]++;
+            degree[w]++;
+        }
+        for (int t : terminals) assertTrue(uf.connected(terminals[0], t));
+        for (int v = 0; v < G.getVerticesCount(); v++) {
+            if (degree[v] == 1) assertEquals(v, steiner.getNearestTerminal(v));
+        }
+        assertTrue(steiner.getWeight() <= 2 * new KruskalMST(G).getWeight());
+        StdOut.println(steiner.getEdgeCount() + " edges, weight " + steiner.getWeight());
+        StdOut.println("\nCompleted Steiner Tree Test!");
+    }
+
+    @Test
+    public void testMSTSensitivity() {
+        StdOut.println("Starting MST Sensitivity Test...");
+        In in = new In(Cache.class.getClassLoader().getResource(TEST_DATA_REFERENCE_ROOT + TEST_DATA_TINY));
+        WeightedEdgeGraph G = new WeightedEdgeGraph(in);
+        MSTSensitivity sensitivity = new MSTSensitivity(G);
+        double secondBest = Double.POSITIVE_INFINITY;
+        for (Edge e : G.getEdges()) {
+            if (sensitivity.isTreeEdge(e)) continue;
+            assertTrue(sensitivity.getDecreaseTolerance(e) >= 0);
+            secondBest = Math.min(secondBest, sensitivity.getWeight() + sensitivity.getDecreaseTolerance(e));
+        }
+        assertEquals(secondBest, sensitivity.getSecondBestWeight(), 1E-12);
+        assertEquals(1.83, sensitivity.getSecondBestWeight(), 1E-12);
+        double total = 0.0;
+        for (Edge e : sensitivity.getSecondBestEdges()) total += e.getWeight();
+        assertEquals(sensitivity.getSecondBestWeight(), total, 1E-12);
+        StdOut.println("\nCompleted MST Sensitivity Test!");
+    }
+
+    @Test
+    public void testStreamingConnectedComponents() {
+        StdOut.println("Starting Streaming Connected Components Test...");
+        // a sparse random graph with many components, spanning several parser batches
+        int V = 200000, E = 150000;
+        StdRandom.setSeed(36L);
+        StringBuilder text = new StringBuilder().append(V).append('\n').append(E).append('\n');
+        UF expected = new UF(V);
+        for (int i = 0; i < E; i++) {
+            int v = StdRandom.uniform(V), w = StdRandom.uniform(V);
+            expected.union(v, w);
+            text.append(v).append(' ').append(w).append(' ').append(StdRandom.uniform()).append('\n');
+        }
+        StreamingConnectedComponents cc = new StreamingConnectedComponents(
+                new ByteArrayInputStream(text.toString().getBytes(StandardCharsets.US_ASCII)));
+        assertEquals(E, cc.getEdgeCount());
+        assertEquals(expected.count(), cc.count());
+        int next = 0;
+        for (int v = 0; v < V; v++) {
+            assertEquals(expected.connected(0, v), cc.connected(0, v));
+            if (cc.id(v) == next) next++;
+            assertTrue(cc.id(v) < next);
+        }
+        assertEquals(cc.count(), next);
+        StdOut.println(cc.count() + " components");
+        StdOut.println("\nCompleted Streaming Connected Components Test!");
+    }
+
+    @Test
+    public void testKargerMinCut() {
+        StdOut.println("Starting Karger Min Cut Test...");
+        // two dense clusters joined by three light edges, so the minimum cut separates them
+        int half = 40;
+        StdRandom.setSeed(37L);
+        WeightedEdgeGraph G = new WeightedEdgeGraph(2 * half);
+        for (int v = 0; v < 2 * half; v++) {
+            for (int w = v + 1; w < 2 * half; w++) {
+                if (v / half == w / half && StdRandom.bernoulli(0.5)) G.addEdge(new Edge(v, w, StdRandom.uniform(1.0, 2.0)));
+            }
+        }
+        G.addEdge(new Edge(3, half + 7, 0.5));
+        G.addEdge(new Edge(11, half + 2, 0.25));
+        G.addEdge(new Edge(29, half + 31, 0.75));
+        KargerMinCut stein = new KargerMinCut(G, 8, true, true, 37L);
+        KargerMinCut karger = new KargerMinCut(G, 2000, false, true, 37L);
+        for (KargerMinCut cut : new KargerMinCut[] {stein, karger}) {
+            assertEquals(1.5, cut.getWeight(), 1E-12);
+            for (int v = 0; v < 2 * half; v++) {
+                assertEquals(v < half, cut.isOnFirstSide(v));
+            }
+            int crossing = 0;
+            for (Edge e : cut.getCutEdges()) crossing++;
+            assertEquals(3, crossing);
+        }
+        assertEquals(stein.getWeight(), new KargerMinCut(G, 8, true, false, 37L).getWeight(), 0.0);
+        StdOut.println("\nCompleted Karger Min Cut Test!");
+    }
 }
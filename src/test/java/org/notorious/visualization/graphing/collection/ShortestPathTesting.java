@@ -0,0 +1,791 @@
+package org.notorious.visualization.graphing.collection;
+
+import com.notorious.visualization.graphing.algorithm.graph.AdjMatrixEdgeWeightedDigraph;
+import com.notorious.visualization.graphing.algorithm.graph.CompactEdgeWeightedDigraph;
+import com.notorious.visualization.graphing.algorithm.graph.DirectedEdge;
+import com.notorious.visualization.graphing.algorithm.graph.EdgeWeightedDigraph;
+import com.notorious.visualization.graphing.algorithm.shorest.path.AStarSearch;
+import com.notorious.visualization.graphing.algorithm.shorest.path.BellmanFordSP;
+import com.notorious.visualization.graphing.algorithm.shorest.path.BidirectionalDijkstra;
+import com.notorious.visualization.graphing.algorithm.shorest.path.BlockedFloydWarshall;
+import com.notorious.visualization.graphing.algorithm.shorest.path.ContractionHierarchy;
+import com.notorious.visualization.graphing.algorithm.shorest.path.DeltaSteppingSP;
+import com.notorious.visualization.graphing.algorithm.shorest.path.DijkstraEngine;
+import com.notorious.visualization.graphing.algorithm.shorest.path.FloydWarshall;
+import com.notorious.visualization.graphing.algorithm.shorest.path.Johnson;
+import com.notorious.visualization.graphing.algorithm.shorest.path.OutOfCoreFloydWarshall;
+import com.notorious.visualization.graphing.algorithm.shorest.path.ShortestPathMatrix;
+import com.notorious.visualization.graphing.algorithm.shorest.path.ShortestPathSnapshot;
+import com.notorious.visualization.graphing.algorithm.shorest.path.ShortestPathTreeCache;
+import com.notorious.visualization.graphing.util.StdOut;
+import com.notorious.visualization.graphing.util.StdRandom;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * ....
+ *
+ * @author Notorious
+ * @version 0.0.1
+ * @since 10/19/2026
+ */
+public class ShortestPathTesting {
+
+    // a random digraph with integer weights between low and high, so that sums are exact
+    private static AdjMatrixEdgeWeightedDigraph randomDigraph(int V, int E, int low, int high) {
+        AdjMatrixEdgeWeightedDigraph G = new AdjMatrixEdgeWeightedDigraph(V);
+        for (int i = 0; i < E; i++) {
+            int v = StdRandom.uniform(V), w = StdRandom.uniform(V);
+            int weight = StdRandom.uniform(low, high + 1);
+            G.addEdge(new DirectedEdge(v, w, v == w ? Math.abs(weight) : weight));
+        }
+        return G;
+    }
+
+    // the same edges as an adjacency-lists digraph
+    private static EdgeWeightedDigraph toDigraph(AdjMatrixEdgeWeightedDigraph M) {
+        EdgeWeightedDigraph G = new EdgeWeightedDigraph(M.V());
+        for (int v = 0; v < M.V(); v++) {
+            for (DirectedEdge e : M.adj(v)) G.addEdge(e);
+        }
+        return G;
+    }
+
+    // the weight of a cycle, checking that its edges are consecutive and closed
+    private static double cycleWeight(Iterable<DirectedEdge> cycle) {
+        double weight = 0.0;
+        int first = -1, at = -1;
+        for (DirectedEdge e : cycle) {
+            if (first == -1) first = e.from();
+            else assertEquals(at, e.from());
+            at = e.to();
+            weight += e.weight();
+        }
+        assertEquals(first, at);
+        return weight;
+    }
+
+    // the weight of a path, checking that its edges are consecutive from s to t
+    private static double pathWeight(Iterable<DirectedEdge> path, int s, int t) {
+        double weight = 0.0;
+        int at = s;
+        for (DirectedEdge e : path) {
+            assertEquals(at, e.from());
+            at = e.to();
+            weight += e.weight();
+        }
+        assertEquals(t, at);
+        return weight;
+    }
+
+    @Test
+    public void testBlockedFloydWarshall() {
+        StdOut.println("Starting Blocked Floyd-Warshall Test...");
+        StdRandom.setSeed(38L);
+        // a size that is not a multiple of the tile size leaves padding in the last tiles
+        AdjMatrixEdgeWeightedDigraph G = randomDigraph(150, 1500, 0, 20);
+        FloydWarshall expected = new FloydWarshall(G);
+        for (int tileSize : new int[] {1, 7, 64}) {
+            BlockedFloydWarshall blocked = new BlockedFloydWarshall(G, tileSize);
+            assertFalse(blocked.hasNegativeCycle());
+            for (int v = 0; v < G.V(); v++) {
+                for (int w = 0; w < G.V(); w++) {
+                    assertEquals(expected.hasPath(v, w), blocked.hasPath(v, w));
+                    assertEquals(expected.dist(v, w), blocked.dist(v, w), 0.0);
+                    if (blocked.hasPath(v, w)) assertEquals(blocked.dist(v, w), pathWeight(blocked.path(v, w), v, w), 0.0);
+                }
+            }
+        }
+
+        G.addEdge(new DirectedEdge(3, 4, -50));
+        G.addEdge(new DirectedEdge(4, 3, 10));
+        BlockedFloydWarshall negative = new BlockedFloydWarshall(G, 16);
+        assertTrue(negative.hasNegativeCycle());
+        double weight = 0.0;
+        for (DirectedEdge e : negative.negativeCycle()) weight += e.weight();
+        assertTrue(weight < 0.0);
+        StdOut.println("\nCompleted Blocked Floyd-Warshall Test!");
+    }
+
+    @Test
+    public void testParallelFloydWarshall() {
+        StdOut.println("Starting Parallel Floyd-Warshall Test...");
+        StdRandom.setSeed(39L);
+        AdjMatrixEdgeWeightedDigraph G = randomDigraph(200, 3000, -1, 60);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            BlockedFloydWarshall sequential = new BlockedFloydWarshall(G, 16);
+            BlockedFloydWarshall parallel = new BlockedFloydWarshall(G, 16, pool);
+            assertFalse(parallel.hasNegativeCycle());
+            for (int v = 0; v < G.V(); v++) {
+                for (int w = 0; w < G.V(); w++) {
+                    assertEquals(sequential.dist(v, w), parallel.dist(v, w), 0.0);
+                    if (!sequential.hasPath(v, w)) continue;
+                    Iterator<DirectedEdge> expected = sequential.path(v, w).iterator();
+                    for (DirectedEdge e : parallel.path(v, w)) assertSame(expected.next(), e);
+                    assertFalse(expected.hasNext());
+                }
+            }
+
+            G.addEdge(new DirectedEdge(150, 20, -100));
+            G.addEdge(new DirectedEdge(20, 150, 5));
+            assertTrue(new BlockedFloydWarshall(G, 16, pool).hasNegativeCycle());
+        }
+        finally {
+            pool.shutdown();
+        }
+        StdOut.println("\nCompleted Parallel Floyd-Warshall Test!");
+    }
+
+    @Test
+    public void testJohnson() {
+        StdOut.println("Starting Johnson Test...");
+        StdRandom.setSeed(40L);
+        AdjMatrixEdgeWeightedDigraph M = randomDigraph(300, 1200, -1, 60);
+        EdgeWeightedDigraph G = toDigraph(M);
+        BlockedFloydWarshall expected = new BlockedFloydWarshall(M);
+        assertFalse(expected.hasNegativeCycle());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (Johnson johnson : new Johnson[] {new Johnson(G, null), new Johnson(G, pool)}) {
+                assertFalse(johnson.hasNegativeCycle());
+                assertNull(johnson.negativeCycle());
+                for (int v = 0; v < G.V(); v++) {
+                    for (int w = 0; w < G.V(); w++) {
+                        assertEquals(expected.hasPath(v, w), johnson.hasPath(v, w));
+                        assertEquals(expected.dist(v, w), johnson.dist(v, w), 0.0);
+                        if (johnson.hasPath(v, w)) assertEquals(johnson.dist(v, w), pathWeight(johnson.path(v, w), v, w), 0.0);
+                    }
+                }
+            }
+
+            // streamed rows match the stored ones, and every source is handed over once
+            AtomicInteger rows = new AtomicInteger();
+            new Johnson(G, pool, (s, distTo, edgeTo) -> {
+                rows.incrementAndGet();
+                assertEquals(G.V(), distTo.length);
+                assertNull(edgeTo[s]);
+                for (int w = 0; w < G.V(); w++) {
+                    assertEquals(expected.dist(s, w), distTo[w], 0.0);
+                    if (edgeTo[w] != null) assertEquals(distTo[w], distTo[edgeTo[w].from()] + edgeTo[w].weight(), 0.0);
+                }
+            });
+            assertEquals(G.V(), rows.get());
+
+            G.addEdge(new DirectedEdge(210, 30, -100));
+            G.addEdge(new DirectedEdge(30, 210, 5));
+            Johnson negative = new Johnson(G, pool, (s, distTo, edgeTo) -> rows.incrementAndGet());
+            assertTrue(negative.hasNegativeCycle());
+            assertEquals(G.V(), rows.get());
+            double weight = 0.0;
+            int at = -1;
+            for (DirectedEdge e : negative.negativeCycle()) {
+                if (at != -1) assertEquals(at, e.from());
+                at = e.to();
+                weight += e.weight();
+            }
+            assertTrue(weight < 0.0);
+        }
+        finally {
+            pool.shutdown();
+        }
+        StdOut.println("\nCompleted Johnson Test!");
+    }
+
+    @Test
+    public void testDijkstraEngine() throws Exception {
+        StdOut.println("Starting Dijkstra Engine Test...");
+        StdRandom.setSeed(41L);
+        EdgeWeightedDigraph G = toDigraph(randomDigraph(300, 1200, 0, 40));
+        Johnson expected = new Johnson(G, null);
+        DijkstraEngine engine = new DijkstraEngine(G);
+
+        for (int s = 0; s < G.V(); s++) {
+            DijkstraEngine.Search search = engine.search(s);
+            assertEquals(s, search.getSource());
+            for (int t = 0; t < G.V(); t++) {
+                assertEquals(expected.hasPath(s, t), search.hasPathTo(t));
+                assertEquals(expected.hasPath(s, t), search.isSettled(t));
+                assertEquals(expected.dist(s, t), search.distTo(t), 0.0);
+                if (search.hasPathTo(t)) assertEquals(search.distTo(t), pathWeight(search.pathTo(t), s, t), 0.0);
+            }
+        }
+
+        // point-to-point queries reuse the workspace and stop early, without stale entries leaking in
+        for (int i = 0; i < 5000; i++) {
+            int s = StdRandom.uniform(G.V()), t = StdRandom.uniform(G.V());
+            DijkstraEngine.Search search = engine.search(s, t);
+            assertEquals(expected.dist(s, t), search.distTo(t), 0.0);
+            if (search.hasPathTo(t)) assertEquals(search.distTo(t), pathWeight(engine.path(s, t), s, t), 0.0);
+            for (int v = 0; v < G.V(); v++) {
+                if (search.isSettled(v)) assertEquals(expected.dist(s, v), search.distTo(v), 0.0);
+            }
+        }
+
+        // every thread gets its own workspace
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int task = 0; task < 8; task++) {
+                final long seed = task;
+                tasks.add(pool.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < 2000; i++) {
+                        int s = random.nextInt(G.V()), t = random.nextInt(G.V());
+                        assertEquals(expected.dist(s, t), engine.dist(s, t), 0.0);
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) task.get();
+        }
+        finally {
+            pool.shutdown();
+        }
+
+        try {
+            engine.search(0, -1);
+            fail("a target outside the digraph should be rejected");
+        }
+        catch (IllegalArgumentException ignored) {
+        }
+        G.addEdge(new DirectedEdge(1, 2, -1.0));
+        try {
+            new DijkstraEngine(G);
+            fail("negative weights should be rejected");
+        }
+        catch (IllegalArgumentException ignored) {
+        }
+        StdOut.println("\nCompleted Dijkstra Engine Test!");
+    }
+
+    @Test
+    public void testPointToPointSearch() {
+        StdOut.println("Starting Point-to-Point Search Test...");
+        StdRandom.setSeed(42L);
+        double[][] coordinates = new double[1500][2];
+        EdgeWeightedDigraph G = EdgeWeightedDigraph.geometric(coordinates, 0.045);
+        Johnson expected = new Johnson(G, null);
+        AStarSearch dijkstra = new AStarSearch(G);
+        AStarSearch astar = new AStarSearch(G, coordinates);
+        BidirectionalDijkstra bidirectional = new BidirectionalDijkstra(G);
+        BidirectionalDijkstra bidirectionalAStar = new BidirectionalDijkstra(G, coordinates);
+
+        long plain = 0, directed = 0, both = 0;
+        for (int i = 0; i < 500; i++) {
+            int s = StdRandom.uniform(G.V()), t = i % 50 == 0 ? s : StdRandom.uniform(G.V());
+            double distance = expected.dist(s, t);
+            assertEquals(distance, dijkstra.dist(s, t), 1E-9);
+            plain += dijkstra.getSettledCount();
+            assertEquals(distance, astar.dist(s, t), 1E-9);
+            directed += astar.getSettledCount();
+            assertEquals(distance, bidirectional.dist(s, t), 1E-9);
+            assertEquals(distance, bidirectionalAStar.dist(s, t), 1E-9);
+            both += bidirectionalAStar.getSettledCount();
+
+            assertEquals(expected.hasPath(s, t), astar.hasPath(s, t));
+            assertEquals(expected.hasPath(s, t), bidirectionalAStar.hasPath(s, t));
+            if (expected.hasPath(s, t)) {
+                assertEquals(distance, pathWeight(astar.path(s, t), s, t), 1E-9);
+                assertEquals(distance, pathWeight(bidirectional.path(s, t), s, t), 1E-9);
+                assertEquals(distance, pathWeight(bidirectionalAStar.path(s, t), s, t), 1E-9);
+            }
+            else {
+                assertNull(astar.path(s, t));
+                assertNull(bidirectionalAStar.path(s, t));
+            }
+        }
+        // the coordinates direct the searches towards their targets
+        assertTrue(directed < plain / 2);
+        assertTrue(both < plain / 2);
+        StdOut.println("\nCompleted Point-to-Point Search Test!");
+    }
+
+    @Test
+    public void testDeltaStepping() {
+        StdOut.println("Starting Delta-Stepping Test...");
+        StdRandom.setSeed(43L);
+        // real-valued weights, with a quarter of them zero, so that rounding and ties both matter
+        EdgeWeightedDigraph G = new EdgeWeightedDigraph(5000);
+        for (int i = 0; i < 30000; i++) {
+            double weight = StdRandom.uniform(4) == 0 ? 0.0 : StdRandom.uniform();
+            G.addEdge(new DirectedEdge(StdRandom.uniform(G.V()), StdRandom.uniform(G.V()), weight));
+        }
+        CompactEdgeWeightedDigraph compact = new CompactEdgeWeightedDigraph(G);
+        DijkstraEngine engine = new DijkstraEngine(compact);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int s : new int[] {0, 1234, 4999}) {
+                DijkstraEngine.Search expected = engine.search(s);
+                for (DeltaSteppingSP sp : new DeltaSteppingSP[] {
+                        new DeltaSteppingSP(compact, s, null, 0.0),
+                        new DeltaSteppingSP(compact, s, pool, 0.0),
+                        new DeltaSteppingSP(compact, s, pool, 0.01),
+                        new DeltaSteppingSP(compact, s, pool, 2.0)}) {
+                    assertTrue(sp.getDelta() > 0.0);
+                    for (int v = 0; v < G.V(); v++) {
+                        // identical, not just close
+                        assertEquals(expected.distTo(v), sp.distTo(v), 0.0);
+                        assertEquals(expected.hasPathTo(v), sp.hasPathTo(v));
+                        if (sp.hasPathTo(v)) assertEquals(sp.distTo(v), pathWeight(sp.pathTo(v), s, v), 1E-9);
+                    }
+                }
+            }
+        }
+        finally {
+            pool.shutdown();
+        }
+        StdOut.println("\nCompleted Delta-Stepping Test!");
+    }
+
+    @Test
+    public void testBellmanFord() {
+        StdOut.println("Starting Bellman-Ford Test...");
+        StdRandom.setSeed(44L);
+        AdjMatrixEdgeWeightedDigraph M = randomDigraph(300, 1200, -1, 60);
+        EdgeWeightedDigraph G = toDigraph(M);
+        BlockedFloydWarshall expected = new BlockedFloydWarshall(M);
+        assertFalse(expected.hasNegativeCycle());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            CompactEdgeWeightedDigraph compact = new CompactEdgeWeightedDigraph(G);
+            for (ForkJoinPool mode : new ForkJoinPool[] {null, pool}) {
+                for (int s : new int[] {0, 77, 299}) {
+                    BellmanFordSP sp = new BellmanFordSP(compact, s, mode);
+                    assertFalse(sp.hasNegativeCycle());
+                    assertNull(sp.negativeCycle());
+                    for (int v = 0; v < G.V(); v++) {
+                        assertEquals(expected.dist(s, v), sp.distTo(v), 0.0);
+                        if (sp.hasPathTo(v)) assertEquals(sp.distTo(v), pathWeight(sp.pathTo(v), s, v), 0.0);
+                    }
+                }
+                // distances from the virtual source are potentials that make every weight nonnegative
+                BellmanFordSP potentials = new BellmanFordSP(compact, mode);
+                assertFalse(potentials.hasNegativeCycle());
+                for (DirectedEdge e : G.edges()) {
+                    assertTrue(e.weight() + potentials.distTo(e.from()) - potentials.distTo(e.to()) >= 0.0);
+                }
+            }
+
+            // a negative cycle among vertices that nothing else leads to
+            EdgeWeightedDigraph H = new EdgeWeightedDigraph(G.V() + 3);
+            for (DirectedEdge e : G.edges()) H.addEdge(e);
+            H.addEdge(new DirectedEdge(300, 301, 4));
+            H.addEdge(new DirectedEdge(301, 302, -2));
+            H.addEdge(new DirectedEdge(302, 300, -3));
+            H.addEdge(new DirectedEdge(302, 10, 1));
+            CompactEdgeWeightedDigraph cyclic = new CompactEdgeWeightedDigraph(H);
+            for (ForkJoinPool mode : new ForkJoinPool[] {null, pool}) {
+                assertFalse(new BellmanFordSP(cyclic, 0, mode).hasNegativeCycle());
+                BellmanFordSP anywhere = new BellmanFordSP(cyclic, mode);
+                assertTrue(anywhere.hasNegativeCycle());
+                assertEquals(-1.0, cycleWeight(anywhere.negativeCycle()), 0.0);
+                BellmanFordSP reachable = new BellmanFordSP(cyclic, 301, mode);
+                assertTrue(reachable.hasNegativeCycle());
+                assertTrue(cycleWeight(reachable.negativeCycle()) < 0.0);
+            }
+        }
+        finally {
+            pool.shutdown();
+        }
+        StdOut.println("\nCompleted Bellman-Ford Test!");
+    }
+
+    @Test
+    public void testShortestPathMatrix() {
+        StdOut.println("Starting Shortest Path Matrix Test...");
+        StdRandom.setSeed(45L);
+        // zero weights make ties, and the parallel edges are heavier copies the paths must avoid
+        EdgeWeightedDigraph G = toDigraph(randomDigraph(200, 800, 0, 30));
+        EdgeWeightedDigraph U = new EdgeWeightedDigraph(G.V());
+        for (DirectedEdge e : G.edges()) {
+            G.addEdge(new DirectedEdge(e.from(), e.to(), e.weight() + 1));
+            U.addEdge(e);
+            U.addEdge(new DirectedEdge(e.to(), e.from(), e.weight()));
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (EdgeWeightedDigraph graph : new EdgeWeightedDigraph[] {G, U}) {
+                Johnson expected = new Johnson(graph, null);
+                boolean[] halves = graph == U ? new boolean[] {false, true} : new boolean[] {false};
+                for (ShortestPathMatrix.Precision precision : ShortestPathMatrix.Precision.values()) {
+                    for (ShortestPathMatrix.Routes routes : ShortestPathMatrix.Routes.values()) {
+                        for (boolean half : halves) {
+                            ShortestPathMatrix matrix = new ShortestPathMatrix(graph, precision, routes, half, pool);
+                            assertFalse(matrix.hasNegativeCycle());
+                            for (int v = 0; v < graph.V(); v++) {
+                                for (int w = 0; w < graph.V(); w++) {
+                                    // integer weights are exact as floats too
+                                    assertEquals(expected.dist(v, w), matrix.dist(v, w), 0.0);
+                                    if (routes != ShortestPathMatrix.Routes.NONE && matrix.hasPath(v, w))
+                                        assertEquals(expected.dist(v, w), pathWeight(matrix.path(v, w), v, w), 0.0);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+
+            long full = new ShortestPathMatrix(U, ShortestPathMatrix.Precision.DOUBLE,
+                    ShortestPathMatrix.Routes.PREDECESSOR).getByteSize();
+            long compact = new ShortestPathMatrix(U, ShortestPathMatrix.Precision.FLOAT,
+                    ShortestPathMatrix.Routes.SUCCESSOR, true, pool).getByteSize();
+            assertEquals(10L * U.V() * U.V(), full);
+            assertEquals(4L * U.V() * (U.V() + 1) / 2 + 2L * U.V() * U.V(), compact);
+
+            ShortestPathMatrix distancesOnly = new ShortestPathMatrix(G, ShortestPathMatrix.Precision.FLOAT,
+                    ShortestPathMatrix.Routes.NONE);
+            try {
+                distancesOnly.path(0, 1);
+                fail("Expected path() to throw without routes");
+            }
+            catch (UnsupportedOperationException ignored) {
+                // no routes are stored
+            }
+            try {
+                new ShortestPathMatrix(G, ShortestPathMatrix.Precision.FLOAT, ShortestPathMatrix.Routes.NONE, true, pool);
+                fail("Expected a half matrix of a directed graph to be rejected");
+            }
+            catch (IllegalArgumentException ignored) {
+                // the digraph is not symmetric
+            }
+
+            G.addEdge(new DirectedEdge(150, 20, -100));
+            ShortestPathMatrix negative = new ShortestPathMatrix(G, ShortestPathMatrix.Precision.FLOAT,
+                    ShortestPathMatrix.Routes.SUCCESSOR);
+            assertTrue(negative.hasNegativeCycle());
+            assertTrue(cycleWeight(negative.negativeCycle()) < 0.0);
+        }
+        finally {
+            pool.shutdown();
+        }
+        StdOut.println("\nCompleted Shortest Path Matrix Test!");
+    }
+
+    @Test
+    public void testOutOfCoreFloydWarshall() {
+        StdOut.println("Starting Out-of-Core Floyd-Warshall Test...");
+        StdRandom.setSeed(46L);
+        // zero weights make ties among the successors that have to be repaired
+        AdjMatrixEdgeWeightedDigraph M = randomDigraph(150, 900, 0, 30);
+        EdgeWeightedDigraph G = toDigraph(M);
+        BlockedFloydWarshall expected = new BlockedFloydWarshall(M);
+        File directory = new File(System.getProperty("java.io.tmpdir"));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int tileSize : new int[] {16, 23, 64, 150}) {
+                for (ForkJoinPool mode : new ForkJoinPool[] {null, pool}) {
+                    try (OutOfCoreFloydWarshall outOfCore = new OutOfCoreFloydWarshall(G, directory, tileSize, mode)) {
+                        assertFalse(outOfCore.hasNegativeCycle());
+                        assertNull(outOfCore.negativeCycle());
+                        long tiles = (G.V() + tileSize - 1) / tileSize;
+                        assertEquals(tiles * tiles * tiles, outOfCore.getTileLoads());
+                        for (int v = 0; v < G.V(); v++) {
+                            for (int w = 0; w < G.V(); w++) {
+                                assertEquals(expected.hasPath(v, w), outOfCore.hasPath(v, w));
+                                assertEquals(expected.dist(v, w), outOfCore.dist(v, w), 0.0);
+                                if (outOfCore.hasPath(v, w))
+                                    assertEquals(expected.dist(v, w), pathWeight(outOfCore.path(v, w), v, w), 0.0);
+                            }
+                        }
+                    }
+                }
+            }
+
+            OutOfCoreFloydWarshall closed = new OutOfCoreFloydWarshall(G, directory);
+            closed.close();
+            try {
+                closed.dist(0, 1);
+                fail("queries should fail once the files are closed");
+            }
+            catch (IllegalStateException ignored) {
+            }
+
+            G.addEdge(new DirectedEdge(120, 7, -100));
+            try (OutOfCoreFloydWarshall negative = new OutOfCoreFloydWarshall(G, directory, 32, pool)) {
+                assertTrue(negative.hasNegativeCycle());
+                assertTrue(cycleWeight(negative.negativeCycle()) < 0.0);
+            }
+        }
+        finally {
+            pool.shutdown();
+        }
+        StdOut.println("\nCompleted Out-of-Core Floyd-Warshall Test!");
+    }
+
+    @Test
+    public void testShortestPathSnapshot() throws IOException {
+        StdOut.println("Starting Shortest Path Snapshot Test...");
+        StdRandom.setSeed(47L);
+        AdjMatrixEdgeWeightedDigraph M = randomDigraph(200, 1000, 0, 30);
+        EdgeWeightedDigraph G = toDigraph(M);
+        BlockedFloydWarshall expected = new BlockedFloydWarshall(M);
+        File file = File.createTempFile("apsp-", ".snapshot");
+        file.deleteOnExit();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ShortestPathSnapshot written = ShortestPathSnapshot.write(file, G, pool);
+            // the same edges in another order have the same fingerprint
+            EdgeWeightedDigraph shuffled = new EdgeWeightedDigraph(G.V());
+            for (int v = G.V() - 1; v >= 0; v--) {
+                for (DirectedEdge e : G.adj(v)) shuffled.addEdge(e);
+            }
+            ShortestPathSnapshot loaded = ShortestPathSnapshot.load(file, shuffled);
+            assertEquals(written.getFingerprint(), loaded.getFingerprint());
+            for (ShortestPathSnapshot snapshot : new ShortestPathSnapshot[] {written, loaded}) {
+                for (int v = 0; v < G.V(); v++) {
+                    for (int w = 0; w < G.V(); w++) {
+                        assertEquals(expected.hasPath(v, w), snapshot.hasPath(v, w));
+                        assertEquals(expected.dist(v, w), snapshot.dist(v, w), 0.0);
+                        if (snapshot.hasPath(v, w))
+                            assertEquals(expected.dist(v, w), pathWeight(snapshot.path(v, w), v, w), 0.0);
+                    }
+                }
+            }
+
+            // a snapshot is only loaded for the digraph it was computed for
+            EdgeWeightedDigraph changed = toDigraph(M);
+            changed.addEdge(new DirectedEdge(3, 4, 1));
+            try {
+                ShortestPathSnapshot.load(file, changed);
+                fail("a snapshot of another digraph should be rejected");
+            }
+            catch (IllegalArgumentException ignored) {
+            }
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                raf.setLength(raf.length() - 1);
+            }
+            try {
+                ShortestPathSnapshot.load(file, G);
+                fail("a truncated snapshot should be rejected");
+            }
+            catch (IllegalArgumentException ignored) {
+            }
+
+            changed.addEdge(new DirectedEdge(4, 3, -2));
+            File cyclic = new File(file.getParentFile(), file.getName() + ".cyclic");
+            try {
+                ShortestPathSnapshot.write(cyclic, changed, pool);
+                fail("a digraph with a negative cycle has no snapshot");
+            }
+            catch (IllegalArgumentException ignored) {
+            }
+            assertFalse(cyclic.exists());
+            assertFalse(new File(cyclic.getParentFile(), cyclic.getName() + ".partial").exists());
+        }
+        finally {
+            pool.shutdown();
+            file.delete();
+        }
+        StdOut.println("\nCompleted Shortest Path Snapshot Test!");
+    }
+
+    @Test
+    public void testIncrementalFloydWarshall() {
+        StdOut.println("Starting Incremental Floyd-Warshall Test...");
+        StdRandom.setSeed(48L);
+        AdjMatrixEdgeWeightedDigraph M = randomDigraph(120, 400, 0, 50);
+        EdgeWeightedDigraph G = toDigraph(M);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (ForkJoinPool mode : new ForkJoinPool[] {null, pool}) {
+                FloydWarshall incremental = new FloydWarshall(M);
+                EdgeWeightedDigraph H = toDigraph(M);
+                for (int update = 0; update < 60; update++) {
+                    int v = StdRandom.uniform(H.V()), w = StdRandom.uniform(H.V());
+                    double weight = StdRandom.uniform(0, 20);
+                    if (update % 2 == 0) {
+                        DirectedEdge e = new DirectedEdge(v, w, weight);
+                        incremental.addEdge(e, mode);
+                        H.addEdge(e);
+                    }
+                    else if (v != w && incremental.hasPath(v, w) && incremental.path(v, w).iterator().next().to() == w) {
+                        // lower the edge that is the whole shortest path from v to w
+                        double lower = Math.max(0, incremental.dist(v, w) - StdRandom.uniform(1, 10));
+                        int improved = incremental.decreaseEdge(v, w, lower);
+                        assertTrue(improved >= 1);
+                        H.addEdge(new DirectedEdge(v, w, lower));
+                    }
+                    if (update % 10 != 9) continue;
+                    Johnson expected = new Johnson(H, null);
+                    for (int x = 0; x < H.V(); x++) {
+                        for (int y = 0; y < H.V(); y++) {
+                            assertEquals(expected.dist(x, y), incremental.dist(x, y), 0.0);
+                            if (incremental.hasPath(x, y))
+                                assertEquals(expected.dist(x, y), pathWeight(incremental.path(x, y), x, y), 0.0);
+                        }
+                    }
+                }
+            }
+
+            // an edge that is already lighter cannot be decreased to more
+            FloydWarshall fw = new FloydWarshall(M);
+            DirectedEdge direct = null;
+            for (DirectedEdge e : G.edges()) {
+                if (e.from() != e.to() && fw.path(e.from(), e.to()).iterator().next() == e) direct = e;
+            }
+            try {
+                fw.decreaseEdge(direct.from(), direct.to(), direct.weight() + 1);
+                fail("an edge should not get heavier");
+            }
+            catch (IllegalArgumentException ignored) {
+            }
+
+            // an edge back along a path closes a negative cycle
+            int s = 0, t = 1;
+            while (!fw.hasPath(s, t) || s == t) t++;
+            assertEquals(0, fw.addEdge(new DirectedEdge(t, s, -fw.dist(s, t) - 1), pool));
+            assertTrue(fw.hasNegativeCycle());
+            assertEquals(-1.0, cycleWeight(fw.negativeCycle()), 0.0);
+            try {
+                fw.addEdge(new DirectedEdge(s, t, 0));
+                fail("no updates once there is a negative cycle");
+            }
+            catch (UnsupportedOperationException ignored) {
+            }
+        }
+        finally {
+            pool.shutdown();
+        }
+        StdOut.println("\nCompleted Incremental Floyd-Warshall Test!");
+    }
+
+    @Test
+    public void testShortestPathTreeCache() throws Exception {
+        StdOut.println("Starting Shortest Path Tree Cache Test...");
+        StdRandom.setSeed(49L);
+        EdgeWeightedDigraph G = toDigraph(randomDigraph(200, 900, 0, 40));
+        Johnson expected = new Johnson(G, null);
+        DijkstraEngine engine = new DijkstraEngine(G);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ShortestPathTreeCache unit = new ShortestPathTreeCache(G, 1);
+            fail("a budget below one tree should be rejected, not " + unit.getCapacity());
+        }
+        catch (IllegalArgumentException ignored) {
+        }
+        try {
+            long treeBytes = new ShortestPathTreeCache(engine, Long.MAX_VALUE,
+                    ShortestPathTreeCache.Eviction.LEAST_RECENTLY_USED).getTreeBytes();
+
+            // least recently used: 1 is the oldest when 3 comes in
+            ShortestPathTreeCache lru = new ShortestPathTreeCache(engine, 3 * treeBytes,
+                    ShortestPathTreeCache.Eviction.LEAST_RECENTLY_USED);
+            assertEquals(3, lru.getCapacity());
+            for (int s : new int[] {0, 1, 2, 0, 2, 3}) lru.dist(s, 5);
+            assertEquals(3, lru.size());
+            assertTrue(lru.contains(0) && lru.contains(2) && lru.contains(3));
+            assertFalse(lru.contains(1));
+            assertEquals(4, lru.getMisses());
+            assertEquals(2, lru.getHits());
+
+            // least frequently used: 2 has the fewest queries, even though 0 is older
+            ShortestPathTreeCache lfu = new ShortestPathTreeCache(engine, 3 * treeBytes,
+                    ShortestPathTreeCache.Eviction.LEAST_FREQUENTLY_USED);
+            for (int s : new int[] {0, 0, 0, 1, 1, 2, 1, 3}) lfu.dist(s, 5);
+            assertTrue(lfu.contains(0) && lfu.contains(1) && lfu.contains(3));
+            assertFalse(lfu.contains(2));
+
+            // concurrent readers over a cache too small for all sources
+            ShortestPathTreeCache shared = new ShortestPathTreeCache(engine, 20 * treeBytes,
+                    ShortestPathTreeCache.Eviction.LEAST_RECENTLY_USED);
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int task = 0; task < 8; task++) {
+                long seed = task;
+                tasks.add(pool.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < 2000; i++) {
+                        int v = random.nextInt(8) == 0 ? random.nextInt(G.V()) : random.nextInt(10);
+                        int w = random.nextInt(G.V());
+                        assertEquals(expected.dist(v, w), shared.dist(v, w), 0.0);
+                        if (shared.hasPath(v, w)) assertEquals(expected.dist(v, w), pathWeight(shared.path(v, w), v, w), 0.0);
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) task.get();
+            assertTrue(shared.size() <= shared.getCapacity());
+            // the hot sources stay cached, so most queries hit
+            assertTrue(shared.getMisses() >= 10);
+            assertTrue(shared.getHits() > 4 * shared.getMisses());
+        }
+        finally {
+            pool.shutdown();
+        }
+        StdOut.println("\nCompleted Shortest Path Tree Cache Test!");
+    }
+
+    @Test
+    public void testContractionHierarchy() {
+        StdOut.println("Starting Contraction Hierarchy Test...");
+        StdRandom.setSeed(50L);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // zero weights, parallel edges, self-loops and unreachable pairs, sequential and parallel
+            EdgeWeightedDigraph G = toDigraph(randomDigraph(300, 900, 0, 20));
+            for (int i = 0; i < 100; i++) {
+                int v = StdRandom.uniform(G.V()), w = StdRandom.uniform(G.V());
+                G.addEdge(new DirectedEdge(v, w, StdRandom.uniform(0, 21)));
+            }
+            Johnson expected = new Johnson(G, null);
+            for (ForkJoinPool on : new ForkJoinPool[] {null, pool}) {
+                ContractionHierarchy hierarchy = new ContractionHierarchy(new CompactEdgeWeightedDigraph(G), on);
+                boolean[] ranked = new boolean[G.V()];
+                for (int v = 0; v < G.V(); v++) ranked[hierarchy.getRank(v)] = true;
+                for (boolean rank : ranked) assertTrue(rank);
+                for (int s = 0; s < G.V(); s += 7) {
+                    for (int t = 0; t < G.V(); t++) {
+                        assertEquals(expected.dist(s, t), hierarchy.dist(s, t), 0.0);
+                        assertEquals(expected.hasPath(s, t), hierarchy.hasPath(s, t));
+                        if (expected.hasPath(s, t)) assertEquals(expected.dist(s, t), pathWeight(hierarchy.path(s, t), s, t), 0.0);
+                        else assertNull(hierarchy.path(s, t));
+                    }
+                }
+            }
+
+            // on a road-like digraph a query settles far fewer vertices than Dijkstra's algorithm
+            double[][] coordinates = new double[1500][2];
+            EdgeWeightedDigraph H = EdgeWeightedDigraph.geometric(coordinates, 0.045);
+            DijkstraEngine dijkstra = new DijkstraEngine(H);
+            ContractionHierarchy hierarchy = new ContractionHierarchy(new CompactEdgeWeightedDigraph(H), pool);
+            long plain = 0, upwards = 0;
+            for (int i = 0; i < 500; i++) {
+                int s = StdRandom.uniform(H.V()), t = StdRandom.uniform(H.V());
+                double distance = dijkstra.dist(s, t);
+                plain += dijkstra.search(s, t).getSettledCount();
+                assertEquals(distance, hierarchy.dist(s, t), 1E-9);
+                upwards += hierarchy.getSettledCount();
+                if (hierarchy.hasPath(s, t)) assertEquals(distance, pathWeight(hierarchy.path(s, t), s, t), 1E-9);
+            }
+            assertTrue(hierarchy.getShortcutCount() > 0);
+            assertTrue(upwards < plain / 2);
+
+            G.addEdge(new DirectedEdge(0, 1, -1.0));
+            try {
+                ContractionHierarchy unit = new ContractionHierarchy(G);
+                fail("a negative weight should be rejected, not give " + unit.dist(0, 1));
+            }
+            catch (IllegalArgumentException ignored) {
+            }
+        }
+        finally {
+            pool.shutdown();
+        }
+        StdOut.println("\nCompleted Contraction Hierarchy Test!");
+    }
+}